@@ -0,0 +1,181 @@
+package com.football.scoreboard.live.scoreboard.benchmark;
+
+import com.football.scoreboard.live.scoreboard.model.EncodedMatchSummary;
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JMH benchmarks for the hot paths of {@link MatchOperationServiceImpl}, backed by either {@link MatchRepositoryImpl}
+ * or {@link CompactMatchRepository} depending on the {@code repository} parameter.
+ *
+ * The board is pre-filled with {@code liveMatches} running matches. Single-threaded benchmarks measure each
+ * operation on its own, including the top-5 and page reads of the widget and the web pages. {@code renderSummary}
+ * and {@code renderEncodedSummary} compare the string and the pre-encoded UTF-8 rendering after every write. The
+ * {@code readHeavy} and {@code writeHeavy} groups run summary readers and score writers side by side; with
+ * {@code projectedSummary} the summary is refreshed in the background instead of by the readers. Run with
+ * {@code -prof gc} to see allocation rates, and with {@code -p liveMatches=...}, {@code -p repository=...},
+ * {@code -p projectedSummary=...} or {@code -t ...} to narrow the board sizes, pick a store, pick how the summary
+ * is refreshed or change the thread count.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchOperationServiceBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int liveMatches;
+
+    @Param({"default", "compact"})
+    private String repository;
+
+    @Param({"false", "true"})
+    private boolean projectedSummary;
+
+    private MatchOperationServiceImpl matchOperationService;
+
+    private String[] matchIds;
+
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Service-layer INFO logging would otherwise dominate every measurement
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        matchOperationService = new MatchOperationServiceImpl(
+                "compact".equals(repository) ? new CompactMatchRepository() : new MatchRepositoryImpl(),
+                new SimpleMeterRegistry(), Tags.empty(), NodeSequenceMatchIdGenerator.DEFAULT, MatchAuditTrail.DISABLED,
+                MatchArchive.DISABLED, projectedSummary ? Duration.ofMillis(100) : null);
+        matchIds = new String[liveMatches];
+        for (int i = 0; i < liveMatches; i++) {
+            matchIds[i] = matchOperationService.startMatch("Home " + i, "Away " + i).matchId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        matchOperationService.close();
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        private String teamPrefix;
+
+        private int kickOffs;
+
+        @Setup(Level.Trial)
+        public void setUp(MatchOperationServiceBenchmark benchmark) {
+            teamPrefix = "Bench " + benchmark.threadIds.incrementAndGet() + " ";
+        }
+
+        String nextMatchId(String[] matchIds) {
+            return matchIds[random.nextInt(matchIds.length)];
+        }
+
+        int nextScore() {
+            return random.nextInt(10);
+        }
+    }
+
+    @Benchmark
+    public List<String> getMatchSummary() {
+        return matchOperationService.getMatchSummary();
+    }
+
+    @Benchmark
+    public EncodedMatchSummary renderEncodedSummary(WriterState writer) {
+        // Move the board on first, so that every call renders the encoded summary instead of hitting the cache
+        updateMatchScore(writer);
+        return matchOperationService.getEncodedMatchSummary();
+    }
+
+    @Benchmark
+    public List<String> renderSummary(WriterState writer) {
+        updateMatchScore(writer);
+        return matchOperationService.getMatchSummary();
+    }
+
+    @Benchmark
+    public List<String> getTopMatches() {
+        return matchOperationService.getTopMatches(5);
+    }
+
+    @Benchmark
+    public List<String> getMatchSummaryPage() {
+        return matchOperationService.getMatchSummary(liveMatches / 2, 20);
+    }
+
+    @Benchmark
+    public void updateMatchScore(WriterState writer) {
+        matchOperationService.updateMatchScore(writer.nextMatchId(matchIds), writer.nextScore(), writer.nextScore());
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(WriterState writer) {
+        var kickOff = writer.kickOffs++;
+        var match = matchOperationService.startMatch(writer.teamPrefix + "Home " + kickOff, writer.teamPrefix + "Away " + kickOff);
+        matchOperationService.finishMatch(match.matchId());
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(7)
+    public List<String> readHeavySummary() {
+        return matchOperationService.getMatchSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyUpdate(WriterState writer) {
+        updateMatchScore(writer);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<String> writeHeavySummary() {
+        return matchOperationService.getMatchSummary();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyUpdate(WriterState writer) {
+        updateMatchScore(writer);
+    }
+}
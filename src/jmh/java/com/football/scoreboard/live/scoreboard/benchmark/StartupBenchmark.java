@@ -0,0 +1,52 @@
+package com.football.scoreboard.live.scoreboard.benchmark;
+
+import com.football.scoreboard.live.scoreboard.ScoreboardAppApplication;
+import com.football.scoreboard.live.scoreboard.embedded.EmbeddedScoreboard;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of the scoreboard, embedded with {@link EmbeddedScoreboard} and as the Spring Boot application.
+ *
+ * Every measurement runs once in a fresh JVM, so it includes loading and initializing every class the mode needs,
+ * and lasts from the first line of the mode's startup until the first summary is read after the first match is
+ * started; it does not include starting the JVM itself. The Spring Boot application starts its web server on a free
+ * port. See {@link StartupFootprint} for the classes, heap and threads each mode keeps once started.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public List<String> embedded() {
+        try (var scoreboard = EmbeddedScoreboard.builder().build()) {
+            return firstSummary(scoreboard.getMatchOperationService());
+        }
+    }
+
+    @Benchmark
+    public List<String> spring() {
+        try (var context = new SpringApplicationBuilder(ScoreboardAppApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--spring.main.banner-mode=off")) {
+            return firstSummary(context.getBean(MatchOperationService.class));
+        }
+    }
+
+    static List<String> firstSummary(MatchOperationService matchOperationService) {
+        matchOperationService.startMatch("Mexico", "Canada");
+        return matchOperationService.getMatchSummary();
+    }
+}
@@ -0,0 +1,118 @@
+package com.football.scoreboard.live.scoreboard.benchmark;
+
+import com.football.scoreboard.live.scoreboard.ScoreboardAppApplication;
+import com.football.scoreboard.live.scoreboard.embedded.EmbeddedScoreboard;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the footprint of the scoreboard embedded with {@link EmbeddedScoreboard} and as the Spring Boot
+ * application: how long a fresh JVM takes until the first summary is read, and the classes, heap and threads it keeps
+ * once started.
+ *
+ * Every mode is started {@code --runs} times, each time in a JVM of its own launched with the same class path, and
+ * the median of every figure is reported. The time to ready is counted from JVM start, so unlike
+ * {@link StartupBenchmark} it includes starting the JVM; the heap is what is left after a full collection.
+ */
+public final class StartupFootprint {
+
+    private static final String PROBE = "--probe=";
+
+    private StartupFootprint() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && args[0].startsWith(PROBE)) {
+            probe(args[0].substring(PROBE.length()));
+            return;
+        }
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options are given as --name=value, not " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var runs = Integer.parseInt(option(options, "runs", "5"));
+        var modes = option(options, "modes", "embedded,spring").split(",");
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        System.out.printf("Startup footprint, median of %d fresh JVMs per mode%n", runs);
+        System.out.printf("%-10s %14s %10s %12s %9s%n", "mode", "ready (ms)", "classes", "heap (MB)", "threads");
+        for (var mode : modes) {
+            var samples = new ArrayList<long[]>();
+            for (int run = 0; run < runs; run++) {
+                samples.add(launchProbe(mode));
+            }
+            System.out.printf("%-10s %14d %10d %12.1f %9d%n", mode, median(samples, 0), median(samples, 1),
+                    median(samples, 2) / (1024.0 * 1024.0), median(samples, 3));
+        }
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        var value = options.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static long[] launchProbe(String mode) throws IOException, InterruptedException {
+        var java = ProcessHandle.current().info().command().orElse("java");
+        var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                StartupFootprint.class.getName(), PROBE + mode)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        // The probe reports its figures on the last line, after whatever the mode logged
+        var lines = new String(process.getInputStream().readAllBytes()).strip().split("\\R");
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("The " + mode + " probe failed: " + String.join(System.lineSeparator(), lines));
+        }
+        return Arrays.stream(lines[lines.length - 1].split(" ")).mapToLong(Long::parseLong).toArray();
+    }
+
+    private static long median(List<long[]> samples, int figure) {
+        var values = samples.stream().mapToLong(sample -> sample[figure]).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static void probe(String mode) {
+        AutoCloseable started;
+        MatchOperationService matchOperationService;
+        switch (mode) {
+            case "embedded" -> {
+                var scoreboard = EmbeddedScoreboard.builder().build();
+                started = scoreboard;
+                matchOperationService = scoreboard.getMatchOperationService();
+            }
+            case "spring" -> {
+                var context = new SpringApplicationBuilder(ScoreboardAppApplication.class)
+                        .run("--server.port=0", "--logging.level.root=WARN", "--spring.main.banner-mode=off");
+                started = context;
+                matchOperationService = context.getBean(MatchOperationService.class);
+            }
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + ", expected embedded or spring");
+        }
+        StartupBenchmark.firstSummary(matchOperationService);
+        var ready = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.gc();
+        System.out.printf("%d %d %d %d%n", ready, ManagementFactory.getClassLoadingMXBean().getLoadedClassCount(),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                ManagementFactory.getThreadMXBean().getThreadCount());
+        System.out.flush();
+        try {
+            started.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        // The web application leaves non-daemon threads behind
+        System.exit(0);
+    }
+}
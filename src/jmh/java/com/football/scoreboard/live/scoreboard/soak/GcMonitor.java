@@ -0,0 +1,94 @@
+package com.football.scoreboard.live.scoreboard.soak;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Records the duration of every stop-the-world collection and the heap left in use after it, from the JVM's GC
+ * notifications. Concurrent cycles of collectors such as G1 and ZGC are not pauses and are left out.
+ */
+final class GcMonitor implements NotificationListener, AutoCloseable {
+
+    private final Recorder pauses = new Recorder(3);
+    private final AtomicLong heapAfterGc = new AtomicLong(-1);
+    private final Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+
+    GcMonitor() {
+        for (var collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (info.getGcName().contains("Concurrent") || info.getGcName().contains("Cycles")) {
+            return;
+        }
+        pauses.recordValue(info.getGcInfo().getDuration());
+        heapAfterGc.set(info.getGcInfo().getMemoryUsageAfterGc().entrySet().stream()
+                .filter(pool -> heapPools.contains(pool.getKey()))
+                .mapToLong(pool -> pool.getValue().getUsed())
+                .sum());
+    }
+
+    /**
+     * Retrieves the pauses, in milliseconds, since the last call, and starts a new interval.
+     *
+     * @param recycled A histogram returned by an earlier call to reuse, or {@code null}.
+     * @return The pauses of the interval.
+     */
+    Histogram intervalPauses(Histogram recycled) {
+        return pauses.getIntervalHistogram(recycled);
+    }
+
+    /**
+     * Returns the heap in use after the last collection, or the heap in use now if there was none yet.
+     *
+     * @return The heap in use, in bytes.
+     */
+    long heapAfterGc() {
+        var heap = heapAfterGc.get();
+        return heap < 0 ? ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() : heap;
+    }
+
+    /**
+     * Runs a full collection and returns the heap still in use after it, which is what the application retains.
+     *
+     * @return The retained heap, in bytes.
+     */
+    long retainedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Override
+    public void close() {
+        for (var collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            try {
+                ((NotificationEmitter) collector).removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // Not registered with this collector, nothing to remove
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.football.scoreboard.live.scoreboard.soak;
+
+import com.football.scoreboard.live.scoreboard.ScoreboardAppApplication;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Drives the whole application over HTTP. The application is started in the same JVM on a free port, with the results
+ * archive in a temporary directory, so the soak covers the web layer, JSON serialization and Tomcat as well.
+ */
+final class HttpSoakScoreboard implements SoakScoreboard {
+
+    private static final Pattern MATCH_ID = Pattern.compile("\"matchId\":\"([^\"]+)\"");
+    private static final Pattern STATUS = Pattern.compile("\"status\":\"([A-Z_]+)\"");
+    private static final Pattern SCORES = Pattern.compile("\"homeTeamScore\":(\\d+),\"awayTeamScore\":(\\d+)");
+
+    private final Path archiveDirectory;
+    private final ConfigurableApplicationContext context;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUri;
+
+    HttpSoakScoreboard(String repository, boolean projectedSummary) throws IOException {
+        archiveDirectory = Files.createTempDirectory("matchday-archive");
+        context = new SpringApplicationBuilder(ScoreboardAppApplication.class).run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--scoreboard.repository.type=" + repository,
+                "--scoreboard.summary.projection.enabled=" + projectedSummary,
+                "--scoreboard.archive.enabled=true",
+                "--scoreboard.archive.directory=" + archiveDirectory);
+        var port = context.getEnvironment().getProperty("local.server.port");
+        if (port == null) {
+            context.close();
+            throw new IllegalStateException("The scoreboard application did not start a web server");
+        }
+        baseUri = "http://127.0.0.1:" + port + "/scoreboard";
+    }
+
+    @Override
+    public String startMatch(String homeTeam, String awayTeam) {
+        var body = send(HttpRequest.newBuilder(URI.create(baseUri + "/matches"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"homeTeam\":\"" + homeTeam + "\",\"awayTeam\":\"" + awayTeam + "\"}")));
+        var matcher = MATCH_ID.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No match ID in " + body);
+        }
+        return matcher.group(1);
+    }
+
+    @Override
+    public ScoreUpdateResult.Status updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var body = send(HttpRequest.newBuilder(URI.create(baseUri + "/matches/" + matchId + "/score?feedSequence=" + feedSequence))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"homeTeamScore\":" + homeTeamScore + ",\"awayTeamScore\":" + awayTeamScore + "}")));
+        var matcher = STATUS.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No update status in " + body);
+        }
+        return ScoreUpdateResult.Status.valueOf(matcher.group(1));
+    }
+
+    @Override
+    public void finishMatch(String matchId) {
+        send(HttpRequest.newBuilder(URI.create(baseUri + "/matches/" + matchId)).DELETE());
+    }
+
+    @Override
+    public int readSummary() {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + "/summary")).GET()).length();
+    }
+
+    @Override
+    public int readTopMatches(int n) {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + "/summary?limit=" + n)).GET()).length();
+    }
+
+    @Override
+    public int[] findFinalScore(String homeTeam) {
+        var body = send(HttpRequest.newBuilder(URI.create(baseUri + "/results?team=" + URLEncoder.encode(homeTeam, StandardCharsets.UTF_8))).GET());
+        // Every team plays once a day, so the only result of the home team is the one it played at home
+        var matcher = SCORES.matcher(body);
+        return matcher.find() ? new int[]{Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))} : null;
+    }
+
+    @Override
+    public boolean isBoardEmpty() {
+        return "[]".equals(send(HttpRequest.newBuilder(URI.create(baseUri + "/summary")).GET()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(archiveDirectory);
+    }
+
+    private String send(HttpRequest.Builder request) {
+        try {
+            var response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(response.request().method() + " " + response.uri() + " answered " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling the scoreboard", e);
+        }
+    }
+}
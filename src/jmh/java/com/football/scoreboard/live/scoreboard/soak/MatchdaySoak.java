@@ -0,0 +1,406 @@
+package com.football.scoreboard.live.scoreboard.soak;
+
+import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays a whole tournament matchday against the scoreboard in a single JVM, on a clock sped up so that a day of
+ * football takes minutes, and reports what the day costs: read and write throughput, latency percentiles, GC pauses
+ * and heap growth.
+ *
+ * Matches kick off in waves every {@code kickoff-interval} until two hours before the end of the day. Every match
+ * draws its goals from a Poisson distribution and places them over 90 minutes plus stoppage time, with a 15 minute
+ * break at half time. Each score change is delivered by every one of {@code feeds} redundant feeds, each with its own
+ * delay, so the scoreboard sees duplicates and out-of-order updates as it does in production. The match is finished
+ * a minute after the final whistle, or once every feed has delivered if the writers fell behind. Meanwhile
+ * {@code readers} threads read the summary as fast as they can, four times out of five the whole board and otherwise
+ * the top ten.
+ *
+ * Once the day is over every finished match is looked up in the results archive and compared with the goals that
+ * were scored, and the board must be empty; the soak exits with status 1 otherwise.
+ *
+ * Options are given as {@code --name=value}:
+ * <pre>
+ *   matches=480           matches played over the day
+ *   day=PT12H             length of the simulated day
+ *   speed=720             simulated seconds per real second
+ *   kickoff-interval=PT30M time between kickoff waves
+ *   goals-per-match=2.7   mean goals per match
+ *   feeds=3               redundant feeds delivering every score change
+ *   feed-delay=PT20S      maximum delay of a feed, below a minute
+ *   readers=32            summary reader threads
+ *   writers=4             threads delivering kickoffs, feed updates and finishes
+ *   report-interval=PT1H  simulated time between report lines
+ *   repository=default    scoreboard.repository.type, default or compact
+ *   projected=false       serve the summary from the background projection
+ *   web=false             drive the application over HTTP instead of the service
+ *   seed=42               seed of the simulated matches
+ * </pre>
+ */
+public final class MatchdaySoak {
+
+    private static final Duration MAX_MATCH_LENGTH = Duration.ofHours(2);
+    private static final int TOP_MATCHES = 10;
+
+    private final Map<String, String> options;
+    private final int matches;
+    private final Duration day;
+    private final double speed;
+    private final Duration kickoffInterval;
+    private final double goalsPerMatch;
+    private final int feeds;
+    private final Duration feedDelay;
+    private final int readers;
+    private final int writers;
+    private final Duration reportInterval;
+    private final long seed;
+
+    private final Recorder readLatency = new Recorder(3);
+    private final Recorder writeLatency = new Recorder(3);
+    private final Recorder lateness = new Recorder(3);
+    private final AtomicLong staleUpdates = new AtomicLong();
+    private final AtomicLong missingMatches = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicInteger liveMatches = new AtomicInteger();
+    private volatile boolean reading;
+
+    private MatchdaySoak(Map<String, String> options) {
+        this.options = options;
+        this.matches = Integer.parseInt(option("matches", "480"));
+        this.day = Duration.parse(option("day", "PT12H"));
+        this.speed = Double.parseDouble(option("speed", "720"));
+        this.kickoffInterval = Duration.parse(option("kickoff-interval", "PT30M"));
+        this.goalsPerMatch = Double.parseDouble(option("goals-per-match", "2.7"));
+        this.feeds = Integer.parseInt(option("feeds", "3"));
+        this.feedDelay = Duration.parse(option("feed-delay", "PT20S"));
+        this.readers = Integer.parseInt(option("readers", "32"));
+        this.writers = Integer.parseInt(option("writers", "4"));
+        this.reportInterval = Duration.parse(option("report-interval", "PT1H"));
+        this.seed = Long.parseLong(option("seed", "42"));
+        if (matches < 1 || feeds < 1 || readers < 0 || writers < 1 || speed <= 0) {
+            throw new IllegalArgumentException("matches, feeds and writers must be positive, readers not negative and speed positive");
+        }
+        if (day.compareTo(MAX_MATCH_LENGTH) <= 0 || kickoffInterval.isNegative() || kickoffInterval.isZero()) {
+            throw new IllegalArgumentException("The day must be longer than a match and the kickoff interval positive");
+        }
+        if (feedDelay.isNegative() || feedDelay.compareTo(Duration.ofMinutes(1)) >= 0) {
+            throw new IllegalArgumentException("Feeds must deliver within a minute, before the match is finished");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options are given as --name=value, not " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var soak = new MatchdaySoak(options);
+        var repository = soak.option("repository", "default");
+        var projected = Boolean.parseBoolean(soak.option("projected", "false"));
+        var web = Boolean.parseBoolean(soak.option("web", "false"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        boolean passed;
+        try (var scoreboard = web ? new HttpSoakScoreboard(repository, projected) : new ServiceSoakScoreboard(repository, projected)) {
+            System.out.printf("Matchday soak: %d matches over %s at %.0fx, %s repository, %s summary, %s%n", soak.matches, soak.day,
+                    soak.speed, repository, projected ? "projected" : "rendered", web ? "over HTTP" : "in-process");
+            passed = soak.run(scoreboard);
+        }
+        // The web application leaves non-daemon threads behind
+        System.exit(passed ? 0 : 1);
+    }
+
+    private String option(String name, String defaultValue) {
+        var value = options.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private boolean run(SoakScoreboard scoreboard) throws InterruptedException {
+        var plans = planMatches();
+        try (var gcMonitor = new GcMonitor()) {
+            var startHeap = gcMonitor.retainedHeap();
+            var finished = new CountDownLatch(plans.size());
+            var scheduler = new ScheduledThreadPoolExecutor(writers);
+            var readerThreads = new ArrayList<Thread>();
+            for (int i = 0; i < readers; i++) {
+                var reader = new Thread(() -> read(scoreboard), "soak-reader-" + i);
+                reader.setDaemon(true);
+                readerThreads.add(reader);
+            }
+            var start = System.nanoTime();
+            var report = new Report(gcMonitor, start);
+            reading = true;
+            readerThreads.forEach(Thread::start);
+            for (var plan : plans) {
+                schedule(scheduler, start, plan.kickoff(), () -> kickOff(scoreboard, scheduler, start, plan, finished));
+            }
+            var reportNanos = realNanos(reportInterval);
+            var reporter = new ScheduledThreadPoolExecutor(1);
+            reporter.scheduleAtFixedRate(report::print, reportNanos, reportNanos, TimeUnit.NANOSECONDS);
+
+            finished.await();
+            reporter.shutdownNow();
+            reporter.awaitTermination(1, TimeUnit.MINUTES);
+            reading = false;
+            for (var reader : readerThreads) {
+                reader.join();
+            }
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+            report.print();
+
+            var endHeap = gcMonitor.retainedHeap();
+            report.printTotals(startHeap, endHeap);
+        }
+        return check(scoreboard, plans);
+    }
+
+    private List<MatchPlan> planMatches() {
+        var waves = day.minus(MAX_MATCH_LENGTH).toNanos() / kickoffInterval.toNanos() + 1;
+        var plans = new ArrayList<MatchPlan>(matches);
+        for (int i = 0; i < matches; i++) {
+            var random = new SplittableRandom(seed + i);
+            var kickoff = kickoffInterval.multipliedBy(i % waves);
+            var firstHalf = Duration.ofMinutes(45).plusSeconds(random.nextInt(240));
+            var secondHalf = Duration.ofMinutes(45).plusSeconds(random.nextInt(480));
+            var played = firstHalf.plus(secondHalf);
+            var goals = new ArrayList<Goal>();
+            var homeGoals = poisson(random, goalsPerMatch / 2);
+            var awayGoals = poisson(random, goalsPerMatch / 2);
+            for (int g = 0; g < homeGoals + awayGoals; g++) {
+                var minute = Duration.ofNanos(random.nextLong(played.toNanos()));
+                // The clock stops for 15 minutes at half time
+                var at = minute.compareTo(firstHalf) < 0 ? minute : minute.plusMinutes(15);
+                goals.add(new Goal(at, g < homeGoals));
+            }
+            goals.sort(Comparator.comparing(Goal::at));
+            var deliveries = new ArrayList<Delivery>();
+            int home = 0;
+            int away = 0;
+            for (int g = 0; g < goals.size(); g++) {
+                if (goals.get(g).home()) {
+                    home++;
+                } else {
+                    away++;
+                }
+                for (int feed = 0; feed < feeds; feed++) {
+                    var delay = Duration.ofNanos(random.nextLong(feedDelay.toNanos() + 1));
+                    deliveries.add(new Delivery(goals.get(g).at().plus(delay), home, away, g + 1));
+                }
+            }
+            var finish = played.plusMinutes(15 + 1);
+            plans.add(new MatchPlan("Team " + (2 * i), "Team " + (2 * i + 1), kickoff, deliveries, finish, home, away));
+        }
+        return plans;
+    }
+
+    private static int poisson(SplittableRandom random, double mean) {
+        var limit = Math.exp(-mean);
+        var k = 0;
+        var p = random.nextDouble();
+        while (p > limit) {
+            k++;
+            p *= random.nextDouble();
+        }
+        return k;
+    }
+
+    private void kickOff(SoakScoreboard scoreboard, ScheduledThreadPoolExecutor scheduler, long start, MatchPlan plan,
+                         CountDownLatch finished) {
+        String matchId;
+        try {
+            matchId = scoreboard.startMatch(plan.homeTeam(), plan.awayTeam());
+            liveMatches.incrementAndGet();
+        } catch (RuntimeException e) {
+            errors.incrementAndGet();
+            finished.countDown();
+            return;
+        }
+        // A match is finished once its whistle is due and every feed delivered, even if the writers fell behind
+        var outstanding = new AtomicInteger(plan.deliveries().size() + 1);
+        Runnable finishWhenDelivered = () -> {
+            if (outstanding.decrementAndGet() == 0) {
+                try {
+                    scoreboard.finishMatch(matchId);
+                    liveMatches.decrementAndGet();
+                } finally {
+                    finished.countDown();
+                }
+            }
+        };
+        for (var delivery : plan.deliveries()) {
+            schedule(scheduler, start, plan.kickoff().plus(delivery.at()), () -> {
+                try {
+                    var status = scoreboard.updateMatchScore(matchId, delivery.homeTeamScore(), delivery.awayTeamScore(), delivery.feedSequence());
+                    switch (status) {
+                        case STALE -> staleUpdates.incrementAndGet();
+                        case MATCH_NOT_FOUND -> missingMatches.incrementAndGet();
+                        case UPDATED -> {
+                        }
+                    }
+                } finally {
+                    finishWhenDelivered.run();
+                }
+            });
+        }
+        schedule(scheduler, start, plan.kickoff().plus(plan.finish()), finishWhenDelivered);
+    }
+
+    private void schedule(ScheduledThreadPoolExecutor scheduler, long start, Duration at, Runnable write) {
+        var due = start + realNanos(at);
+        scheduler.schedule(() -> {
+            var begin = System.nanoTime();
+            lateness.recordValue(Math.max(0, begin - due));
+            try {
+                write.run();
+            } catch (MatchNotFoundException e) {
+                missingMatches.incrementAndGet();
+            } catch (RuntimeException e) {
+                errors.incrementAndGet();
+            }
+            writeLatency.recordValue(System.nanoTime() - begin);
+        }, due - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void read(SoakScoreboard scoreboard) {
+        var random = ThreadLocalRandom.current();
+        while (reading) {
+            var begin = System.nanoTime();
+            try {
+                if (random.nextInt(5) == 0) {
+                    scoreboard.readTopMatches(TOP_MATCHES);
+                } else {
+                    scoreboard.readSummary();
+                }
+            } catch (RuntimeException e) {
+                errors.incrementAndGet();
+            }
+            readLatency.recordValue(System.nanoTime() - begin);
+        }
+    }
+
+    private boolean check(SoakScoreboard scoreboard, List<MatchPlan> plans) {
+        var wrong = 0;
+        for (var plan : plans) {
+            var score = scoreboard.findFinalScore(plan.homeTeam());
+            if (score == null || score[0] != plan.homeGoals() || score[1] != plan.awayGoals()) {
+                if (wrong++ < 10) {
+                    System.out.printf("  %s %s: expected %d - %d, archived %s%n", plan.homeTeam(), plan.awayTeam(),
+                            plan.homeGoals(), plan.awayGoals(), score == null ? "nothing" : score[0] + " - " + score[1]);
+                }
+            }
+        }
+        var boardEmpty = scoreboard.isBoardEmpty();
+        var passed = wrong == 0 && boardEmpty && errors.get() == 0 && missingMatches.get() == 0;
+        System.out.printf("Consistency: %d of %d final scores wrong, board %s, %d errors, %d updates to missing matches: %s%n",
+                wrong, plans.size(), boardEmpty ? "empty" : "NOT empty", errors.get(), missingMatches.get(), passed ? "PASSED" : "FAILED");
+        return passed;
+    }
+
+    private long realNanos(Duration simulated) {
+        return (long) (simulated.toNanos() / speed);
+    }
+
+    /**
+     * Prints a line per report interval and keeps the totals for the end of the day.
+     */
+    private final class Report {
+
+        private final GcMonitor gcMonitor;
+        private final long start;
+        private final Histogram totalReads = new Histogram(3);
+        private final Histogram totalWrites = new Histogram(3);
+        private final Histogram totalLateness = new Histogram(3);
+        private final Histogram totalPauses = new Histogram(3);
+        private long intervalStart;
+        private long maxHeapAfterGc;
+
+        Report(GcMonitor gcMonitor, long start) {
+            this.gcMonitor = gcMonitor;
+            this.start = start;
+            this.intervalStart = start;
+            System.out.printf("%-5s | %-44s | %-36s | %-8s | %-4s | %-19s | %s%n", "time", "reads/s      p50     p99   p99.9      max us",
+                    "writes/s    p50     p99      max us", "late p99", "live", "gc n  total max ms", "heap MB");
+        }
+
+        synchronized void print() {
+            var now = System.nanoTime();
+            var seconds = (now - intervalStart) / 1e9;
+            intervalStart = now;
+            var reads = readLatency.getIntervalHistogram();
+            var writes = writeLatency.getIntervalHistogram();
+            var late = lateness.getIntervalHistogram();
+            var pauses = gcMonitor.intervalPauses(null);
+            totalReads.add(reads);
+            totalWrites.add(writes);
+            totalLateness.add(late);
+            totalPauses.add(pauses);
+            var heapAfterGc = gcMonitor.heapAfterGc();
+            maxHeapAfterGc = Math.max(maxHeapAfterGc, heapAfterGc);
+            var simulated = Duration.ofNanos((long) ((now - start) * speed));
+            System.out.printf("%02d:%02d | %8.0f %7.1f %7.1f %7.1f %8.1f | %8.0f %7.1f %7.1f %8.1f | %8.1f | %4d | %4d %6d %5d | %d%n",
+                    simulated.toHours(), simulated.toMinutesPart(),
+                    reads.getTotalCount() / seconds, micros(reads, 50), micros(reads, 99), micros(reads, 99.9), micros(reads, 100),
+                    writes.getTotalCount() / seconds, micros(writes, 50), micros(writes, 99), micros(writes, 100),
+                    micros(late, 99), liveMatches.get(),
+                    pauses.getTotalCount(), sum(pauses), pauses.getMaxValue(), heapAfterGc >> 20);
+        }
+
+        synchronized void printTotals(long startHeap, long endHeap) {
+            var seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Reads:   %d, %.0f/s, p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n", totalReads.getTotalCount(),
+                    totalReads.getTotalCount() / seconds, micros(totalReads, 50), micros(totalReads, 99), micros(totalReads, 99.9),
+                    micros(totalReads, 100));
+            System.out.printf("Writes:  %d, %.0f/s, p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us, %d stale feed updates%n",
+                    totalWrites.getTotalCount(), totalWrites.getTotalCount() / seconds, micros(totalWrites, 50), micros(totalWrites, 99),
+                    micros(totalWrites, 99.9), micros(totalWrites, 100), staleUpdates.get());
+            System.out.printf("Late:    p50 %.1f us, p99 %.1f us, max %.1f us behind schedule%n", micros(totalLateness, 50),
+                    micros(totalLateness, 99), micros(totalLateness, 100));
+            System.out.printf("GC:      %d pauses, %d ms in total, p99 %d ms, max %d ms%n", totalPauses.getTotalCount(), sum(totalPauses),
+                    totalPauses.getValueAtPercentile(99), totalPauses.getMaxValue());
+            System.out.printf("Heap:    %d MB retained before, %d MB after the day (%+d MB), %d MB at most after a collection%n",
+                    startHeap >> 20, endHeap >> 20, (endHeap - startHeap) >> 20, maxHeapAfterGc >> 20);
+        }
+
+        private static double micros(Histogram nanos, double percentile) {
+            return nanos.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        private static long sum(Histogram histogram) {
+            var sum = 0L;
+            for (var value : histogram.recordedValues()) {
+                sum += value.getValueIteratedTo() * value.getCountAtValueIteratedTo();
+            }
+            return sum;
+        }
+    }
+
+    private record Goal(Duration at, boolean home) {
+    }
+
+    private record Delivery(Duration at, int homeTeamScore, int awayTeamScore, long feedSequence) {
+    }
+
+    private record MatchPlan(String homeTeam, String awayTeam, Duration kickoff, List<Delivery> deliveries, Duration finish,
+                             int homeGoals, int awayGoals) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.football.scoreboard.live.scoreboard.soak;
+
+import com.football.scoreboard.live.scoreboard.archive.ColumnarMatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Drives a {@link MatchOperationServiceImpl} in-process, archiving finished matches in memory.
+ */
+final class ServiceSoakScoreboard implements SoakScoreboard {
+
+    private final ColumnarMatchArchive matchArchive = new ColumnarMatchArchive();
+    private final MatchOperationServiceImpl matchOperationService;
+
+    ServiceSoakScoreboard(String repository, boolean projectedSummary) {
+        matchOperationService = new MatchOperationServiceImpl(
+                "compact".equals(repository) ? new CompactMatchRepository() : new MatchRepositoryImpl(),
+                new SimpleMeterRegistry(), Tags.empty(), NodeSequenceMatchIdGenerator.DEFAULT, MatchAuditTrail.DISABLED,
+                matchArchive, projectedSummary ? Duration.ofMillis(100) : null);
+    }
+
+    @Override
+    public String startMatch(String homeTeam, String awayTeam) {
+        return matchOperationService.startMatch(homeTeam, awayTeam).matchId();
+    }
+
+    @Override
+    public ScoreUpdateResult.Status updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        return matchOperationService.updateMatchScore(matchId, homeTeamScore, awayTeamScore, feedSequence).status();
+    }
+
+    @Override
+    public void finishMatch(String matchId) {
+        matchOperationService.finishMatch(matchId);
+    }
+
+    @Override
+    public int readSummary() {
+        return matchOperationService.getMatchSummary().size();
+    }
+
+    @Override
+    public int readTopMatches(int n) {
+        return matchOperationService.getTopMatches(n).size();
+    }
+
+    @Override
+    public int[] findFinalScore(String homeTeam) {
+        return matchArchive.findResultsByTeam(homeTeam).stream()
+                .filter(result -> result.homeTeam().equals(homeTeam))
+                .map(result -> new int[]{result.homeTeamScore(), result.awayTeamScore()})
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public boolean isBoardEmpty() {
+        return matchOperationService.getMatchSummary().isEmpty();
+    }
+
+    @Override
+    public void close() {
+        matchOperationService.close();
+        matchArchive.close();
+    }
+}
@@ -0,0 +1,43 @@
+package com.football.scoreboard.live.scoreboard.soak;
+
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+
+/**
+ * The scoreboard a matchday soak drives, either the service called in-process or the application called over HTTP.
+ */
+interface SoakScoreboard extends AutoCloseable {
+
+    String startMatch(String homeTeam, String awayTeam);
+
+    ScoreUpdateResult.Status updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence);
+
+    void finishMatch(String matchId);
+
+    /**
+     * Reads the whole summary.
+     *
+     * @return The size of what was read, so that the read cannot be optimized away.
+     */
+    int readSummary();
+
+    /**
+     * Reads the summary of the highest ranked matches.
+     *
+     * @param n The number of matches to read.
+     * @return The size of what was read, so that the read cannot be optimized away.
+     */
+    int readTopMatches(int n);
+
+    /**
+     * Retrieves the archived final score of the match the given team played at home.
+     *
+     * @param homeTeam The home team of the match.
+     * @return The home and away team scores, or {@code null} if no such result was archived.
+     */
+    int[] findFinalScore(String homeTeam);
+
+    boolean isBoardEmpty();
+
+    @Override
+    void close() throws Exception;
+}
@@ -0,0 +1,104 @@
+package com.football.scoreboard.live.scoreboard;
+
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.id.MatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.journal.MatchSnapshotStore;
+import com.football.scoreboard.live.scoreboard.replication.ReadOnlyMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationServiceImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Wires the scoreboard's repository and services from the application properties.
+ *
+ * The scoreboard itself is plain Java and is embedded without Spring through
+ * {@link com.football.scoreboard.live.scoreboard.embedded.EmbeddedScoreboard}; this configuration and the other
+ * {@code *Configuration} classes are the Spring Boot adapter around the same classes, with the same defaults.
+ * The repository is the default one unless {@code scoreboard.repository.type} is {@code compact}, which cannot be
+ * combined with the journal or replication, and the competitions besides the default one are listed in
+ * {@code scoreboard.competitions}.
+ */
+@Configuration
+public class ScoreboardConfiguration {
+
+    @Bean
+    public MatchIdGenerator matchIdGenerator(@Value("${scoreboard.node-id:0}") int nodeId) {
+        return new NodeSequenceMatchIdGenerator(nodeId);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "scoreboard.repository.type", havingValue = "default", matchIfMissing = true)
+    public MatchRepositoryImpl matchRepositoryImpl(MatchJournal matchJournal, MatchSnapshotStore matchSnapshotStore) {
+        return new MatchRepositoryImpl(matchJournal, matchSnapshotStore);
+    }
+
+    /**
+     * Creates the compact repository, which neither journals its changes nor replicates them.
+     *
+     * @throws IllegalStateException if the journal is enabled or this node is a replication leader or follower, like
+     *                               {@link com.football.scoreboard.live.scoreboard.embedded.EmbeddedScoreboard.Builder#build()}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "scoreboard.repository.type", havingValue = "compact")
+    public CompactMatchRepository compactMatchRepository(@Value("${scoreboard.journal.enabled:false}") boolean journalEnabled,
+                                                         @Value("${scoreboard.replication.role:none}") String replicationRole) {
+        if (journalEnabled) {
+            throw new IllegalStateException("The compact repository does not journal its changes");
+        }
+        if ("leader".equals(replicationRole) || "follower".equals(replicationRole)) {
+            throw new IllegalStateException("Replication requires the default repository type");
+        }
+        return new CompactMatchRepository();
+    }
+
+    @Bean(destroyMethod = "close")
+    public MatchOperationServiceImpl matchOperationService(MatchRepository matchRepository, MeterRegistry meterRegistry,
+                                                           MatchIdGenerator matchIdGenerator, MatchAuditTrail auditTrail,
+                                                           MatchArchive matchArchive,
+                                                           @Value("${scoreboard.summary.projection.enabled:false}") boolean projectSummary,
+                                                           @Value("${scoreboard.summary.projection.max-staleness:PT0.1S}") Duration maxStaleness) {
+        return new MatchOperationServiceImpl(matchRepository, meterRegistry,
+                Tags.of("competition", CompetitionMatchOperationService.DEFAULT_COMPETITION), matchIdGenerator, auditTrail,
+                matchArchive, projectSummary ? maxStaleness : null);
+    }
+
+    @Bean
+    public CompetitionMatchOperationService competitionMatchOperationService(MatchOperationService defaultScoreboard,
+                                                                             MeterRegistry meterRegistry,
+                                                                             MatchIdGenerator matchIdGenerator,
+                                                                             MatchAuditTrail auditTrail, MatchArchive matchArchive,
+                                                                             @Value("${scoreboard.repository.type:default}") String repositoryType,
+                                                                             @Value("${scoreboard.competitions:}") List<String> competitionIds,
+                                                                             @Value("${scoreboard.journal.enabled:false}") boolean journalEnabled,
+                                                                             @Value("${scoreboard.replication.role:none}") String replicationRole) {
+        return new CompetitionMatchOperationServiceImpl(defaultScoreboard, competitionIds, meterRegistry, matchIdGenerator,
+                auditTrail, matchArchive, repositoryType, competitionReadOnlyMessage(journalEnabled, replicationRole));
+    }
+
+    /**
+     * Tells why competition scoreboards reject writes: on a replication follower, only the leader takes writes, and
+     * with the journal enabled, their changes would not survive a restart. Competitions are writable otherwise.
+     */
+    private static String competitionReadOnlyMessage(boolean journalEnabled, String replicationRole) {
+        if ("follower".equals(replicationRole)) {
+            return ReadOnlyMatchRepository.READ_ONLY_MESSAGE;
+        }
+        return journalEnabled ? CompetitionMatchOperationServiceImpl.NOT_JOURNALED_MESSAGE : null;
+    }
+}
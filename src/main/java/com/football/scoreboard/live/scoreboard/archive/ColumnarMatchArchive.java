@@ -0,0 +1,478 @@
+package com.football.scoreboard.live.scoreboard.archive;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.football.scoreboard.live.scoreboard.util.ValidationUtil.isValidString;
+
+/**
+ * A {@link MatchArchive} that keeps results in columns, one partition per day.
+ *
+ * Every partition holds its results as parallel primitive arrays, with team names replaced by IDs from a dictionary
+ * shared by the whole archive, so a result costs a few dozen bytes and no objects besides its match ID. Partitions
+ * only ever grow. A date range query reads the partitions of the range straight from a sorted map; a team query
+ * looks up the days the team played on in a per-team index and only scans those partitions.
+ *
+ * The archive has a lock of its own, so archiving a result and querying results never contend with the live board.
+ *
+ * A persistent archive keeps every partition in its own file, named after its day, holding the partition's columns
+ * and its own team dictionary, gzip-compressed. Files are written under a temporary name and then renamed, and all
+ * of them are loaded back when the archive is created. The partition of a result is written before
+ * {@link #archive(Match, LocalDateTime)} returns, so the result of a finished match survives the process dying;
+ * if that write fails, the partition stays changed and is written by the next {@link #flush()}.
+ */
+@Slf4j
+public class ColumnarMatchArchive implements MatchArchive {
+
+    private static final int MAGIC = 0x53424152;
+    private static final String PARTITION_PREFIX = "results-";
+    private static final String PARTITION_SUFFIX = ".bin.gz";
+    private static final int INITIAL_PARTITION_CAPACITY = 16;
+
+    /**
+     * The results of one day, column by column, in the order they were archived.
+     */
+    private static final class Partition {
+
+        final LocalDate date;
+        String[] matchIds = new String[INITIAL_PARTITION_CAPACITY];
+        int[] homeTeamIds = new int[INITIAL_PARTITION_CAPACITY];
+        int[] awayTeamIds = new int[INITIAL_PARTITION_CAPACITY];
+        int[] homeTeamScores = new int[INITIAL_PARTITION_CAPACITY];
+        int[] awayTeamScores = new int[INITIAL_PARTITION_CAPACITY];
+        long[] startEpochNanos = new long[INITIAL_PARTITION_CAPACITY];
+        long[] finishEpochNanos = new long[INITIAL_PARTITION_CAPACITY];
+        int size;
+        boolean dirty;
+
+        Partition(LocalDate date) {
+            this.date = date;
+        }
+
+        void add(String matchId, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore,
+                 long startEpochNanos, long finishEpochNanos) {
+            if (size == matchIds.length) {
+                var capacity = size * 2;
+                matchIds = Arrays.copyOf(matchIds, capacity);
+                homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+                awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+                homeTeamScores = Arrays.copyOf(homeTeamScores, capacity);
+                awayTeamScores = Arrays.copyOf(awayTeamScores, capacity);
+                this.startEpochNanos = Arrays.copyOf(this.startEpochNanos, capacity);
+                this.finishEpochNanos = Arrays.copyOf(this.finishEpochNanos, capacity);
+            }
+            matchIds[size] = matchId;
+            homeTeamIds[size] = homeTeamId;
+            awayTeamIds[size] = awayTeamId;
+            homeTeamScores[size] = homeTeamScore;
+            awayTeamScores[size] = awayTeamScore;
+            this.startEpochNanos[size] = startEpochNanos;
+            this.finishEpochNanos[size] = finishEpochNanos;
+            size++;
+            dirty = true;
+        }
+    }
+
+    private final Path directory;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<LocalDate, Partition> partitions = new TreeMap<>();
+
+    /**
+     * The dictionary of team names as they were spelled, and the case-insensitive key of each.
+     */
+    private final Map<String, Integer> teamIds = new HashMap<>();
+    private final List<String> teamNames = new ArrayList<>();
+    private final List<Integer> teamKeyIds = new ArrayList<>();
+
+    /**
+     * The days each team played on, by case-insensitive team key.
+     */
+    private final Map<String, Integer> teamKeys = new HashMap<>();
+    private final List<NavigableSet<LocalDate>> daysByTeamKey = new ArrayList<>();
+
+    /**
+     * Creates an archive kept in memory only.
+     */
+    public ColumnarMatchArchive() {
+        this.directory = null;
+    }
+
+    /**
+     * Creates an archive persisted to the given directory, creating it if needed and loading the partitions in it.
+     *
+     * @param directory The directory holding the partition files.
+     */
+    public ColumnarMatchArchive(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            for (var partitionFile : listPartitions()) {
+                load(partitionFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load match archive from " + directory, e);
+        }
+        log.info("Loaded {} archived days from {}", partitions.size(), directory);
+    }
+
+    @Override
+    public void archive(Match match, LocalDateTime finishTime) {
+        var date = match.startTime().toLocalDate();
+        lock.writeLock().lock();
+        try {
+            add(date, match.matchId(), match.homeTeam(), match.awayTeam(),
+                    match.homeTeamScore(), match.awayTeamScore(), toEpochNanos(match.startTime()), toEpochNanos(finishTime));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (directory != null) {
+            try {
+                flush(date);
+            } catch (UncheckedIOException e) {
+                // The match is already off the board, so its result is kept in memory until a flush gets it written
+                log.error("Could not write the result of match {}, it is written by the next flush", match.matchId(), e);
+            }
+        }
+    }
+
+    /**
+     * Retrieves every result of matches the given team played in, home or away.
+     *
+     * @param team The name of the team, matched regardless of case.
+     * @return The results, oldest day first and in the order they were archived within a day.
+     * @throws IllegalArgumentException if the team name is not valid.
+     */
+    @Override
+    public List<MatchResult> findResultsByTeam(String team) {
+        isValidString(team);
+        lock.readLock().lock();
+        try {
+            var teamKeyId = teamKeys.get(normalizeTeam(team));
+            if (teamKeyId == null) {
+                return List.of();
+            }
+            var results = new ArrayList<MatchResult>();
+            for (var date : daysByTeamKey.get(teamKeyId)) {
+                var partition = partitions.get(date);
+                for (int row = 0; row < partition.size; row++) {
+                    if (teamKeyIds.get(partition.homeTeamIds[row]) == (int) teamKeyId
+                            || teamKeyIds.get(partition.awayTeamIds[row]) == (int) teamKeyId) {
+                        results.add(result(partition, row));
+                    }
+                }
+            }
+            return List.copyOf(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the results of matches started between two days, both included.
+     *
+     * @param from The first day.
+     * @param to   The last day.
+     * @return The results, oldest day first and in the order they were archived within a day.
+     * @throws IllegalArgumentException if either day is null or the first day is after the last.
+     */
+    @Override
+    public List<MatchResult> findResultsBetween(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        lock.readLock().lock();
+        try {
+            var results = new ArrayList<MatchResult>();
+            for (var partition : partitions.subMap(from, true, to, true).values()) {
+                for (int row = 0; row < partition.size; row++) {
+                    results.add(result(partition, row));
+                }
+            }
+            return List.copyOf(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes every partition that changed since the last flush. The changed partitions are copied under the read
+     * lock, so results can be archived again as soon as the copy is taken rather than once the files are written.
+     */
+    @Override
+    public synchronized void flush() {
+        if (directory == null) {
+            return;
+        }
+        var changed = new ArrayList<Partition>();
+        lock.readLock().lock();
+        try {
+            for (var partition : partitions.values()) {
+                if (partition.dirty) {
+                    changed.add(copyForWrite(partition));
+                    partition.dirty = false;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        write(changed);
+    }
+
+    /**
+     * Writes the partition of one day if it changed since it was last written, like {@link #flush()}.
+     */
+    private synchronized void flush(LocalDate date) {
+        Partition changed;
+        lock.readLock().lock();
+        try {
+            var partition = partitions.get(date);
+            if (!partition.dirty) {
+                // Written by a flush that ran after the result was added
+                return;
+            }
+            changed = copyForWrite(partition);
+            partition.dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+        write(List.of(changed));
+    }
+
+    private void write(List<Partition> changed) {
+        for (var partition : changed) {
+            try {
+                write(partition);
+            } catch (UncheckedIOException e) {
+                markDirty(partition.date);
+                throw e;
+            }
+        }
+    }
+
+    private void markDirty(LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            partitions.get(date).dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void add(LocalDate date, String matchId, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore,
+                     long startEpochNanos, long finishEpochNanos) {
+        var homeTeamId = teamId(homeTeam);
+        var awayTeamId = teamId(awayTeam);
+        partitions.computeIfAbsent(date, Partition::new)
+                .add(matchId, homeTeamId, awayTeamId, homeTeamScore, awayTeamScore, startEpochNanos, finishEpochNanos);
+        daysByTeamKey.get(teamKeyIds.get(homeTeamId)).add(date);
+        daysByTeamKey.get(teamKeyIds.get(awayTeamId)).add(date);
+    }
+
+    private int teamId(String team) {
+        var teamId = teamIds.get(team);
+        if (teamId != null) {
+            return teamId;
+        }
+        var teamKeyId = teamKeys.computeIfAbsent(normalizeTeam(team), key -> {
+            daysByTeamKey.add(new TreeSet<>());
+            return daysByTeamKey.size() - 1;
+        });
+        teamId = teamNames.size();
+        teamIds.put(team, teamId);
+        teamNames.add(team);
+        teamKeyIds.add(teamKeyId);
+        return teamId;
+    }
+
+    private MatchResult result(Partition partition, int row) {
+        return new MatchResult(partition.matchIds[row], teamNames.get(partition.homeTeamIds[row]),
+                teamNames.get(partition.awayTeamIds[row]), partition.homeTeamScores[row], partition.awayTeamScores[row],
+                toLocalDateTime(partition.startEpochNanos[row]), toLocalDateTime(partition.finishEpochNanos[row]));
+    }
+
+    /**
+     * Copies the filled part of a partition's columns. Must be called holding the lock.
+     */
+    private Partition copyForWrite(Partition partition) {
+        var copy = new Partition(partition.date);
+        copy.matchIds = Arrays.copyOf(partition.matchIds, partition.size);
+        copy.homeTeamIds = Arrays.copyOf(partition.homeTeamIds, partition.size);
+        copy.awayTeamIds = Arrays.copyOf(partition.awayTeamIds, partition.size);
+        copy.homeTeamScores = Arrays.copyOf(partition.homeTeamScores, partition.size);
+        copy.awayTeamScores = Arrays.copyOf(partition.awayTeamScores, partition.size);
+        copy.startEpochNanos = Arrays.copyOf(partition.startEpochNanos, partition.size);
+        copy.finishEpochNanos = Arrays.copyOf(partition.finishEpochNanos, partition.size);
+        copy.size = partition.size;
+        return copy;
+    }
+
+    private void write(Partition partition) {
+        var partitionFile = directory.resolve(PARTITION_PREFIX + partition.date + PARTITION_SUFFIX);
+        var temporaryFile = directory.resolve(partitionFile.getFileName() + ".tmp");
+        try {
+            // Team names are written once per partition; the columns refer to them by their index in the file
+            var localTeamIds = new HashMap<Integer, Integer>();
+            var localTeamNames = new ArrayList<String>();
+            var localHomeTeamIds = new int[partition.size];
+            var localAwayTeamIds = new int[partition.size];
+            lock.readLock().lock();
+            try {
+                for (int row = 0; row < partition.size; row++) {
+                    localHomeTeamIds[row] = localTeamId(partition.homeTeamIds[row], localTeamIds, localTeamNames);
+                    localAwayTeamIds[row] = localTeamId(partition.awayTeamIds[row], localTeamIds, localTeamNames);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            try (var out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(partition.size);
+                out.writeInt(localTeamNames.size());
+                for (var team : localTeamNames) {
+                    out.writeUTF(team);
+                }
+                for (int row = 0; row < partition.size; row++) {
+                    out.writeUTF(partition.matchIds[row]);
+                }
+                writeColumn(out, localHomeTeamIds, partition.size);
+                writeColumn(out, localAwayTeamIds, partition.size);
+                writeColumn(out, partition.homeTeamScores, partition.size);
+                writeColumn(out, partition.awayTeamScores, partition.size);
+                writeColumn(out, partition.startEpochNanos, partition.size);
+                writeColumn(out, partition.finishEpochNanos, partition.size);
+            }
+            Files.move(temporaryFile, partitionFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write archive partition " + partitionFile, e);
+        }
+        log.debug("Wrote {} archived results of {}", partition.size, partition.date);
+    }
+
+    private int localTeamId(int teamId, Map<Integer, Integer> localTeamIds, List<String> localTeamNames) {
+        return localTeamIds.computeIfAbsent(teamId, id -> {
+            localTeamNames.add(teamNames.get(id));
+            return localTeamNames.size() - 1;
+        });
+    }
+
+    private void load(Path partitionFile) throws IOException {
+        var fileName = partitionFile.getFileName().toString();
+        var date = LocalDate.parse(fileName.substring(PARTITION_PREFIX.length(), fileName.length() - PARTITION_SUFFIX.length()));
+        try (var in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(partitionFile))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an archive partition: " + partitionFile);
+            }
+            var size = in.readInt();
+            var localTeamNames = new String[in.readInt()];
+            for (int i = 0; i < localTeamNames.length; i++) {
+                localTeamNames[i] = in.readUTF();
+            }
+            var matchIds = new String[size];
+            for (int row = 0; row < size; row++) {
+                matchIds[row] = in.readUTF();
+            }
+            var homeTeamIds = readIntColumn(in, size);
+            var awayTeamIds = readIntColumn(in, size);
+            var homeTeamScores = readIntColumn(in, size);
+            var awayTeamScores = readIntColumn(in, size);
+            var startEpochNanos = readLongColumn(in, size);
+            var finishEpochNanos = readLongColumn(in, size);
+            for (int row = 0; row < size; row++) {
+                add(date, matchIds[row], localTeamNames[homeTeamIds[row]], localTeamNames[awayTeamIds[row]],
+                        homeTeamScores[row], awayTeamScores[row], startEpochNanos[row], finishEpochNanos[row]);
+            }
+        }
+        var partition = partitions.get(date);
+        if (partition != null) {
+            partition.dirty = false;
+        }
+    }
+
+    private List<Path> listPartitions() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        var name = file.getFileName().toString();
+                        return name.startsWith(PARTITION_PREFIX) && name.endsWith(PARTITION_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void writeColumn(DataOutputStream out, int[] column, int size) throws IOException {
+        for (int row = 0; row < size; row++) {
+            out.writeInt(column[row]);
+        }
+    }
+
+    private static void writeColumn(DataOutputStream out, long[] column, int size) throws IOException {
+        for (int row = 0; row < size; row++) {
+            out.writeLong(column[row]);
+        }
+    }
+
+    private static int[] readIntColumn(DataInputStream in, int size) throws IOException {
+        var column = new int[size];
+        for (int row = 0; row < size; row++) {
+            column[row] = in.readInt();
+        }
+        return column;
+    }
+
+    private static long[] readLongColumn(DataInputStream in, int size) throws IOException {
+        var column = new long[size];
+        for (int row = 0; row < size; row++) {
+            column[row] = in.readLong();
+        }
+        return column;
+    }
+
+    private static String normalizeTeam(String team) {
+        return team.toLowerCase(Locale.ROOT);
+    }
+
+    private static long toEpochNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
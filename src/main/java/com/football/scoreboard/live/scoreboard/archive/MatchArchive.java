@@ -0,0 +1,88 @@
+package com.football.scoreboard.live.scoreboard.archive;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An append-only store of the results of finished matches, queried separately from the live board.
+ * Results are dated by the day their match started.
+ */
+public interface MatchArchive {
+
+    /**
+     * An archive that keeps nothing.
+     */
+    MatchArchive DISABLED = new MatchArchive() {
+
+        @Override
+        public void archive(Match match, LocalDateTime finishTime) {
+        }
+
+        @Override
+        public List<MatchResult> findResultsByTeam(String team) {
+            return List.of();
+        }
+
+        @Override
+        public List<MatchResult> findResultsBetween(LocalDate from, LocalDate to) {
+            return List.of();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Adds the result of a finished match.
+     *
+     * @param match      The match as it was when it was finished.
+     * @param finishTime The time the match was finished.
+     */
+    void archive(Match match, LocalDateTime finishTime);
+
+    /**
+     * Retrieves every result of matches the given team played in, home or away.
+     *
+     * @param team The name of the team, matched regardless of case.
+     * @return The results, oldest day first and in the order they were archived within a day.
+     */
+    List<MatchResult> findResultsByTeam(String team);
+
+    /**
+     * Retrieves the results of matches started on the given day.
+     *
+     * @param date The day.
+     * @return The results, in the order they were archived.
+     */
+    default List<MatchResult> findResultsOn(LocalDate date) {
+        return findResultsBetween(date, date);
+    }
+
+    /**
+     * Retrieves the results of matches started between two days, both included.
+     *
+     * @param from The first day.
+     * @param to   The last day.
+     * @return The results, oldest day first and in the order they were archived within a day.
+     */
+    List<MatchResult> findResultsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Writes out results archived since the last flush, if the archive is persistent.
+     */
+    void flush();
+
+    /**
+     * Flushes the archive and releases its files.
+     */
+    void close();
+}
@@ -0,0 +1,32 @@
+package com.football.scoreboard.live.scoreboard.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Provides the {@link MatchArchive} finished matches are moved to.
+ * Results are kept in memory unless {@code scoreboard.archive.enabled} is set, in which case they are also written
+ * to day partitions under {@code scoreboard.archive.directory} as matches finish, loaded back on startup, and
+ * flushed again by the {@link MatchArchiveScheduler} every {@code scoreboard.archive.flush-interval} if a write failed.
+ */
+@Configuration
+public class MatchArchiveConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public MatchArchive matchArchive(@Value("${scoreboard.archive.enabled:false}") boolean enabled,
+                                     @Value("${scoreboard.archive.directory:archive}") Path directory) {
+        return enabled ? new ColumnarMatchArchive(directory) : new ColumnarMatchArchive();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "scoreboard.archive.enabled", havingValue = "true")
+    public MatchArchiveScheduler matchArchiveScheduler(MatchArchive matchArchive,
+                                                       @Value("${scoreboard.archive.flush-interval:PT1M}") Duration interval) {
+        return new MatchArchiveScheduler(matchArchive, interval);
+    }
+}
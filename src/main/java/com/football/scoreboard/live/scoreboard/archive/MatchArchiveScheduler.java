@@ -0,0 +1,47 @@
+package com.football.scoreboard.live.scoreboard.archive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flushes the match archive every {@code scoreboard.archive.flush-interval}, which writes out the day partitions
+ * that could not be written when their results were archived. The archive flushes once more when it is closed.
+ */
+@Slf4j
+public class MatchArchiveScheduler {
+
+    private final MatchArchive matchArchive;
+    private final Duration interval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "match-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MatchArchiveScheduler(MatchArchive matchArchive, Duration interval) {
+        this.matchArchive = matchArchive;
+        this.interval = interval;
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flush, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        try {
+            matchArchive.flush();
+        } catch (RuntimeException e) {
+            // The changed partitions stay marked and are written by the next flush
+            log.error("Could not flush match archive", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+/**
+ * One decoded record of the audit trail.
+ *
+ * @param timestampMillis the wall-clock time the operation was recorded at, in milliseconds since the epoch.
+ * @param operation       the operation.
+ * @param outcome         how the operation ended.
+ * @param matchId         the ID of the match, empty for summary reads. IDs longer than the record allows are truncated.
+ * @param homeTeamScore   the score of the home team after the operation.
+ * @param awayTeamScore   the score of the away team after the operation.
+ * @param detail          the operation-specific detail, see {@link AuditOperation}.
+ */
+public record AuditEvent(long timestampMillis, AuditOperation operation, AuditOutcome outcome, String matchId,
+                         int homeTeamScore, int awayTeamScore, long detail) {
+}
@@ -0,0 +1,40 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+/**
+ * The scoreboard operations recorded in the audit trail.
+ */
+public enum AuditOperation {
+
+    /**
+     * A match was started; the detail is its start sequence.
+     */
+    MATCH_STARTED,
+
+    /**
+     * The score of a match was updated, on its own or as part of a batch; the detail is the feed sequence.
+     */
+    SCORE_UPDATED,
+
+    /**
+     * A match was finished; the scores are its final scores.
+     */
+    MATCH_FINISHED,
+
+    /**
+     * The summary was read; the detail is the board version it was read at. Summary reads are no longer audited,
+     * so that they cannot crowd the writes out of the audit buffer; kept so that older audit files still decode.
+     */
+    SUMMARY_READ,
+
+    /**
+     * A goal was added to the score of a match; the scores are those after the goal and the detail is the board
+     * version it is visible at.
+     */
+    GOAL_RECORDED,
+
+    /**
+     * The scores of a match were corrected by a number of goals; the scores are those after the correction and the
+     * detail is the board version it is visible at.
+     */
+    SCORE_CORRECTED
+}
@@ -0,0 +1,32 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+/**
+ * How a recorded scoreboard operation ended.
+ */
+public enum AuditOutcome {
+
+    SUCCESS,
+
+    MATCH_NOT_FOUND,
+
+    /**
+     * A feed update was dropped because the match had already applied a message with the same or a higher sequence.
+     */
+    STALE,
+
+    /**
+     * A summary read was served from the cached summary. Summary reads are no longer audited; kept so that
+     * older audit files still decode.
+     */
+    CACHE_HIT,
+
+    /**
+     * A summary read had to render the summary. Kept like {@link #CACHE_HIT}.
+     */
+    CACHE_MISS,
+
+    /**
+     * A match was not started because one of its teams is already playing in another match.
+     */
+    REJECTED
+}
@@ -0,0 +1,96 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.football.scoreboard.live.scoreboard.audit.FileMatchAuditTrail.HEADER_SIZE;
+import static com.football.scoreboard.live.scoreboard.audit.FileMatchAuditTrail.MAGIC;
+import static com.football.scoreboard.live.scoreboard.audit.FileMatchAuditTrail.MATCH_ID_OFFSET;
+import static com.football.scoreboard.live.scoreboard.audit.FileMatchAuditTrail.RECORD_SIZE;
+
+/**
+ * Reads back the files written by {@link FileMatchAuditTrail}.
+ *
+ * Run it with audit files or audit directories as arguments to print every record as one line of text,
+ * oldest file first:
+ * <pre>
+ * java -cp scoreboard-app.jar com.football.scoreboard.live.scoreboard.audit.AuditTrailDecoder audit/
+ * </pre>
+ */
+public final class AuditTrailDecoder {
+
+    private static final AuditOperation[] OPERATIONS = AuditOperation.values();
+    private static final AuditOutcome[] OUTCOMES = AuditOutcome.values();
+
+    private AuditTrailDecoder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: AuditTrailDecoder <audit file or directory>...");
+            System.exit(1);
+        }
+        for (var arg : args) {
+            var path = Path.of(arg);
+            var files = Files.isDirectory(path) ? FileMatchAuditTrail.listAuditFiles(path) : List.of(path);
+            for (var file : files) {
+                print(decode(file), System.out);
+            }
+        }
+    }
+
+    /**
+     * Decodes every record of an audit file. A record cut short by a crash while it was being written is ignored.
+     *
+     * @param auditFile The audit file to decode.
+     * @return The records of the file, in the order they were written.
+     * @throws IllegalArgumentException if the file is not an audit file.
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<AuditEvent> decode(Path auditFile) throws IOException {
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(auditFile)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != RECORD_SIZE) {
+            throw new IllegalArgumentException(auditFile + " is not an audit file");
+        }
+        var events = new ArrayList<AuditEvent>((buffer.remaining() - HEADER_SIZE) / RECORD_SIZE);
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+            events.add(decode(buffer, offset));
+        }
+        return events;
+    }
+
+    private static AuditEvent decode(ByteBuffer buffer, int offset) {
+        var matchIdLength = buffer.get(offset + 26);
+        return new AuditEvent(
+                buffer.getLong(offset),
+                OPERATIONS[buffer.get(offset + 24)],
+                OUTCOMES[buffer.get(offset + 25)],
+                new String(buffer.array(), offset + MATCH_ID_OFFSET, matchIdLength, StandardCharsets.UTF_8),
+                buffer.getInt(offset + 16),
+                buffer.getInt(offset + 20),
+                buffer.getLong(offset + 8));
+    }
+
+    /**
+     * Prints each event as one line: timestamp, operation, outcome, match ID, scores and detail.
+     *
+     * @param events The events to print.
+     * @param out    The stream to print them to.
+     */
+    static void print(List<AuditEvent> events, PrintStream out) {
+        for (var event : events) {
+            out.println(Instant.ofEpochMilli(event.timestampMillis()) + " " + event.operation() + " " + event.outcome()
+                    + " " + (event.matchId().isEmpty() ? "-" : event.matchId())
+                    + " " + event.homeTeamScore() + "-" + event.awayTeamScore()
+                    + " " + event.detail());
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * A {@link MatchAuditTrail} that records operations as fixed-size binary records and writes them to rolling files
+ * from a background thread.
+ *
+ * Records are written into one preallocated byte array divided into {@value #RECORD_SIZE}-byte slots, which any
+ * number of threads fill concurrently and a single writer thread drains: a caller claims the next slot with a
+ * compare-and-set, encodes its record straight into the array and publishes the slot by advancing the slot's
+ * sequence, so recording neither allocates nor takes a lock. When every slot is taken the record is dropped and
+ * counted rather than making the caller wait; the writer logs how many were dropped.
+ *
+ * The writer hands runs of published slots to the file channel as they are, so the file holds the same bytes as
+ * the array. Every file starts with a {@value #HEADER_SIZE}-byte header holding the magic number and the record size,
+ * followed by records laid out little-endian as
+ * <pre>
+ *  0  long  timestamp in milliseconds since the epoch
+ *  8  long  detail
+ * 16  int   home team score
+ * 20  int   away team score
+ * 24  byte  operation ordinal
+ * 25  byte  outcome ordinal
+ * 26  byte  length of the match ID
+ * 27  5 bytes reserved
+ * 32  32 bytes of UTF-8 match ID, truncated
+ * </pre>
+ * Files are named after an increasing index; a new one is started once the current one would outgrow
+ * {@code maxFileSize}, and only the newest {@code retained} files are kept. {@link AuditTrailDecoder} reads them back.
+ */
+@Slf4j
+public class FileMatchAuditTrail implements MatchAuditTrail {
+
+    static final int MAGIC = 0x53424155;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 64;
+    static final int MATCH_ID_OFFSET = 32;
+    static final int MAX_MATCH_ID_LENGTH = RECORD_SIZE - MATCH_ID_OFFSET;
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".bin";
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long WRITER_IDLE_PARK_NANOS = 1_000_000;
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int retained;
+
+    private final byte[] records;
+    /**
+     * Per slot, the position it can be claimed at, or that position plus one once its record is published.
+     */
+    private final AtomicLongArray slotSequences;
+    private final int mask;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private final AtomicLong droppedRecords = new AtomicLong();
+
+    /**
+     * A view of {@link #records} reused for every write. Only touched by the writer.
+     */
+    private final ByteBuffer writeView;
+    private long consumerSequence;
+    private long reportedDroppedRecords;
+    private FileChannel file;
+    private long fileSize;
+    private long nextFileIndex;
+
+    private volatile boolean closed;
+    private final Thread writer;
+
+    /**
+     * Creates an audit trail in the given directory, creating it if needed, and starts its writer thread.
+     * Records are appended to a new file, so files written before a restart are left as they are.
+     *
+     * @param directory   The directory holding the audit files.
+     * @param capacity    The number of records buffered before new ones are dropped, a power of two of at least 2.
+     * @param maxFileSize The size in bytes an audit file may grow to before the next one is started.
+     * @param retained    The number of audit files to keep; older ones are deleted whenever a new one is started.
+     * @throws IllegalArgumentException if the capacity is not a power of two of at least 2, a file cannot hold
+     *                                  a single record or no file is retained.
+     */
+    public FileMatchAuditTrail(Path directory, int capacity, long maxFileSize, int retained) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Audit buffer capacity must be a power of two of at least 2");
+        }
+        if (maxFileSize < HEADER_SIZE + RECORD_SIZE) {
+            throw new IllegalArgumentException("Audit file size is too small: " + maxFileSize);
+        }
+        if (retained < 1) {
+            throw new IllegalArgumentException("At least one audit file must be retained");
+        }
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.retained = retained;
+        records = new byte[capacity * RECORD_SIZE];
+        writeView = ByteBuffer.wrap(records);
+        slotSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slotSequences.set(i, i);
+        }
+        mask = capacity - 1;
+        try {
+            Files.createDirectories(directory);
+            var files = listAuditFiles();
+            nextFileIndex = files.isEmpty() ? 0 : fileIndexOf(files.get(files.size() - 1)) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit directory " + directory, e);
+        }
+        writer = new Thread(this::writeRecords, "match-audit");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void record(AuditOperation operation, AuditOutcome outcome, String matchId,
+                       int homeTeamScore, int awayTeamScore, long detail) {
+        if (closed) {
+            return;
+        }
+        var position = producerSequence.get();
+        while (true) {
+            var slot = (int) (position & mask);
+            var lag = slotSequences.get(slot) - position;
+            if (lag == 0) {
+                if (producerSequence.compareAndSet(position, position + 1)) {
+                    encode(slot * RECORD_SIZE, operation, outcome, matchId, homeTeamScore, awayTeamScore, detail);
+                    slotSequences.set(slot, position + 1);
+                    return;
+                }
+                position = producerSequence.get();
+            } else if (lag < 0) {
+                // The slot still holds a record the writer has not written out yet
+                droppedRecords.incrementAndGet();
+                return;
+            } else {
+                // Another thread claimed this position first
+                position = producerSequence.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedCount() {
+        return droppedRecords.get();
+    }
+
+    /**
+     * Stops accepting records, waits for the writer thread to write out every buffered record and closes the
+     * current audit file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (file != null) {
+                file.force(false);
+                file.close();
+                file = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close audit file", e);
+        }
+    }
+
+    private void encode(int offset, AuditOperation operation, AuditOutcome outcome, String matchId,
+                        int homeTeamScore, int awayTeamScore, long detail) {
+        LONG.set(records, offset, System.currentTimeMillis());
+        LONG.set(records, offset + 8, detail);
+        INT.set(records, offset + 16, homeTeamScore);
+        INT.set(records, offset + 20, awayTeamScore);
+        records[offset + 24] = (byte) operation.ordinal();
+        records[offset + 25] = (byte) outcome.ordinal();
+        records[offset + 26] = (byte) encodeMatchId(matchId, offset + MATCH_ID_OFFSET);
+    }
+
+    /**
+     * Writes the match ID into the record without allocating when it is ASCII, as generated IDs are.
+     *
+     * @return The number of bytes written.
+     */
+    private int encodeMatchId(String matchId, int offset) {
+        if (matchId == null) {
+            return 0;
+        }
+        var length = Math.min(matchId.length(), MAX_MATCH_ID_LENGTH);
+        for (int i = 0; i < length; i++) {
+            var c = matchId.charAt(i);
+            if (c >= 0x80) {
+                return encodeNonAsciiMatchId(matchId, offset);
+            }
+            records[offset + i] = (byte) c;
+        }
+        return length;
+    }
+
+    private int encodeNonAsciiMatchId(String matchId, int offset) {
+        var bytes = matchId.getBytes(StandardCharsets.UTF_8);
+        var length = Math.min(bytes.length, MAX_MATCH_ID_LENGTH);
+        // Do not cut a multi-byte character in half
+        while (length < bytes.length && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        System.arraycopy(bytes, 0, records, offset, length);
+        return length;
+    }
+
+    private void writeRecords() {
+        while (true) {
+            // Read the flag before draining, so that the last drain after close sees every record published before it
+            var stopping = closed;
+            int written;
+            try {
+                written = drain();
+            } catch (IOException e) {
+                log.error("Could not write audit records, dropping them", e);
+                written = skipPublished();
+            }
+            reportDroppedRecords();
+            if (stopping && written == 0) {
+                return;
+            }
+            if (written == 0) {
+                LockSupport.parkNanos(WRITER_IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Writes out the run of published records starting at the consumer position, up to the end of the array.
+     *
+     * @return The number of records written.
+     */
+    private int drain() throws IOException {
+        var first = (int) (consumerSequence & mask);
+        var count = publishedRun(first);
+        if (count == 0) {
+            return 0;
+        }
+        var bytes = (long) count * RECORD_SIZE;
+        if (file == null || fileSize + bytes > maxFileSize) {
+            // Only as many records as fit in a fresh file; the rest go to the next one
+            count = (int) Math.min(count, (maxFileSize - HEADER_SIZE) / RECORD_SIZE);
+            bytes = (long) count * RECORD_SIZE;
+            if (file == null || fileSize + bytes > maxFileSize) {
+                rollFile();
+            }
+        }
+        writeView.limit(first * RECORD_SIZE + (int) bytes).position(first * RECORD_SIZE);
+        while (writeView.hasRemaining()) {
+            file.write(writeView);
+        }
+        fileSize += bytes;
+        release(first, count);
+        return count;
+    }
+
+    private int skipPublished() {
+        var first = (int) (consumerSequence & mask);
+        var count = publishedRun(first);
+        release(first, count);
+        return count;
+    }
+
+    private int publishedRun(int first) {
+        int count = 0;
+        while (first + count < slotSequences.length()
+                && slotSequences.get(first + count) == consumerSequence + count + 1) {
+            count++;
+        }
+        return count;
+    }
+
+    private void release(int first, int count) {
+        for (int i = 0; i < count; i++) {
+            slotSequences.set(first + i, consumerSequence + i + slotSequences.length());
+        }
+        consumerSequence += count;
+    }
+
+    private void rollFile() throws IOException {
+        if (file != null) {
+            file.force(false);
+            file.close();
+            file = null;
+        }
+        var path = directory.resolve(FILE_PREFIX + String.format("%020d", nextFileIndex++) + FILE_SUFFIX);
+        file = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(RECORD_SIZE)
+                .putLong(System.currentTimeMillis())
+                .flip();
+        while (header.hasRemaining()) {
+            file.write(header);
+        }
+        fileSize = HEADER_SIZE;
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        var files = listAuditFiles();
+        for (var auditFile : files.subList(0, Math.max(0, files.size() - retained))) {
+            Files.deleteIfExists(auditFile);
+        }
+    }
+
+    private void reportDroppedRecords() {
+        var dropped = droppedRecords.get();
+        if (dropped != reportedDroppedRecords) {
+            log.warn("Audit buffer full, dropped {} records", dropped - reportedDroppedRecords);
+            reportedDroppedRecords = dropped;
+        }
+    }
+
+    private List<Path> listAuditFiles() throws IOException {
+        return listAuditFiles(directory);
+    }
+
+    static List<Path> listAuditFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        var name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long fileIndexOf(Path auditFile) {
+        var name = auditFile.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+}
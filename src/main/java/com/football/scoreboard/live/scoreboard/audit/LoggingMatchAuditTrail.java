@@ -0,0 +1,22 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records every operation as one {@code INFO} line, for scoreboards that do not keep a {@link FileMatchAuditTrail}.
+ * The service itself only logs at {@code DEBUG}, so this is what keeps its operations visible in the logs then.
+ * Unlike the file audit trail, it formats a line on the calling thread.
+ */
+@Slf4j
+public class LoggingMatchAuditTrail implements MatchAuditTrail {
+
+    @Override
+    public void record(AuditOperation operation, AuditOutcome outcome, String matchId,
+                       int homeTeamScore, int awayTeamScore, long detail) {
+        log.info("{} {} for match {}: {}-{} ({})", operation, outcome, matchId, homeTeamScore, awayTeamScore, detail);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,25 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Provides the {@link MatchAuditTrail} the scoreboard records its operations to.
+ * Operations are logged at {@code INFO} unless {@code scoreboard.audit.enabled} is set, in which case they are
+ * written to rolling binary files under {@code scoreboard.audit.directory} instead.
+ */
+@Configuration
+public class MatchAuditConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public MatchAuditTrail matchAuditTrail(@Value("${scoreboard.audit.enabled:false}") boolean enabled,
+                                           @Value("${scoreboard.audit.directory:audit}") Path directory,
+                                           @Value("${scoreboard.audit.capacity:65536}") int capacity,
+                                           @Value("${scoreboard.audit.max-file-size:67108864}") long maxFileSize,
+                                           @Value("${scoreboard.audit.retained:16}") int retained) {
+        return enabled ? new FileMatchAuditTrail(directory, capacity, maxFileSize, retained) : new LoggingMatchAuditTrail();
+    }
+}
@@ -0,0 +1,40 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+/**
+ * A record of the operations performed on the scoreboard, kept off the logging path.
+ * Recording must be cheap enough to be done on every operation and must never block the caller.
+ */
+public interface MatchAuditTrail {
+
+    /**
+     * An audit trail that records nothing.
+     */
+    MatchAuditTrail DISABLED = new MatchAuditTrail() {
+
+        @Override
+        public void record(AuditOperation operation, AuditOutcome outcome, String matchId,
+                           int homeTeamScore, int awayTeamScore, long detail) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Records an operation.
+     *
+     * @param operation     The operation.
+     * @param outcome       How the operation ended.
+     * @param matchId       The ID of the match, or {@code null} for operations on the whole board.
+     * @param homeTeamScore The score of the home team after the operation.
+     * @param awayTeamScore The score of the away team after the operation.
+     * @param detail        The operation-specific detail, see {@link AuditOperation}.
+     */
+    void record(AuditOperation operation, AuditOutcome outcome, String matchId, int homeTeamScore, int awayTeamScore, long detail);
+
+    /**
+     * Writes out every recorded operation and releases the audit files.
+     */
+    void close();
+}
@@ -0,0 +1,408 @@
+package com.football.scoreboard.live.scoreboard.embedded;
+
+import com.football.scoreboard.live.scoreboard.archive.ColumnarMatchArchive;
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.archive.MatchArchiveScheduler;
+import com.football.scoreboard.live.scoreboard.audit.FileMatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.audit.LoggingMatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.journal.FileMatchSnapshotStore;
+import com.football.scoreboard.live.scoreboard.journal.MappedMatchJournal;
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.journal.MatchSnapshotScheduler;
+import com.football.scoreboard.live.scoreboard.journal.MatchSnapshotStore;
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationServiceImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scoreboard embedded in a plain Java process, without Spring.
+ *
+ * {@link #builder()} wires the same repository, services, journal, snapshots, audit trail, archive and summary
+ * projection as the Spring Boot application does from its properties, with the same defaults: unless asked for
+ * otherwise, the live matches are kept in memory only, in the default repository, and metrics go to a registry of
+ * the scoreboard's own. Nothing here needs Spring on the classpath; the Spring Boot application is an adapter
+ * around the same classes.
+ *
+ * Closing the scoreboard stops its background threads and closes its files, in the reverse order they were opened,
+ * so that the last snapshot and archive flush still see every change.
+ */
+@Slf4j
+public final class EmbeddedScoreboard implements AutoCloseable {
+
+    private final MatchRepository matchRepository;
+    private final MatchOperationService matchOperationService;
+    private final CompetitionMatchOperationService competitionMatchOperationService;
+    private final MatchArchive matchArchive;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * What to close, in the order it was opened.
+     */
+    private final List<AutoCloseable> resources;
+
+    private EmbeddedScoreboard(MatchRepository matchRepository, MatchOperationService matchOperationService,
+                               CompetitionMatchOperationService competitionMatchOperationService, MatchArchive matchArchive,
+                               MeterRegistry meterRegistry, List<AutoCloseable> resources) {
+        this.matchRepository = matchRepository;
+        this.matchOperationService = matchOperationService;
+        this.competitionMatchOperationService = competitionMatchOperationService;
+        this.matchArchive = matchArchive;
+        this.meterRegistry = meterRegistry;
+        this.resources = resources;
+    }
+
+    /**
+     * Creates a builder for an in-memory scoreboard with the default repository.
+     *
+     * @return The builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the service of the single-board scoreboard, which is also the default competition.
+     *
+     * @return The match operation service.
+     */
+    public MatchOperationService getMatchOperationService() {
+        return matchOperationService;
+    }
+
+    /**
+     * Returns the scoreboards partitioned by competition.
+     *
+     * @return The competition match operation service.
+     */
+    public CompetitionMatchOperationService getCompetitionMatchOperationService() {
+        return competitionMatchOperationService;
+    }
+
+    /**
+     * Returns the repository holding the live matches of the single-board scoreboard.
+     *
+     * @return The match repository.
+     */
+    public MatchRepository getMatchRepository() {
+        return matchRepository;
+    }
+
+    /**
+     * Returns the archive finished matches are moved to, kept in memory only unless a directory was configured.
+     *
+     * @return The match archive.
+     */
+    public MatchArchive getMatchArchive() {
+        return matchArchive;
+    }
+
+    /**
+     * Returns the registry the scoreboard publishes its metrics to.
+     *
+     * @return The meter registry.
+     */
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * Stops the background threads and closes the files of the scoreboard. A resource that fails to close is logged
+     * and does not keep the others open.
+     */
+    @Override
+    public void close() {
+        closeAll(resources);
+    }
+
+    private static void closeAll(List<AutoCloseable> resources) {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            try {
+                resources.get(i).close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Could not close embedded scoreboard resource", e);
+            }
+        }
+    }
+
+    /**
+     * Configures an {@link EmbeddedScoreboard}. Every feature is off until it is asked for, and every setting left
+     * out has the default of the matching {@code scoreboard.*} application property.
+     */
+    public static final class Builder {
+
+        private boolean compactRepository;
+        private List<String> competitionIds = List.of();
+        private int nodeId;
+        private MeterRegistry meterRegistry;
+
+        private Path journalDirectory;
+        private int journalSegmentSize = 64 * 1024 * 1024;
+        private int journalFsyncEvery = MappedMatchJournal.DEFAULT_FSYNC_EVERY;
+
+        private Path snapshotDirectory;
+        private Duration snapshotInterval;
+        private int snapshotsRetained = 2;
+
+        private Path auditDirectory;
+        private int auditCapacity = 65536;
+        private long auditMaxFileSize = 64L * 1024 * 1024;
+        private int auditFilesRetained = 16;
+
+        private Path archiveDirectory;
+        private Duration archiveFlushInterval = Duration.ofMinutes(1);
+
+        private Duration summaryMaxStaleness;
+
+        private Builder() {
+        }
+
+        /**
+         * Keeps the live matches in the {@link CompactMatchRepository} instead of the default repository.
+         * The compact repository does not journal its changes.
+         *
+         * @return This builder.
+         */
+        public Builder compactRepository() {
+            this.compactRepository = true;
+            return this;
+        }
+
+        /**
+         * Registers the competitions besides the default one, each with a scoreboard of its own in memory.
+         * They are read-only if the journal is configured, since it only covers the default scoreboard.
+         *
+         * @param competitionIds The IDs of the competitions.
+         * @return This builder.
+         */
+        public Builder competitions(String... competitionIds) {
+            this.competitionIds = List.of(competitionIds);
+            return this;
+        }
+
+        /**
+         * Sets the node ID packed into the IDs of the matches this instance starts.
+         *
+         * @param nodeId The ID of this instance, between 0 and {@link NodeSequenceMatchIdGenerator#MAX_NODE_ID}.
+         * @return This builder.
+         */
+        public Builder nodeId(int nodeId) {
+            this.nodeId = nodeId;
+            return this;
+        }
+
+        /**
+         * Publishes the scoreboard's metrics to the given registry instead of a registry of its own.
+         *
+         * @param meterRegistry The registry to publish operation timers and scoreboard gauges to.
+         * @return This builder.
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Journals every change of the live matches to memory-mapped segments, and restores them from the journal
+         * when the scoreboard is built.
+         *
+         * @param directory The directory of the journal segments.
+         * @return This builder.
+         */
+        public Builder journal(Path directory) {
+            return journal(directory, journalSegmentSize, journalFsyncEvery);
+        }
+
+        /**
+         * Journals every change of the live matches to memory-mapped segments, and restores them from the journal
+         * when the scoreboard is built.
+         *
+         * @param directory   The directory of the journal segments.
+         * @param segmentSize The size of a journal segment, in bytes.
+         * @param fsyncEvery  The number of records after which the journal is forced to disk, and so the most
+         *                    acknowledged changes a machine crash can lose, or 0 to never force on append.
+         * @return This builder.
+         */
+        public Builder journal(Path directory, int segmentSize, int fsyncEvery) {
+            this.journalDirectory = directory;
+            this.journalSegmentSize = segmentSize;
+            this.journalFsyncEvery = fsyncEvery;
+            return this;
+        }
+
+        /**
+         * Writes a snapshot of the live matches at a fixed interval and on close, so that the journal a restart
+         * replays stays short. Requires the journal.
+         *
+         * @param directory The directory of the snapshot files.
+         * @param interval  How often a snapshot is written.
+         * @return This builder.
+         */
+        public Builder snapshots(Path directory, Duration interval) {
+            return snapshots(directory, interval, snapshotsRetained);
+        }
+
+        /**
+         * Writes a snapshot of the live matches at a fixed interval and on close, so that the journal a restart
+         * replays stays short. Requires the journal.
+         *
+         * @param directory The directory of the snapshot files.
+         * @param interval  How often a snapshot is written.
+         * @param retained  The number of snapshots kept.
+         * @return This builder.
+         */
+        public Builder snapshots(Path directory, Duration interval, int retained) {
+            this.snapshotDirectory = directory;
+            this.snapshotInterval = interval;
+            this.snapshotsRetained = retained;
+            return this;
+        }
+
+        /**
+         * Records every change to the board to rolling binary audit files, instead of logging it at {@code INFO}.
+         *
+         * @param directory The directory of the audit files.
+         * @return This builder.
+         */
+        public Builder auditTrail(Path directory) {
+            return auditTrail(directory, auditCapacity, auditMaxFileSize, auditFilesRetained);
+        }
+
+        /**
+         * Records every change to the board to rolling binary audit files, instead of logging it at {@code INFO}.
+         *
+         * @param directory   The directory of the audit files.
+         * @param capacity    The number of records buffered before new ones are dropped, a power of two of at least 2.
+         * @param maxFileSize The size at which an audit file is rolled over, in bytes.
+         * @param retained    The number of audit files kept.
+         * @return This builder.
+         */
+        public Builder auditTrail(Path directory, int capacity, long maxFileSize, int retained) {
+            this.auditDirectory = directory;
+            this.auditCapacity = capacity;
+            this.auditMaxFileSize = maxFileSize;
+            this.auditFilesRetained = retained;
+            return this;
+        }
+
+        /**
+         * Writes the results of finished matches to day partitions under the given directory as the matches finish,
+         * instead of keeping them in memory only. Partitions whose write failed are written again once a minute and on close.
+         *
+         * @param directory The directory of the day partitions.
+         * @return This builder.
+         */
+        public Builder archive(Path directory) {
+            return archive(directory, archiveFlushInterval);
+        }
+
+        /**
+         * Writes the results of finished matches to day partitions under the given directory as the matches finish.
+         *
+         * @param directory     The directory of the day partitions.
+         * @param flushInterval How often the partitions whose write failed are written again.
+         * @return This builder.
+         */
+        public Builder archive(Path directory, Duration flushInterval) {
+            this.archiveDirectory = directory;
+            this.archiveFlushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Refreshes the match summary on a background thread, so that readers take it without rendering it, as long
+         * as it is no further behind the board than the given bound.
+         *
+         * @param maxStaleness How far behind the board a summary refreshed in the background may be handed out.
+         * @return This builder.
+         */
+        public Builder summaryProjection(Duration maxStaleness) {
+            this.summaryMaxStaleness = maxStaleness;
+            return this;
+        }
+
+        /**
+         * Opens the configured files, restores the live matches and starts the background threads.
+         *
+         * @return The scoreboard, to be closed once no longer used.
+         * @throws IllegalStateException if the compact repository is combined with the journal, or snapshots are
+         *                               configured without the journal.
+         * @throws IllegalArgumentException if a setting is out of range.
+         */
+        public EmbeddedScoreboard build() {
+            if (compactRepository && journalDirectory != null) {
+                throw new IllegalStateException("The compact repository does not journal its changes");
+            }
+            if (snapshotDirectory != null && journalDirectory == null) {
+                throw new IllegalStateException("Snapshots require the journal");
+            }
+            var matchIdGenerator = new NodeSequenceMatchIdGenerator(nodeId);
+            var registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+            var resources = new ArrayList<AutoCloseable>();
+            try {
+                var matchJournal = journalDirectory == null ? MatchJournal.DISABLED
+                        : new MappedMatchJournal(journalDirectory, journalSegmentSize, journalFsyncEvery);
+                if (matchJournal != MatchJournal.DISABLED) {
+                    resources.add(matchJournal::close);
+                }
+                var matchSnapshotStore = snapshotDirectory == null ? MatchSnapshotStore.DISABLED
+                        : new FileMatchSnapshotStore(snapshotDirectory, snapshotsRetained);
+                MatchAuditTrail auditTrail = auditDirectory == null ? new LoggingMatchAuditTrail()
+                        : new FileMatchAuditTrail(auditDirectory, auditCapacity, auditMaxFileSize, auditFilesRetained);
+                if (auditDirectory != null) {
+                    resources.add(auditTrail::close);
+                }
+                var matchArchive = archiveDirectory == null ? new ColumnarMatchArchive() : new ColumnarMatchArchive(archiveDirectory);
+                if (archiveDirectory != null) {
+                    resources.add(matchArchive::close);
+                    var archiveScheduler = new MatchArchiveScheduler(matchArchive, archiveFlushInterval);
+                    archiveScheduler.start();
+                    resources.add(archiveScheduler::stop);
+                }
+
+                MatchRepository matchRepository;
+                if (compactRepository) {
+                    matchRepository = new CompactMatchRepository();
+                } else {
+                    var repository = new MatchRepositoryImpl(matchJournal, matchSnapshotStore);
+                    if (matchSnapshotStore != MatchSnapshotStore.DISABLED) {
+                        var snapshotScheduler = new MatchSnapshotScheduler(repository, snapshotInterval);
+                        snapshotScheduler.start();
+                        resources.add(snapshotScheduler::stop);
+                    }
+                    matchRepository = repository;
+                }
+
+                var matchOperationService = new MatchOperationServiceImpl(matchRepository, registry,
+                        Tags.of("competition", CompetitionMatchOperationService.DEFAULT_COMPETITION), matchIdGenerator,
+                        auditTrail, matchArchive, summaryMaxStaleness);
+                resources.add(matchOperationService::close);
+                var competitionMatchOperationService = new CompetitionMatchOperationServiceImpl(matchOperationService,
+                        competitionIds, registry, matchIdGenerator, auditTrail, matchArchive,
+                        compactRepository ? "compact" : "default",
+                        journalDirectory != null ? CompetitionMatchOperationServiceImpl.NOT_JOURNALED_MESSAGE : null);
+                return new EmbeddedScoreboard(matchRepository, matchOperationService, competitionMatchOperationService,
+                        matchArchive, registry, resources);
+            } catch (RuntimeException e) {
+                closeAll(resources);
+                throw e;
+            }
+        }
+    }
+}
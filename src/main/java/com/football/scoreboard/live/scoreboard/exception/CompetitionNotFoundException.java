@@ -0,0 +1,7 @@
+package com.football.scoreboard.live.scoreboard.exception;
+
+public class CompetitionNotFoundException extends RuntimeException {
+    public CompetitionNotFoundException(String message) {
+        super(message);
+    }
+}
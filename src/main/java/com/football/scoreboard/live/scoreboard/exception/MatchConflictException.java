@@ -0,0 +1,12 @@
+package com.football.scoreboard.live.scoreboard.exception;
+
+/**
+ * Thrown when a change cannot be made in the current state of the scoreboard, for example when a team is already
+ * playing or the scoreboard is a read-only replication follower. It is an {@link IllegalStateException}, so callers
+ * that catch those keep working, but only this one is answered with a conflict.
+ */
+public class MatchConflictException extends IllegalStateException {
+    public MatchConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.football.scoreboard.live.scoreboard.id;
+
+/**
+ * Issues the identity of every match that is started: a start sequence that orders matches by kick-off,
+ * and the match ID derived from it.
+ */
+public interface MatchIdGenerator {
+
+    /**
+     * Issues the start sequence of the next match. Every sequence is strictly greater than all sequences issued
+     * before it in this JVM, so two matches never share one, however close together they start.
+     *
+     * @return A positive start sequence.
+     */
+    long nextStartSequence();
+
+    /**
+     * Formats the ID of the match with the given start sequence.
+     *
+     * @param startSequence A start sequence issued by this generator.
+     * @return The match ID.
+     */
+    String matchId(long startSequence);
+}
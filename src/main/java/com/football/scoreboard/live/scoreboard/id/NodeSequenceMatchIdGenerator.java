@@ -0,0 +1,71 @@
+package com.football.scoreboard.live.scoreboard.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link MatchIdGenerator} that packs a tick and a node ID into one {@code long}.
+ *
+ * The tick counts microseconds since 2024-01-01T00:00Z, but is also bumped by one whenever the clock has not moved
+ * on since the last match, so ticks are strictly increasing while staying close to wall-clock time. The low
+ * {@value #NODE_ID_BITS} bits hold the node ID, which keeps sequences of different instances apart. The match ID is
+ * the sequence in base 36, about a dozen characters.
+ *
+ * Issuing a sequence costs one clock read and one compare-and-set, instead of a {@code SecureRandom} draw per UUID.
+ * The last tick is shared by every generator in the JVM, so that sequences of different shards, and of matches
+ * created without the application's generator, never collide and can be compared with each other. Because ticks
+ * follow the clock, sequences issued after a restart are still greater than those issued before it.
+ */
+public class NodeSequenceMatchIdGenerator implements MatchIdGenerator {
+
+    static final int NODE_ID_BITS = 10;
+
+    /**
+     * The highest node ID that fits next to the tick.
+     */
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    /**
+     * The generator of node 0, for matches created outside of a configured application.
+     */
+    public static final NodeSequenceMatchIdGenerator DEFAULT = new NodeSequenceMatchIdGenerator(0);
+
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    private final int nodeId;
+
+    /**
+     * Creates a generator for the given node.
+     *
+     * @param nodeId The ID of this instance, unique among the instances whose matches must not collide.
+     * @throws IllegalArgumentException if the node ID is negative or greater than {@link #MAX_NODE_ID}.
+     */
+    public NodeSequenceMatchIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public long nextStartSequence() {
+        var now = (System.currentTimeMillis() - EPOCH_MILLIS) * 1_000;
+        var tick = LAST_TICK.accumulateAndGet(now, (lastTick, clockTick) -> Math.max(lastTick + 1, clockTick));
+        return (tick << NODE_ID_BITS) | nodeId;
+    }
+
+    @Override
+    public String matchId(long startSequence) {
+        return Long.toString(startSequence, Character.MAX_RADIX);
+    }
+
+    /**
+     * Returns the node ID packed into a start sequence issued by any instance of this generator.
+     *
+     * @param startSequence The start sequence.
+     * @return The node ID of the instance that issued it.
+     */
+    public static int nodeId(long startSequence) {
+        return (int) (startSequence & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,18 @@
+package com.football.scoreboard.live.scoreboard.ingest;
+
+/**
+ * What a producer experiences when the ingestion ring buffer is full.
+ */
+public enum Backpressure {
+
+    /**
+     * The producer waits for the consumer to free a slot, up to the configured publish timeout,
+     * and the event is rejected if none was freed by then.
+     */
+    BLOCK,
+
+    /**
+     * The event is rejected straight away, leaving it to the producer to retry or drop it.
+     */
+    REJECT
+}
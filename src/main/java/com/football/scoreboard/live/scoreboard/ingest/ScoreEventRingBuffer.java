@@ -0,0 +1,133 @@
+package com.football.scoreboard.live.scoreboard.ingest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded ring of score events with any number of producers and a single consumer.
+ *
+ * Slots are allocated once and reused, so publishing does not allocate. A producer claims the next position
+ * with a compare-and-set on the producer sequence, fills the slot and then publishes it by advancing the slot's
+ * own sequence; the consumer only reads a slot once its sequence says it has been published, and hands it back
+ * to the producers by advancing the sequence by one lap. Producers therefore never wait on each other while the
+ * ring has room, and never see a slot before the consumer is done with it.
+ */
+final class ScoreEventRingBuffer {
+
+    /**
+     * Receives the events drained from the ring, in publication order.
+     */
+    @FunctionalInterface
+    interface EventHandler {
+
+        void onEvent(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence);
+    }
+
+    private static final class Slot {
+
+        /**
+         * The position this slot can be claimed at, or that position plus one once the event in it is published.
+         */
+        volatile long sequence;
+        String matchId;
+        int homeTeamScore;
+        int awayTeamScore;
+        long feedSequence;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private volatile long consumerSequence;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity The number of events the ring can hold, a power of two of at least 2. With a single slot,
+     *                 a published event would look like a free slot to the next lap.
+     * @throws IllegalArgumentException if the capacity is not a power of two of at least 2.
+     */
+    ScoreEventRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two of at least 2");
+        }
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Publishes an event if the ring has room for it.
+     *
+     * @param matchId       The ID of the match.
+     * @param homeTeamScore The new score of the home team.
+     * @param awayTeamScore The new score of the away team.
+     * @param feedSequence  The feed sequence of the event, or {@code Match.NO_FEED_SEQUENCE}.
+     * @return {@code true} if the event was published, {@code false} if the ring is full.
+     */
+    boolean tryPublish(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var position = producerSequence.get();
+        while (true) {
+            var slot = slots[(int) (position & mask)];
+            var lag = slot.sequence - position;
+            if (lag == 0) {
+                if (producerSequence.compareAndSet(position, position + 1)) {
+                    slot.matchId = matchId;
+                    slot.homeTeamScore = homeTeamScore;
+                    slot.awayTeamScore = awayTeamScore;
+                    slot.feedSequence = feedSequence;
+                    slot.sequence = position + 1;
+                    return true;
+                }
+                position = producerSequence.get();
+            } else if (lag < 0) {
+                // The slot still holds the event published one lap ago
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = producerSequence.get();
+            }
+        }
+    }
+
+    /**
+     * Hands up to {@code maxEvents} published events to the handler and frees their slots.
+     * Must only ever be called from one thread at a time.
+     *
+     * @param handler   The handler to pass the events to.
+     * @param maxEvents The maximum number of events to drain.
+     * @return The number of events drained.
+     */
+    int drain(EventHandler handler, int maxEvents) {
+        var position = consumerSequence;
+        int drained = 0;
+        while (drained < maxEvents) {
+            var slot = slots[(int) (position & mask)];
+            if (slot.sequence != position + 1) {
+                break;
+            }
+            var matchId = slot.matchId;
+            slot.matchId = null;
+            handler.onEvent(matchId, slot.homeTeamScore, slot.awayTeamScore, slot.feedSequence);
+            slot.sequence = position + slots.length;
+            position++;
+            drained++;
+        }
+        consumerSequence = position;
+        return drained;
+    }
+
+    /**
+     * Returns the number of events claimed by producers and not yet drained.
+     *
+     * @return The number of pending events.
+     */
+    int size() {
+        return (int) (producerSequence.get() - consumerSequence);
+    }
+}
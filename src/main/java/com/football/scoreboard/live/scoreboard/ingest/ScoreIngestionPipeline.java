@@ -0,0 +1,353 @@
+package com.football.scoreboard.live.scoreboard.ingest;
+
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.football.scoreboard.live.scoreboard.model.Match.NO_FEED_SEQUENCE;
+import static com.football.scoreboard.live.scoreboard.util.ValidationUtil.isAbsoluteScore;
+import static com.football.scoreboard.live.scoreboard.util.ValidationUtil.isValidFeedSequence;
+import static com.football.scoreboard.live.scoreboard.util.ValidationUtil.isValidString;
+
+/**
+ * Decouples feed handlers from board mutation.
+ *
+ * Producers publish score events into a bounded {@link ScoreEventRingBuffer} and return as soon as the event is
+ * in the ring; a single consumer thread is the only one that applies them to the {@link MatchOperationService}.
+ * Each time it drains the ring, the consumer coalesces the pending events of a match into the latest one, so a
+ * feed that re-sends or bursts costs one repository write per match rather than one per message. Unsequenced
+ * updates of a drain are applied together as one batch; sequenced updates keep the highest feed sequence seen
+ * and are applied one by one, so that the repository can still reject them if the board already moved past them.
+ * A sequenced and an unsequenced update of the same match are never coalesced into each other: the pending one
+ * is applied first, so the outcome is the same as applying every event in order.
+ *
+ * Events are validated when they are published, so a producer learns about a bad event straight away and the
+ * consumer never has to deal with one. When the ring is full, producers see the configured {@link Backpressure}.
+ * Neither side polls: an idle consumer parks until a producer publishes, and a producer blocked by a full ring
+ * waits until the consumer frees room or the publish timeout expires.
+ */
+@Component
+@ConditionalOnProperty(name = "scoreboard.ingest.enabled", havingValue = "true")
+@Slf4j
+public class ScoreIngestionPipeline {
+
+    static final String PENDING_GAUGE = "scoreboard.ingest.pending";
+    static final String EVENTS_COUNTER = "scoreboard.ingest.events";
+
+    private record PendingScore(int homeTeamScore, int awayTeamScore, long feedSequence) {
+    }
+
+    private final MatchOperationService matchOperationService;
+    private final ScoreEventRingBuffer ringBuffer;
+    private final Backpressure backpressure;
+    private final long publishTimeoutNanos;
+    private final int batchSize;
+
+    /**
+     * The events of the current drain, latest per match, in the order their matches were first seen.
+     * Only touched by the consumer.
+     */
+    private final Map<String, PendingScore> pendingScores = new LinkedHashMap<>();
+    private final ScoreEventRingBuffer.EventHandler coalescer = this::coalesce;
+
+    /**
+     * The events of the current drain applied early, because they could not be coalesced with a later event.
+     * Only touched by the consumer.
+     */
+    private int flushedEvents;
+
+    /**
+     * Producers blocked by a full ring wait on {@link #roomFreed}, which the consumer only signals while
+     * {@link #waitingPublishers} says someone is waiting.
+     */
+    private final ReentrantLock roomLock = new ReentrantLock();
+    private final Condition roomFreed = roomLock.newCondition();
+    private final AtomicInteger waitingPublishers = new AtomicInteger();
+
+    /**
+     * Producers between checking that the pipeline runs and returning, which {@link #stop()} waits for,
+     * so that an event accepted while stopping is still applied.
+     */
+    private final AtomicInteger activePublishers = new AtomicInteger();
+
+    private final Counter acceptedEvents;
+    private final Counter rejectedEvents;
+    private final Counter coalescedEvents;
+
+    private volatile boolean stopped;
+    private volatile boolean consumerIdle;
+    private volatile Thread consumer;
+
+    /**
+     * Creates the pipeline in front of the given service. The consumer thread is started by {@link #start()}.
+     *
+     * @param matchOperationService The service the events are applied to.
+     * @param meterRegistry         The registry to publish the pipeline's metrics to.
+     * @param capacity              The number of events the ring buffer holds, a power of two of at least 2.
+     * @param backpressure          What producers experience when the ring buffer is full.
+     * @param publishTimeout        How long a producer waits for room under {@link Backpressure#BLOCK}.
+     * @param batchSize             The maximum number of events the consumer drains and coalesces at once.
+     * @throws IllegalArgumentException if the capacity is not a power of two of at least 2 or the batch size is not positive.
+     */
+    public ScoreIngestionPipeline(MatchOperationService matchOperationService, MeterRegistry meterRegistry,
+                                  @Value("${scoreboard.ingest.capacity:65536}") int capacity,
+                                  @Value("${scoreboard.ingest.backpressure:BLOCK}") Backpressure backpressure,
+                                  @Value("${scoreboard.ingest.publish-timeout:PT1S}") Duration publishTimeout,
+                                  @Value("${scoreboard.ingest.batch-size:1024}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Ingestion batch size must be positive");
+        }
+        this.matchOperationService = matchOperationService;
+        this.ringBuffer = new ScoreEventRingBuffer(capacity);
+        this.backpressure = backpressure;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+        this.batchSize = batchSize;
+        acceptedEvents = eventsCounter(meterRegistry, "accepted");
+        rejectedEvents = eventsCounter(meterRegistry, "rejected");
+        coalescedEvents = eventsCounter(meterRegistry, "coalesced");
+        Gauge.builder(PENDING_GAUGE, ringBuffer, ScoreEventRingBuffer::size)
+                .description("Score events published and not yet applied")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        consumer = new Thread(this::consume, "score-ingestion");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Stops accepting events, waits for the consumer thread and applies whatever is still in the ring buffer,
+     * including the events of producers that were accepted but had not finished publishing yet.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        signalRoomFreed();
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+            consumer.join();
+        }
+        while (activePublishers.get() > 0 || ringBuffer.size() > 0) {
+            if (drain() == 0) {
+                // A producer claimed a slot and is still filling it
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Publishes a score update to be applied asynchronously.
+     *
+     * @param matchId       The ID of the match to update.
+     * @param homeTeamScore The new score of the home team.
+     * @param awayTeamScore The new score of the away team.
+     * @return {@code true} if the update was accepted, {@code false} if it was rejected by backpressure
+     *         or because the pipeline is stopped.
+     * @throws IllegalArgumentException if the scores or the match ID are invalid.
+     */
+    public boolean publish(String matchId, int homeTeamScore, int awayTeamScore) {
+        isAbsoluteScore(homeTeamScore);
+        isAbsoluteScore(awayTeamScore);
+        isValidString(matchId);
+        return offer(matchId, homeTeamScore, awayTeamScore, NO_FEED_SEQUENCE);
+    }
+
+    /**
+     * Publishes a sequenced feed message to be applied asynchronously. It is dropped when coalesced with a message
+     * of the same match with a higher sequence, and is rejected by the repository if the match has already applied
+     * a message with the same or a higher sequence.
+     *
+     * @param matchId       The ID of the match to update.
+     * @param homeTeamScore The new score of the home team.
+     * @param awayTeamScore The new score of the away team.
+     * @param feedSequence  The sequence number of the feed message, increasing per match.
+     * @return {@code true} if the update was accepted, {@code false} if it was rejected by backpressure
+     *         or because the pipeline is stopped.
+     * @throws IllegalArgumentException if the scores, the match ID or the feed sequence are invalid.
+     */
+    public boolean publish(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        isAbsoluteScore(homeTeamScore);
+        isAbsoluteScore(awayTeamScore);
+        isValidString(matchId);
+        isValidFeedSequence(feedSequence);
+        return offer(matchId, homeTeamScore, awayTeamScore, feedSequence);
+    }
+
+    /**
+     * Returns the number of events published and not yet applied.
+     *
+     * @return The number of pending events.
+     */
+    public int getPendingCount() {
+        return ringBuffer.size();
+    }
+
+    private boolean offer(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        activePublishers.incrementAndGet();
+        try {
+            if (!stopped && (ringBuffer.tryPublish(matchId, homeTeamScore, awayTeamScore, feedSequence)
+                    || backpressure == Backpressure.BLOCK && publishOnceRoomIsFreed(matchId, homeTeamScore, awayTeamScore, feedSequence))) {
+                acceptedEvents.increment();
+                if (consumerIdle) {
+                    LockSupport.unpark(consumer);
+                }
+                return true;
+            }
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+        rejectedEvents.increment();
+        return false;
+    }
+
+    private boolean publishOnceRoomIsFreed(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var remainingNanos = publishTimeoutNanos;
+        // Counted before trying again, so that the consumer either sees the waiter or freed room before the retry
+        waitingPublishers.incrementAndGet();
+        roomLock.lock();
+        try {
+            while (true) {
+                if (ringBuffer.tryPublish(matchId, homeTeamScore, awayTeamScore, feedSequence)) {
+                    return true;
+                }
+                if (stopped || remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = roomFreed.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            roomLock.unlock();
+            waitingPublishers.decrementAndGet();
+        }
+    }
+
+    private void signalRoomFreed() {
+        if (waitingPublishers.get() > 0) {
+            roomLock.lock();
+            try {
+                roomFreed.signalAll();
+            } finally {
+                roomLock.unlock();
+            }
+        }
+    }
+
+    private void consume() {
+        while (!stopped) {
+            if (drain() == 0) {
+                consumerIdle = true;
+                // Checked again once flagged idle, so that a producer either sees the flag or its event is seen here
+                if (ringBuffer.size() == 0 && !stopped) {
+                    LockSupport.park(this);
+                }
+                consumerIdle = false;
+            }
+        }
+    }
+
+    /**
+     * Drains one batch of events from the ring buffer, coalesces them per match and applies them.
+     * Only called by the consumer thread, or by {@link #stop()} once it has finished.
+     *
+     * @return The number of events drained.
+     */
+    int drain() {
+        int drained;
+        try {
+            drained = ringBuffer.drain(coalescer, batchSize);
+            if (drained == 0) {
+                return 0;
+            }
+            signalRoomFreed();
+            coalescedEvents.increment(drained - flushedEvents - pendingScores.size());
+            var scoreUpdates = new ArrayList<ScoreUpdate>(pendingScores.size());
+            for (var entry : pendingScores.entrySet()) {
+                var score = entry.getValue();
+                if (score.feedSequence() == NO_FEED_SEQUENCE) {
+                    scoreUpdates.add(new ScoreUpdate(entry.getKey(), score.homeTeamScore(), score.awayTeamScore()));
+                } else {
+                    applySequenced(entry.getKey(), score);
+                }
+            }
+            applyBatch(scoreUpdates);
+        } finally {
+            pendingScores.clear();
+            flushedEvents = 0;
+        }
+        return drained;
+    }
+
+    private void coalesce(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var pending = pendingScores.get(matchId);
+        if (pending != null) {
+            if ((feedSequence == NO_FEED_SEQUENCE) != (pending.feedSequence() == NO_FEED_SEQUENCE)) {
+                // Either update replacing the other would lose its scores or the highest feed sequence, so the pending one goes first
+                pendingScores.remove(matchId);
+                apply(matchId, pending);
+                flushedEvents++;
+            } else if (feedSequence != NO_FEED_SEQUENCE && feedSequence <= pending.feedSequence()) {
+                // An older feed message that arrived after a newer one of the same match
+                return;
+            }
+        }
+        pendingScores.put(matchId, new PendingScore(homeTeamScore, awayTeamScore, feedSequence));
+    }
+
+    private void apply(String matchId, PendingScore score) {
+        if (score.feedSequence() == NO_FEED_SEQUENCE) {
+            applyBatch(List.of(new ScoreUpdate(matchId, score.homeTeamScore(), score.awayTeamScore())));
+        } else {
+            applySequenced(matchId, score);
+        }
+    }
+
+    private void applySequenced(String matchId, PendingScore score) {
+        try {
+            matchOperationService.updateMatchScore(matchId, score.homeTeamScore(), score.awayTeamScore(), score.feedSequence());
+        } catch (RuntimeException e) {
+            // The producer has already moved on; losing one update must not stop the consumer
+            log.error("Could not apply feed update {} of match {}", score.feedSequence(), matchId, e);
+        }
+    }
+
+    private void applyBatch(List<ScoreUpdate> scoreUpdates) {
+        if (scoreUpdates.isEmpty()) {
+            return;
+        }
+        try {
+            matchOperationService.updateMatchScores(scoreUpdates);
+        } catch (RuntimeException e) {
+            log.error("Could not apply a batch of {} score updates", scoreUpdates.size(), e);
+        }
+    }
+
+    private static Counter eventsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(EVENTS_COUNTER)
+                .description("Score events published to the ingestion pipeline, by what became of them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,187 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A {@link MatchSnapshotStore} that writes each snapshot as a binary file named after the sequence it covers.
+ *
+ * A snapshot file holds a magic number, the sequence, the number of matches, the matches themselves and
+ * a trailing CRC32C of everything before it. Snapshots written before matches carried a start or a feed sequence
+ * have a different magic number and are still read, with every match at {@link Match#NO_START_SEQUENCE} or
+ * {@link Match#NO_FEED_SEQUENCE} respectively. Files are written under a temporary name, synced and then renamed,
+ * so a crash while writing never leaves a half-written snapshot behind. Only the newest {@code retained} snapshots
+ * are kept. A corrupt snapshot is skipped in favour of the next older one, which is why the journal is only
+ * compacted up to the oldest retained snapshot; if snapshots exist but none of them is intact, loading fails rather
+ * than silently starting from an empty board and whatever is left of the journal.
+ */
+@Slf4j
+public class FileMatchSnapshotStore implements MatchSnapshotStore {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final int MAGIC = 0x5342534e;
+    private static final int MAGIC_WITH_FEED_SEQUENCE = 0x53425346;
+    private static final int MAGIC_WITH_START_SEQUENCE = 0x53425353;
+
+    private final Path directory;
+    private final int retained;
+
+    /**
+     * Creates a snapshot store in the given directory, creating it if needed.
+     *
+     * @param directory The directory holding the snapshot files.
+     * @param retained  The number of snapshots to keep; older ones are deleted after each write.
+     */
+    public FileMatchSnapshotStore(Path directory, int retained) {
+        if (retained < 1) {
+            throw new IllegalArgumentException("At least one snapshot must be retained");
+        }
+        this.directory = directory;
+        this.retained = retained;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create snapshot directory " + directory, e);
+        }
+    }
+
+    @Override
+    public void write(long sequence, Collection<Match> matches) {
+        var snapshotFile = directory.resolve(SNAPSHOT_PREFIX + String.format("%020d", sequence) + SNAPSHOT_SUFFIX);
+        var temporaryFile = directory.resolve(snapshotFile.getFileName() + ".tmp");
+        try {
+            try (var file = new FileOutputStream(temporaryFile.toFile())) {
+                var checksum = new CRC32C();
+                var out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, checksum)));
+                out.writeInt(MAGIC_WITH_START_SEQUENCE);
+                out.writeLong(sequence);
+                out.writeInt(matches.size());
+                for (var match : matches) {
+                    out.writeUTF(match.matchId());
+                    out.writeUTF(match.homeTeam());
+                    out.writeUTF(match.awayTeam());
+                    out.writeInt(match.homeTeamScore());
+                    out.writeInt(match.awayTeamScore());
+                    out.writeLong(match.startTime().toEpochSecond(ZoneOffset.UTC));
+                    out.writeInt(match.startTime().getNano());
+                    out.writeLong(match.startSequence());
+                    out.writeLong(match.feedSequence());
+                }
+                out.flush();
+                new DataOutputStream(file).writeLong(checksum.getValue());
+                file.getFD().sync();
+            }
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteOldSnapshots();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot " + snapshotFile, e);
+        }
+        log.info("Wrote snapshot of {} live matches at sequence {}", matches.size(), sequence);
+    }
+
+    @Override
+    public Optional<Snapshot> loadLatest() {
+        try {
+            var snapshots = listSnapshots();
+            for (int i = snapshots.size() - 1; i >= 0; i--) {
+                var snapshot = read(snapshots.get(i));
+                if (snapshot.isPresent()) {
+                    return snapshot;
+                }
+                log.warn("Skipping corrupt snapshot {}", snapshots.get(i));
+            }
+            if (!snapshots.isEmpty()) {
+                throw new IllegalStateException("None of the " + snapshots.size() + " snapshots in " + directory
+                        + " is intact, and the match journal may no longer hold the events they cover");
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load snapshot from " + directory, e);
+        }
+    }
+
+    @Override
+    public long oldestRetainedSequence() {
+        try {
+            var snapshots = listSnapshots();
+            return snapshots.isEmpty() ? 0 : sequenceOf(snapshots.get(0));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list snapshots in " + directory, e);
+        }
+    }
+
+    private static long sequenceOf(Path snapshotFile) {
+        var name = snapshotFile.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    private Optional<Snapshot> read(Path snapshotFile) throws IOException {
+        try (var file = new BufferedInputStream(Files.newInputStream(snapshotFile))) {
+            var checksum = new CRC32C();
+            var in = new DataInputStream(new CheckedInputStream(file, checksum));
+            var magic = in.readInt();
+            if (magic != MAGIC && magic != MAGIC_WITH_FEED_SEQUENCE && magic != MAGIC_WITH_START_SEQUENCE) {
+                return Optional.empty();
+            }
+            var sequence = in.readLong();
+            var count = in.readInt();
+            var matches = new ArrayList<Match>(count);
+            for (int i = 0; i < count; i++) {
+                matches.add(new Match(in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt(),
+                        LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC),
+                        magic == MAGIC_WITH_START_SEQUENCE ? in.readLong() : Match.NO_START_SEQUENCE,
+                        magic == MAGIC ? Match.NO_FEED_SEQUENCE : in.readLong()));
+            }
+            var expectedChecksum = checksum.getValue();
+            if (new DataInputStream(file).readLong() != expectedChecksum) {
+                return Optional.empty();
+            }
+            return Optional.of(new Snapshot(sequence, List.copyOf(matches)));
+        } catch (EOFException | UTFDataFormatException | IllegalArgumentException | DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void deleteOldSnapshots() throws IOException {
+        var snapshots = listSnapshots();
+        for (var snapshot : snapshots.subList(0, Math.max(0, snapshots.size() - retained))) {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        var name = file.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * A {@link MatchJournal} that appends binary records to memory-mapped segment files.
+ *
+ * The journal directory holds segment files named after the sequence number of their first record.
+ * Each segment is mapped once at its full size and filled sequentially; when a record no longer fits,
+ * the segment is forced to disk and the next one is started. Every record is laid out as
+ * <pre>
+ *   int  length of the body
+ *   int  CRC32C of the body
+ *   body: long sequence, byte type, type-specific fields
+ * </pre>
+ * Score and finish records of a match have a constant size; start records also carry the team names.
+ * Score records only carry a feed sequence when the update came from a sequenced feed message, and start records
+ * only carry a start sequence when the match was issued one.
+ * A zero length marks the end of the written part of a segment, and a record whose checksum does not match
+ * (a torn write) is treated as the end of the journal.
+ *
+ * Appends only write to the page cache, which survives a crash of the process but not of the machine. The mapped
+ * segment is forced to disk after every {@code fsyncEvery} records, when a segment is full and on close, so a power
+ * loss or kernel crash loses at most the last {@code fsyncEvery - 1} acknowledged changes. Forcing costs an msync of
+ * the segment's dirty pages, from tens of microseconds to milliseconds depending on the disk: with 1 every change
+ * waits for it before it is acknowledged, which caps a journaled board at a few thousand to tens of thousands of
+ * changes a second, while {@link #DEFAULT_FSYNC_EVERY} shares the wait between that many changes. An
+ * {@code fsyncEvery} of 0 leaves flushing to the operating system, with no bound on what a machine crash loses.
+ *
+ * Appends are serialized, since every record takes the next sequence number, but only while the record is copied
+ * into the segment: the append that reaches the fsync interval forces the segment after releasing the journal, so
+ * other writers keep appending while the pages are flushed, and the force still completes before that append returns.
+ * Compaction deletes whole segments whose records are all covered by a snapshot; the segment being appended to is always kept.
+ */
+@Slf4j
+public class MappedMatchJournal implements MatchJournal {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * The number of records after which the segment is forced to disk unless configured otherwise.
+     */
+    public static final int DEFAULT_FSYNC_EVERY = 64;
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_STRING_BYTES = Short.MAX_VALUE;
+
+    private static final byte MATCH_STARTED = 1;
+    private static final byte SCORE_UPDATED = 2;
+    private static final byte MATCH_FINISHED = 3;
+    private static final byte SEQUENCED_SCORE_UPDATED = 4;
+    private static final byte SEQUENCED_MATCH_STARTED = 5;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int fsyncEvery;
+    private final CRC32C checksum = new CRC32C();
+
+    private ByteBuffer body = ByteBuffer.allocate(256);
+    private MappedByteBuffer segment;
+    private long lastSequence;
+    private int unsyncedRecords;
+
+    /**
+     * Opens the journal in the given directory, creating it if needed, and positions it after the last intact record.
+     *
+     * @param directory   The directory holding the segment files.
+     * @param segmentSize The size in bytes of each segment file.
+     * @param fsyncEvery  The number of records after which the current segment is forced to disk, and so the most
+     *                    acknowledged changes a machine crash can lose; 0 to never force on append.
+     */
+    public MappedMatchJournal(Path directory, int segmentSize, int fsyncEvery) {
+        if (segmentSize <= RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+        }
+        if (fsyncEvery < 0) {
+            throw new IllegalArgumentException("Journal fsync interval cannot be negative");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncEvery = fsyncEvery;
+        try {
+            Files.createDirectories(directory);
+            var segments = listSegments();
+            if (!segments.isEmpty()) {
+                openForAppend(segments.get(segments.size() - 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open match journal in " + directory, e);
+        }
+        log.info("Opened match journal in {} at sequence {}", directory, lastSequence);
+    }
+
+    @Override
+    public long append(MatchEvent event) {
+        long sequence;
+        MappedByteBuffer segmentToForce = null;
+        synchronized (this) {
+            sequence = lastSequence + 1;
+            encode(sequence, event);
+            var length = body.remaining();
+            if (RECORD_HEADER_SIZE + length > segmentSize) {
+                throw new IllegalArgumentException("Journal record of " + length + " bytes does not fit in a segment");
+            }
+            if (segment == null || segment.remaining() < RECORD_HEADER_SIZE + length) {
+                startSegment(sequence);
+            }
+            checksum.reset();
+            checksum.update(body.duplicate());
+            var recordStart = segment.position();
+            segment.position(recordStart + RECORD_HEADER_SIZE);
+            segment.put(body);
+            segment.putInt(recordStart + Integer.BYTES, (int) checksum.getValue());
+            // The length goes in last, so a record only becomes visible once it is complete
+            segment.putInt(recordStart, length);
+            lastSequence = sequence;
+            if (fsyncEvery > 0 && ++unsyncedRecords >= fsyncEvery) {
+                segmentToForce = segment;
+                unsyncedRecords = 0;
+            }
+        }
+        if (segmentToForce != null) {
+            // Flushes every record written to the segment so far, including those of appends that did not wait
+            segmentToForce.force();
+        }
+        return sequence;
+    }
+
+    @Override
+    public synchronized long replay(long afterSequence, Consumer<MatchEvent> handler) {
+        try {
+            for (var segmentFile : listSegments()) {
+                try (var channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+                    var records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    ByteBuffer record;
+                    while ((record = nextRecord(records)) != null) {
+                        if (record.getLong(0) > afterSequence) {
+                            handler.accept(decode(record));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replay match journal in " + directory, e);
+        }
+        return lastSequence;
+    }
+
+    @Override
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public synchronized void compact(long upToSequence) {
+        try {
+            var segments = listSegments();
+            for (int i = 0; i < segments.size() - 1; i++) {
+                var lastSequenceInSegment = firstSequenceOf(segments.get(i + 1)) - 1;
+                if (lastSequenceInSegment > upToSequence) {
+                    break;
+                }
+                Files.delete(segments.get(i));
+                log.info("Compacted match journal segment {}", segments.get(i).getFileName());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact match journal in " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+        log.info("Closed match journal in {} at sequence {}", directory, lastSequence);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        var name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", firstSequence) + SEGMENT_SUFFIX);
+    }
+
+    private static long firstSequenceOf(Path segmentFile) {
+        var name = segmentFile.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Maps the last segment for appending, skipping over its intact records and clearing whatever follows them.
+     */
+    private void openForAppend(Path segmentFile) throws IOException {
+        segment = mapSegment(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        lastSequence = firstSequenceOf(segmentFile) - 1;
+        ByteBuffer record;
+        while ((record = nextRecord(segment)) != null) {
+            lastSequence = record.getLong(0);
+        }
+        // A torn record at the tail is dropped, so that new appends cannot be mistaken for its remains
+        for (int i = segment.position(); i < segment.limit(); i++) {
+            segment.put(i, (byte) 0);
+        }
+    }
+
+    private void startSegment(long firstSequence) {
+        try {
+            if (segment != null) {
+                segment.force();
+            }
+            segment = mapSegment(segmentPath(firstSequence), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            unsyncedRecords = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start match journal segment in " + directory, e);
+        }
+    }
+
+    private MappedByteBuffer mapSegment(Path segmentFile, StandardOpenOption... options) throws IOException {
+        try (var channel = FileChannel.open(segmentFile, options)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    /**
+     * Reads the record at the current position of the segment and advances past it.
+     *
+     * @return The body of the record, or null at the end of the written data or at a torn record.
+     */
+    private ByteBuffer nextRecord(ByteBuffer records) {
+        var recordStart = records.position();
+        if (records.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+        var length = records.getInt(recordStart);
+        if (length <= 0 || length > records.remaining() - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        var record = records.slice(recordStart + RECORD_HEADER_SIZE, length);
+        checksum.reset();
+        checksum.update(record.duplicate());
+        if ((int) checksum.getValue() != records.getInt(recordStart + Integer.BYTES)) {
+            return null;
+        }
+        records.position(recordStart + RECORD_HEADER_SIZE + length);
+        return record;
+    }
+
+    private void encode(long sequence, MatchEvent event) {
+        switch (event) {
+            case MatchEvent.MatchStarted started -> {
+                var match = started.match();
+                var matchId = encodeString(match.matchId());
+                var homeTeam = encodeString(match.homeTeam());
+                var awayTeam = encodeString(match.awayTeam());
+                var startTime = match.startTime();
+                var hasStartSequence = match.startSequence() != Match.NO_START_SEQUENCE;
+                prepareBody(Long.BYTES + 1 + matchId.length + homeTeam.length + awayTeam.length
+                        + Short.BYTES * 3 + Integer.BYTES * 3 + Long.BYTES + (hasStartSequence ? Long.BYTES : 0));
+                body.putLong(sequence).put(hasStartSequence ? SEQUENCED_MATCH_STARTED : MATCH_STARTED);
+                putString(matchId);
+                putString(homeTeam);
+                putString(awayTeam);
+                body.putInt(match.homeTeamScore())
+                        .putInt(match.awayTeamScore())
+                        .putLong(startTime.toEpochSecond(ZoneOffset.UTC))
+                        .putInt(startTime.getNano());
+                if (hasStartSequence) {
+                    body.putLong(match.startSequence());
+                }
+            }
+            case MatchEvent.ScoreUpdated updated when updated.feedSequence() == Match.NO_FEED_SEQUENCE -> {
+                var matchId = encodeString(updated.matchId());
+                prepareBody(Long.BYTES + 1 + Short.BYTES + matchId.length + Integer.BYTES * 2);
+                body.putLong(sequence).put(SCORE_UPDATED);
+                putString(matchId);
+                body.putInt(updated.homeTeamScore()).putInt(updated.awayTeamScore());
+            }
+            case MatchEvent.ScoreUpdated updated -> {
+                var matchId = encodeString(updated.matchId());
+                prepareBody(Long.BYTES + 1 + Short.BYTES + matchId.length + Integer.BYTES * 2 + Long.BYTES);
+                body.putLong(sequence).put(SEQUENCED_SCORE_UPDATED);
+                putString(matchId);
+                body.putInt(updated.homeTeamScore()).putInt(updated.awayTeamScore()).putLong(updated.feedSequence());
+            }
+            case MatchEvent.MatchFinished finished -> {
+                var matchId = encodeString(finished.matchId());
+                prepareBody(Long.BYTES + 1 + Short.BYTES + matchId.length);
+                body.putLong(sequence).put(MATCH_FINISHED);
+                putString(matchId);
+            }
+        }
+        body.flip();
+    }
+
+    private MatchEvent decode(ByteBuffer record) {
+        record.position(Long.BYTES);
+        var type = record.get();
+        return switch (type) {
+            case MATCH_STARTED, SEQUENCED_MATCH_STARTED -> {
+                var matchId = getString(record);
+                var homeTeam = getString(record);
+                var awayTeam = getString(record);
+                var homeTeamScore = record.getInt();
+                var awayTeamScore = record.getInt();
+                var startTime = LocalDateTime.ofEpochSecond(record.getLong(), record.getInt(), ZoneOffset.UTC);
+                var startSequence = type == SEQUENCED_MATCH_STARTED ? record.getLong() : Match.NO_START_SEQUENCE;
+                yield new MatchEvent.MatchStarted(new Match(matchId, homeTeam, awayTeam, homeTeamScore, awayTeamScore,
+                        startTime, startSequence, Match.NO_FEED_SEQUENCE));
+            }
+            case SCORE_UPDATED -> new MatchEvent.ScoreUpdated(getString(record), record.getInt(), record.getInt());
+            case SEQUENCED_SCORE_UPDATED ->
+                    new MatchEvent.ScoreUpdated(getString(record), record.getInt(), record.getInt(), record.getLong());
+            case MATCH_FINISHED -> new MatchEvent.MatchFinished(getString(record));
+            default -> throw new IllegalStateException("Unknown match journal record type " + type + " in " + directory);
+        };
+    }
+
+    private void prepareBody(int size) {
+        if (body.capacity() < size) {
+            body = ByteBuffer.allocate(Math.max(size, body.capacity() * 2));
+        }
+        body.clear();
+    }
+
+    private static byte[] encodeString(String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Value is too long to be journaled: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private void putString(byte[] bytes) {
+        body.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer record) {
+        var bytes = new byte[record.getShort()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * An append-only log of the changes made to the live board.
+ * Every appended event is given the next sequence number; replaying the events in sequence order rebuilds the board.
+ */
+public interface MatchJournal {
+
+    /**
+     * A journal that records nothing, for repositories that do not need durability.
+     */
+    MatchJournal DISABLED = new MatchJournal() {
+
+        @Override
+        public long append(MatchEvent event) {
+            return 0;
+        }
+
+        @Override
+        public long replay(long afterSequence, Consumer<MatchEvent> handler) {
+            return afterSequence;
+        }
+
+        @Override
+        public long lastSequence() {
+            return 0;
+        }
+
+        @Override
+        public void compact(long upToSequence) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Appends an event to the journal.
+     *
+     * @param event The event to append.
+     * @return The sequence number given to the event.
+     */
+    long append(MatchEvent event);
+
+    /**
+     * Replays, in order, every event with a sequence number greater than the given one.
+     *
+     * @param afterSequence The sequence number to replay after; 0 replays the whole journal.
+     * @param handler       The handler the events are passed to.
+     * @return The sequence number of the last event in the journal.
+     */
+    long replay(long afterSequence, Consumer<MatchEvent> handler);
+
+    /**
+     * Returns the sequence number of the last appended event, or 0 if the journal is empty.
+     *
+     * @return The last sequence number.
+     */
+    long lastSequence();
+
+    /**
+     * Discards events that are no longer needed because a snapshot covers them.
+     * Implementations may keep some of those events, but never drop an event with a greater sequence number.
+     *
+     * @param upToSequence The sequence number up to which events may be discarded.
+     */
+    void compact(long upToSequence);
+
+    /**
+     * Flushes all appended events to disk and releases the journal files.
+     */
+    void close();
+}
@@ -0,0 +1,48 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Provides the {@link MatchJournal} and {@link MatchSnapshotStore} used by the repository.
+ * The journal is disabled unless {@code scoreboard.journal.enabled} is set, in which case live matches are
+ * journaled to memory-mapped segments under {@code scoreboard.journal.directory} and restored on startup.
+ * The journal is forced to disk every {@code scoreboard.journal.fsync-every} changes, 64 by default, which bounds what
+ * a machine crash loses; see {@link MappedMatchJournal} for the throughput each setting costs.
+ * Snapshots are disabled unless {@code scoreboard.snapshot.enabled} is set as well, in which case the
+ * {@link MatchSnapshotScheduler} writes one every {@code scoreboard.snapshot.interval}.
+ * Only the default repository journals its changes; the compact one refuses to start with the journal enabled.
+ */
+@Configuration
+public class MatchJournalConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public MatchJournal matchJournal(@Value("${scoreboard.journal.enabled:false}") boolean enabled,
+                                     @Value("${scoreboard.journal.directory:journal}") Path directory,
+                                     @Value("${scoreboard.journal.segment-size:67108864}") int segmentSize,
+                                     @Value("${scoreboard.journal.fsync-every:64}") int fsyncEvery) {
+        return enabled ? new MappedMatchJournal(directory, segmentSize, fsyncEvery) : MatchJournal.DISABLED;
+    }
+
+    @Bean
+    public MatchSnapshotStore matchSnapshotStore(@Value("${scoreboard.journal.enabled:false}") boolean journalEnabled,
+                                                 @Value("${scoreboard.snapshot.enabled:false}") boolean enabled,
+                                                 @Value("${scoreboard.snapshot.directory:snapshots}") Path directory,
+                                                 @Value("${scoreboard.snapshot.retained:2}") int retained) {
+        return journalEnabled && enabled ? new FileMatchSnapshotStore(directory, retained) : MatchSnapshotStore.DISABLED;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnExpression("${scoreboard.journal.enabled:false} and ${scoreboard.snapshot.enabled:false}"
+            + " and '${scoreboard.repository.type:default}' == 'default'")
+    public MatchSnapshotScheduler matchSnapshotScheduler(MatchRepositoryImpl matchRepository,
+                                                         @Value("${scoreboard.snapshot.interval:PT5M}") Duration interval) {
+        return new MatchSnapshotScheduler(matchRepository, interval);
+    }
+}
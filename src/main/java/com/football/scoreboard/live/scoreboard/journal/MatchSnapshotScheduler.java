@@ -0,0 +1,49 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes repository snapshots every {@code scoreboard.snapshot.interval} and once more on shutdown,
+ * so that the journal a restart has to replay stays short however long the server has been running.
+ */
+@Slf4j
+public class MatchSnapshotScheduler {
+
+    private final MatchRepositoryImpl matchRepository;
+    private final Duration interval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "match-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MatchSnapshotScheduler(MatchRepositoryImpl matchRepository, Duration interval) {
+        this.matchRepository = matchRepository;
+        this.interval = interval;
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::writeSnapshot, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+        writeSnapshot();
+    }
+
+    private void writeSnapshot() {
+        try {
+            matchRepository.writeSnapshot();
+        } catch (RuntimeException e) {
+            // A failed snapshot only means a longer replay on the next restart; keep the schedule running
+            log.error("Could not write match snapshot", e);
+        }
+    }
+}
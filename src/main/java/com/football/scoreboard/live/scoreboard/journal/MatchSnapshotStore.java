@@ -0,0 +1,67 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores point-in-time snapshots of the live matches.
+ * A snapshot is tagged with the journal sequence it covers, so that a restart only has to replay
+ * the journal events that came after it.
+ */
+public interface MatchSnapshotStore {
+
+    /**
+     * A store that keeps no snapshots.
+     */
+    MatchSnapshotStore DISABLED = new MatchSnapshotStore() {
+
+        @Override
+        public void write(long sequence, Collection<Match> matches) {
+        }
+
+        @Override
+        public Optional<Snapshot> loadLatest() {
+            return Optional.empty();
+        }
+
+        @Override
+        public long oldestRetainedSequence() {
+            return 0;
+        }
+    };
+
+    /**
+     * Writes a snapshot of the given matches.
+     *
+     * @param sequence The journal sequence the snapshot covers.
+     * @param matches  The live matches.
+     */
+    void write(long sequence, Collection<Match> matches);
+
+    /**
+     * Loads the most recent intact snapshot.
+     *
+     * @return The latest snapshot, or an empty optional if there is none.
+     */
+    Optional<Snapshot> loadLatest();
+
+    /**
+     * Returns the journal sequence covered by the oldest snapshot {@link #loadLatest()} may fall back to when the
+     * newer ones are corrupt. The journal must keep every event after it, so it is only compacted up to this sequence.
+     *
+     * @return The sequence of the oldest retained snapshot, or 0 if there is none.
+     */
+    long oldestRetainedSequence();
+
+    /**
+     * A snapshot of the live matches.
+     *
+     * @param sequence the journal sequence the snapshot covers.
+     * @param matches  the live matches.
+     */
+    record Snapshot(long sequence, List<Match> matches) {
+    }
+}
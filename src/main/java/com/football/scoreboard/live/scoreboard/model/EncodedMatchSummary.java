@@ -0,0 +1,23 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A match summary pre-encoded as the UTF-8 bytes of a JSON array of summary lines, together with the board version
+ * it was rendered for. The bytes are shared by every reader of that board version and can be written to a response
+ * as they are; they must never be modified.
+ *
+ * @param boardVersion the board version the summary was rendered for.
+ * @param json         the summary as a UTF-8 encoded JSON array of strings, in scoreboard order.
+ */
+public record EncodedMatchSummary(long boardVersion, byte[] json) {
+
+    /**
+     * Returns a read-only view of the encoded summary, without copying it.
+     *
+     * @return A read-only buffer over the JSON bytes.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(json).asReadOnlyBuffer();
+    }
+}
@@ -1,21 +1,39 @@
 package com.football.scoreboard.live.scoreboard.model;
 
+import com.football.scoreboard.live.scoreboard.id.MatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
 import lombok.With;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
+/**
+ * A live match. The start time is kept for display only: matches that started together are ordered by their
+ * start sequence, which is strictly increasing, rather than by a wall-clock time two matches may share.
+ */
 public record Match(
         String matchId,
         String homeTeam,
         String awayTeam,
         @With int homeTeamScore,
         @With int awayTeamScore,
-        LocalDateTime startTime
+        LocalDateTime startTime,
+        long startSequence,
+        long feedSequence
 ) {
 
     /**
-     * Constructor for the Match record.
+     * The feed sequence of a match whose scores have not been set from a sequenced feed message.
+     */
+    public static final long NO_FEED_SEQUENCE = 0;
+
+    /**
+     * The start sequence of a match that was not issued one, such as a match restored from a journal or snapshot
+     * written before matches carried start sequences. Such matches are ordered by their start time only.
+     */
+    public static final long NO_START_SEQUENCE = 0;
+
+    /**
+     * Constructor for the Match record, identified by the default {@link NodeSequenceMatchIdGenerator}.
      *
      * @param homeTeam       the name of the home team.
      * @param awayTeam       the name of the away team.
@@ -23,7 +41,91 @@ public record Match(
      * @param awayTeamScore  the initial score of the away team.
      */
     public Match(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
-        this(UUID.randomUUID().toString(), homeTeam, awayTeam, homeTeamScore, awayTeamScore, LocalDateTime.now());
+        this(NodeSequenceMatchIdGenerator.DEFAULT, homeTeam, awayTeam, homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Constructor for a Match record starting now, identified by the given generator.
+     *
+     * @param matchIdGenerator the generator issuing the start sequence and match ID.
+     * @param homeTeam         the name of the home team.
+     * @param awayTeam         the name of the away team.
+     * @param homeTeamScore    the initial score of the home team.
+     * @param awayTeamScore    the initial score of the away team.
+     */
+    public Match(MatchIdGenerator matchIdGenerator, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        this(matchIdGenerator, matchIdGenerator.nextStartSequence(), homeTeam, awayTeam, homeTeamScore, awayTeamScore);
+    }
+
+    private Match(MatchIdGenerator matchIdGenerator, long startSequence, String homeTeam, String awayTeam,
+                  int homeTeamScore, int awayTeamScore) {
+        this(matchIdGenerator.matchId(startSequence), homeTeam, awayTeam, homeTeamScore, awayTeamScore,
+                LocalDateTime.now(), startSequence, NO_FEED_SEQUENCE);
+    }
+
+    /**
+     * Constructor for a Match record without a start sequence, whose scores have not been set from a sequenced
+     * feed message.
+     *
+     * @param matchId        the ID of the match.
+     * @param homeTeam       the name of the home team.
+     * @param awayTeam       the name of the away team.
+     * @param homeTeamScore  the score of the home team.
+     * @param awayTeamScore  the score of the away team.
+     * @param startTime      the time the match started.
+     */
+    public Match(String matchId, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, LocalDateTime startTime) {
+        this(matchId, homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, NO_FEED_SEQUENCE);
+    }
+
+    /**
+     * Constructor for a Match record without a start sequence.
+     *
+     * @param matchId        the ID of the match.
+     * @param homeTeam       the name of the home team.
+     * @param awayTeam       the name of the away team.
+     * @param homeTeamScore  the score of the home team.
+     * @param awayTeamScore  the score of the away team.
+     * @param startTime      the time the match started.
+     * @param feedSequence   the feed sequence of the message the scores were last set from.
+     */
+    public Match(String matchId, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore,
+                 LocalDateTime startTime, long feedSequence) {
+        this(matchId, homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, NO_START_SEQUENCE, feedSequence);
+    }
+
+    /**
+     * Returns a copy of this match with both scores replaced, building a single new record.
+     *
+     * @param homeTeamScore  the new score of the home team.
+     * @param awayTeamScore  the new score of the away team.
+     * @return a copy of this match with the given scores.
+     */
+    public Match withScores(int homeTeamScore, int awayTeamScore) {
+        return new Match(matchId, homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, startSequence, feedSequence);
+    }
+
+    /**
+     * Returns a copy of this match with both scores and the feed sequence they came from replaced.
+     *
+     * @param homeTeamScore  the new score of the home team.
+     * @param awayTeamScore  the new score of the away team.
+     * @param feedSequence   the feed sequence of the message that carried the new scores.
+     * @return a copy of this match with the given scores and feed sequence.
+     */
+    public Match withScores(int homeTeamScore, int awayTeamScore, long feedSequence) {
+        return new Match(matchId, homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, startSequence, feedSequence);
+    }
+
+    /**
+     * Checks whether a feed message with the given sequence is older than, or the same as, the one this match's
+     * scores were last set from. Messages without a feed sequence are never stale.
+     *
+     * @param feedSequence the feed sequence of the incoming message.
+     * @return {@code true} if the message must be dropped.
+     */
+    public boolean isStaleFeedSequence(long feedSequence) {
+        return feedSequence != NO_FEED_SEQUENCE && feedSequence <= this.feedSequence;
     }
 
     /**
@@ -0,0 +1,51 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+/**
+ * A change to the live board, as recorded by the repository.
+ * Events are applied in order to rebuild the board, for example when a journal is replayed on startup.
+ */
+public sealed interface MatchEvent {
+
+    /**
+     * Returns the ID of the match the event belongs to.
+     *
+     * @return the match ID.
+     */
+    String matchId();
+
+    /**
+     * A match was put on the board.
+     *
+     * @param match the match as it was started.
+     */
+    record MatchStarted(Match match) implements MatchEvent {
+
+        @Override
+        public String matchId() {
+            return match.matchId();
+        }
+    }
+
+    /**
+     * The scores of a live match were replaced.
+     *
+     * @param matchId        the ID of the match.
+     * @param homeTeamScore  the new score of the home team.
+     * @param awayTeamScore  the new score of the away team.
+     * @param feedSequence   the feed sequence of the match after the update.
+     */
+    record ScoreUpdated(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) implements MatchEvent {
+
+        public ScoreUpdated(String matchId, int homeTeamScore, int awayTeamScore) {
+            this(matchId, homeTeamScore, awayTeamScore, Match.NO_FEED_SEQUENCE);
+        }
+    }
+
+    /**
+     * A match was taken off the board.
+     *
+     * @param matchId the ID of the match.
+     */
+    record MatchFinished(String matchId) implements MatchEvent {
+    }
+}
@@ -0,0 +1,46 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+import lombok.With;
+
+import java.time.LocalDateTime;
+
+/**
+ * A filter over the live matches. Every criterion that is set must hold; {@link #ALL} sets none of them, and the
+ * others are set on a copy of it, for example {@code MatchQuery.ALL.withTeam("Brazil")} or
+ * {@code MatchQuery.ALL.withMinTotalScore(5)}.
+ *
+ * @param team          the name of a team that must be playing in the match, compared case-insensitively, or {@code null}.
+ * @param minTotalScore the lowest total score of the match.
+ * @param maxTotalScore the highest total score of the match.
+ * @param startedSince  the earliest time the match may have started at, or {@code null}.
+ */
+@With
+public record MatchQuery(String team, int minTotalScore, int maxTotalScore, LocalDateTime startedSince) {
+
+    /**
+     * The query every live match satisfies.
+     */
+    public static final MatchQuery ALL = new MatchQuery(null, 0, Integer.MAX_VALUE, null);
+
+    /**
+     * Checks whether the query narrows the total score of the matches down.
+     *
+     * @return {@code true} if either score bound is set.
+     */
+    public boolean hasTotalScoreRange() {
+        return minTotalScore > 0 || maxTotalScore < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Checks whether a match satisfies every criterion of the query.
+     *
+     * @param match the match to check.
+     * @return {@code true} if the match satisfies the query.
+     */
+    public boolean matches(Match match) {
+        return (team == null || team.equalsIgnoreCase(match.homeTeam()) || team.equalsIgnoreCase(match.awayTeam()))
+                && match.getTotalScore() >= minTotalScore
+                && match.getTotalScore() <= maxTotalScore
+                && (startedSince == null || !match.startTime().isBefore(startedSince));
+    }
+}
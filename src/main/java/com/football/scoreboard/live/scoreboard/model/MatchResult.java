@@ -0,0 +1,18 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The final result of a finished match, as kept in the archive.
+ *
+ * @param matchId        the ID the match had while it was live.
+ * @param homeTeam       the name of the home team.
+ * @param awayTeam       the name of the away team.
+ * @param homeTeamScore  the final score of the home team.
+ * @param awayTeamScore  the final score of the away team.
+ * @param startTime      the time the match was started.
+ * @param finishTime     the time the match was finished.
+ */
+public record MatchResult(String matchId, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore,
+                          LocalDateTime startTime, LocalDateTime finishTime) {
+}
@@ -0,0 +1,13 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+import java.util.List;
+
+/**
+ * A rendered match summary together with the board version it was rendered for.
+ * The lines may reflect changes made after that version, but never miss a change made up to it.
+ *
+ * @param boardVersion the board version the summary was rendered for.
+ * @param lines        the formatted summary lines, in scoreboard order.
+ */
+public record MatchSummary(long boardVersion, List<String> lines) {
+}
@@ -0,0 +1,13 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+/**
+ * The scores of a live match right after a goal or a correction was applied to them, together with the board version
+ * the change is visible at.
+ *
+ * @param matchId        the ID of the match.
+ * @param homeTeamScore  the score of the home team after the change.
+ * @param awayTeamScore  the score of the away team after the change.
+ * @param boardVersion   a board version that includes the change.
+ */
+public record ScoreChange(String matchId, int homeTeamScore, int awayTeamScore, long boardVersion) {
+}
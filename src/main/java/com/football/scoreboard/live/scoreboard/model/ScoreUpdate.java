@@ -0,0 +1,11 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+/**
+ * A single absolute score change for a live match, as delivered by a feed.
+ *
+ * @param matchId        the ID of the match to update.
+ * @param homeTeamScore  the new score of the home team.
+ * @param awayTeamScore  the new score of the away team.
+ */
+public record ScoreUpdate(String matchId, int homeTeamScore, int awayTeamScore) {
+}
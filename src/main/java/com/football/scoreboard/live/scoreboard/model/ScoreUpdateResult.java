@@ -0,0 +1,25 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+/**
+ * The outcome of applying one {@link ScoreUpdate} from a batch, or one sequenced feed message.
+ *
+ * @param matchId the ID of the match the update was addressed to.
+ * @param status  whether the update was applied.
+ */
+public record ScoreUpdateResult(String matchId, Status status) {
+
+    public enum Status {
+        UPDATED,
+        MATCH_NOT_FOUND,
+        STALE
+    }
+
+    /**
+     * Checks whether the update was applied to a live match.
+     *
+     * @return {@code true} if the match score was updated.
+     */
+    public boolean isUpdated() {
+        return status == Status.UPDATED;
+    }
+}
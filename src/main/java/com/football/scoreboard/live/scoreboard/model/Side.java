@@ -0,0 +1,9 @@
+package com.football.scoreboard.live.scoreboard.model;
+
+/**
+ * A side of a match, as named by on-pitch event reporters.
+ */
+public enum Side {
+    HOME,
+    AWAY
+}
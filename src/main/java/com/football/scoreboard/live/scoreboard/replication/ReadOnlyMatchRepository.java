@@ -0,0 +1,114 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+
+import java.util.List;
+
+/**
+ * The repository a replication follower serves the scoreboard from. Reads go to the repository the leader's changes
+ * are applied to, and every write is rejected, since only the leader may change the board.
+ * It also serves boards that cannot be written to for another reason, which the rejection then names.
+ */
+public class ReadOnlyMatchRepository implements MatchRepository {
+
+    public static final String READ_ONLY_MESSAGE = "This scoreboard is a replication follower; send writes to the leader";
+
+    private final MatchRepository matchRepository;
+    private final String readOnlyMessage;
+
+    /**
+     * Creates a read-only view of the given repository for a replication follower.
+     *
+     * @param matchRepository The repository to read from.
+     */
+    public ReadOnlyMatchRepository(MatchRepository matchRepository) {
+        this(matchRepository, READ_ONLY_MESSAGE);
+    }
+
+    /**
+     * Creates a read-only view of the given repository.
+     *
+     * @param matchRepository The repository to read from.
+     * @param readOnlyMessage Why writes are rejected, as told to the writer.
+     */
+    public ReadOnlyMatchRepository(MatchRepository matchRepository, String readOnlyMessage) {
+        this.matchRepository = matchRepository;
+        this.readOnlyMessage = readOnlyMessage;
+    }
+
+    @Override
+    public Match saveMatch(Match match) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public List<ScoreUpdateResult> updateScores(List<ScoreUpdate> scoreUpdates) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public ScoreUpdateResult updateScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public ScoreChange addToScores(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public Match findMatchById(String matchId) {
+        return matchRepository.findMatchById(matchId);
+    }
+
+    @Override
+    public List<Match> findAllMatches() {
+        return matchRepository.findAllMatches();
+    }
+
+    @Override
+    public List<Match> findAllMatchesRanked() {
+        return matchRepository.findAllMatchesRanked();
+    }
+
+    @Override
+    public List<Match> findMatchesRanked(int offset, int limit) {
+        return matchRepository.findMatchesRanked(offset, limit);
+    }
+
+    @Override
+    public List<Match> findMatches(MatchQuery query) {
+        return matchRepository.findMatches(query);
+    }
+
+    @Override
+    public int countLiveMatches() {
+        return matchRepository.countLiveMatches();
+    }
+
+    @Override
+    public boolean reserveTeams(String matchId, String homeTeam, String awayTeam) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public void releaseTeams(String matchId, String homeTeam, String awayTeam) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public Match deleteMatchById(String matchId) {
+        throw new MatchConflictException(readOnlyMessage);
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return matchRepository.getBoardVersion();
+    }
+}
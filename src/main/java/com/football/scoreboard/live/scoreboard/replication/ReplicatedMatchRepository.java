@@ -0,0 +1,139 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+
+import java.util.List;
+
+/**
+ * The board a {@link ReplicationFollower} applies the leader's changes to. When the leader sends a copy of its board,
+ * the follower builds a new board from it and replaces the current one in a single step, so readers see either the
+ * old board or the copy, never a board that is half way through catching up. The board version carries on across
+ * a replacement and moves by exactly one, so cached summaries and {@code minBoardVersion} reads stay valid.
+ *
+ * Only the follower thread changes the board; the follower serves it through a {@link ReadOnlyMatchRepository}.
+ */
+public class ReplicatedMatchRepository implements MatchRepository {
+
+    /**
+     * A board together with what is added to its own version, so that versions keep growing after a replacement.
+     */
+    private record Board(MatchRepositoryImpl matches, long versionOffset) {
+
+        long version() {
+            return versionOffset + matches.getBoardVersion();
+        }
+    }
+
+    private volatile Board board;
+
+    /**
+     * Creates the follower's board, starting from the matches in the given repository.
+     *
+     * @param matchRepository The board until the leader sends a copy of its own.
+     */
+    public ReplicatedMatchRepository(MatchRepositoryImpl matchRepository) {
+        this.board = new Board(matchRepository, 0);
+    }
+
+    /**
+     * Applies a change the leader made to the current board.
+     *
+     * @param event The change to apply.
+     */
+    public void applyReplicatedEvent(MatchEvent event) {
+        board.matches().applyReplicatedEvent(event);
+    }
+
+    /**
+     * Replaces the board with one holding exactly the given matches. The new board is built aside and swapped in
+     * whole, under the next board version.
+     *
+     * @param matches The live matches of the leader's copy.
+     */
+    public void replaceMatches(List<Match> matches) {
+        var replacement = new MatchRepositoryImpl();
+        matches.forEach(match -> replacement.applyReplicatedEvent(new MatchEvent.MatchStarted(match)));
+        var current = board;
+        board = new Board(replacement, current.version() + 1 - replacement.getBoardVersion());
+    }
+
+    @Override
+    public Match saveMatch(Match match) {
+        return board.matches().saveMatch(match);
+    }
+
+    @Override
+    public List<ScoreUpdateResult> updateScores(List<ScoreUpdate> scoreUpdates) {
+        return board.matches().updateScores(scoreUpdates);
+    }
+
+    @Override
+    public ScoreUpdateResult updateScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        return board.matches().updateScore(matchId, homeTeamScore, awayTeamScore, feedSequence);
+    }
+
+    @Override
+    public ScoreChange addToScores(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        var current = board;
+        var change = current.matches().addToScores(matchId, homeTeamDelta, awayTeamDelta);
+        return change == null ? null : new ScoreChange(change.matchId(), change.homeTeamScore(), change.awayTeamScore(),
+                current.versionOffset() + change.boardVersion());
+    }
+
+    @Override
+    public Match findMatchById(String matchId) {
+        return board.matches().findMatchById(matchId);
+    }
+
+    @Override
+    public List<Match> findAllMatches() {
+        return board.matches().findAllMatches();
+    }
+
+    @Override
+    public List<Match> findAllMatchesRanked() {
+        return board.matches().findAllMatchesRanked();
+    }
+
+    @Override
+    public List<Match> findMatchesRanked(int offset, int limit) {
+        return board.matches().findMatchesRanked(offset, limit);
+    }
+
+    @Override
+    public List<Match> findMatches(MatchQuery query) {
+        return board.matches().findMatches(query);
+    }
+
+    @Override
+    public int countLiveMatches() {
+        return board.matches().countLiveMatches();
+    }
+
+    @Override
+    public boolean reserveTeams(String matchId, String homeTeam, String awayTeam) {
+        return board.matches().reserveTeams(matchId, homeTeam, awayTeam);
+    }
+
+    @Override
+    public void releaseTeams(String matchId, String homeTeam, String awayTeam) {
+        board.matches().releaseTeams(matchId, homeTeam, awayTeam);
+    }
+
+    @Override
+    public Match deleteMatchById(String matchId) {
+        return board.matches().deleteMatchById(matchId);
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return board.version();
+    }
+}
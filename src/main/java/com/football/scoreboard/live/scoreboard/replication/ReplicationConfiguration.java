@@ -0,0 +1,46 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Wires the default scoreboard for the {@code scoreboard.replication.role} of this node.
+ * A {@code leader} journals every change through a {@link ReplicationLog} that {@link ReplicationLeader} ships to
+ * followers; a {@code follower} serves its board through a {@link ReadOnlyMatchRepository} over the
+ * {@link ReplicatedMatchRepository} that {@link ReplicationFollower} keeps up to date. Replication requires the default
+ * repository type and only covers the default scoreboard; a follower's competition scoreboards are read-only too,
+ * see {@link com.football.scoreboard.live.scoreboard.ScoreboardConfiguration}. None of it is wired for the compact
+ * repository, which the scoreboard configuration then refuses to start with.
+ */
+@Configuration
+@ConditionalOnProperty(name = "scoreboard.repository.type", havingValue = "default", matchIfMissing = true)
+public class ReplicationConfiguration {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "scoreboard.replication.role", havingValue = "leader")
+    public ReplicationLog replicationLog(@Qualifier("matchJournal") MatchJournal matchJournal,
+                                         @Value("${scoreboard.replication.log-capacity:65536}") int capacity) {
+        return new ReplicationLog(matchJournal, capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "scoreboard.replication.role", havingValue = "follower")
+    public ReplicatedMatchRepository replicatedMatchRepository(MatchRepositoryImpl matchRepository) {
+        return new ReplicatedMatchRepository(matchRepository);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "scoreboard.replication.role", havingValue = "follower")
+    public MatchRepository readOnlyMatchRepository(ReplicatedMatchRepository replicatedMatchRepository) {
+        return new ReadOnlyMatchRepository(replicatedMatchRepository);
+    }
+}
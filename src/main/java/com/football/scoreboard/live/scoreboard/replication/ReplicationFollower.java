@@ -0,0 +1,225 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.service.ScoreboardListener;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static com.football.scoreboard.live.scoreboard.replication.ReplicationProtocol.*;
+
+/**
+ * Follows a {@link ReplicationLeader}, applying the leader's changes to the local
+ * {@link ReplicatedMatchRepository} so that this node can serve the scoreboard without taking writes itself.
+ * A copy of the leader's board replaces the local board in one step rather than being applied change by change.
+ * The scoreboard listener is told about every copy and every batch of changes applied, once the follower has read
+ * everything the leader sent so far, so that pushed summaries keep up without being rendered for every change.
+ *
+ * The follower connects with the log ID and sequence it last applied, so that after a dropped connection it resumes
+ * where it stopped, and reconnects every {@code scoreboard.replication.reconnect-delay} until the leader is back.
+ * The lag published as {@value #LAG_GAUGE} is the number of leader changes the follower knows of but has not applied.
+ */
+@Component
+@ConditionalOnExpression("'${scoreboard.replication.role:}' == 'follower' and '${scoreboard.repository.type:default}' == 'default'")
+@Slf4j
+public class ReplicationFollower {
+
+    static final String LAG_GAUGE = "scoreboard.replication.lag";
+    static final String APPLIED_SEQUENCE_GAUGE = "scoreboard.replication.applied.sequence";
+    static final String CONNECTED_GAUGE = "scoreboard.replication.connected";
+
+    /**
+     * The most changes applied before the listener is told, for a leader that streams changes without a pause.
+     */
+    private static final int MAX_UNANNOUNCED_CHANGES = 1024;
+
+    private final ReplicatedMatchRepository matchRepository;
+    private final ScoreboardListener scoreboardListener;
+    private final String leaderHost;
+    private final int leaderPort;
+    private final long reconnectDelayMillis;
+    private final int readTimeoutMillis;
+
+    private volatile long logId;
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile boolean connected;
+    private volatile boolean stopped;
+    private volatile Socket socket;
+    private int unannouncedChanges;
+    private Thread thread;
+
+    /**
+     * Creates the follower. It connects to the leader in {@link #start()}.
+     *
+     * @param matchRepository    The repository to apply the leader's changes to.
+     * @param scoreboardListener The listener to tell about applied changes, normally the scoreboard's service.
+     * @param meterRegistry      The registry to publish the follower's metrics to.
+     * @param leaderHost         The host of the leader.
+     * @param leaderPort         The replication port of the leader.
+     * @param reconnectDelay     How long to wait before connecting again after the connection is lost.
+     * @param readTimeout        How long the leader may stay silent before the connection is considered lost.
+     */
+    public ReplicationFollower(ReplicatedMatchRepository matchRepository,
+                               @Qualifier("matchOperationService") ScoreboardListener scoreboardListener,
+                               MeterRegistry meterRegistry,
+                               @Value("${scoreboard.replication.leader-host:127.0.0.1}") String leaderHost,
+                               @Value("${scoreboard.replication.leader-port:7070}") int leaderPort,
+                               @Value("${scoreboard.replication.reconnect-delay:PT1S}") Duration reconnectDelay,
+                               @Value("${scoreboard.replication.read-timeout:PT5S}") Duration readTimeout) {
+        this.matchRepository = matchRepository;
+        this.scoreboardListener = scoreboardListener;
+        this.leaderHost = leaderHost;
+        this.leaderPort = leaderPort;
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        this.readTimeoutMillis = (int) readTimeout.toMillis();
+        Gauge.builder(LAG_GAUGE, this, ReplicationFollower::getLag)
+                .description("Leader changes this follower has not applied yet")
+                .register(meterRegistry);
+        Gauge.builder(APPLIED_SEQUENCE_GAUGE, this, ReplicationFollower::getAppliedSequence)
+                .description("Last replication sequence this follower applied")
+                .register(meterRegistry);
+        Gauge.builder(CONNECTED_GAUGE, this, follower -> follower.isConnected() ? 1 : 0)
+                .description("Whether this follower is connected to its leader")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        thread = new Thread(this::follow, "replication-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        thread.interrupt();
+        closeSocket();
+        thread.join(readTimeoutMillis);
+    }
+
+    /**
+     * Returns the number of leader changes the follower knows of but has not applied yet.
+     *
+     * @return The replication lag, in changes.
+     */
+    public long getLag() {
+        return Math.max(0, leaderSequence - appliedSequence);
+    }
+
+    /**
+     * Returns the last leader sequence the follower applied.
+     *
+     * @return The applied sequence.
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Tells whether the follower is connected to its leader.
+     *
+     * @return {@code true} while connected.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void follow() {
+        while (!stopped) {
+            try (var connection = new Socket()) {
+                socket = connection;
+                connection.connect(new InetSocketAddress(leaderHost, leaderPort), readTimeoutMillis);
+                connection.setSoTimeout(readTimeoutMillis);
+                connection.setTcpNoDelay(true);
+                var out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+                out.writeInt(MAGIC);
+                out.writeLong(logId);
+                out.writeLong(appliedSequence);
+                out.flush();
+                var in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+                connected = true;
+                log.info("Following replication leader {}:{} after sequence {}", leaderHost, leaderPort, appliedSequence);
+                while (!stopped) {
+                    readFrame(in);
+                    if (unannouncedChanges > 0 && (in.available() == 0 || unannouncedChanges >= MAX_UNANNOUNCED_CHANGES)) {
+                        // The end of what the leader sent so far, usually the end of one of its batches
+                        unannouncedChanges = 0;
+                        scoreboardListener.scoreboardChanged();
+                    }
+                }
+            } catch (IOException e) {
+                if (!stopped) {
+                    log.warn("Lost replication leader {}:{}: {}", leaderHost, leaderPort, e.getMessage());
+                }
+            } finally {
+                connected = false;
+                if (unannouncedChanges > 0) {
+                    unannouncedChanges = 0;
+                    scoreboardListener.scoreboardChanged();
+                }
+            }
+            try {
+                Thread.sleep(reconnectDelayMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void readFrame(DataInputStream in) throws IOException {
+        var frame = in.readByte();
+        switch (frame) {
+            case HELLO -> logId = in.readLong();
+            case SNAPSHOT -> {
+                var sequence = in.readLong();
+                var count = in.readInt();
+                var matches = new ArrayList<Match>(count);
+                for (int i = 0; i < count; i++) {
+                    matches.add(readMatch(in));
+                }
+                matchRepository.replaceMatches(matches);
+                appliedSequence = sequence;
+                unannouncedChanges++;
+                log.info("Replaced the board with {} live matches from the leader at sequence {}", count, sequence);
+            }
+            case EVENT -> {
+                var sequence = in.readLong();
+                matchRepository.applyReplicatedEvent(readEvent(in));
+                appliedSequence = sequence;
+                unannouncedChanges++;
+            }
+            case HEARTBEAT -> leaderSequence = in.readLong();
+            default -> throw new IOException("Unknown replication frame " + frame);
+        }
+    }
+
+    private void closeSocket() {
+        var connection = socket;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                log.debug("Could not close replication connection", e);
+            }
+        }
+    }
+}
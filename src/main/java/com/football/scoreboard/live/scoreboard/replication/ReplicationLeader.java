@@ -0,0 +1,202 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.football.scoreboard.live.scoreboard.replication.ReplicationProtocol.*;
+
+/**
+ * Ships the {@link ReplicationLog} of this node to every follower that connects to it over TCP.
+ *
+ * Every follower gets a thread of its own, which resumes the follower from the sequence it last applied if the log
+ * still holds the events after it, and otherwise sends it the whole board first: the repository is asked for a
+ * sequence whose changes are all applied before the live matches are copied, and the events after that sequence
+ * are streamed on top. Those events carry absolute scores, so replaying one the copy already reflects leaves the
+ * follower's board the same.
+ * A follower that falls so far behind that the log no longer holds its next event is sent the whole board again.
+ */
+@Component
+@ConditionalOnExpression("'${scoreboard.replication.role:}' == 'leader' and '${scoreboard.repository.type:default}' == 'default'")
+@Slf4j
+public class ReplicationLeader {
+
+    static final String FOLLOWERS_GAUGE = "scoreboard.replication.followers";
+    static final String SEQUENCE_GAUGE = "scoreboard.replication.sequence";
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final ReplicationLog replicationLog;
+    private final MatchRepositoryImpl matchRepository;
+    private final InetAddress bindAddress;
+    private final int port;
+    private final long heartbeatMillis;
+
+    private final Set<Socket> followers = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
+    private ServerSocket serverSocket;
+
+    /**
+     * Creates the leader. It starts listening in {@link #start()}.
+     *
+     * @param replicationLog    The log to ship.
+     * @param matchRepository   The repository the log belongs to, copied for followers that cannot resume.
+     * @param meterRegistry     The registry to publish the leader's metrics to.
+     * @param bindAddress       The address to listen on.
+     * @param port              The port to listen on, or 0 for any free port.
+     * @param heartbeatInterval How often an idle follower is sent a heartbeat.
+     */
+    public ReplicationLeader(ReplicationLog replicationLog, MatchRepositoryImpl matchRepository, MeterRegistry meterRegistry,
+                             @Value("${scoreboard.replication.bind-address:127.0.0.1}") InetAddress bindAddress,
+                             @Value("${scoreboard.replication.port:7070}") int port,
+                             @Value("${scoreboard.replication.heartbeat-interval:PT1S}") Duration heartbeatInterval) {
+        this.replicationLog = replicationLog;
+        this.matchRepository = matchRepository;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.heartbeatMillis = heartbeatInterval.toMillis();
+        Gauge.builder(FOLLOWERS_GAUGE, followers, Set::size)
+                .description("Followers connected to this replication leader")
+                .register(meterRegistry);
+        Gauge.builder(SEQUENCE_GAUGE, replicationLog, ReplicationLog::lastSequence)
+                .description("Last sequence of the replication log")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port, 50, bindAddress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not listen for replication followers on port " + port, e);
+        }
+        var acceptor = new Thread(this::acceptFollowers, "replication-leader");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Replication leader listening on {}", serverSocket.getLocalSocketAddress());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        stopped = true;
+        serverSocket.close();
+        for (var follower : followers) {
+            follower.close();
+        }
+    }
+
+    /**
+     * Returns the port the leader listens on, which is only known once started when configured as 0.
+     *
+     * @return The listening port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of followers connected to the leader.
+     *
+     * @return The number of followers.
+     */
+    public int getFollowerCount() {
+        return followers.size();
+    }
+
+    private void acceptFollowers() {
+        while (!stopped) {
+            try {
+                var follower = serverSocket.accept();
+                follower.setTcpNoDelay(true);
+                followers.add(follower);
+                var shipper = new Thread(() -> ship(follower), "replication-ship-" + follower.getPort());
+                shipper.setDaemon(true);
+                shipper.start();
+            } catch (IOException e) {
+                if (!stopped) {
+                    log.error("Could not accept replication follower", e);
+                }
+            }
+        }
+    }
+
+    private void ship(Socket follower) {
+        var remoteAddress = follower.getRemoteSocketAddress();
+        try (follower) {
+            var in = new DataInputStream(new BufferedInputStream(follower.getInputStream()));
+            var out = new DataOutputStream(new BufferedOutputStream(follower.getOutputStream()));
+            if (in.readInt() != MAGIC) {
+                log.warn("Rejected replication connection from {} with an unknown handshake", remoteAddress);
+                return;
+            }
+            var followerLogId = in.readLong();
+            var afterSequence = in.readLong();
+            out.writeByte(HELLO);
+            out.writeLong(replicationLog.getLogId());
+            long position;
+            if (followerLogId == replicationLog.getLogId() && replicationLog.canResumeAfter(afterSequence)) {
+                position = afterSequence;
+                log.info("Follower {} resumes after sequence {}", remoteAddress, afterSequence);
+            } else {
+                position = sendSnapshot(out);
+                log.info("Follower {} caught up from a copy of the board at sequence {}", remoteAddress, position);
+            }
+            out.flush();
+            while (!stopped) {
+                var batch = replicationLog.readAfter(position, BATCH_SIZE, heartbeatMillis);
+                if (batch == null) {
+                    position = sendSnapshot(out);
+                    log.warn("Follower {} fell behind the replication log, sent a copy of the board at sequence {}", remoteAddress, position);
+                } else {
+                    for (var replicated : batch) {
+                        out.writeByte(EVENT);
+                        out.writeLong(replicated.sequence());
+                        writeEvent(out, replicated.event());
+                        position = replicated.sequence();
+                    }
+                }
+                out.writeByte(HEARTBEAT);
+                out.writeLong(replicationLog.lastSequence());
+                out.flush();
+            }
+        } catch (IOException e) {
+            log.info("Follower {} disconnected: {}", remoteAddress, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            followers.remove(follower);
+        }
+    }
+
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        // The sequence is read first, so that every change the copy misses comes after it
+        var sequence = matchRepository.getAppliedJournalSequence();
+        var matches = matchRepository.findAllMatches();
+        out.writeByte(SNAPSHOT);
+        out.writeLong(sequence);
+        out.writeInt(matches.size());
+        for (var match : matches) {
+            writeMatch(out, match);
+        }
+        return sequence;
+    }
+}
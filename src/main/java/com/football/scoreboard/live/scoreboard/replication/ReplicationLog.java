@@ -0,0 +1,150 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The ordered mutation log a replication leader ships to its followers.
+ *
+ * It sits in front of the leader's {@link MatchJournal}: every change the repository journals is passed on to the
+ * journal and also kept, with its sequence number, in a bounded in-memory ring of the most recent events. Followers
+ * resume from the sequence they last applied as long as the ring still holds the events after it; a follower that
+ * fell further behind is sent the whole board instead. Sequences are those of the journal, or counted from 0 when
+ * the journal is disabled.
+ *
+ * Every log has a random ID. A follower only resumes from an offset handed out by the same log, so that offsets
+ * from before a leader restart are never mistaken for offsets into the restarted leader's history.
+ */
+public class ReplicationLog implements MatchJournal {
+
+    /**
+     * An event of the log together with its sequence number.
+     *
+     * @param sequence the sequence number of the event.
+     * @param event    the event.
+     */
+    public record ReplicatedEvent(long sequence, MatchEvent event) {
+    }
+
+    private final MatchJournal matchJournal;
+    private final MatchEvent[] events;
+    private final int mask;
+    private final long logId;
+    private final long firstSequence;
+    private long lastSequence;
+
+    /**
+     * Creates a log in front of the given journal.
+     *
+     * @param matchJournal The leader's journal, which every event is appended to first.
+     * @param capacity     The number of recent events kept for followers to resume from, a power of two.
+     * @throws IllegalArgumentException if the capacity is not a power of two.
+     */
+    public ReplicationLog(MatchJournal matchJournal, int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Replication log capacity must be a power of two");
+        }
+        this.matchJournal = matchJournal;
+        this.events = new MatchEvent[capacity];
+        this.mask = capacity - 1;
+        this.logId = randomLogId();
+        this.firstSequence = matchJournal.lastSequence();
+        this.lastSequence = firstSequence;
+    }
+
+    @Override
+    public synchronized long append(MatchEvent event) {
+        var sequence = matchJournal == MatchJournal.DISABLED ? lastSequence + 1 : matchJournal.append(event);
+        events[(int) (sequence & mask)] = event;
+        lastSequence = sequence;
+        notifyAll();
+        return sequence;
+    }
+
+    @Override
+    public long replay(long afterSequence, Consumer<MatchEvent> handler) {
+        return matchJournal.replay(afterSequence, handler);
+    }
+
+    @Override
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void compact(long upToSequence) {
+        matchJournal.compact(upToSequence);
+    }
+
+    /**
+     * Does nothing: the journal behind the log is closed on its own.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Returns the random ID of this log.
+     *
+     * @return The log ID, never 0.
+     */
+    public long getLogId() {
+        return logId;
+    }
+
+    /**
+     * Tells whether a follower that applied every event up to the given sequence can resume from the log.
+     *
+     * @param afterSequence The last sequence the follower applied.
+     * @return {@code true} if the log still holds every event after the sequence.
+     */
+    public synchronized boolean canResumeAfter(long afterSequence) {
+        return afterSequence <= lastSequence && afterSequence >= Math.max(firstSequence, lastSequence - events.length);
+    }
+
+    /**
+     * Retrieves the events after the given sequence, waiting up to the given time for one to be appended if there
+     * is none yet.
+     *
+     * @param afterSequence The last sequence the reader has.
+     * @param maxEvents     The maximum number of events to return.
+     * @param timeoutMillis The maximum time to wait for an event, in milliseconds.
+     * @return The events after the sequence, in order and possibly none, or {@code null} if the log no longer holds them.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public List<ReplicatedEvent> readAfter(long afterSequence, int maxEvents, long timeoutMillis) throws InterruptedException {
+        // Only the ring slots are copied under the monitor, so that appends are not held up while the batch is built
+        MatchEvent[] copied;
+        synchronized (this) {
+            if (afterSequence == lastSequence && timeoutMillis > 0) {
+                wait(timeoutMillis);
+            }
+            if (!canResumeAfter(afterSequence)) {
+                return null;
+            }
+            copied = new MatchEvent[(int) Math.min(maxEvents, lastSequence - afterSequence)];
+            var start = (int) ((afterSequence + 1) & mask);
+            var untilWrap = Math.min(copied.length, events.length - start);
+            System.arraycopy(events, start, copied, 0, untilWrap);
+            System.arraycopy(events, 0, copied, untilWrap, copied.length - untilWrap);
+        }
+        var batch = new ArrayList<ReplicatedEvent>(copied.length);
+        for (int i = 0; i < copied.length; i++) {
+            batch.add(new ReplicatedEvent(afterSequence + 1 + i, copied[i]));
+        }
+        return batch;
+    }
+
+    private static long randomLogId() {
+        long logId;
+        do {
+            logId = UUID.randomUUID().getMostSignificantBits();
+        } while (logId == 0);
+        return logId;
+    }
+}
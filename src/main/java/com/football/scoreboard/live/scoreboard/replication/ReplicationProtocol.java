@@ -0,0 +1,83 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The frames exchanged between a replication leader and its followers.
+ *
+ * A follower opens the connection with the magic number, the ID of the log it last followed (0 if none) and the
+ * last sequence it applied. The leader answers with a {@link #HELLO} carrying its log ID, followed by a
+ * {@link #SNAPSHOT} of the whole board if the follower cannot resume from its offset, and then streams
+ * {@link #EVENT} frames as the board changes. A {@link #HEARTBEAT} with the leader's last sequence follows every
+ * batch of events and is sent on its own while the board is idle, so that followers can tell how far behind they are.
+ */
+final class ReplicationProtocol {
+
+    static final int MAGIC = 0x5342524c;
+
+    static final byte HELLO = 1;
+    static final byte SNAPSHOT = 2;
+    static final byte EVENT = 3;
+    static final byte HEARTBEAT = 4;
+
+    private static final byte MATCH_STARTED = 1;
+    private static final byte SCORE_UPDATED = 2;
+    private static final byte MATCH_FINISHED = 3;
+
+    private ReplicationProtocol() {
+    }
+
+    static void writeEvent(DataOutputStream out, MatchEvent event) throws IOException {
+        switch (event) {
+            case MatchEvent.MatchStarted started -> {
+                out.writeByte(MATCH_STARTED);
+                writeMatch(out, started.match());
+            }
+            case MatchEvent.ScoreUpdated updated -> {
+                out.writeByte(SCORE_UPDATED);
+                out.writeUTF(updated.matchId());
+                out.writeInt(updated.homeTeamScore());
+                out.writeInt(updated.awayTeamScore());
+                out.writeLong(updated.feedSequence());
+            }
+            case MatchEvent.MatchFinished finished -> {
+                out.writeByte(MATCH_FINISHED);
+                out.writeUTF(finished.matchId());
+            }
+        }
+    }
+
+    static MatchEvent readEvent(DataInputStream in) throws IOException {
+        var type = in.readByte();
+        return switch (type) {
+            case MATCH_STARTED -> new MatchEvent.MatchStarted(readMatch(in));
+            case SCORE_UPDATED -> new MatchEvent.ScoreUpdated(in.readUTF(), in.readInt(), in.readInt(), in.readLong());
+            case MATCH_FINISHED -> new MatchEvent.MatchFinished(in.readUTF());
+            default -> throw new IOException("Unknown replicated event type " + type);
+        };
+    }
+
+    static void writeMatch(DataOutputStream out, Match match) throws IOException {
+        out.writeUTF(match.matchId());
+        out.writeUTF(match.homeTeam());
+        out.writeUTF(match.awayTeam());
+        out.writeInt(match.homeTeamScore());
+        out.writeInt(match.awayTeamScore());
+        out.writeLong(match.startTime().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(match.startTime().getNano());
+        out.writeLong(match.startSequence());
+        out.writeLong(match.feedSequence());
+    }
+
+    static Match readMatch(DataInputStream in) throws IOException {
+        return new Match(in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt(),
+                LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC), in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,616 @@
+package com.football.scoreboard.live.scoreboard.repository;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A MatchRepository that keeps live matches in primitive columns instead of one {@link Match} object per match.
+ *
+ * Every match occupies a slot in a set of parallel arrays: the team names are interned to int ids, both scores
+ * are packed into a single long, and the start time, start sequence and feed sequence are kept as longs. Score updates
+ * overwrite the packed score in place without allocating, and {@link Match} records are only materialized when
+ * matches are read. Slots of finished matches are reused by the next match that starts.
+ *
+ * The scoreboard order is kept as an index rather than sorted on reads: per total score, a bucket holds the slots with
+ * that score sorted by start, so ranked reads and slices walk the buckets from the highest score down and only
+ * materialize the matches they return. A score change moves its slot to the bucket of the new total, which costs a
+ * binary search and an array copy of the part of both buckets behind it. The same buckets, together with slots by
+ * normalized team name and by start time, answer {@link #findMatches(MatchQuery)} without a scan.
+ *
+ * Writes, including sequenced feed updates, are serialized by a {@link StampedLock}. Lookups by match ID, live match
+ * counts and ranked slices are first read optimistically, without locking, and only take the read lock if a write
+ * overlapped them; larger reads take the read lock straight away. This repository does not journal its changes.
+ * It is selected with {@code scoreboard.repository.type=compact}.
+ */
+public class CompactMatchRepository implements MatchRepository {
+
+    private final StampedLock lock = new StampedLock();
+
+    // Concurrent only so that optimistic reads can look a slot up while a write changes the map
+    private final Map<String, Integer> slotsByMatchId = new ConcurrentHashMap<>();
+    private final Map<String, Integer> teamIdsByName = new HashMap<>();
+    private final Map<String, String> teamOccupancyMap = new HashMap<>();
+    private final Map<String, Integer> liveSlotsByTeam = new HashMap<>();
+    private final NavigableMap<StartKey, Integer> slotsByStartTime = new TreeMap<>();
+
+    /**
+     * The order matches started in: by start time, then start sequence, then match ID.
+     */
+    private record StartKey(long startEpochNanos, long startSequence, String matchId) implements Comparable<StartKey> {
+
+        @Override
+        public int compareTo(StartKey other) {
+            var byStartTime = Long.compare(startEpochNanos, other.startEpochNanos);
+            if (byStartTime != 0) {
+                return byStartTime;
+            }
+            var byStartSequence = Long.compare(startSequence, other.startSequence);
+            return byStartSequence != 0 ? byStartSequence : matchId.compareTo(other.matchId);
+        }
+    }
+
+    private String[] teamNames = new String[64];
+    private int teamCount;
+
+    private String[] matchIds = new String[64];
+    private int[] homeTeamIds = new int[64];
+    private int[] awayTeamIds = new int[64];
+    private long[] packedScores = new long[64];
+    private long[] startEpochNanos = new long[64];
+    private long[] startSequences = new long[64];
+    private long[] feedSequences = new long[64];
+    private int[] freeSlots = new int[64];
+    private int freeSlotCount;
+    private int slotCount;
+
+    /**
+     * Per total score, the live slots with that score from the lowest to the highest ranked, so that the newest match,
+     * which ranks first among equal scores, is appended.
+     */
+    private int[][] slotsByTotalScore = new int[16][];
+    private int[] scoreBucketSizes = new int[16];
+
+    private volatile long boardVersion;
+
+    /**
+     * Saves a match. A match that is already live keeps its slot and has its scores overwritten in place.
+     *
+     * @param match The match to be saved.
+     * @return The saved match.
+     */
+    @Override
+    public Match saveMatch(Match match) {
+        var stamp = lock.writeLock();
+        try {
+            var slot = slotsByMatchId.get(match.matchId());
+            if (slot == null) {
+                slot = allocateSlot();
+                slotsByMatchId.put(match.matchId(), slot);
+                matchIds[slot] = match.matchId();
+                homeTeamIds[slot] = internTeam(match.homeTeam());
+                awayTeamIds[slot] = internTeam(match.awayTeam());
+                startEpochNanos[slot] = toEpochNanos(match.startTime());
+                startSequences[slot] = match.startSequence();
+                packedScores[slot] = packScores(match.homeTeamScore(), match.awayTeamScore());
+                addToScoreBucket(slot);
+                liveSlotsByTeam.put(match.homeTeam().toLowerCase(Locale.ROOT), slot);
+                liveSlotsByTeam.put(match.awayTeam().toLowerCase(Locale.ROOT), slot);
+                slotsByStartTime.put(startKey(slot), slot);
+            } else {
+                setScores(slot, packScores(match.homeTeamScore(), match.awayTeamScore()));
+            }
+            feedSequences[slot] = match.feedSequence();
+            boardVersion++;
+            return match;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies a batch of score updates in place, in a single pass and with one board version bump.
+     * No {@link Match} is materialized for the updated matches.
+     *
+     * @param scoreUpdates The score updates to apply, in order.
+     * @return One result per update, in the same order as the updates.
+     */
+    @Override
+    public List<ScoreUpdateResult> updateScores(List<ScoreUpdate> scoreUpdates) {
+        var results = new ArrayList<ScoreUpdateResult>(scoreUpdates.size());
+        var stamp = lock.writeLock();
+        try {
+            var updated = false;
+            for (var scoreUpdate : scoreUpdates) {
+                var slot = slotsByMatchId.get(scoreUpdate.matchId());
+                if (slot == null) {
+                    results.add(new ScoreUpdateResult(scoreUpdate.matchId(), ScoreUpdateResult.Status.MATCH_NOT_FOUND));
+                    continue;
+                }
+                setScores(slot, packScores(scoreUpdate.homeTeamScore(), scoreUpdate.awayTeamScore()));
+                results.add(new ScoreUpdateResult(scoreUpdate.matchId(), ScoreUpdateResult.Status.UPDATED));
+                updated = true;
+            }
+            if (updated) {
+                boardVersion++;
+            }
+            return results;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the scores of a live match in place from a feed message, unless the message is stale.
+     *
+     * @param matchId       The matchId of the match to update.
+     * @param homeTeamScore The new score of the home team.
+     * @param awayTeamScore The new score of the away team.
+     * @param feedSequence  The feed sequence of the message, or {@link Match#NO_FEED_SEQUENCE}.
+     * @return The outcome of the update.
+     */
+    @Override
+    public ScoreUpdateResult updateScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var stamp = lock.writeLock();
+        try {
+            var slot = slotsByMatchId.get(matchId);
+            if (slot == null) {
+                return new ScoreUpdateResult(matchId, ScoreUpdateResult.Status.MATCH_NOT_FOUND);
+            }
+            if (feedSequence != Match.NO_FEED_SEQUENCE) {
+                if (feedSequence <= feedSequences[slot]) {
+                    return new ScoreUpdateResult(matchId, ScoreUpdateResult.Status.STALE);
+                }
+                feedSequences[slot] = feedSequence;
+            }
+            setScores(slot, packScores(homeTeamScore, awayTeamScore));
+            boardVersion++;
+            return new ScoreUpdateResult(matchId, ScoreUpdateResult.Status.UPDATED);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds to the packed scores of a live match in place, keeping its feed sequence.
+     *
+     * @param matchId       The matchId of the match to update.
+     * @param homeTeamDelta The number of goals to add to the home team's score, negative to take goals away.
+     * @param awayTeamDelta The number of goals to add to the away team's score, negative to take goals away.
+     * @return The scores after the change with the board version it is visible at, or {@code null} if the match is not live.
+     * @throws IllegalArgumentException if either score would become negative; the match is left unchanged.
+     */
+    @Override
+    public ScoreChange addToScores(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        var stamp = lock.writeLock();
+        try {
+            var slot = slotsByMatchId.get(matchId);
+            if (slot == null) {
+                return null;
+            }
+            var homeTeamScore = homeTeamScore(packedScores[slot]) + homeTeamDelta;
+            var awayTeamScore = awayTeamScore(packedScores[slot]) + awayTeamDelta;
+            if (homeTeamScore < 0 || awayTeamScore < 0) {
+                throw new IllegalArgumentException("Score cannot be negative");
+            }
+            setScores(slot, packScores(homeTeamScore, awayTeamScore));
+            return new ScoreChange(matchId, homeTeamScore, awayTeamScore, ++boardVersion);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Match findMatchById(String matchId) {
+        var stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                var match = lookUp(matchId);
+                if (lock.validate(stamp)) {
+                    return match;
+                }
+            } catch (RuntimeException e) {
+                // A write moved the columns under the read, which is repeated under the read lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return lookUp(matchId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Match> findAllMatches() {
+        var stamp = lock.readLock();
+        try {
+            var matches = new ArrayList<Match>(slotsByMatchId.size());
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (matchIds[slot] != null) {
+                    matches.add(materialize(slot));
+                }
+            }
+            return matches;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retrieves all live matches in scoreboard order by walking the score buckets, without sorting.
+     *
+     * @return The live matches, ordered like the scoreboard.
+     */
+    @Override
+    public List<Match> findAllMatchesRanked() {
+        var stamp = lock.readLock();
+        try {
+            return rankedSlice(0, Integer.MAX_VALUE);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retrieves a slice of the matches in scoreboard order. The score buckets are walked from the highest score down,
+     * whole buckets before the slice are skipped by their size, and only the requested matches are materialized.
+     *
+     * @param offset The number of leading matches to skip.
+     * @param limit  The maximum number of matches to return.
+     * @return The matches at positions {@code offset} to {@code offset + limit - 1}, in scoreboard order.
+     */
+    @Override
+    public List<Match> findMatchesRanked(int offset, int limit) {
+        var stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                var matches = rankedSlice(offset, limit);
+                if (lock.validate(stamp)) {
+                    return matches;
+                }
+            } catch (RuntimeException e) {
+                // A write moved the columns under the read, which is repeated under the read lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return rankedSlice(offset, limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retrieves the live matches that satisfy a query, in scoreboard order, from the most selective index the query
+     * can use: the team index, the start time index or the score buckets in its total score range. Only the slots
+     * found there are materialized and checked against the rest of the query.
+     *
+     * @param query The criteria the matches must satisfy.
+     * @return The matching matches, ordered like the scoreboard.
+     */
+    @Override
+    public List<Match> findMatches(MatchQuery query) {
+        var stamp = lock.readLock();
+        try {
+            var matches = new ArrayList<Match>();
+            if (query.team() != null) {
+                var slot = liveSlotsByTeam.get(query.team().toLowerCase(Locale.ROOT));
+                if (slot != null) {
+                    addIfMatches(matches, slot, query);
+                }
+            } else if (query.startedSince() != null) {
+                var earliest = new StartKey(toEpochNanos(query.startedSince()), Long.MIN_VALUE, "");
+                for (var slot : slotsByStartTime.tailMap(earliest, true).values()) {
+                    addIfMatches(matches, slot, query);
+                }
+                matches.sort(MatchRepositoryImpl.SCOREBOARD_ORDER);
+            } else if (query.hasTotalScoreRange()) {
+                // The buckets are already in scoreboard order, highest score first
+                var maxTotalScore = Math.min(query.maxTotalScore(), slotsByTotalScore.length - 1);
+                for (int totalScore = maxTotalScore; totalScore >= query.minTotalScore(); totalScore--) {
+                    for (int i = scoreBucketSizes[totalScore] - 1; i >= 0; i--) {
+                        addIfMatches(matches, slotsByTotalScore[totalScore][i], query);
+                    }
+                }
+            } else {
+                return rankedSlice(0, Integer.MAX_VALUE);
+            }
+            return List.copyOf(matches);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int countLiveMatches() {
+        var stamp = lock.tryOptimisticRead();
+        var count = slotsByMatchId.size();
+        if (lock.validate(stamp)) {
+            return count;
+        }
+        stamp = lock.readLock();
+        try {
+            return slotsByMatchId.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Reserves both teams for the given match, all-or-nothing, comparing team names case-insensitively.
+     *
+     * @param matchId  The matchId of the match the teams are reserved for.
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @return {@code true} if both teams were reserved, {@code false} if either of them is already playing.
+     */
+    @Override
+    public boolean reserveTeams(String matchId, String homeTeam, String awayTeam) {
+        var homeKey = homeTeam.toLowerCase(Locale.ROOT);
+        var awayKey = awayTeam.toLowerCase(Locale.ROOT);
+        var stamp = lock.writeLock();
+        try {
+            if (teamOccupancyMap.containsKey(homeKey) || teamOccupancyMap.containsKey(awayKey)) {
+                return false;
+            }
+            teamOccupancyMap.put(homeKey, matchId);
+            teamOccupancyMap.put(awayKey, matchId);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Releases both teams from a reservation for a match that was never saved, if it still holds them.
+     *
+     * @param matchId  The matchId of the match the teams were reserved for.
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     */
+    @Override
+    public void releaseTeams(String matchId, String homeTeam, String awayTeam) {
+        var stamp = lock.writeLock();
+        try {
+            teamOccupancyMap.remove(homeTeam.toLowerCase(Locale.ROOT), matchId);
+            teamOccupancyMap.remove(awayTeam.toLowerCase(Locale.ROOT), matchId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Match deleteMatchById(String matchId) {
+        var stamp = lock.writeLock();
+        try {
+            var slot = slotsByMatchId.remove(matchId);
+            if (slot == null) {
+                return null;
+            }
+            var removed = materialize(slot);
+            var homeKey = teamNames[homeTeamIds[slot]].toLowerCase(Locale.ROOT);
+            var awayKey = teamNames[awayTeamIds[slot]].toLowerCase(Locale.ROOT);
+            teamOccupancyMap.remove(homeKey, matchId);
+            teamOccupancyMap.remove(awayKey, matchId);
+            liveSlotsByTeam.remove(homeKey, slot);
+            liveSlotsByTeam.remove(awayKey, slot);
+            slotsByStartTime.remove(startKey(slot));
+            removeFromScoreBucket(slot);
+            matchIds[slot] = null;
+            freeSlots[freeSlotCount++] = slot;
+            boardVersion++;
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    private Match lookUp(String matchId) {
+        var slot = slotsByMatchId.get(matchId);
+        return slot == null ? null : materialize(slot);
+    }
+
+    /**
+     * Walks the score buckets from the highest score down, and within each bucket from the highest ranked slot.
+     */
+    private List<Match> rankedSlice(int offset, int limit) {
+        var end = (int) Math.min((long) offset + limit, slotsByMatchId.size());
+        if (offset >= end) {
+            return List.of();
+        }
+        var matches = new ArrayList<Match>(end - offset);
+        var position = 0;
+        for (int totalScore = slotsByTotalScore.length - 1; totalScore >= 0 && position < end; totalScore--) {
+            var size = scoreBucketSizes[totalScore];
+            if (position + size <= offset) {
+                position += size;
+                continue;
+            }
+            var bucket = slotsByTotalScore[totalScore];
+            for (int i = size - 1; i >= 0 && position < end; i--, position++) {
+                if (position >= offset) {
+                    matches.add(materialize(bucket[i]));
+                }
+            }
+        }
+        return List.copyOf(matches);
+    }
+
+    private void addIfMatches(List<Match> matches, int slot, MatchQuery query) {
+        var match = materialize(slot);
+        if (query.matches(match)) {
+            matches.add(match);
+        }
+    }
+
+    private StartKey startKey(int slot) {
+        return new StartKey(startEpochNanos[slot], startSequences[slot], matchIds[slot]);
+    }
+
+    /**
+     * Overwrites the packed scores of a live slot, moving it to the bucket of its new total score if that changed.
+     */
+    private void setScores(int slot, long scores) {
+        if (homeTeamScore(scores) + awayTeamScore(scores) == totalScore(slot)) {
+            packedScores[slot] = scores;
+            return;
+        }
+        removeFromScoreBucket(slot);
+        packedScores[slot] = scores;
+        addToScoreBucket(slot);
+    }
+
+    private void addToScoreBucket(int slot) {
+        var totalScore = totalScore(slot);
+        if (totalScore >= slotsByTotalScore.length) {
+            var capacity = Math.max(totalScore + 1, slotsByTotalScore.length * 2);
+            slotsByTotalScore = Arrays.copyOf(slotsByTotalScore, capacity);
+            scoreBucketSizes = Arrays.copyOf(scoreBucketSizes, capacity);
+        }
+        var bucket = slotsByTotalScore[totalScore];
+        var size = scoreBucketSizes[totalScore];
+        if (bucket == null) {
+            bucket = slotsByTotalScore[totalScore] = new int[8];
+        } else if (size == bucket.length) {
+            bucket = slotsByTotalScore[totalScore] = Arrays.copyOf(bucket, size * 2);
+        }
+        var position = bucketPosition(bucket, size, slot);
+        System.arraycopy(bucket, position, bucket, position + 1, size - position);
+        bucket[position] = slot;
+        scoreBucketSizes[totalScore] = size + 1;
+    }
+
+    /**
+     * Takes a slot out of its score bucket, closing the gap so that the bucket stays in order.
+     */
+    private void removeFromScoreBucket(int slot) {
+        var totalScore = totalScore(slot);
+        var bucket = slotsByTotalScore[totalScore];
+        var size = scoreBucketSizes[totalScore];
+        var position = bucketPosition(bucket, size, slot);
+        System.arraycopy(bucket, position + 1, bucket, position, size - position - 1);
+        scoreBucketSizes[totalScore] = size - 1;
+    }
+
+    /**
+     * Finds where a slot is, or belongs, in a bucket of slots with the same total score: the first position whose
+     * slot does not rank below it.
+     */
+    private int bucketPosition(int[] bucket, int size, int slot) {
+        var low = 0;
+        var high = size;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (compareSlots(bucket[middle], slot) > 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int totalScore(int slot) {
+        return homeTeamScore(packedScores[slot]) + awayTeamScore(packedScores[slot]);
+    }
+
+    private Match materialize(int slot) {
+        var scores = packedScores[slot];
+        return new Match(matchIds[slot], teamNames[homeTeamIds[slot]], teamNames[awayTeamIds[slot]],
+                homeTeamScore(scores), awayTeamScore(scores), toLocalDateTime(startEpochNanos[slot]),
+                startSequences[slot], feedSequences[slot]);
+    }
+
+    /**
+     * Compares two live slots in scoreboard order, like {@link MatchRepositoryImpl#SCOREBOARD_ORDER}.
+     * Start times are compared as epoch nanoseconds, which order the same way as the start times themselves.
+     */
+    private int compareSlots(int slot, int otherSlot) {
+        var scores = packedScores[slot];
+        var otherScores = packedScores[otherSlot];
+        var byTotalScore = Integer.compare(homeTeamScore(otherScores) + awayTeamScore(otherScores),
+                homeTeamScore(scores) + awayTeamScore(scores));
+        if (byTotalScore != 0) {
+            return byTotalScore;
+        }
+        var byStartSequence = Long.compare(startSequences[otherSlot], startSequences[slot]);
+        if (byStartSequence != 0) {
+            return byStartSequence;
+        }
+        var byStartTime = Long.compare(startEpochNanos[otherSlot], startEpochNanos[slot]);
+        return byStartTime != 0 ? byStartTime : matchIds[slot].compareTo(matchIds[otherSlot]);
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == matchIds.length) {
+            var capacity = slotCount * 2;
+            matchIds = Arrays.copyOf(matchIds, capacity);
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            packedScores = Arrays.copyOf(packedScores, capacity);
+            startEpochNanos = Arrays.copyOf(startEpochNanos, capacity);
+            startSequences = Arrays.copyOf(startSequences, capacity);
+            feedSequences = Arrays.copyOf(feedSequences, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return slotCount++;
+    }
+
+    private int internTeam(String team) {
+        var teamId = teamIdsByName.get(team);
+        if (teamId != null) {
+            return teamId;
+        }
+        if (teamCount == teamNames.length) {
+            teamNames = Arrays.copyOf(teamNames, teamCount * 2);
+        }
+        teamNames[teamCount] = team;
+        teamIdsByName.put(team, teamCount);
+        return teamCount++;
+    }
+
+    static long packScores(int homeTeamScore, int awayTeamScore) {
+        return ((long) homeTeamScore << 32) | (awayTeamScore & 0xffffffffL);
+    }
+
+    static int homeTeamScore(long packedScores) {
+        return (int) (packedScores >>> 32);
+    }
+
+    static int awayTeamScore(long packedScores) {
+        return (int) packedScores;
+    }
+
+    private static long toEpochNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
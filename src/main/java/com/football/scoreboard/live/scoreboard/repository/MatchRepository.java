@@ -1,6 +1,10 @@
 package com.football.scoreboard.live.scoreboard.repository;
 
 import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
 
 import java.util.List;
 
@@ -8,9 +12,29 @@ public interface MatchRepository {
 
     Match saveMatch(Match match);
 
+    List<ScoreUpdateResult> updateScores(List<ScoreUpdate> scoreUpdates);
+
+    ScoreUpdateResult updateScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence);
+
+    ScoreChange addToScores(String matchId, int homeTeamDelta, int awayTeamDelta);
+
     Match findMatchById(String matchId);
 
     List<Match> findAllMatches();
 
-    void deleteMatchById(String matchId);
+    List<Match> findAllMatchesRanked();
+
+    List<Match> findMatchesRanked(int offset, int limit);
+
+    List<Match> findMatches(MatchQuery query);
+
+    int countLiveMatches();
+
+    boolean reserveTeams(String matchId, String homeTeam, String awayTeam);
+
+    void releaseTeams(String matchId, String homeTeam, String awayTeam);
+
+    Match deleteMatchById(String matchId);
+
+    long getBoardVersion();
 }
@@ -1,40 +1,304 @@
 package com.football.scoreboard.live.scoreboard.repository;
 
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.journal.MatchSnapshotStore;
 import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Repository;
 
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * This class implements the MatchRepository interface and provides methods to manage live match data.
  * It uses a ConcurrentHashMap to store matches, ensuring thread-safe operations.
+ * Alongside the map it maintains a ranked index (a concurrent skip list) ordered the way the scoreboard
+ * summary is presented, so that ranked reads are an ordered walk instead of a sort on every call,
+ * and a team occupancy index from normalized team name to the id of the match the team is playing in.
+ * Secondary indexes answer {@link #findMatches(MatchQuery)} without a scan: live matches by normalized team name,
+ * by total score bucket and by start time, so a filtered query only touches the matches it returns.
+ * Every save or delete bumps a monotonically increasing board version, which readers use to tell
+ * whether anything changed since they last looked.
+ * Moving a match in the ranked index takes a removal and an insertion, so ranked reads walk the index optimistically:
+ * every write counts itself in while it changes the map and the indexes, and a walk that overlapped a write is
+ * repaired rather than repeated: entries that were replaced meanwhile are dropped, and the few matches the walk missed
+ * are merged back in from the map. A ranked read therefore never lists a match twice or misses one that was live
+ * throughout, and neither does a summary cached from it, and a busy board costs reads a pass over the map rather than
+ * a sort of it.
+ * Each write stores a new entry with a unique revision in the map and the ranked index, and the index is
+ * updated after the map, so that writers which swap entries with a compare-and-set and writers which use
+ * the map's per-key compute can run side by side without leaving a stale entry in the index.
+ * Every change is also appended to a {@link MatchJournal} before it is applied, and the journal is replayed
+ * when the repository is created, so that live matches survive a restart when a durable journal is configured.
+ * With a {@link MatchSnapshotStore}, the repository starts from the latest snapshot and only replays the journal
+ * events that came after it; {@link #writeSnapshot()} writes a new snapshot and compacts the journal up to the oldest
+ * snapshot the store still keeps, so that a restart can fall back to any of them.
  *
  * This repository is intended to be used only by the MatchOperatorServiceImpl, as service layer logic and validations are handled only there.
  * This repository has only the responsibility to manage data related to matches.
  */
-@Repository
 @Slf4j
 public class MatchRepositoryImpl implements MatchRepository{
 
-    private final Map<String, Match> liveMatchesMap = new ConcurrentHashMap<>();
+    /**
+     * Scoreboard order: total score descending, then most recently started first. Recency is decided by the start
+     * sequence, which no two matches share, and only falls back to the start time for matches without one.
+     * The matchId is the final tie-break so that distinct matches never compare as equal in the index.
+     */
+    static final Comparator<Match> SCOREBOARD_ORDER = Comparator.comparingInt(Match::getTotalScore).reversed()
+            .thenComparing(Comparator.comparingLong(Match::startSequence).reversed())
+            .thenComparing(Match::startTime, Comparator.reverseOrder())
+            .thenComparing(Match::matchId);
+
+    private static final Comparator<Match> START_TIME_ORDER = Comparator.comparing(Match::startTime)
+            .thenComparingLong(Match::startSequence)
+            .thenComparing(Match::matchId);
+
+    private static final Comparator<RankedMatch> RANKED_ORDER = Comparator.comparing(RankedMatch::match, SCOREBOARD_ORDER)
+            .thenComparingLong(RankedMatch::revision);
+
+    /**
+     * A live match as stored in the map and the ranked index. The revision is unique to every write, so an entry
+     * is only ever equal to itself and removing it from the index can never remove a newer entry for the same match.
+     */
+    private record RankedMatch(Match match, long revision) {
+    }
+
+    /**
+     * How often a read of the score buckets walks them before it gives up on a quiet moment and scans the map.
+     */
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+    private final Map<String, RankedMatch> liveMatchesMap = new ConcurrentHashMap<>();
+
+    private final NavigableSet<RankedMatch> rankedMatches = new ConcurrentSkipListSet<>(RANKED_ORDER);
+
+    private final AtomicLong revisions = new AtomicLong();
+
+    private final Map<String, String> teamOccupancyMap = new ConcurrentHashMap<>();
+
+    /**
+     * Normalized team name to the id of the live match the team plays in. Unlike the occupancy index, which holds
+     * teams from the moment they are reserved, this only holds matches that are saved.
+     */
+    private final Map<String, String> liveMatchIdsByTeam = new ConcurrentHashMap<>();
+
+    /**
+     * The stored entries by total score, maintained alongside the ranked index and in the same way.
+     */
+    private final ConcurrentSkipListMap<Integer, Set<RankedMatch>> rankedMatchesByTotalScore = new ConcurrentSkipListMap<>();
+
+    /**
+     * The live matches as they were started, by start time. Start times and teams never change, so the entries
+     * only identify the match; its current scores are read from the map.
+     */
+    private final NavigableSet<Match> matchesByStartTime = new ConcurrentSkipListSet<>(START_TIME_ORDER);
+
+    private final AtomicLong boardVersion = new AtomicLong();
+
+    /**
+     * The writes that are changing the map and the indexes right now, and the number of such writes completed.
+     * Unlike the board version, these also count writes that have not bumped it yet, and replayed ones.
+     */
+    private final AtomicInteger indexWritesInProgress = new AtomicInteger();
+
+    private final AtomicLong indexWritesCompleted = new AtomicLong();
+
+    /**
+     * Ranked reads that overlapped a write and were repaired, and the matches those repairs had to merge back in.
+     * Only counted on the repair path; read by tests and benchmarks to see how much of the board repairs re-sort.
+     */
+    private final AtomicLong repairedRankedReads = new AtomicLong();
+
+    private final AtomicLong mergedBackMatches = new AtomicLong();
+
+    private final MatchJournal matchJournal;
+
+    private final MatchSnapshotStore matchSnapshotStore;
+
+    /**
+     * Journaled writes hold the read side while they journal and apply a change; taking a snapshot briefly holds
+     * the write side to find a journal sequence whose changes are all applied. Only used when changes are journaled.
+     */
+    private final ReadWriteLock snapshotGate = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a repository that keeps live matches in memory only.
+     */
+    public MatchRepositoryImpl() {
+        this(MatchJournal.DISABLED);
+    }
+
+    /**
+     * Creates a repository that records every change in the given journal,
+     * after rebuilding the live matches by replaying it.
+     *
+     * @param matchJournal The journal to replay and append to.
+     */
+    public MatchRepositoryImpl(MatchJournal matchJournal) {
+        this(matchJournal, MatchSnapshotStore.DISABLED);
+    }
 
     /**
-     * Saves a match in the liveMatchesMap.
+     * Creates a repository that records every change in the given journal, after rebuilding the live matches
+     * from the latest snapshot and the journal events that came after it.
+     *
+     * @param matchJournal       The journal to replay and append to.
+     * @param matchSnapshotStore The store to load the latest snapshot from and to write new snapshots to.
+     */
+    public MatchRepositoryImpl(MatchJournal matchJournal, MatchSnapshotStore matchSnapshotStore) {
+        this.matchJournal = matchJournal;
+        this.matchSnapshotStore = matchSnapshotStore;
+        var snapshotSequence = matchSnapshotStore.loadLatest()
+                .map(snapshot -> {
+                    snapshot.matches().forEach(match -> applyReplayedEvent(new MatchEvent.MatchStarted(match)));
+                    log.info("Loaded {} live matches from the snapshot at sequence {}", snapshot.matches().size(), snapshot.sequence());
+                    return snapshot.sequence();
+                })
+                .orElse(0L);
+        var lastSequence = matchJournal.replay(snapshotSequence, this::applyReplayedEvent);
+        if (!liveMatchesMap.isEmpty()) {
+            log.info("Restored {} live matches from the match journal up to sequence {}", liveMatchesMap.size(), lastSequence);
+        }
+    }
+
+    /**
+     * Saves a match in the liveMatchesMap and repositions it in the ranked index.
+     * The change is journaled inside the map's per-key compute, so concurrent saves of the same match are
+     * journaled in the order they are applied.
      *
      * @param match The match to be saved.
      * @return The saved match.
      */
     @Override
     public Match saveMatch(Match match) {
-        liveMatchesMap.put(match.matchId(), match);
+        beginIndexWrite();
+        try {
+            storeMatch(match, true);
+        } finally {
+            endIndexWrite();
+        }
+        boardVersion.incrementAndGet();
         return match;
     }
 
+    /**
+     * Applies a batch of score updates to the live matches in a single pass.
+     * Each update replaces the scores of its match and repositions it in the ranked index;
+     * updates addressed to matches that are not on the board are skipped.
+     * The board version is bumped once for the whole batch.
+     *
+     * @param scoreUpdates The score updates to apply, in order.
+     * @return One result per update, in the same order as the updates.
+     */
+    @Override
+    public List<ScoreUpdateResult> updateScores(List<ScoreUpdate> scoreUpdates) {
+        var results = new ArrayList<ScoreUpdateResult>(scoreUpdates.size());
+        var updated = false;
+        beginIndexWrite();
+        try {
+            for (var scoreUpdate : scoreUpdates) {
+                var found = applyScores(scoreUpdate.matchId(), scoreUpdate.homeTeamScore(), scoreUpdate.awayTeamScore(), null, true) != null;
+                results.add(new ScoreUpdateResult(scoreUpdate.matchId(), found
+                        ? ScoreUpdateResult.Status.UPDATED
+                        : ScoreUpdateResult.Status.MATCH_NOT_FOUND));
+                updated |= found;
+            }
+        } finally {
+            endIndexWrite();
+        }
+        if (updated) {
+            boardVersion.incrementAndGet();
+        }
+        return results;
+    }
+
+    /**
+     * Replaces the scores of a live match from a feed message, unless the message is stale.
+     * A message is stale when its feed sequence is not greater than the one the match's scores were last set from,
+     * so redundant feeds delivering the same goal, or delivering it out of order, resolve to the newest message.
+     * Messages without a feed sequence always apply and keep the match's current feed sequence.
+     *
+     * Without a journal the update is a compare-and-set loop on the stored record, and no lock is taken.
+     * With a journal the update runs inside the map's per-key compute, so that journal order matches apply order.
+     *
+     * @param matchId       The matchId of the match to update.
+     * @param homeTeamScore The new score of the home team.
+     * @param awayTeamScore The new score of the away team.
+     * @param feedSequence  The feed sequence of the message, or {@link Match#NO_FEED_SEQUENCE}.
+     * @return The outcome of the update.
+     */
+    @Override
+    public ScoreUpdateResult updateScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        ScoreUpdateResult.Status status;
+        beginIndexWrite();
+        try {
+            status = matchJournal == MatchJournal.DISABLED
+                    ? compareAndSetScores(matchId, homeTeamScore, awayTeamScore, feedSequence)
+                    : journaledScores(matchId, homeTeamScore, awayTeamScore, feedSequence);
+        } finally {
+            endIndexWrite();
+        }
+        if (status == ScoreUpdateResult.Status.UPDATED) {
+            boardVersion.incrementAndGet();
+        }
+        return new ScoreUpdateResult(matchId, status);
+    }
+
+    /**
+     * Adds to the scores of a live match in a single atomic step, so that concurrent goals for the same match all
+     * count. The feed sequence of the match is kept, and the change is journaled with the resulting absolute scores,
+     * so replaying or replicating it applies the same scores however often it is applied.
+     *
+     * Like {@link #updateScore}, the change is a compare-and-set loop on the stored record without a journal, and
+     * runs inside the map's per-key compute with one.
+     *
+     * @param matchId       The matchId of the match to update.
+     * @param homeTeamDelta The number of goals to add to the home team's score, negative to take goals away.
+     * @param awayTeamDelta The number of goals to add to the away team's score, negative to take goals away.
+     * @return The scores after the change with the board version it is visible at, or {@code null} if the match is not live.
+     * @throws IllegalArgumentException if either score would become negative; the match is left unchanged.
+     */
+    @Override
+    public ScoreChange addToScores(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        Match updated;
+        beginIndexWrite();
+        try {
+            updated = matchJournal == MatchJournal.DISABLED
+                    ? compareAndAddScores(matchId, homeTeamDelta, awayTeamDelta)
+                    : journaledAddScores(matchId, homeTeamDelta, awayTeamDelta);
+        } finally {
+            endIndexWrite();
+        }
+        if (updated == null) {
+            return null;
+        }
+        return new ScoreChange(matchId, updated.homeTeamScore(), updated.awayTeamScore(), boardVersion.incrementAndGet());
+    }
+
     /**
      * Finds a match by its matchId in the liveMatchesMap.
      *
@@ -43,7 +307,8 @@ public class MatchRepositoryImpl implements MatchRepository{
      */
     @Override
     public Match findMatchById(String matchId) {
-        return liveMatchesMap.get(matchId);
+        var entry = liveMatchesMap.get(matchId);
+        return entry == null ? null : entry.match();
     }
 
     /**
@@ -54,17 +319,512 @@ public class MatchRepositoryImpl implements MatchRepository{
     @Override
     public List<Match> findAllMatches() {
         return liveMatchesMap.values().stream()
-                .filter(Objects::nonNull)
+                .map(RankedMatch::match)
                 .toList();
     }
 
     /**
-     * Deletes a match by its matchId from the liveMatchesMap.
+     * Retrieves all matches in scoreboard order by walking the ranked index.
+     *
+     * @return A list of all matches, ordered by total score descending and, for equal scores,
+     *         by start time with the most recently started match first.
+     */
+    @Override
+    public List<Match> findAllMatchesRanked() {
+        return readRanked();
+    }
+
+    /**
+     * Retrieves a slice of the matches in scoreboard order. The ranked index is already sorted, so this only
+     * walks the first {@code offset + limit} entries and copies the last {@code limit} of them. A walk that overlapped
+     * a write is answered from a repaired read of the whole index instead.
+     *
+     * @param offset The number of leading matches to skip.
+     * @param limit  The maximum number of matches to return.
+     * @return The matches at positions {@code offset} to {@code offset + limit - 1}, in scoreboard order.
+     */
+    @Override
+    public List<Match> findMatchesRanked(int offset, int limit) {
+        var completed = indexWritesCompleted.get();
+        if (indexWritesInProgress.get() == 0) {
+            var slice = rankedMatches.stream().skip(offset).limit(limit).map(RankedMatch::match).toList();
+            if (indexWritesInProgress.get() == 0 && indexWritesCompleted.get() == completed) {
+                return slice;
+            }
+        }
+        return readRanked().stream().skip(offset).limit(limit).toList();
+    }
+
+    /**
+     * Retrieves the live matches that satisfy a query, in scoreboard order. The query is answered from the most
+     * selective index it can use: the team index if it names a team, which holds at most one match; otherwise the
+     * start time index if it bounds the start time; otherwise the score buckets in its total score range. Only the
+     * matches found there are checked against the rest of the query, so a narrow query costs time in proportion to
+     * its result rather than to the board.
+     *
+     * @param query The criteria the matches must satisfy.
+     * @return The matching matches, ordered like the scoreboard.
+     */
+    @Override
+    public List<Match> findMatches(MatchQuery query) {
+        Stream<Match> candidates;
+        if (query.team() != null) {
+            var matchId = liveMatchIdsByTeam.get(normalizeTeam(query.team()));
+            candidates = matchId == null ? Stream.empty() : Stream.ofNullable(findMatchById(matchId));
+        } else if (query.startedSince() != null) {
+            var earliest = new Match("", "", "", 0, 0, query.startedSince(), Long.MIN_VALUE, Match.NO_FEED_SEQUENCE);
+            candidates = matchesByStartTime.tailSet(earliest, true).stream()
+                    .map(started -> findMatchById(started.matchId()))
+                    .filter(Objects::nonNull);
+        } else if (query.hasTotalScoreRange()) {
+            candidates = readIndex(
+                    () -> rankedMatchesByTotalScore.subMap(query.minTotalScore(), true, query.maxTotalScore(), true).values().stream()
+                            .flatMap(Set::stream)
+                            .map(RankedMatch::match)
+                            .toList(),
+                    // Every match is checked against the whole query below
+                    this::findAllMatches).stream();
+        } else {
+            return findAllMatchesRanked();
+        }
+        return candidates
+                .filter(query::matches)
+                .sorted(SCOREBOARD_ORDER)
+                .toList();
+    }
+
+    /**
+     * Counts the matches in the liveMatchesMap without copying them.
+     *
+     * @return The number of live matches.
+     */
+    @Override
+    public int countLiveMatches() {
+        return liveMatchesMap.size();
+    }
+
+    /**
+     * Reserves both teams for the given match in the team occupancy index.
+     * Team names are compared case-insensitively. The reservation is all-or-nothing: if either team
+     * is already playing, nothing is reserved, so two concurrent starts involving the same team can
+     * never both succeed.
+     *
+     * @param matchId  The matchId of the match the teams are reserved for.
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @return {@code true} if both teams were reserved, {@code false} if either of them is already playing.
+     */
+    @Override
+    public boolean reserveTeams(String matchId, String homeTeam, String awayTeam) {
+        var homeKey = normalizeTeam(homeTeam);
+        if (teamOccupancyMap.putIfAbsent(homeKey, matchId) != null) {
+            return false;
+        }
+        if (teamOccupancyMap.putIfAbsent(normalizeTeam(awayTeam), matchId) != null) {
+            teamOccupancyMap.remove(homeKey, matchId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases both teams from a reservation for a match that was never saved, for example because saving it failed.
+     * Only reservations still held by the given match are released.
+     *
+     * @param matchId  The matchId of the match the teams were reserved for.
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     */
+    @Override
+    public void releaseTeams(String matchId, String homeTeam, String awayTeam) {
+        teamOccupancyMap.remove(normalizeTeam(homeTeam), matchId);
+        teamOccupancyMap.remove(normalizeTeam(awayTeam), matchId);
+    }
+
+    /**
+     * Deletes a match by its matchId from the liveMatchesMap and the ranked index,
+     * and releases both of its teams from the team occupancy index.
      *
      * @param matchId The matchId of the match to be deleted.
+     * @return The match as it was when it was deleted, or {@code null} if no match with the ID was live.
+     */
+    @Override
+    public Match deleteMatchById(String matchId) {
+        Match removed;
+        beginIndexWrite();
+        try {
+            removed = removeMatch(matchId, true);
+        } finally {
+            endIndexWrite();
+        }
+        if (removed != null) {
+            boardVersion.incrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the current board version.
+     * The version is bumped after the data of every save or delete is visible, so a reader that observes
+     * a given version also observes every change made up to that version.
+     *
+     * @return The current board version.
      */
     @Override
-    public void deleteMatchById(String matchId) {
-        liveMatchesMap.remove(matchId);
+    public long getBoardVersion() {
+        return boardVersion.get();
+    }
+
+    /**
+     * Writes a snapshot of the live matches and compacts the journal up to the sequence covered by the oldest
+     * snapshot the store retains. The store falls back to an older snapshot if the newest one turns out to be corrupt,
+     * so the journal keeps every event after the oldest one, and the fallback still restores every change.
+     * Writers are only held back while the snapshot sequence is read; the matches are then copied while
+     * writes continue. Changes that land during the copy have greater sequence numbers and carry absolute
+     * scores, so replaying them on top of the snapshot at startup yields the same board either way.
+     *
+     * @return The journal sequence covered by the snapshot.
+     */
+    public long writeSnapshot() {
+        var sequence = getAppliedJournalSequence();
+        matchSnapshotStore.write(sequence, findAllMatches());
+        matchJournal.compact(matchSnapshotStore.oldestRetainedSequence());
+        return sequence;
+    }
+
+    /**
+     * Returns a journal sequence whose change, like every change before it, is applied to the live matches.
+     * Writers are only held back while the sequence is read, so live matches read afterwards reflect at least
+     * every change up to it.
+     *
+     * @return The last journal sequence that is applied.
+     */
+    public long getAppliedJournalSequence() {
+        snapshotGate.writeLock().lock();
+        try {
+            return matchJournal.lastSequence();
+        } finally {
+            snapshotGate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change that was made and journaled on another repository, such as a replication leader's,
+     * without journaling it again. The board version is bumped, so that readers see the change.
+     *
+     * @param event The change to apply.
+     */
+    public void applyReplicatedEvent(MatchEvent event) {
+        applyReplayedEvent(event);
+        boardVersion.incrementAndGet();
+    }
+
+    private <T> T journaled(boolean journaled, Supplier<T> change) {
+        if (!journaled || matchJournal == MatchJournal.DISABLED) {
+            return change.get();
+        }
+        snapshotGate.readLock().lock();
+        try {
+            return change.get();
+        } finally {
+            snapshotGate.readLock().unlock();
+        }
+    }
+
+    private void storeMatch(Match match, boolean journaled) {
+        var stored = rank(match);
+        var replaced = new AtomicReference<RankedMatch>();
+        journaled(journaled, () -> liveMatchesMap.compute(match.matchId(), (matchId, previous) -> {
+            if (journaled) {
+                matchJournal.append(previous == null
+                        ? new MatchEvent.MatchStarted(match)
+                        : new MatchEvent.ScoreUpdated(matchId, match.homeTeamScore(), match.awayTeamScore(), match.feedSequence()));
+            }
+            if (previous == null) {
+                liveMatchIdsByTeam.put(normalizeTeam(match.homeTeam()), matchId);
+                liveMatchIdsByTeam.put(normalizeTeam(match.awayTeam()), matchId);
+                matchesByStartTime.add(match);
+            }
+            replaced.set(previous);
+            return stored;
+        }));
+        reindex(replaced.get(), stored);
+    }
+
+    /**
+     * Replaces the scores of a live match, keeping its feed sequence when {@code feedSequence} is null.
+     */
+    private Match applyScores(String matchId, int homeTeamScore, int awayTeamScore, Long feedSequence, boolean journaled) {
+        var replaced = new AtomicReference<RankedMatch>();
+        var stored = journaled(journaled, () -> liveMatchesMap.computeIfPresent(matchId, (id, previous) -> {
+            var updated = feedSequence == null
+                    ? previous.match().withScores(homeTeamScore, awayTeamScore)
+                    : previous.match().withScores(homeTeamScore, awayTeamScore, feedSequence);
+            if (journaled) {
+                matchJournal.append(new MatchEvent.ScoreUpdated(id, homeTeamScore, awayTeamScore, updated.feedSequence()));
+            }
+            replaced.set(previous);
+            return rank(updated);
+        }));
+        if (stored == null) {
+            return null;
+        }
+        reindex(replaced.get(), stored);
+        return stored.match();
+    }
+
+    private ScoreUpdateResult.Status compareAndSetScores(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        while (true) {
+            var previous = liveMatchesMap.get(matchId);
+            if (previous == null) {
+                return ScoreUpdateResult.Status.MATCH_NOT_FOUND;
+            }
+            if (previous.match().isStaleFeedSequence(feedSequence)) {
+                return ScoreUpdateResult.Status.STALE;
+            }
+            var stored = rank(previous.match().withScores(homeTeamScore, awayTeamScore,
+                    Math.max(feedSequence, previous.match().feedSequence())));
+            if (liveMatchesMap.replace(matchId, previous, stored)) {
+                reindex(previous, stored);
+                return ScoreUpdateResult.Status.UPDATED;
+            }
+        }
+    }
+
+    private ScoreUpdateResult.Status journaledScores(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var replaced = new AtomicReference<RankedMatch>();
+        var stale = new AtomicBoolean();
+        var stored = journaled(true, () -> liveMatchesMap.computeIfPresent(matchId, (id, previous) -> {
+            if (previous.match().isStaleFeedSequence(feedSequence)) {
+                stale.set(true);
+                return previous;
+            }
+            var updated = previous.match().withScores(homeTeamScore, awayTeamScore,
+                    Math.max(feedSequence, previous.match().feedSequence()));
+            matchJournal.append(new MatchEvent.ScoreUpdated(id, homeTeamScore, awayTeamScore, updated.feedSequence()));
+            replaced.set(previous);
+            return rank(updated);
+        }));
+        if (stored == null) {
+            return ScoreUpdateResult.Status.MATCH_NOT_FOUND;
+        }
+        if (stale.get()) {
+            return ScoreUpdateResult.Status.STALE;
+        }
+        reindex(replaced.get(), stored);
+        return ScoreUpdateResult.Status.UPDATED;
+    }
+
+    private Match compareAndAddScores(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        while (true) {
+            var previous = liveMatchesMap.get(matchId);
+            if (previous == null) {
+                return null;
+            }
+            var stored = rank(addScores(previous.match(), homeTeamDelta, awayTeamDelta));
+            if (liveMatchesMap.replace(matchId, previous, stored)) {
+                reindex(previous, stored);
+                return stored.match();
+            }
+        }
+    }
+
+    private Match journaledAddScores(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        var replaced = new AtomicReference<RankedMatch>();
+        var stored = journaled(true, () -> liveMatchesMap.computeIfPresent(matchId, (id, previous) -> {
+            var updated = addScores(previous.match(), homeTeamDelta, awayTeamDelta);
+            matchJournal.append(new MatchEvent.ScoreUpdated(id, updated.homeTeamScore(), updated.awayTeamScore(), updated.feedSequence()));
+            replaced.set(previous);
+            return rank(updated);
+        }));
+        if (stored == null) {
+            return null;
+        }
+        reindex(replaced.get(), stored);
+        return stored.match();
+    }
+
+    private static Match addScores(Match match, int homeTeamDelta, int awayTeamDelta) {
+        var homeTeamScore = match.homeTeamScore() + homeTeamDelta;
+        var awayTeamScore = match.awayTeamScore() + awayTeamDelta;
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            throw new IllegalArgumentException("Score cannot be negative");
+        }
+        return match.withScores(homeTeamScore, awayTeamScore);
+    }
+
+    private Match removeMatch(String matchId, boolean journaled) {
+        var removed = new AtomicReference<RankedMatch>();
+        journaled(journaled, () -> liveMatchesMap.computeIfPresent(matchId, (id, previous) -> {
+            if (journaled) {
+                matchJournal.append(new MatchEvent.MatchFinished(id));
+            }
+            teamOccupancyMap.remove(normalizeTeam(previous.match().homeTeam()), id);
+            teamOccupancyMap.remove(normalizeTeam(previous.match().awayTeam()), id);
+            liveMatchIdsByTeam.remove(normalizeTeam(previous.match().homeTeam()), id);
+            liveMatchIdsByTeam.remove(normalizeTeam(previous.match().awayTeam()), id);
+            matchesByStartTime.remove(previous.match());
+            removed.set(previous);
+            return null;
+        }));
+        if (removed.get() == null) {
+            return null;
+        }
+        reindex(removed.get(), null);
+        return removed.get().match();
+    }
+
+    /**
+     * Counts a write in before it touches the map, so that an optimistic ranked read overlapping any part of it,
+     * including a replaced entry still waiting to be taken out of the index, does not trust its walk.
+     */
+    private void beginIndexWrite() {
+        indexWritesInProgress.incrementAndGet();
+    }
+
+    private void endIndexWrite() {
+        indexWritesCompleted.incrementAndGet();
+        indexWritesInProgress.decrementAndGet();
+    }
+
+    /**
+     * Walks the whole ranked index once. The walk is trusted if no write was in progress when it started and none
+     * completed or is in progress when it ends, since a write that started meanwhile is either still in progress or
+     * has completed. Otherwise the same walk is repaired, see {@link #repairRankedWalk(List)}.
+     */
+    private List<Match> readRanked() {
+        var completed = indexWritesCompleted.get();
+        var quietAtStart = indexWritesInProgress.get() == 0;
+        var walked = new ArrayList<>(rankedMatches);
+        if (quietAtStart && indexWritesInProgress.get() == 0 && indexWritesCompleted.get() == completed) {
+            var matches = new ArrayList<Match>(walked.size());
+            walked.forEach(entry -> matches.add(entry.match()));
+            return matches;
+        }
+        return repairRankedWalk(walked);
+    }
+
+    /**
+     * Turns a walk of the ranked index that overlapped writes into a list with every live match exactly once, in
+     * scoreboard order. The walk is in index order whatever happened meanwhile, since the index is a sorted set.
+     * Its entries that are still the ones stored in the map are kept, once per match; a match whose entry was
+     * replaced during the walk may then be missing, as may a match started meanwhile, so the matches in the map that
+     * were not kept are sorted on their own and merged in. Only the matches written during the walk are sorted, and
+     * a match that was live throughout is always found, either in the walk or in the map.
+     */
+    private List<Match> repairRankedWalk(List<RankedMatch> walked) {
+        var kept = new ArrayList<Match>(walked.size());
+        var keptIds = HashSet.<String>newHashSet(walked.size());
+        for (var entry : walked) {
+            var matchId = entry.match().matchId();
+            if (liveMatchesMap.get(matchId) == entry && keptIds.add(matchId)) {
+                kept.add(entry.match());
+            }
+        }
+        var missed = new ArrayList<Match>();
+        for (var entry : liveMatchesMap.values()) {
+            if (!keptIds.contains(entry.match().matchId())) {
+                missed.add(entry.match());
+            }
+        }
+        repairedRankedReads.incrementAndGet();
+        if (missed.isEmpty()) {
+            return kept;
+        }
+        mergedBackMatches.addAndGet(missed.size());
+        missed.sort(SCOREBOARD_ORDER);
+        var merged = new ArrayList<Match>(kept.size() + missed.size());
+        int k = 0;
+        int m = 0;
+        while (k < kept.size() && m < missed.size()) {
+            merged.add(SCOREBOARD_ORDER.compare(kept.get(k), missed.get(m)) <= 0 ? kept.get(k++) : missed.get(m++));
+        }
+        merged.addAll(kept.subList(k, kept.size()));
+        merged.addAll(missed.subList(m, missed.size()));
+        return merged;
+    }
+
+    long getRepairedRankedReads() {
+        return repairedRankedReads.get();
+    }
+
+    long getMergedBackMatches() {
+        return mergedBackMatches.get();
+    }
+
+    /**
+     * Walks the score buckets at a moment no write is changing them, trusted under the same conditions as a ranked
+     * walk. After a few overlapping walks, the answer is taken from the map instead, which holds every live match
+     * exactly once at any time.
+     *
+     * @param walk     Reads the answer from the indexes.
+     * @param fallback Reads the answer from the map.
+     */
+    private <T> T readIndex(Supplier<T> walk, Supplier<T> fallback) {
+        for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+            var completed = indexWritesCompleted.get();
+            if (indexWritesInProgress.get() == 0) {
+                var result = walk.get();
+                if (indexWritesInProgress.get() == 0 && indexWritesCompleted.get() == completed) {
+                    return result;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        return fallback.get();
+    }
+
+    private RankedMatch rank(Match match) {
+        return new RankedMatch(match, revisions.incrementAndGet());
+    }
+
+    /**
+     * Moves a match in the ranked index and the score buckets from the entry that was replaced in the map to the
+     * entry that replaced it. This always runs after the map swap: a writer whose entry was replaced before it got
+     * indexed sees that in the final check and takes the entry out again, as the replacing writer may have already tried to.
+     */
+    private void reindex(RankedMatch replaced, RankedMatch stored) {
+        if (replaced != null) {
+            rankedMatches.remove(replaced);
+            scoreBucket(replaced).remove(replaced);
+        }
+        if (stored != null) {
+            rankedMatches.add(stored);
+            scoreBucket(stored).add(stored);
+            if (liveMatchesMap.get(stored.match().matchId()) != stored) {
+                rankedMatches.remove(stored);
+                scoreBucket(stored).remove(stored);
+            }
+        }
+    }
+
+    private Set<RankedMatch> scoreBucket(RankedMatch entry) {
+        // Buckets are never removed, there is one per total score the board has seen
+        return rankedMatchesByTotalScore.computeIfAbsent(entry.match().getTotalScore(), totalScore -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Applies an event read back from the journal, without journaling it again.
+     */
+    private void applyReplayedEvent(MatchEvent event) {
+        beginIndexWrite();
+        try {
+            switch (event) {
+                case MatchEvent.MatchStarted started -> {
+                    var match = started.match();
+                    reserveTeams(match.matchId(), match.homeTeam(), match.awayTeam());
+                    storeMatch(match, false);
+                }
+                case MatchEvent.ScoreUpdated updated ->
+                        applyScores(updated.matchId(), updated.homeTeamScore(), updated.awayTeamScore(), updated.feedSequence(), false);
+                case MatchEvent.MatchFinished finished -> removeMatch(finished.matchId(), false);
+            }
+        } finally {
+            endIndexWrite();
+        }
+    }
+
+    private static String normalizeTeam(String team) {
+        return team.toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,39 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface CompetitionMatchOperationService {
+
+    /**
+     * The competition served by the single-board {@link MatchOperationService}.
+     */
+    String DEFAULT_COMPETITION = "default";
+
+    Match startMatch(String competitionId, String homeTeam, String awayTeam);
+
+    void updateMatchScore(String competitionId, String matchId, int homeTeamScore, int awayTeamScore);
+
+    ScoreUpdateResult updateMatchScore(String competitionId, String matchId, int homeTeamScore, int awayTeamScore, long feedSequence);
+
+    List<ScoreUpdateResult> updateMatchScores(String competitionId, Collection<ScoreUpdate> scoreUpdates);
+
+    void finishMatch(String competitionId, String matchId);
+
+    List<String> getMatchSummary(String competitionId);
+
+    MatchSummary getVersionedMatchSummary(String competitionId);
+
+    long getBoardVersion(String competitionId);
+
+    MatchOperationService getScoreboard(String competitionId);
+
+    Set<String> getCompetitionIds();
+
+}
@@ -0,0 +1,244 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.exception.CompetitionNotFoundException;
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import com.football.scoreboard.live.scoreboard.id.MatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.replication.ReadOnlyMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.football.scoreboard.live.scoreboard.util.ValidationUtil.isValidString;
+
+/**
+ * Scoreboards partitioned by competition.
+ *
+ * Every competition is a shard with its own {@link MatchOperationService}, and so its own repository, ranked index,
+ * team occupancy, board version and summary cache. A write to one competition never bumps the board version of,
+ * or contends on a lock or cache line with, another competition, and shards can be driven from different cores.
+ *
+ * The {@link #DEFAULT_COMPETITION} shard is the application's single-board {@link MatchOperationService}, so it keeps
+ * its journal, snapshots, listeners, replication and the {@code /scoreboard} endpoints. The other competitions are
+ * registered up front, from {@code scoreboard.competitions}, and their shards are created in memory when the service
+ * is, so the number of shards is fixed; each publishes its metrics tagged with its competition. Operations on a
+ * competition that was not registered fail with a {@link CompetitionNotFoundException}.
+ *
+ * The other shards are neither journaled nor replicated. When the default scoreboard is persisted or is a follower,
+ * they are made read-only, so that no write is acknowledged that a restart or a failover would silently lose.
+ */
+@Slf4j
+public class CompetitionMatchOperationServiceImpl implements CompetitionMatchOperationService {
+
+    /**
+     * Why writes to the competitions other than the default one are rejected while the default scoreboard is journaled.
+     */
+    public static final String NOT_JOURNALED_MESSAGE =
+            "Competition scoreboards are not journaled, so they are read-only while the default scoreboard is";
+
+    private final Map<String, MatchOperationService> shards;
+
+    /**
+     * Creates the competition scoreboards around the application's single-board service, with a shard for each
+     * registered competition of the same kind of repository as the one configured for the single board.
+     *
+     * @param defaultScoreboard The service of the {@link #DEFAULT_COMPETITION} shard.
+     * @param competitionIds    The IDs of the other competitions.
+     * @param meterRegistry     The registry every shard publishes its metrics to.
+     * @param matchIdGenerator  The generator issuing the IDs and start sequences of matches in every shard.
+     * @param auditTrail        The audit trail every shard records its operations to.
+     * @param matchArchive      The archive every shard moves its finished matches to.
+     * @param repositoryType    The configured {@code scoreboard.repository.type}.
+     * @param readOnlyMessage   Why writes to the other shards are rejected, or {@code null} if they are accepted.
+     */
+    public CompetitionMatchOperationServiceImpl(MatchOperationService defaultScoreboard, Collection<String> competitionIds,
+                                                MeterRegistry meterRegistry, MatchIdGenerator matchIdGenerator,
+                                                MatchAuditTrail auditTrail, MatchArchive matchArchive,
+                                                String repositoryType, String readOnlyMessage) {
+        this(defaultScoreboard, competitionIds, competitionId -> {
+            MatchRepository repository = "compact".equals(repositoryType) ? new CompactMatchRepository() : new MatchRepositoryImpl();
+            if (readOnlyMessage != null) {
+                repository = new ReadOnlyMatchRepository(repository, readOnlyMessage);
+            }
+            return new MatchOperationServiceImpl(repository, meterRegistry, Tags.of("competition", competitionId),
+                    matchIdGenerator, auditTrail, matchArchive, null);
+        });
+    }
+
+    /**
+     * Creates the competition scoreboards around the given default shard.
+     *
+     * @param defaultScoreboard The service of the {@link #DEFAULT_COMPETITION} shard.
+     * @param competitionIds    The IDs of the other competitions.
+     * @param shardFactory      Creates the service of every other shard from its competition ID.
+     * @throws IllegalArgumentException if a competition ID is not valid.
+     */
+    public CompetitionMatchOperationServiceImpl(MatchOperationService defaultScoreboard, Collection<String> competitionIds,
+                                                Function<String, MatchOperationService> shardFactory) {
+        var shardsByCompetition = new HashMap<String, MatchOperationService>();
+        shardsByCompetition.put(DEFAULT_COMPETITION, defaultScoreboard);
+        for (var competitionId : competitionIds) {
+            isValidString(competitionId);
+            if (!shardsByCompetition.containsKey(competitionId)) {
+                log.info("Creating scoreboard shard for competition {}", competitionId);
+                shardsByCompetition.put(competitionId, shardFactory.apply(competitionId));
+            }
+        }
+        this.shards = Map.copyOf(shardsByCompetition);
+    }
+
+    /**
+     * Starts a new football match in the given competition.
+     *
+     * @param competitionId The ID of the competition.
+     * @param homeTeam      The name of the home team.
+     * @param awayTeam      The name of the away team.
+     * @return The newly created Match record.
+     * @throws CompetitionNotFoundException if the competition was not registered.
+     * @throws MatchConflictException if either of the teams are already playing in another match of the competition,
+     *                                or the competition is read-only.
+     * @throws IllegalArgumentException if the competition ID or either of the teams are not valid.
+     */
+    @Override
+    public Match startMatch(String competitionId, String homeTeam, String awayTeam) {
+        return getScoreboard(competitionId).startMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Updates the score of a football match in the given competition.
+     *
+     * @param competitionId  The ID of the competition.
+     * @param matchId        The ID of the match to update.
+     * @param homeTeamScore  The new score of the home team.
+     * @param awayTeamScore  The new score of the away team.
+     * @throws MatchNotFoundException if the competition has no match with the provided ID.
+     * @throws CompetitionNotFoundException if the competition was not registered.
+     * @throws IllegalArgumentException if the competition ID, the scores or the match ID are invalid.
+     */
+    @Override
+    public void updateMatchScore(String competitionId, String matchId, int homeTeamScore, int awayTeamScore) {
+        getScoreboard(competitionId).updateMatchScore(matchId, homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Updates the score of a football match in the given competition from a sequenced feed message.
+     *
+     * @param competitionId  The ID of the competition.
+     * @param matchId        The ID of the match to update.
+     * @param homeTeamScore  The new score of the home team.
+     * @param awayTeamScore  The new score of the away team.
+     * @param feedSequence   The sequence number of the feed message, increasing per match.
+     * @return The outcome of the update.
+     * @throws CompetitionNotFoundException if the competition was not registered.
+     * @throws IllegalArgumentException if the competition ID, the scores, the match ID or the feed sequence are invalid.
+     */
+    @Override
+    public ScoreUpdateResult updateMatchScore(String competitionId, String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        return getScoreboard(competitionId).updateMatchScore(matchId, homeTeamScore, awayTeamScore, feedSequence);
+    }
+
+    /**
+     * Updates the scores of several football matches of the given competition in one pass.
+     *
+     * @param competitionId The ID of the competition.
+     * @param scoreUpdates  The score updates to apply, in order.
+     * @return One result per update, in the same order as the updates.
+     * @throws CompetitionNotFoundException if the competition was not registered.
+     * @throws IllegalArgumentException if the competition ID is invalid, the batch is null or any update is invalid.
+     */
+    @Override
+    public List<ScoreUpdateResult> updateMatchScores(String competitionId, Collection<ScoreUpdate> scoreUpdates) {
+        return getScoreboard(competitionId).updateMatchScores(scoreUpdates);
+    }
+
+    /**
+     * Finishes a football match of the given competition.
+     *
+     * @param competitionId The ID of the competition.
+     * @param matchId       The ID of the match to finish.
+     * @throws MatchNotFoundException if the competition has no match with the provided ID.
+     * @throws CompetitionNotFoundException if the competition was not registered.
+     * @throws IllegalArgumentException if the competition ID or the match ID are invalid.
+     */
+    @Override
+    public void finishMatch(String competitionId, String matchId) {
+        getScoreboard(competitionId).finishMatch(matchId);
+    }
+
+    /**
+     * Retrieves the summary of the matches in progress in the given competition.
+     *
+     * @param competitionId The ID of the competition.
+     * @return The match summary of the competition.
+     */
+    @Override
+    public List<String> getMatchSummary(String competitionId) {
+        return getScoreboard(competitionId).getMatchSummary();
+    }
+
+    /**
+     * Retrieves the summary of the given competition together with the board version of its shard.
+     *
+     * @param competitionId The ID of the competition.
+     * @return The match summary of the competition and its board version.
+     */
+    @Override
+    public MatchSummary getVersionedMatchSummary(String competitionId) {
+        return getScoreboard(competitionId).getVersionedMatchSummary();
+    }
+
+    /**
+     * Returns the board version of the given competition's shard. Versions of different competitions are unrelated.
+     *
+     * @param competitionId The ID of the competition.
+     * @return The board version of the competition.
+     */
+    @Override
+    public long getBoardVersion(String competitionId) {
+        return getScoreboard(competitionId).getBoardVersion();
+    }
+
+    /**
+     * Retrieves the IDs of all competitions, including the {@link #DEFAULT_COMPETITION}.
+     *
+     * @return An immutable set of competition IDs.
+     */
+    @Override
+    public Set<String> getCompetitionIds() {
+        return Set.copyOf(shards.keySet());
+    }
+
+    /**
+     * Returns the shard of the given competition, to run any single-board operation on.
+     *
+     * @param competitionId The ID of the competition.
+     * @return The service of the competition's shard.
+     * @throws CompetitionNotFoundException if the competition was not registered.
+     * @throws IllegalArgumentException if the competition ID is invalid.
+     */
+    @Override
+    public MatchOperationService getScoreboard(String competitionId) {
+        isValidString(competitionId);
+        var scoreboard = shards.get(competitionId);
+        if (scoreboard == null) {
+            throw new CompetitionNotFoundException("No competition found with ID: " + competitionId);
+        }
+        return scoreboard;
+    }
+}
@@ -0,0 +1,106 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The Micrometer meters of one scoreboard.
+ *
+ * Every operation has a timer that publishes a percentile histogram, so that p99 latency can be aggregated across
+ * instances, and local p50/p95/p99 for quick inspection. Gauges report the live match count and the board version,
+ * read from the repository when the registry is scraped, and the hit ratio of the service's summary cache. A scoreboard
+ * whose summary is refreshed in the background also reports how far behind the board that summary is.
+ *
+ * The service times its operations with {@link System#nanoTime()} and {@link Timer#record(long, java.util.concurrent.TimeUnit)}
+ * rather than {@link Timer#record(java.util.function.Supplier)}, which would allocate a capturing lambda per operation.
+ */
+final class MatchOperationMetrics {
+
+    static final String OPERATION_TIMER = "scoreboard.operation";
+    static final String LIVE_MATCHES_GAUGE = "scoreboard.matches.live";
+    static final String BOARD_VERSION_GAUGE = "scoreboard.board.version";
+    static final String SUMMARY_CACHE_COUNTER = "scoreboard.summary.cache";
+    static final String SUMMARY_CACHE_HIT_RATIO_GAUGE = "scoreboard.summary.cache.hit.ratio";
+    static final String SUMMARY_PROJECTION_LAG_GAUGE = "scoreboard.summary.projection.lag";
+
+    final Timer startMatch;
+    final Timer updateMatchScore;
+    final Timer updateMatchScores;
+    final Timer recordGoal;
+    final Timer correctScore;
+    final Timer finishMatch;
+    final Timer getMatchSummary;
+    final Timer getMatchSummaryPage;
+    final Timer findMatches;
+    final Timer getEncodedMatchSummary;
+
+    private final Counter summaryCacheHits;
+    private final Counter summaryCacheMisses;
+
+    MatchOperationMetrics(MeterRegistry meterRegistry, Tags tags, MatchRepository matchRepository) {
+        startMatch = operationTimer(meterRegistry, tags, "startMatch");
+        updateMatchScore = operationTimer(meterRegistry, tags, "updateMatchScore");
+        updateMatchScores = operationTimer(meterRegistry, tags, "updateMatchScores");
+        recordGoal = operationTimer(meterRegistry, tags, "recordGoal");
+        correctScore = operationTimer(meterRegistry, tags, "correctScore");
+        finishMatch = operationTimer(meterRegistry, tags, "finishMatch");
+        getMatchSummary = operationTimer(meterRegistry, tags, "getMatchSummary");
+        getMatchSummaryPage = operationTimer(meterRegistry, tags, "getMatchSummaryPage");
+        findMatches = operationTimer(meterRegistry, tags, "findMatches");
+        getEncodedMatchSummary = operationTimer(meterRegistry, tags, "getEncodedMatchSummary");
+        summaryCacheHits = Counter.builder(SUMMARY_CACHE_COUNTER)
+                .description("Summary reads, by whether they were served from the cache")
+                .tags(tags).tag("result", "hit")
+                .register(meterRegistry);
+        summaryCacheMisses = Counter.builder(SUMMARY_CACHE_COUNTER)
+                .description("Summary reads, by whether they were served from the cache")
+                .tags(tags).tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(LIVE_MATCHES_GAUGE, matchRepository, MatchRepository::countLiveMatches)
+                .description("Matches currently in progress")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(BOARD_VERSION_GAUGE, matchRepository, MatchRepository::getBoardVersion)
+                .description("Version of the board, bumped by every change")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(SUMMARY_CACHE_HIT_RATIO_GAUGE, this, MatchOperationMetrics::summaryCacheHitRatio)
+                .description("Share of summary reads served from the cache")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    void summaryProjectionLag(MeterRegistry meterRegistry, Tags tags, MatchSummaryProjection summaryProjection) {
+        Gauge.builder(SUMMARY_PROJECTION_LAG_GAUGE, summaryProjection, MatchSummaryProjection::getLag)
+                .description("Board versions the summary refreshed in the background is behind the board")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    void summaryCacheHit() {
+        summaryCacheHits.increment();
+    }
+
+    void summaryCacheMiss() {
+        summaryCacheMisses.increment();
+    }
+
+    private double summaryCacheHitRatio() {
+        var hits = summaryCacheHits.count();
+        var reads = hits + summaryCacheMisses.count();
+        return reads == 0 ? 0 : hits / reads;
+    }
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, Tags tags, String operation) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Latency of scoreboard operations")
+                .tags(tags).tag("operation", operation)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,15 @@
 package com.football.scoreboard.live.scoreboard.service;
 
+import com.football.scoreboard.live.scoreboard.model.EncodedMatchSummary;
 import com.football.scoreboard.live.scoreboard.model.Match;
-
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.model.Side;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface MatchOperationService {
@@ -10,8 +18,34 @@ public interface MatchOperationService {
 
     void updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore);
 
+    ScoreUpdateResult updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence);
+
+    List<ScoreUpdateResult> updateMatchScores(Collection<ScoreUpdate> scoreUpdates);
+
+    ScoreChange recordGoal(String matchId, Side side);
+
+    ScoreChange correctScore(String matchId, int homeTeamDelta, int awayTeamDelta);
+
     void finishMatch(String matchId);
 
     List<String> getMatchSummary();
 
+    List<String> getMatchSummary(int offset, int limit);
+
+    List<String> getTopMatches(int n);
+
+    List<Match> findMatches(MatchQuery query);
+
+    MatchSummary getVersionedMatchSummary();
+
+    MatchSummary getVersionedMatchSummary(long minBoardVersion);
+
+    EncodedMatchSummary getEncodedMatchSummary();
+
+    long getBoardVersion();
+
+    void addScoreboardListener(ScoreboardListener listener);
+
+    void removeScoreboardListener(ScoreboardListener listener);
+
 }
@@ -1,59 +1,168 @@
 package com.football.scoreboard.live.scoreboard.service;
 
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.AuditOperation;
+import com.football.scoreboard.live.scoreboard.audit.AuditOutcome;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
 import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import com.football.scoreboard.live.scoreboard.id.MatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.model.EncodedMatchSummary;
 import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.model.Side;
 import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 import static com.football.scoreboard.live.scoreboard.util.ValidationUtil.*;
 
-@Service
 @Slf4j
-public class MatchOperationServiceImpl implements MatchOperationService {
+public class MatchOperationServiceImpl implements MatchOperationService, ScoreboardListener {
 
     private final MatchRepository matchRepository;
 
+    private final MatchIdGenerator matchIdGenerator;
+
+    private final MatchAuditTrail auditTrail;
+
+    private final MatchArchive matchArchive;
+
+    /**
+     * The last rendered summary together with the board version it was rendered for.
+     * Readers hand out the cached list as long as the board version has not moved on.
+     */
+    private volatile MatchSummary summarySnapshot = new MatchSummary(-1, List.of());
+
+    /**
+     * The last summary rendered as UTF-8 encoded JSON, cached the same way as {@link #summarySnapshot}.
+     */
+    private volatile EncodedMatchSummary encodedSummarySnapshot = new EncodedMatchSummary(-1, new byte[0]);
+
+    private final Utf8SummaryEncoder summaryEncoder = new Utf8SummaryEncoder();
+
+    private final List<ScoreboardListener> scoreboardListeners = new CopyOnWriteArrayList<>();
+
+    private final MatchOperationMetrics metrics;
+
+    /**
+     * The summary as refreshed in the background for readers, or {@code null} if readers render it themselves.
+     */
+    private final MatchSummaryProjection summaryProjection;
+
+    /**
+     * Creates a service whose metrics are kept in a registry of its own, whose matches are identified by the default
+     * {@link NodeSequenceMatchIdGenerator}, that neither audits its operations nor archives finished matches, and
+     * whose summary is rendered by its readers.
+     *
+     * @param matchRepository The repository holding the live matches.
+     */
     public MatchOperationServiceImpl(MatchRepository matchRepository) {
+        this(matchRepository, new SimpleMeterRegistry(), Tags.empty(), NodeSequenceMatchIdGenerator.DEFAULT,
+                MatchAuditTrail.DISABLED, MatchArchive.DISABLED, null);
+    }
+
+    /**
+     * Creates a service publishing its metrics to the given registry, with the given tags on every meter, whose
+     * summary is optionally refreshed in the background: readers then take the last refreshed summary without
+     * waiting, as long as it is no further behind the board than the given staleness bound.
+     *
+     * @param matchRepository  The repository holding the live matches.
+     * @param meterRegistry    The registry to publish operation timers and scoreboard gauges to.
+     * @param tags             The tags telling this scoreboard's meters apart from other scoreboards' in the same registry.
+     * @param matchIdGenerator The generator issuing the IDs and start sequences of new matches.
+     * @param auditTrail       The audit trail to record every change to the board to.
+     * @param matchArchive     The archive finished matches are moved to.
+     * @param maxStaleness     The staleness bound of the summary refreshed in the background, or {@code null} to have
+     *                         readers render the summary themselves.
+     * @throws IllegalArgumentException if the staleness bound is not positive.
+     */
+    public MatchOperationServiceImpl(MatchRepository matchRepository, MeterRegistry meterRegistry, Tags tags,
+                                     MatchIdGenerator matchIdGenerator, MatchAuditTrail auditTrail, MatchArchive matchArchive,
+                                     Duration maxStaleness) {
         this.matchRepository = matchRepository;
+        this.matchIdGenerator = matchIdGenerator;
+        this.auditTrail = auditTrail;
+        this.matchArchive = matchArchive;
+        this.metrics = new MatchOperationMetrics(meterRegistry, tags, matchRepository);
+        if (maxStaleness == null) {
+            this.summaryProjection = null;
+        } else {
+            this.summaryProjection = new MatchSummaryProjection(matchRepository, matches -> formatScoreBoard(matches, 0),
+                    maxStaleness, "summary-projection");
+            metrics.summaryProjectionLag(meterRegistry, tags, summaryProjection);
+            addScoreboardListener(summaryProjection);
+        }
+    }
+
+    /**
+     * Stops refreshing the summary in the background, if it is.
+     */
+    public void close() {
+        if (summaryProjection != null) {
+            summaryProjection.close();
+        }
     }
 
     /**
      * Starts a new football match between the specified home team and away team.
-     * This method validates the teams, checks if any of the teams are already playing in another match,
-     * creates a new match with initial scores of 0-0, saves it to the repository, and returns it.
+     * This method validates the teams, creates a new match with initial scores of 0-0, atomically reserves
+     * both teams for it in the repository (failing if any of the teams are already playing in another match),
+     * saves it to the repository, and returns it. If saving the match fails, both teams are released again.
      *
      * @param homeTeam The name of the home team.
      * @param awayTeam The name of the away team.
      * @return The newly created Match record.
-     * @throws IllegalStateException if either of the teams are already playing in another match.
+     * @throws MatchConflictException if either of the teams are already playing in another match.
      * @throws IllegalArgumentException if either of the teams are not valid.
      */
     @Override
     public Match startMatch(String homeTeam, String awayTeam) {
-        log.info("Starting match between {} and {}", homeTeam, awayTeam);
-        validateTeams(homeTeam, awayTeam);
-        var matchesInProgress = matchRepository.findAllMatches();
-        if (matchesInProgress.stream().anyMatch(match ->
-                isTeamPlaying(match, homeTeam) || isTeamPlaying(match, awayTeam))) {
-            throw new IllegalStateException("A match is already in progress involving one or both of the teams.");
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Starting match between {} and {}", homeTeam, awayTeam);
+            validateTeams(homeTeam, awayTeam);
+            var match = new Match(matchIdGenerator, homeTeam, awayTeam, 0, 0);
+            if (!matchRepository.reserveTeams(match.matchId(), homeTeam, awayTeam)) {
+                auditTrail.record(AuditOperation.MATCH_STARTED, AuditOutcome.REJECTED, match.matchId(), 0, 0, match.startSequence());
+                throw new MatchConflictException("A match is already in progress involving one or both of the teams.");
+            }
+            try {
+                match = matchRepository.saveMatch(match);
+            } catch (RuntimeException e) {
+                // Otherwise the teams stay reserved for a match that never started
+                matchRepository.releaseTeams(match.matchId(), homeTeam, awayTeam);
+                throw e;
+            }
+            log.debug("Match started successfully with ID: {}", match.matchId());
+            auditTrail.record(AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, match.matchId(), 0, 0, match.startSequence());
+            notifyScoreboardChanged();
+            return match;
+        } finally {
+            metrics.startMatch.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
-        var match = matchRepository.saveMatch(new Match(homeTeam, awayTeam, 0, 0));
-        log.info("Match started successfully with ID: {}", match.matchId());
-        return match;
     }
 
     /**
      * Updates the score of a football match with the provided match ID.
      * This method first validates the match ID and the scores to ensure they are valid.
-     * It then retrieves the match with the provided ID, updates its score with the new scores,
-     * saves the updated match to the repository, and logs the successful update.
+     * It then replaces the scores of the match in the repository in a single atomic step,
+     * so a concurrent update or finish of the same match can never be overwritten, and records the update in the audit trail.
      *
      * @param matchId        The ID of the match to update.
      * @param homeTeamScore  The new score of the home team.
@@ -63,20 +172,157 @@ public class MatchOperationServiceImpl implements MatchOperationService {
      */
     @Override
     public void updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore) {
-        log.info("Updating match score for match ID: {} with home team score: {} and away team score: {}", matchId, homeTeamScore, awayTeamScore);
-        isAbsoluteScore(homeTeamScore);
-        isAbsoluteScore(awayTeamScore);
-        isValidString(matchId);
-        var match = getMatchById(matchId);
-        match = matchRepository.saveMatch(match.withAwayTeamScore(awayTeamScore).withHomeTeamScore(homeTeamScore));
-        log.info("Match score updated successfully for match ID: {} ", match.matchId());
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Updating match score for match ID: {} with home team score: {} and away team score: {}", matchId, homeTeamScore, awayTeamScore);
+            isAbsoluteScore(homeTeamScore);
+            isAbsoluteScore(awayTeamScore);
+            isValidString(matchId);
+            var result = matchRepository.updateScore(matchId, homeTeamScore, awayTeamScore, Match.NO_FEED_SEQUENCE);
+            auditTrail.record(AuditOperation.SCORE_UPDATED, outcomeOf(result.status()), matchId,
+                    homeTeamScore, awayTeamScore, Match.NO_FEED_SEQUENCE);
+            if (!result.isUpdated()) {
+                throw new MatchNotFoundException("Match with ID " + matchId + " not found");
+            }
+            log.debug("Match score updated successfully for match ID: {} ", matchId);
+            notifyScoreboardChanged();
+        } finally {
+            metrics.updateMatchScore.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Updates the score of a football match from a sequenced feed message.
+     * Several redundant feeds may deliver the same score change, in any order and in parallel; the repository
+     * applies a message only if its feed sequence is greater than the one the match's scores were last set from,
+     * so the newest message wins and older ones are reported as stale instead of rolling the score back.
+     *
+     * @param matchId        The ID of the match to update.
+     * @param homeTeamScore  The new score of the home team.
+     * @param awayTeamScore  The new score of the away team.
+     * @param feedSequence   The sequence number of the feed message, increasing per match.
+     * @return The outcome of the update: applied, stale, or addressed to a match that is not in progress.
+     * @throws IllegalArgumentException if the provided scores, match ID or feed sequence are invalid.
+     */
+    @Override
+    public ScoreUpdateResult updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore, long feedSequence) {
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Updating match score for match ID: {} to {}-{} from feed sequence {}", matchId, homeTeamScore, awayTeamScore, feedSequence);
+            isAbsoluteScore(homeTeamScore);
+            isAbsoluteScore(awayTeamScore);
+            isValidString(matchId);
+            isValidFeedSequence(feedSequence);
+            var result = matchRepository.updateScore(matchId, homeTeamScore, awayTeamScore, feedSequence);
+            auditTrail.record(AuditOperation.SCORE_UPDATED, outcomeOf(result.status()), matchId,
+                    homeTeamScore, awayTeamScore, feedSequence);
+            log.debug("Feed score update for match ID: {} at sequence {} finished with status {}", matchId, feedSequence, result.status());
+            if (result.isUpdated()) {
+                notifyScoreboardChanged();
+            }
+            return result;
+        } finally {
+            metrics.updateMatchScore.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Updates the scores of several football matches in one pass.
+     * The whole batch is validated up front, so an invalid update rejects the batch before anything is applied.
+     * The valid batch is then handed to the repository in a single call, which applies the updates in order.
+     * Updates addressed to matches that are not in progress do not fail the batch; they are reported
+     * in the per-update results instead.
+     *
+     * @param scoreUpdates The score updates to apply, in order.
+     * @return One result per update, in the same order as the updates.
+     * @throws IllegalArgumentException if the batch is null or any update is null, has an invalid match ID or a negative score.
+     */
+    @Override
+    public List<ScoreUpdateResult> updateMatchScores(Collection<ScoreUpdate> scoreUpdates) {
+        var startNanos = System.nanoTime();
+        try {
+            if (scoreUpdates == null) {
+                throw new IllegalArgumentException("Score updates cannot be null");
+            }
+            log.debug("Updating match scores for a batch of {} updates", scoreUpdates.size());
+            for (var scoreUpdate : scoreUpdates) {
+                validateScoreUpdate(scoreUpdate);
+            }
+            var updates = List.copyOf(scoreUpdates);
+            var results = matchRepository.updateScores(updates);
+            for (int i = 0; i < updates.size(); i++) {
+                var update = updates.get(i);
+                auditTrail.record(AuditOperation.SCORE_UPDATED, outcomeOf(results.get(i).status()), update.matchId(),
+                        update.homeTeamScore(), update.awayTeamScore(), Match.NO_FEED_SEQUENCE);
+            }
+            var updated = results.stream().filter(ScoreUpdateResult::isUpdated).count();
+            log.debug("Match scores updated successfully for {} of {} updates", updated, results.size());
+            if (updated > 0) {
+                notifyScoreboardChanged();
+            }
+            return results;
+        } finally {
+            metrics.updateMatchScores.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records a goal for one side of a football match.
+     * The repository adds the goal to the current score in a single atomic step, so callers that report goals as
+     * they happen do not read the score first, and concurrent goals for the same match are never lost.
+     *
+     * @param matchId The ID of the match the goal was scored in.
+     * @param side    The side that scored.
+     * @return The scores after the goal and the board version it is visible at.
+     * @throws MatchNotFoundException if no match is found with the provided ID.
+     * @throws IllegalArgumentException if the provided match ID or side is invalid.
+     */
+    @Override
+    public ScoreChange recordGoal(String matchId, Side side) {
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Recording a {} goal for match ID: {}", side, matchId);
+            isValidString(matchId);
+            if (side == null) {
+                throw new IllegalArgumentException("Side cannot be null");
+            }
+            return addToScores(AuditOperation.GOAL_RECORDED, matchId, side == Side.HOME ? 1 : 0, side == Side.AWAY ? 1 : 0);
+        } finally {
+            metrics.recordGoal.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Corrects the scores of a football match by a number of goals, for example to take back a goal that was
+     * disallowed. Like {@link #recordGoal(String, Side)}, the correction is applied to the current score atomically.
+     *
+     * @param matchId       The ID of the match to correct.
+     * @param homeTeamDelta The number of goals to add to the home team's score, negative to take goals away.
+     * @param awayTeamDelta The number of goals to add to the away team's score, negative to take goals away.
+     * @return The scores after the correction and the board version it is visible at.
+     * @throws MatchNotFoundException if no match is found with the provided ID.
+     * @throws IllegalArgumentException if the provided match ID is invalid, the correction changes no score
+     *                                  or it would make a score negative.
+     */
+    @Override
+    public ScoreChange correctScore(String matchId, int homeTeamDelta, int awayTeamDelta) {
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Correcting match score for match ID: {} by {}:{}", matchId, homeTeamDelta, awayTeamDelta);
+            isValidString(matchId);
+            validateScoreCorrection(homeTeamDelta, awayTeamDelta);
+            return addToScores(AuditOperation.SCORE_CORRECTED, matchId, homeTeamDelta, awayTeamDelta);
+        } finally {
+            metrics.correctScore.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
      * Finishes a football match with the provided match ID.
      * This method first validates the match ID to ensure it is valid.
-     * It then retrieves the match with the provided ID, deletes it from the repository,
-     * and logs the successful completion of the match.
+     * It then deletes the match from the repository, moves its result as it was when it was deleted to the archive,
+     * and records the completion of the match in the audit trail. Of concurrent calls finishing the same match,
+     * only the one that deleted it succeeds; the others find no match.
      *
      * @param matchId The ID of the match to finish.
      * @throws MatchNotFoundException if no match is found with the provided ID.
@@ -84,11 +330,24 @@ public class MatchOperationServiceImpl implements MatchOperationService {
      */
     @Override
     public void finishMatch(String matchId) {
-        log.info("Finishing match {}", matchId);
-        isValidString(matchId);
-        var match = getMatchById(matchId);
-        matchRepository.deleteMatchById(match.matchId());
-        log.info("Match finished successfully for match ID: {}", match.matchId());
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Finishing match {}", matchId);
+            isValidString(matchId);
+            var finished = matchRepository.deleteMatchById(matchId);
+            if (finished == null) {
+                // Also when a concurrent call finished the match first, which is the only one to archive it
+                auditTrail.record(AuditOperation.MATCH_FINISHED, AuditOutcome.MATCH_NOT_FOUND, matchId, 0, 0, 0);
+                throw new MatchNotFoundException("Match with ID " + matchId + " not found");
+            }
+            matchArchive.archive(finished, LocalDateTime.now());
+            auditTrail.record(AuditOperation.MATCH_FINISHED, AuditOutcome.SUCCESS, finished.matchId(),
+                    finished.homeTeamScore(), finished.awayTeamScore(), finished.feedSequence());
+            log.debug("Match finished successfully for match ID: {}", finished.matchId());
+            notifyScoreboardChanged();
+        } finally {
+            metrics.finishMatch.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
@@ -101,71 +360,264 @@ public class MatchOperationServiceImpl implements MatchOperationService {
      *         The matches are ordered by total score in descending order,
      *         and in case of a tie, by start time in reverse chronological order.
      *         If no active matches are found, an empty list is returned.
+     *         The returned list is immutable and is shared between callers until the board changes.
      */
     @Override
     public List<String> getMatchSummary() {
-        log.info("Getting match summary");
-        var matches = matchRepository.findAllMatches();
+        return getVersionedMatchSummary().lines();
+    }
+
+    /**
+     * Retrieves one page of the match summary, with every line numbered by its position on the whole board.
+     * If the full summary is cached for the current board version, the page is a view of it. Otherwise only the
+     * requested slice of the ranked matches is fetched and formatted, rather than the whole board.
+     *
+     * @param offset The number of leading summary lines to skip.
+     * @param limit  The maximum number of summary lines to return.
+     * @return An immutable list of at most {@code limit} summary lines, starting at position {@code offset + 1}.
+     *         See {@link #getMatchSummary()} for the format of the summary lines.
+     * @throws IllegalArgumentException if the offset is negative or the limit is not positive.
+     */
+    @Override
+    public List<String> getMatchSummary(int offset, int limit) {
+        validatePage(offset, limit);
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Getting match summary page at offset {} with limit {}", offset, limit);
+            var snapshot = summarySnapshot;
+            var boardVersion = matchRepository.getBoardVersion();
+            var projection = summaryProjection == null ? null : summaryProjection.read(boardVersion, 0);
+            if (projection != null) {
+                snapshot = projection.summary();
+            }
+            if (projection != null || snapshot.boardVersion() == boardVersion) {
+                var lines = snapshot.lines();
+                var from = Math.min(offset, lines.size());
+                return lines.subList(from, (int) Math.min((long) from + limit, lines.size()));
+            }
+            return formatScoreBoard(matchRepository.findMatchesRanked(offset, limit), offset);
+        } finally {
+            metrics.getMatchSummaryPage.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Retrieves the summary lines of the {@code n} highest ranked matches.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} summary lines, starting at position 1.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    @Override
+    public List<String> getTopMatches(int n) {
+        return getMatchSummary(0, n);
+    }
+
+    /**
+     * Retrieves the live matches that satisfy a query, such as the match a team is playing in, the matches with at
+     * least a number of goals or the matches started in the last minutes. The repository answers the query from its
+     * secondary indexes, so widgets showing a few matches do not pay for the whole board.
+     *
+     * @param query The criteria the matches must satisfy.
+     * @return The matching matches, ordered like the scoreboard.
+     * @throws IllegalArgumentException if the query is null, names a blank team or has an invalid score range.
+     */
+    @Override
+    public List<Match> findMatches(MatchQuery query) {
+        var startNanos = System.nanoTime();
+        try {
+            validateMatchQuery(query);
+            log.debug("Finding matches for {}", query);
+            return matchRepository.findMatches(query);
+        } finally {
+            metrics.findMatches.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Retrieves the match summary together with the board version it was rendered for.
+     * See {@link #getMatchSummary()} for the format of the summary lines.
+     * If the summary is refreshed in the background, the last refreshed summary is returned as long as it is within
+     * the staleness bound, and may then miss the most recent changes.
+     *
+     * @return The match summary and its board version.
+     */
+    @Override
+    public MatchSummary getVersionedMatchSummary() {
+        return getVersionedMatchSummary(0);
+    }
+
+    /**
+     * Retrieves the match summary rendered for at least the given board version, so that a caller that read the
+     * board version after its own write is guaranteed to see that write. If the summary refreshed in the background
+     * is not that recent yet, the summary is rendered on the calling thread instead of waiting for it.
+     *
+     * @param minBoardVersion The lowest board version the summary may be rendered for.
+     * @return The match summary and its board version.
+     */
+    @Override
+    public MatchSummary getVersionedMatchSummary(long minBoardVersion) {
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Getting match summary for board version {} or later", minBoardVersion);
+            var boardVersion = matchRepository.getBoardVersion();
+            var projection = summaryProjection == null ? null : summaryProjection.read(boardVersion, minBoardVersion);
+            if (projection != null) {
+                metrics.summaryCacheHit();
+                return projection.summary();
+            }
+            var snapshot = summarySnapshot;
+            if (snapshot.boardVersion() == boardVersion) {
+                metrics.summaryCacheHit();
+                return snapshot;
+            }
+            metrics.summaryCacheMiss();
+            snapshot = new MatchSummary(boardVersion, renderMatchSummary());
+            summarySnapshot = snapshot;
+            return snapshot;
+        } finally {
+            metrics.getMatchSummary.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Retrieves the match summary rendered as the UTF-8 bytes of a JSON array of summary lines, ready to be
+     * written to a response without serializing or copying it. The lines are the same as those of
+     * {@link #getMatchSummary()}, but no string is built for them: the summary is encoded straight into one
+     * array, which is shared by every reader until the board changes.
+     *
+     * @return The encoded match summary and its board version.
+     */
+    @Override
+    public EncodedMatchSummary getEncodedMatchSummary() {
+        var startNanos = System.nanoTime();
+        try {
+            log.debug("Getting encoded match summary");
+            var boardVersion = matchRepository.getBoardVersion();
+            if (summaryProjection != null) {
+                summaryProjection.requestEncodedSummary();
+                var projection = summaryProjection.read(boardVersion, 0);
+                if (projection != null && projection.encodedSummary() != null) {
+                    metrics.summaryCacheHit();
+                    return projection.encodedSummary();
+                }
+            }
+            var snapshot = encodedSummarySnapshot;
+            if (snapshot.boardVersion() == boardVersion) {
+                metrics.summaryCacheHit();
+                return snapshot;
+            }
+            metrics.summaryCacheMiss();
+            snapshot = summaryEncoder.encode(boardVersion, matchRepository.findAllMatchesRanked());
+            encodedSummarySnapshot = snapshot;
+            return snapshot;
+        } finally {
+            metrics.getEncodedMatchSummary.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns the current board version, which changes whenever a match is started, updated or finished.
+     *
+     * @return The current board version.
+     */
+    @Override
+    public long getBoardVersion() {
+        return matchRepository.getBoardVersion();
+    }
+
+    /**
+     * Renders the match summary from the ranked matches currently in the repository.
+     * The board version must be read before calling this, so that a concurrent write can only make the
+     * rendered summary newer than the version it is cached under, never older.
+     *
+     * @return An immutable list of strings representing the match summary.
+     */
+    private List<String> renderMatchSummary() {
+        var matches = matchRepository.findAllMatchesRanked();
         // If matches are not empty, process them
         return switch (matches.size()) {
             case 0 -> {
-                log.info("No active matches found.");
+                log.debug("No active matches found.");
                 yield List.of();
             }
             default -> {
-                log.info("Formatting scoreboard for {} matches.", matches.size());
-                var orderedMatches = orderMatches(matches);
-                yield formatScoreBoard(orderedMatches);
+                log.debug("Formatting scoreboard for {} matches.", matches.size());
+                yield formatScoreBoard(matches, 0);
             }
         };
     }
 
-    private boolean isTeamPlaying(Match match, String team) {
-        return match.homeTeam().equalsIgnoreCase(team) || match.awayTeam().equalsIgnoreCase(team);
+    /**
+     * Registers a listener to be notified after every change to the scoreboard.
+     *
+     * @param listener The listener to register.
+     */
+    @Override
+    public void addScoreboardListener(ScoreboardListener listener) {
+        scoreboardListeners.add(listener);
     }
 
     /**
-     * Retrieves a match record from the repository based on the provided match ID.
-     * If a match with the given ID is found, it is returned.
-     * If no match is found, a {@link MatchNotFoundException} is thrown.
+     * Unregisters a previously registered scoreboard listener.
      *
-     * @param matchId The ID of the match to retrieve.
-     * @return The Match record with the provided match ID.
-     * @throws MatchNotFoundException if no match is found with the provided ID.
+     * @param listener The listener to unregister.
      */
-    private Match getMatchById(String matchId) {
-        return Optional.ofNullable(matchRepository.findMatchById(matchId))
-                .orElseThrow(() -> new MatchNotFoundException("Match with ID " + matchId + " not found"));
+    @Override
+    public void removeScoreboardListener(ScoreboardListener listener) {
+        scoreboardListeners.remove(listener);
     }
 
     /**
-     * Orders a list of matches based on total score and start time.
-     *
-     * @param matches The list of matches to be ordered.
-     * @return The ordered list of matches. The matches are sorted in descending order of total score.
-     *         In case of a tie in total score, matches are sorted in reverse chronological order based on start time.
+     * Notifies the registered listeners of changes made to the repository without going through this service,
+     * such as the leader's changes a replication follower applies.
      */
-    private List<Match> orderMatches(List<Match> matches) {
-        return matches.stream()
-                .sorted(Comparator.comparingInt(Match::getTotalScore).reversed()
-                        .thenComparing(Match::startTime, Comparator.reverseOrder()))
-                .collect(Collectors.toList());
+    @Override
+    public void scoreboardChanged() {
+        notifyScoreboardChanged();
+    }
+
+    private ScoreChange addToScores(AuditOperation operation, String matchId, int homeTeamDelta, int awayTeamDelta) {
+        var change = matchRepository.addToScores(matchId, homeTeamDelta, awayTeamDelta);
+        if (change == null) {
+            auditTrail.record(operation, AuditOutcome.MATCH_NOT_FOUND, matchId, 0, 0, 0);
+            throw new MatchNotFoundException("Match with ID " + matchId + " not found");
+        }
+        auditTrail.record(operation, AuditOutcome.SUCCESS, matchId, change.homeTeamScore(), change.awayTeamScore(), change.boardVersion());
+        log.debug("Match score of match ID: {} is now {}-{}", matchId, change.homeTeamScore(), change.awayTeamScore());
+        notifyScoreboardChanged();
+        return change;
+    }
+
+    private void notifyScoreboardChanged() {
+        for (var listener : scoreboardListeners) {
+            listener.scoreboardChanged();
+        }
+    }
+
+    private static AuditOutcome outcomeOf(ScoreUpdateResult.Status status) {
+        return switch (status) {
+            case UPDATED -> AuditOutcome.SUCCESS;
+            case STALE -> AuditOutcome.STALE;
+            case MATCH_NOT_FOUND -> AuditOutcome.MATCH_NOT_FOUND;
+        };
     }
 
     /**
      * Formats a list of matches into a scoreboard summary.
      *
-     * @param matches The list of matches to be formatted.
+     * @param matches The list of matches to be formatted, already in scoreboard order.
+     * @param offset  The position on the board of the first match, counted from 0.
      * @return A list of strings representing the formatted scoreboard.
      *         Each string contains the match details in the format:
      *         "{match_position}. {home_team} {home_team_score} - {away_team} {away_team_score}"
      */
-    private List<String> formatScoreBoard(List<Match> matches) {
+    private List<String> formatScoreBoard(List<Match> matches, int offset) {
         return IntStream.range(0, matches.size())
                 .mapToObj(i -> {
                     Match match = matches.get(i);
-                    return (i + 1) + ". " + match.homeTeam() + " " + match.homeTeamScore() +
+                    return (offset + i + 1) + ". " + match.homeTeam() + " " + match.homeTeamScore() +
                             " - " + match.awayTeam() + " " + match.awayTeamScore();
-                }).collect(Collectors.toList());
+                }).toList();
     }
 }
@@ -0,0 +1,162 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.football.scoreboard.live.scoreboard.model.EncodedMatchSummary;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * The read model of a scoreboard: the ranked and rendered match summary, kept apart from the live matches writers
+ * change, so that readers take it with a single volatile read and never render the summary themselves.
+ *
+ * The projection listens to the scoreboard's changes and refreshes the summary on a thread of its own. Writers only
+ * flag that the board changed; changes made while a summary is rendered are picked up together by the next render,
+ * so however many writes a burst contains, the projection is at most one render behind. The thread also compares
+ * board versions every half staleness bound, which picks up changes that reach the repository without going through
+ * the service, such as replicated ones.
+ *
+ * A projected summary is only handed out while it is within the staleness bound: either nothing changed since the
+ * board version it was rendered for, or it was rendered less than the bound ago. Callers that must see their own
+ * writes ask for a minimum board version as well. Otherwise {@link #read(long, long)} returns {@code null} and the
+ * caller renders the summary itself.
+ */
+@Slf4j
+final class MatchSummaryProjection implements ScoreboardListener {
+
+    /**
+     * A rendered summary together with the time it was rendered.
+     *
+     * @param summary         the summary lines and the board version they were rendered for.
+     * @param encodedSummary  the same summary encoded as UTF-8 JSON, or {@code null} if it was not asked for yet.
+     * @param renderedAtNanos the {@link System#nanoTime()} before the board version was read.
+     */
+    record Projection(MatchSummary summary, EncodedMatchSummary encodedSummary, long renderedAtNanos) {
+    }
+
+    private final MatchRepository matchRepository;
+    private final Function<List<Match>, List<String>> formatter;
+    private final Utf8SummaryEncoder summaryEncoder = new Utf8SummaryEncoder();
+    private final long maxStalenessNanos;
+    private final AtomicBoolean changed = new AtomicBoolean(true);
+    private final Thread thread;
+
+    private volatile Projection projection;
+    private volatile boolean encodedSummaryRequested;
+    private volatile boolean closed;
+
+    /**
+     * Creates the projection and starts refreshing it.
+     *
+     * @param matchRepository The repository to project the live matches of.
+     * @param formatter       Renders the summary lines of matches in scoreboard order.
+     * @param maxStaleness    How far behind the board a projected summary may be handed out.
+     * @param threadName      The name of the refreshing thread.
+     * @throws IllegalArgumentException if the staleness bound is not positive.
+     */
+    MatchSummaryProjection(MatchRepository matchRepository, Function<List<Match>, List<String>> formatter,
+                           Duration maxStaleness, String threadName) {
+        if (maxStaleness.isNegative() || maxStaleness.isZero()) {
+            throw new IllegalArgumentException("Summary staleness bound must be positive");
+        }
+        this.matchRepository = matchRepository;
+        this.formatter = formatter;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.projection = new Projection(new MatchSummary(-1, List.of()), null, System.nanoTime() - maxStalenessNanos - 1);
+        this.thread = new Thread(this::refreshContinuously, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Flags that the board changed and wakes the refreshing thread if it is idle.
+     */
+    @Override
+    public void scoreboardChanged() {
+        // Only the first writer after a render pays for the write and the wake-up
+        if (!changed.get() && !changed.getAndSet(true)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Retrieves the projected summary if it is within the staleness bound and reflects the given board version.
+     * Never waits.
+     *
+     * @param boardVersion    The current board version.
+     * @param minBoardVersion The lowest board version the summary may be rendered for, for example the version
+     *                        a caller read after its own write, or 0.
+     * @return The projection, or {@code null} if it is too far behind.
+     */
+    Projection read(long boardVersion, long minBoardVersion) {
+        var current = projection;
+        var projectedVersion = current.summary().boardVersion();
+        if (projectedVersion < minBoardVersion) {
+            return null;
+        }
+        if (projectedVersion == boardVersion || System.nanoTime() - current.renderedAtNanos() <= maxStalenessNanos) {
+            return current;
+        }
+        return null;
+    }
+
+    /**
+     * Has every later refresh encode the summary as UTF-8 JSON as well. The summary is only encoded once someone
+     * asks for it, so that scoreboards serving plain summaries do not pay for it.
+     */
+    void requestEncodedSummary() {
+        if (!encodedSummaryRequested) {
+            encodedSummaryRequested = true;
+            scoreboardChanged();
+        }
+    }
+
+    /**
+     * Returns how many board versions the projection is behind the repository.
+     *
+     * @return The projection lag, in board versions.
+     */
+    long getLag() {
+        return Math.max(0, matchRepository.getBoardVersion() - projection.summary().boardVersion());
+    }
+
+    /**
+     * Stops refreshing the projection.
+     */
+    void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+    }
+
+    private void refreshContinuously() {
+        var checkIntervalNanos = Math.max(1, maxStalenessNanos / 2);
+        while (!closed) {
+            if (changed.getAndSet(false) || projection.summary().boardVersion() != matchRepository.getBoardVersion()) {
+                refresh();
+            } else {
+                LockSupport.parkNanos(this, checkIntervalNanos);
+            }
+        }
+    }
+
+    private void refresh() {
+        try {
+            var renderedAt = System.nanoTime();
+            // The board version is read first, so that the summary is never older than the version it is kept under
+            var boardVersion = matchRepository.getBoardVersion();
+            var matches = matchRepository.findAllMatchesRanked();
+            var encodedSummary = encodedSummaryRequested ? summaryEncoder.encode(boardVersion, matches) : null;
+            projection = new Projection(new MatchSummary(boardVersion, formatter.apply(matches)), encodedSummary, renderedAt);
+        } catch (RuntimeException e) {
+            // Readers fall back to rendering the summary themselves once the projection is too far behind
+            log.error("Could not refresh the match summary projection", e);
+            LockSupport.parkNanos(this, maxStalenessNanos);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+/**
+ * Gets notified when a match is started, finished or has its score updated.
+ * Listeners are called on the thread that made the change, so they should only record that the board
+ * changed and do any real work elsewhere.
+ */
+@FunctionalInterface
+public interface ScoreboardListener {
+
+    void scoreboardChanged();
+}
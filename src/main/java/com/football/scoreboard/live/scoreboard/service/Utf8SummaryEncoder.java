@@ -0,0 +1,143 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.football.scoreboard.live.scoreboard.model.EncodedMatchSummary;
+import com.football.scoreboard.live.scoreboard.model.Match;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders the match summary straight into UTF-8 encoded JSON, without building a string per line.
+ *
+ * Team names are encoded, and escaped for JSON, once and then cached as bytes. Rendering first measures the exact
+ * size of the summary and then writes it into a single array of that size, with positions and scores written
+ * digit by digit, so a render allocates nothing but the array itself. The array is not pooled: the service shares
+ * it with every reader until the board changes, so it can never be handed back for reuse.
+ */
+final class Utf8SummaryEncoder {
+
+    /**
+     * The number of encoded team names kept before the cache is emptied, so names of teams that stopped playing
+     * do not accumulate forever.
+     */
+    private static final int MAX_CACHED_TEAM_NAMES = 65_536;
+
+    private static final byte[] LINE_SEPARATOR = ". ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SCORE_SEPARATOR = " - ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<String, byte[]> encodedTeamNames = new ConcurrentHashMap<>();
+
+    /**
+     * Renders the summary of the given matches, in the format of {@link MatchOperationService#getMatchSummary()}.
+     *
+     * @param boardVersion The board version the matches were read for.
+     * @param matches      The matches, already in scoreboard order.
+     * @return The encoded summary.
+     */
+    EncodedMatchSummary encode(long boardVersion, List<Match> matches) {
+        var length = 2 + Math.max(0, matches.size() - 1);
+        for (int i = 0; i < matches.size(); i++) {
+            var match = matches.get(i);
+            length += 2 + digits(i + 1) + LINE_SEPARATOR.length
+                    + encodedTeamName(match.homeTeam()).length + 1 + digits(match.homeTeamScore())
+                    + SCORE_SEPARATOR.length
+                    + encodedTeamName(match.awayTeam()).length + 1 + digits(match.awayTeamScore());
+        }
+        var json = new byte[length];
+        var position = 0;
+        json[position++] = '[';
+        for (int i = 0; i < matches.size(); i++) {
+            var match = matches.get(i);
+            if (i > 0) {
+                json[position++] = ',';
+            }
+            json[position++] = '"';
+            position = writeDigits(json, position, i + 1);
+            position = write(json, position, LINE_SEPARATOR);
+            position = write(json, position, encodedTeamName(match.homeTeam()));
+            json[position++] = ' ';
+            position = writeDigits(json, position, match.homeTeamScore());
+            position = write(json, position, SCORE_SEPARATOR);
+            position = write(json, position, encodedTeamName(match.awayTeam()));
+            json[position++] = ' ';
+            position = writeDigits(json, position, match.awayTeamScore());
+            json[position++] = '"';
+        }
+        json[position] = ']';
+        return new EncodedMatchSummary(boardVersion, json);
+    }
+
+    private byte[] encodedTeamName(String teamName) {
+        var encoded = encodedTeamNames.get(teamName);
+        if (encoded == null) {
+            if (encodedTeamNames.size() >= MAX_CACHED_TEAM_NAMES) {
+                encodedTeamNames.clear();
+            }
+            encoded = encodedTeamNames.computeIfAbsent(teamName, Utf8SummaryEncoder::encodeJsonString);
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes a string as the UTF-8 bytes of the contents of a JSON string literal, escaping quotes, backslashes
+     * and control characters the same way the web layer's JSON serializer does.
+     */
+    static byte[] encodeJsonString(String value) {
+        var escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\b' -> escaped.append("\\b");
+                case '\f' -> escaped.append("\\f");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append("\\u00").append((char) HEX_DIGITS[c >> 4]).append((char) HEX_DIGITS[c & 0xF]);
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of decimal digits of a non-negative number.
+     */
+    static int digits(int value) {
+        var digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Writes a non-negative number as ASCII digits, most significant first.
+     *
+     * @return The position after the last digit.
+     */
+    static int writeDigits(byte[] buffer, int position, int value) {
+        var end = position + digits(value);
+        var index = end;
+        do {
+            buffer[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        return end;
+    }
+
+    private static int write(byte[] buffer, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        return position + bytes.length;
+    }
+}
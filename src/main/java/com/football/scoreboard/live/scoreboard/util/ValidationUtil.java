@@ -1,5 +1,7 @@
 package com.football.scoreboard.live.scoreboard.util;
 
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -55,4 +57,87 @@ public class ValidationUtil {
         return true;
     }
 
+    /**
+     * Validates if a given feed sequence number is positive.
+     *
+     * @param feedSequence The feed sequence to be validated.
+     *
+     * @throws IllegalArgumentException If the feed sequence is zero or negative.
+     */
+    public static void isValidFeedSequence(long feedSequence) {
+        if (feedSequence <= 0) {
+            throw new IllegalArgumentException("Feed sequence must be positive");
+        }
+    }
+
+    /**
+     * Validates a score update: it must be present, address a valid match ID and carry non-negative scores.
+     *
+     * @param scoreUpdate The score update to be validated.
+     *
+     * @throws IllegalArgumentException If the score update is null, has an invalid match ID or a negative score.
+     */
+    public static void validateScoreUpdate(ScoreUpdate scoreUpdate) {
+        if (scoreUpdate == null) {
+            throw new IllegalArgumentException("Score update cannot be null");
+        }
+        isAbsoluteScore(scoreUpdate.homeTeamScore());
+        isAbsoluteScore(scoreUpdate.awayTeamScore());
+        isValidString(scoreUpdate.matchId());
+    }
+
+    /**
+     * Validates a score correction: it must change at least one of the scores.
+     *
+     * @param homeTeamDelta The number of goals added to the home team's score, negative for goals taken away.
+     * @param awayTeamDelta The number of goals added to the away team's score, negative for goals taken away.
+     *
+     * @throws IllegalArgumentException If neither score is changed.
+     */
+    public static void validateScoreCorrection(int homeTeamDelta, int awayTeamDelta) {
+        if (homeTeamDelta == 0 && awayTeamDelta == 0) {
+            throw new IllegalArgumentException("Score correction must change at least one score");
+        }
+    }
+
+    /**
+     * Validates a query over the live matches: it must be present, name a valid team if it names one, and bound the
+     * total score with a non-negative range.
+     *
+     * @param query The query to be validated.
+     *
+     * @throws IllegalArgumentException If the query is null, its team name is blank, or its score range is negative or empty.
+     */
+    public static void validateMatchQuery(MatchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Match query cannot be null");
+        }
+        if (query.team() != null) {
+            isValidString(query.team());
+        }
+        if (query.minTotalScore() < 0) {
+            throw new IllegalArgumentException("Score cannot be negative");
+        }
+        if (query.minTotalScore() > query.maxTotalScore()) {
+            throw new IllegalArgumentException("Minimum total score cannot be greater than the maximum total score");
+        }
+    }
+
+    /**
+     * Validates a page of the match summary: the offset must not be negative and the limit must be positive.
+     *
+     * @param offset The number of leading summary lines to skip.
+     * @param limit  The maximum number of summary lines to return.
+     *
+     * @throws IllegalArgumentException If the offset is negative or the limit is zero or negative.
+     */
+    public static void validatePage(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+
 }
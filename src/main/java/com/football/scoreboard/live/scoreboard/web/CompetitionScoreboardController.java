@@ -0,0 +1,138 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * REST API over the {@link CompetitionMatchOperationService}, with the same endpoints as {@link ScoreboardController}
+ * under {@code /competitions/{competitionId}/scoreboard}. Every request is handed to a {@link ScoreboardController}
+ * over the competition's own shard, so both APIs behave alike, and summary ETags carry the board version of that
+ * shard: a write to one competition never invalidates the cached summaries of another.
+ */
+@RestController
+@RequestMapping("/competitions")
+public class CompetitionScoreboardController {
+
+    private final CompetitionMatchOperationService competitionMatchOperationService;
+    private final boolean preEncodedSummary;
+
+    /**
+     * One controller per registered competition; unknown competitions are rejected before one is created.
+     */
+    private final Map<String, ScoreboardController> scoreboardControllers = new ConcurrentHashMap<>();
+
+    public CompetitionScoreboardController(CompetitionMatchOperationService competitionMatchOperationService,
+                                           @Value("${scoreboard.summary.pre-encoded:false}") boolean preEncodedSummary) {
+        this.competitionMatchOperationService = competitionMatchOperationService;
+        this.preEncodedSummary = preEncodedSummary;
+    }
+
+    @GetMapping
+    public Set<String> getCompetitionIds() {
+        return competitionMatchOperationService.getCompetitionIds();
+    }
+
+    @PostMapping("/{competitionId}/scoreboard/matches")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Match startMatch(@PathVariable String competitionId, @RequestBody StartMatchRequest request,
+                            HttpServletResponse response) {
+        return scoreboardController(competitionId).startMatch(request, response);
+    }
+
+    @GetMapping("/{competitionId}/scoreboard/matches")
+    public List<Match> findMatches(@PathVariable String competitionId,
+                                   @RequestParam(required = false) String team,
+                                   @RequestParam(defaultValue = "0") int minTotalScore,
+                                   @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int maxTotalScore,
+                                   @RequestParam(required = false) Duration startedWithin) {
+        return scoreboardController(competitionId).findMatches(team, minTotalScore, maxTotalScore, startedWithin);
+    }
+
+    @PutMapping("/{competitionId}/scoreboard/matches/{matchId}/score")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateMatchScore(@PathVariable String competitionId, @PathVariable String matchId,
+                                 @RequestBody UpdateScoreRequest request, HttpServletResponse response) {
+        scoreboardController(competitionId).updateMatchScore(matchId, request, response);
+    }
+
+    @PutMapping(value = "/{competitionId}/scoreboard/matches/{matchId}/score", params = "feedSequence")
+    public ScoreUpdateResult updateMatchScore(@PathVariable String competitionId, @PathVariable String matchId,
+                                              @RequestParam long feedSequence, @RequestBody UpdateScoreRequest request,
+                                              HttpServletResponse response) {
+        return scoreboardController(competitionId).updateMatchScore(matchId, feedSequence, request, response);
+    }
+
+    @PostMapping("/{competitionId}/scoreboard/matches/{matchId}/goals")
+    public ScoreChange recordGoal(@PathVariable String competitionId, @PathVariable String matchId,
+                                  @RequestBody RecordGoalRequest request, HttpServletResponse response) {
+        return scoreboardController(competitionId).recordGoal(matchId, request, response);
+    }
+
+    @PostMapping("/{competitionId}/scoreboard/matches/{matchId}/score-corrections")
+    public ScoreChange correctScore(@PathVariable String competitionId, @PathVariable String matchId,
+                                    @RequestBody CorrectScoreRequest request, HttpServletResponse response) {
+        return scoreboardController(competitionId).correctScore(matchId, request, response);
+    }
+
+    @PostMapping("/{competitionId}/scoreboard/scores")
+    public List<ScoreUpdateResult> updateMatchScores(@PathVariable String competitionId,
+                                                     @RequestBody List<ScoreUpdate> scoreUpdates,
+                                                     HttpServletResponse response) {
+        return scoreboardController(competitionId).updateMatchScores(scoreUpdates, response);
+    }
+
+    @DeleteMapping("/{competitionId}/scoreboard/matches/{matchId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void finishMatch(@PathVariable String competitionId, @PathVariable String matchId, HttpServletResponse response) {
+        scoreboardController(competitionId).finishMatch(matchId, response);
+    }
+
+    @GetMapping("/{competitionId}/scoreboard/summary")
+    public ResponseEntity<?> getMatchSummary(@PathVariable String competitionId,
+                                             @RequestParam(defaultValue = "0") long minBoardVersion,
+                                             WebRequest webRequest) {
+        return scoreboardController(competitionId).getMatchSummary(minBoardVersion, webRequest);
+    }
+
+    @GetMapping(value = "/{competitionId}/scoreboard/summary", params = "limit")
+    public ResponseEntity<List<String>> getMatchSummary(@PathVariable String competitionId,
+                                                        @RequestParam(defaultValue = "0") int offset,
+                                                        @RequestParam int limit, WebRequest webRequest) {
+        return scoreboardController(competitionId).getMatchSummary(offset, limit, webRequest);
+    }
+
+    private ScoreboardController scoreboardController(String competitionId) {
+        var scoreboardController = scoreboardControllers.get(competitionId);
+        if (scoreboardController != null) {
+            return scoreboardController;
+        }
+        // Throws for a competition that was not registered, so only registered ones ever get a controller
+        var scoreboard = competitionMatchOperationService.getScoreboard(competitionId);
+        return scoreboardControllers.computeIfAbsent(competitionId,
+                id -> new ScoreboardController(scoreboard, preEncodedSummary));
+    }
+}
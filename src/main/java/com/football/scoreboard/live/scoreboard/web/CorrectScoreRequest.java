@@ -0,0 +1,10 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+/**
+ * Request body for correcting the score of a match by a number of goals.
+ *
+ * @param homeTeamDelta the number of goals to add to the home team's score, negative to take goals away.
+ * @param awayTeamDelta the number of goals to add to the away team's score, negative to take goals away.
+ */
+public record CorrectScoreRequest(int homeTeamDelta, int awayTeamDelta) {
+}
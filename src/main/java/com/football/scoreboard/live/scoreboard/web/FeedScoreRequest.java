@@ -0,0 +1,12 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+/**
+ * A score update published to the ingestion pipeline by a feed.
+ *
+ * @param matchId       the ID of the match to update.
+ * @param homeTeamScore the new score of the home team.
+ * @param awayTeamScore the new score of the away team.
+ * @param feedSequence  the sequence number of the feed message, or {@code null} if the feed is not sequenced.
+ */
+public record FeedScoreRequest(String matchId, int homeTeamScore, int awayTeamScore, Long feedSequence) {
+}
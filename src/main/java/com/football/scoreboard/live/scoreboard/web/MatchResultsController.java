@@ -0,0 +1,43 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.model.MatchResult;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST API over the {@link MatchArchive}, answering from archived results only, never from the live board.
+ * Days are ISO dates and are the days the matches started on.
+ */
+@RestController
+@RequestMapping("/scoreboard/results")
+public class MatchResultsController {
+
+    private final MatchArchive matchArchive;
+
+    public MatchResultsController(MatchArchive matchArchive) {
+        this.matchArchive = matchArchive;
+    }
+
+    @GetMapping(params = "team")
+    public List<MatchResult> getResultsByTeam(@RequestParam String team) {
+        return matchArchive.findResultsByTeam(team);
+    }
+
+    @GetMapping(params = "date")
+    public List<MatchResult> getResultsOn(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return matchArchive.findResultsOn(date);
+    }
+
+    @GetMapping(params = {"from", "to"})
+    public List<MatchResult> getResultsBetween(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return matchArchive.findResultsBetween(from, to);
+    }
+}
@@ -0,0 +1,11 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.model.Side;
+
+/**
+ * Request body for recording a goal.
+ *
+ * @param side the side that scored.
+ */
+public record RecordGoalRequest(Side side) {
+}
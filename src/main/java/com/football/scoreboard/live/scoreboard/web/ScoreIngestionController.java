@@ -0,0 +1,55 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.ingest.ScoreIngestionPipeline;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accepts feed updates into the {@link ScoreIngestionPipeline} instead of applying them while the feed waits.
+ *
+ * Updates are published in order. If the pipeline rejects one, the rest are not published and the response is
+ * {@code 503 Service Unavailable} with the number of updates that were accepted, so the feed can resend from there.
+ */
+@RestController
+@RequestMapping("/scoreboard")
+@ConditionalOnProperty(name = "scoreboard.ingest.enabled", havingValue = "true")
+public class ScoreIngestionController {
+
+    private final ScoreIngestionPipeline scoreIngestionPipeline;
+
+    public ScoreIngestionController(ScoreIngestionPipeline scoreIngestionPipeline) {
+        this.scoreIngestionPipeline = scoreIngestionPipeline;
+    }
+
+    @PostMapping("/feed")
+    public ResponseEntity<Map<String, Integer>> publishScores(@RequestBody List<FeedScoreRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Score updates cannot be null");
+        }
+        int accepted = 0;
+        for (var request : requests) {
+            if (!publish(request)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("accepted", accepted));
+            }
+            accepted++;
+        }
+        return ResponseEntity.accepted().body(Map.of("accepted", accepted));
+    }
+
+    private boolean publish(FeedScoreRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Score update cannot be null");
+        }
+        return request.feedSequence() == null
+                ? scoreIngestionPipeline.publish(request.matchId(), request.homeTeamScore(), request.awayTeamScore())
+                : scoreIngestionPipeline.publish(request.matchId(), request.homeTeamScore(), request.awayTeamScore(), request.feedSequence());
+    }
+}
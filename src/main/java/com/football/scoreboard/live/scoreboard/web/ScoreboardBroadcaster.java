@@ -0,0 +1,316 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.ScoreboardListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes the match summary to every subscriber whenever the scoreboard changes.
+ *
+ * Changes are coalesced at two levels. A burst of changes schedules a single render of the summary, and each
+ * subscriber buffers at most one pending summary: if a new summary is ready before the previous one was sent,
+ * it replaces it. A slow consumer therefore only ever receives the latest board and never holds more than one
+ * summary in memory, and it only ties up one sender thread while it is being written to. Summaries carry their board
+ * version, and a subscriber only takes one that is newer than the last it was offered, so a render that finishes
+ * after a newer one never replaces it. A broadcast asks for the summary of at least the board version it was notified
+ * of, so a summary refreshed in the background that has not caught up with the change yet is never pushed for it.
+ *
+ * Sends block until the connection takes the summary, so a consumer that stops reading would hold its sender thread,
+ * and as many of them as there are sender threads would stall delivery to everyone. A watchdog therefore drops every
+ * subscriber whose send takes longer than {@code scoreboard.stream.send-timeout} and lends the sender pool an extra
+ * thread for as long as the stuck send holds its own, so the others keep receiving summaries. A subscriber whose send
+ * fails or times out has its sink closed with the cause, which ends its connection.
+ */
+@Component
+@Slf4j
+public class ScoreboardBroadcaster implements ScoreboardListener {
+
+    /**
+     * Where a subscriber's summaries are written to, for example a server-sent events connection.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        void send(List<String> summary) throws IOException;
+
+        /**
+         * Ends the sink after a failed or timed out send. Called on the thread of that send, once it has returned.
+         *
+         * @param cause Why the subscriber was dropped.
+         */
+        default void close(Exception cause) {
+        }
+    }
+
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MAX_VALUE;
+
+    private final MatchOperationService matchOperationService;
+    private final Executor executor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean renderScheduled = new AtomicBoolean();
+
+    /**
+     * The highest board version a change was notified for, which the next broadcast renders at least.
+     */
+    private final AtomicLong notifiedBoardVersion = new AtomicLong();
+    private final long sendTimeoutNanos;
+    private final ScheduledExecutorService watchdog;
+
+    @Autowired
+    public ScoreboardBroadcaster(MatchOperationService matchOperationService,
+                                 @Value("${scoreboard.stream.sender-threads:4}") int senderThreads,
+                                 @Value("${scoreboard.stream.send-timeout:PT5S}") Duration sendTimeout) {
+        this(matchOperationService, Executors.newFixedThreadPool(senderThreads, new SenderThreadFactory("scoreboard-sender-")),
+                sendTimeout, Executors.newSingleThreadScheduledExecutor(new SenderThreadFactory("scoreboard-send-watchdog-")));
+    }
+
+    ScoreboardBroadcaster(MatchOperationService matchOperationService, Executor executor, Duration sendTimeout,
+                          ScheduledExecutorService watchdog) {
+        if (sendTimeout.isNegative() || sendTimeout.isZero()) {
+            throw new IllegalArgumentException("Send timeout must be positive");
+        }
+        this.matchOperationService = matchOperationService;
+        this.executor = executor;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.watchdog = watchdog;
+    }
+
+    @PostConstruct
+    public void start() {
+        matchOperationService.addScoreboardListener(this);
+        if (watchdog != null) {
+            var checkIntervalNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), sendTimeoutNanos / 2);
+            watchdog.scheduleWithFixedDelay(() -> evictStalledSubscribers(System.nanoTime()),
+                    checkIntervalNanos, checkIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        matchOperationService.removeScoreboardListener(this);
+        subscribers.clear();
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Subscribes a sink to scoreboard changes. The current summary is pushed to it straight away.
+     *
+     * @param sink The sink to push summaries to.
+     * @return A handle to cancel the subscription with.
+     */
+    public Runnable subscribe(Sink sink) {
+        var subscriber = new Subscriber(sink);
+        subscribers.add(subscriber);
+        subscriber.offer(matchOperationService.getVersionedMatchSummary(matchOperationService.getBoardVersion()));
+        log.debug("Scoreboard subscriber added, {} subscribers", subscribers.size());
+        return () -> unsubscribe(subscriber);
+    }
+
+    /**
+     * Returns the number of active subscribers.
+     *
+     * @return The number of active subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void scoreboardChanged() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        notifiedBoardVersion.accumulateAndGet(matchOperationService.getBoardVersion(), Math::max);
+        if (renderScheduled.compareAndSet(false, true)) {
+            executor.execute(this::broadcast);
+        }
+    }
+
+    private void broadcast() {
+        // Cleared before rendering, so that a change made while rendering schedules another broadcast
+        renderScheduled.set(false);
+        var summary = matchOperationService.getVersionedMatchSummary(notifiedBoardVersion.get());
+        for (var subscriber : subscribers) {
+            subscriber.offer(summary);
+        }
+    }
+
+    /**
+     * Drops every subscriber whose send has been blocked for longer than the send timeout, and lends the sender pool
+     * a thread for each, which it gives back once the stuck send returns.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}.
+     */
+    void evictStalledSubscribers(long nowNanos) {
+        for (var subscriber : subscribers) {
+            subscriber.evictIfStalled(nowNanos);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Scoreboard subscriber removed, {} subscribers", subscribers.size());
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Sink sink;
+        /**
+         * The newest summary offered to the subscriber, which stays here once it is sent.
+         */
+        private final AtomicReference<MatchSummary> latest = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        /**
+         * The board version of the last summary sent. Only written by the thread draining the subscriber.
+         */
+        private volatile long sentVersion = Long.MIN_VALUE;
+
+        /**
+         * When the send in progress started, {@link #IDLE} between sends, or {@link #STALLED} once the watchdog
+         * dropped the subscriber. The watchdog and the sending thread settle a late send with a compare-and-set.
+         */
+        private final AtomicLong sendStartedNanos = new AtomicLong(IDLE);
+
+        private Subscriber(Sink sink) {
+            this.sink = sink;
+        }
+
+        void offer(MatchSummary summary) {
+            MatchSummary current;
+            do {
+                current = latest.get();
+                if (current != null && current.boardVersion() >= summary.boardVersion()) {
+                    // A newer summary was offered already, possibly by a broadcast that started later
+                    return;
+                }
+            } while (!latest.compareAndSet(current, summary));
+            if (sending.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private boolean hasUnsentSummary() {
+            var summary = latest.get();
+            return summary != null && summary.boardVersion() > sentVersion;
+        }
+
+        private void drain() {
+            Exception failure = null;
+            var stalled = false;
+            try {
+                while (!stalled && hasUnsentSummary()) {
+                    var summary = latest.get();
+                    sentVersion = summary.boardVersion();
+                    var startedNanos = System.nanoTime();
+                    sendStartedNanos.set(startedNanos);
+                    try {
+                        sink.send(summary.lines());
+                    } finally {
+                        stalled = !sendStartedNanos.compareAndSet(startedNanos, IDLE);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            } finally {
+                sending.set(false);
+            }
+            if (stalled) {
+                // The watchdog already dropped this subscriber and lent the pool a thread for the one stuck here
+                returnSenderThread();
+                close(failure != null ? failure : new TimeoutException("Send took longer than the send timeout"));
+            } else if (failure != null) {
+                log.debug("Dropping scoreboard subscriber after failed send: {}", failure.getMessage());
+                unsubscribe(this);
+                close(failure);
+            } else if (hasUnsentSummary() && sending.compareAndSet(false, true)) {
+                // A summary offered after the last check but before the flag was cleared would otherwise wait for the next change
+                executor.execute(this::drain);
+            }
+        }
+
+        void evictIfStalled(long nowNanos) {
+            var startedNanos = sendStartedNanos.get();
+            if (startedNanos != IDLE && startedNanos != STALLED && nowNanos - startedNanos > sendTimeoutNanos
+                    && sendStartedNanos.compareAndSet(startedNanos, STALLED)) {
+                log.debug("Dropping scoreboard subscriber whose send is blocked for longer than the send timeout");
+                unsubscribe(this);
+                lendSenderThread();
+            }
+        }
+
+        private void close(Exception cause) {
+            try {
+                sink.close(cause);
+            } catch (RuntimeException e) {
+                log.debug("Could not close scoreboard subscriber: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void lendSenderThread() {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            synchronized (pool) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+                pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+            }
+        }
+    }
+
+    private void returnSenderThread() {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            synchronized (pool) {
+                pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+            }
+        }
+    }
+
+    private static final class SenderThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private SenderThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST API over the {@link MatchOperationService}.
+ *
+ * A score update that carries a {@code feedSequence} parameter comes from a sequenced feed: it answers with the
+ * outcome instead of failing, so that redundant feeds can tell a stale message from an applied one.
+ *
+ * On-pitch event reporters send goals and corrections as deltas instead: {@code POST /matches/{matchId}/goals} adds
+ * a goal for one side and {@code POST /matches/{matchId}/score-corrections} adds or takes away goals, each applied to
+ * the current score atomically and answered with the resulting score and board version.
+ *
+ * The summary endpoint tags every response with a strong ETag derived from the board version. A client that
+ * revalidates with {@code If-None-Match} gets {@code 304 Not Modified} without the summary being rendered or
+ * serialized as long as the board has not changed. The tag also carries the time this instance started, so
+ * that tags handed out before a restart never match the restarted board. A page of the summary, requested with
+ * {@code limit} and an optional {@code offset}, is tagged with the board version read before the page was fetched.
+ *
+ * With {@code scoreboard.summary.pre-encoded=true}, the full summary is served from the service's pre-encoded UTF-8
+ * JSON, which is written to the response as it is instead of being serialized from a list of strings per request.
+ *
+ * Live matches can be filtered with {@code GET /matches} by {@code team}, by a {@code minTotalScore} and
+ * {@code maxTotalScore} range and by {@code startedWithin}, an ISO-8601 duration before now, such as {@code PT15M}.
+ *
+ * Every write answers with the board version after the write in the {@value #BOARD_VERSION_HEADER} header. A client
+ * that passes it back as {@code minBoardVersion} is served a summary that includes its write, even while the summary
+ * is refreshed in the background and may otherwise be slightly behind.
+ */
+@RestController
+@RequestMapping("/scoreboard")
+public class ScoreboardController {
+
+    static final String BOARD_VERSION_HEADER = "X-Board-Version";
+
+    private final MatchOperationService matchOperationService;
+    private final boolean preEncodedSummary;
+    private final String etagPrefix = Long.toHexString(System.currentTimeMillis());
+
+    public ScoreboardController(MatchOperationService matchOperationService,
+                                @Value("${scoreboard.summary.pre-encoded:false}") boolean preEncodedSummary) {
+        this.matchOperationService = matchOperationService;
+        this.preEncodedSummary = preEncodedSummary;
+    }
+
+    @PostMapping("/matches")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Match startMatch(@RequestBody StartMatchRequest request, HttpServletResponse response) {
+        var match = matchOperationService.startMatch(request.homeTeam(), request.awayTeam());
+        setBoardVersion(response);
+        return match;
+    }
+
+    @GetMapping("/matches")
+    public List<Match> findMatches(@RequestParam(required = false) String team,
+                                   @RequestParam(defaultValue = "0") int minTotalScore,
+                                   @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int maxTotalScore,
+                                   @RequestParam(required = false) Duration startedWithin) {
+        var startedSince = startedWithin == null ? null : LocalDateTime.now().minus(startedWithin);
+        return matchOperationService.findMatches(new MatchQuery(team, minTotalScore, maxTotalScore, startedSince));
+    }
+
+    @PutMapping("/matches/{matchId}/score")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateMatchScore(@PathVariable String matchId, @RequestBody UpdateScoreRequest request, HttpServletResponse response) {
+        matchOperationService.updateMatchScore(matchId, request.homeTeamScore(), request.awayTeamScore());
+        setBoardVersion(response);
+    }
+
+    @PutMapping(value = "/matches/{matchId}/score", params = "feedSequence")
+    public ScoreUpdateResult updateMatchScore(@PathVariable String matchId, @RequestParam long feedSequence,
+                                              @RequestBody UpdateScoreRequest request, HttpServletResponse response) {
+        var result = matchOperationService.updateMatchScore(matchId, request.homeTeamScore(), request.awayTeamScore(), feedSequence);
+        setBoardVersion(response);
+        return result;
+    }
+
+    @PostMapping("/matches/{matchId}/goals")
+    public ScoreChange recordGoal(@PathVariable String matchId, @RequestBody RecordGoalRequest request, HttpServletResponse response) {
+        var change = matchOperationService.recordGoal(matchId, request.side());
+        response.setHeader(BOARD_VERSION_HEADER, Long.toString(change.boardVersion()));
+        return change;
+    }
+
+    @PostMapping("/matches/{matchId}/score-corrections")
+    public ScoreChange correctScore(@PathVariable String matchId, @RequestBody CorrectScoreRequest request, HttpServletResponse response) {
+        var change = matchOperationService.correctScore(matchId, request.homeTeamDelta(), request.awayTeamDelta());
+        response.setHeader(BOARD_VERSION_HEADER, Long.toString(change.boardVersion()));
+        return change;
+    }
+
+    @PostMapping("/scores")
+    public List<ScoreUpdateResult> updateMatchScores(@RequestBody List<ScoreUpdate> scoreUpdates, HttpServletResponse response) {
+        var results = matchOperationService.updateMatchScores(scoreUpdates);
+        setBoardVersion(response);
+        return results;
+    }
+
+    @DeleteMapping("/matches/{matchId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void finishMatch(@PathVariable String matchId, HttpServletResponse response) {
+        matchOperationService.finishMatch(matchId);
+        setBoardVersion(response);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<?> getMatchSummary(@RequestParam(defaultValue = "0") long minBoardVersion, WebRequest webRequest) {
+        if (webRequest.checkNotModified(etagFor(matchOperationService.getBoardVersion()))) {
+            return null;
+        }
+        if (preEncodedSummary) {
+            var encodedSummary = matchOperationService.getEncodedMatchSummary();
+            if (encodedSummary.boardVersion() >= minBoardVersion) {
+                return ResponseEntity.ok()
+                        .eTag(etagFor(encodedSummary.boardVersion()))
+                        .cacheControl(CacheControl.noCache())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(encodedSummary.json());
+            }
+        }
+        var summary = minBoardVersion > 0
+                ? matchOperationService.getVersionedMatchSummary(minBoardVersion)
+                : matchOperationService.getVersionedMatchSummary();
+        return ResponseEntity.ok()
+                .eTag(etagFor(summary.boardVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(summary.lines());
+    }
+
+    @GetMapping(value = "/summary", params = "limit")
+    public ResponseEntity<List<String>> getMatchSummary(@RequestParam(defaultValue = "0") int offset, @RequestParam int limit,
+                                                        WebRequest webRequest) {
+        var boardVersion = matchOperationService.getBoardVersion();
+        if (webRequest.checkNotModified(etagFor(boardVersion))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etagFor(boardVersion))
+                .cacheControl(CacheControl.noCache())
+                .body(matchOperationService.getMatchSummary(offset, limit));
+    }
+
+    private void setBoardVersion(HttpServletResponse response) {
+        // Read after the write, so the version is never older than the one the write produced
+        response.setHeader(BOARD_VERSION_HEADER, Long.toString(matchOperationService.getBoardVersion()));
+    }
+
+    private String etagFor(long boardVersion) {
+        return "\"" + etagPrefix + "-" + boardVersion + "\"";
+    }
+}
@@ -0,0 +1,36 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.exception.CompetitionNotFoundException;
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps the exceptions thrown by the service layer to HTTP responses.
+ */
+@RestControllerAdvice
+public class ScoreboardExceptionHandler {
+
+    @ExceptionHandler(CompetitionNotFoundException.class)
+    public ProblemDetail handleCompetitionNotFound(CompetitionNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(MatchNotFoundException.class)
+    public ProblemDetail handleMatchNotFound(MatchNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleInvalidRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(MatchConflictException.class)
+    public ProblemDetail handleConflict(MatchConflictException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
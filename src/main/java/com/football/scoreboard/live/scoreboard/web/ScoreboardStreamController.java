@@ -0,0 +1,57 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streams the match summary to clients as server-sent events.
+ * A client receives the current summary when it connects and the new summary after every change,
+ * so it never has to poll the board.
+ */
+@RestController
+@RequestMapping("/scoreboard")
+public class ScoreboardStreamController {
+
+    private final ScoreboardBroadcaster scoreboardBroadcaster;
+    private final Duration streamTimeout;
+
+    public ScoreboardStreamController(ScoreboardBroadcaster scoreboardBroadcaster,
+                                      @Value("${scoreboard.stream.timeout:PT30M}") Duration streamTimeout) {
+        this.scoreboardBroadcaster = scoreboardBroadcaster;
+        this.streamTimeout = streamTimeout;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatchSummary() {
+        var emitter = new SseEmitter(streamTimeout.toMillis());
+        var subscription = scoreboardBroadcaster.subscribe(new EmitterSink(emitter));
+        emitter.onCompletion(subscription);
+        emitter.onTimeout(subscription);
+        emitter.onError(error -> subscription.run());
+        return emitter;
+    }
+
+    /**
+     * Sends summaries as {@code summary} events, and ends the stream with an error once the broadcaster drops it.
+     */
+    private record EmitterSink(SseEmitter emitter) implements ScoreboardBroadcaster.Sink {
+
+        @Override
+        public void send(List<String> summary) throws IOException {
+            emitter.send(SseEmitter.event().name("summary").data(summary, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close(Exception cause) {
+            emitter.completeWithError(cause);
+        }
+    }
+}
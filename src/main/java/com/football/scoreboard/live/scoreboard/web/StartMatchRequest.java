@@ -0,0 +1,10 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+/**
+ * Request body for starting a match.
+ *
+ * @param homeTeam the name of the home team.
+ * @param awayTeam the name of the away team.
+ */
+public record StartMatchRequest(String homeTeam, String awayTeam) {
+}
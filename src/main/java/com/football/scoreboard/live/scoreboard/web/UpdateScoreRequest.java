@@ -0,0 +1,10 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+/**
+ * Request body for updating the score of a match.
+ *
+ * @param homeTeamScore the new score of the home team.
+ * @param awayTeamScore the new score of the away team.
+ */
+public record UpdateScoreRequest(int homeTeamScore, int awayTeamScore) {
+}
@@ -0,0 +1,57 @@
+package com.football.scoreboard.live.scoreboard;
+
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRepositoryApplicationTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCompactRepositoryStartsWithoutTheJournal() {
+        try (var context = start("scoreboard.repository.type=compact")) {
+            assertInstanceOf(CompactMatchRepository.class, context.getBean("compactMatchRepository"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testCompactRepositoryRefusesTheJournal(boolean snapshots) {
+        var failure = assertThrows(RuntimeException.class, () -> start("scoreboard.repository.type=compact",
+                "scoreboard.journal.enabled=true", "scoreboard.journal.directory=" + directory.resolve("journal"),
+                "scoreboard.snapshot.enabled=" + snapshots, "scoreboard.snapshot.directory=" + directory.resolve("snapshots")));
+
+        assertEquals("The compact repository does not journal its changes",
+                NestedExceptionUtils.getMostSpecificCause(failure).getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"leader", "follower"})
+    void testCompactRepositoryRefusesReplication(String role) {
+        var failure = assertThrows(RuntimeException.class, () -> start("scoreboard.repository.type=compact",
+                "scoreboard.replication.role=" + role, "scoreboard.replication.port=0", "scoreboard.replication.leader-port=1"));
+
+        assertEquals("Replication requires the default repository type",
+                NestedExceptionUtils.getMostSpecificCause(failure).getMessage());
+    }
+
+    private static ConfigurableApplicationContext start(String... properties) {
+        var args = Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new);
+        return new SpringApplicationBuilder(ScoreboardAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+}
@@ -0,0 +1,43 @@
+package com.football.scoreboard.live.scoreboard;
+
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.replication.ReadOnlyMatchRepository;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "scoreboard.replication.role=follower",
+        "scoreboard.replication.leader-port=1",
+        "scoreboard.competitions=world-cup"
+})
+class ReplicationFollowerApplicationTests {
+
+    @Autowired
+    private MatchOperationService matchOperationService;
+
+    @Autowired
+    private CompetitionMatchOperationService competitionMatchOperationService;
+
+    @Test
+    void testDefaultScoreboardRejectsWrites() {
+        var rejection = assertThrows(MatchConflictException.class,
+                () -> matchOperationService.startMatch("Mexico", "Canada"));
+
+        assertEquals(ReadOnlyMatchRepository.READ_ONLY_MESSAGE, rejection.getMessage());
+    }
+
+    @Test
+    void testCompetitionScoreboardsRejectWrites() {
+        var worldCup = competitionMatchOperationService.getScoreboard("world-cup");
+
+        var rejection = assertThrows(MatchConflictException.class, () -> worldCup.startMatch("Mexico", "Canada"));
+
+        assertEquals(ReadOnlyMatchRepository.READ_ONLY_MESSAGE, rejection.getMessage());
+        assertTrue(worldCup.getMatchSummary().isEmpty());
+    }
+}
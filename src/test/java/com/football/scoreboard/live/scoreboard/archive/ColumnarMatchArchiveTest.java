@@ -0,0 +1,146 @@
+package com.football.scoreboard.live.scoreboard.archive;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarMatchArchiveTest {
+
+    private static final LocalDate MATCHDAY = LocalDate.of(2026, 6, 11);
+
+    @TempDir
+    Path archiveDirectory;
+
+    private final ColumnarMatchArchive matchArchive = new ColumnarMatchArchive();
+
+    @Test
+    void testFindResultsByTeamHomeOrAwayRegardlessOfCase() {
+        var first = archive(matchArchive, "Mexico", "Canada", 1, 0, MATCHDAY);
+        archive(matchArchive, "Spain", "Brazil", 2, 2, MATCHDAY);
+        var second = archive(matchArchive, "Germany", "MEXICO", 0, 3, MATCHDAY.plusDays(4));
+
+        assertEquals(List.of(first, second), matchArchive.findResultsByTeam("mexico"));
+        assertEquals(List.of(), matchArchive.findResultsByTeam("France"));
+    }
+
+    @Test
+    void testFindResultsByTeamIsOldestDayFirst() {
+        var later = archive(matchArchive, "Mexico", "Canada", 1, 0, MATCHDAY.plusDays(8));
+        var earlier = archive(matchArchive, "Mexico", "Spain", 0, 0, MATCHDAY);
+
+        assertEquals(List.of(earlier, later), matchArchive.findResultsByTeam("Mexico"));
+    }
+
+    @Test
+    void testFindResultsOnAndBetweenDates() {
+        var firstDay = archive(matchArchive, "Mexico", "Canada", 1, 0, MATCHDAY);
+        var secondDay = archive(matchArchive, "Spain", "Brazil", 2, 2, MATCHDAY.plusDays(1));
+        var thirdDay = archive(matchArchive, "Germany", "France", 0, 3, MATCHDAY.plusDays(2));
+
+        assertEquals(List.of(secondDay), matchArchive.findResultsOn(MATCHDAY.plusDays(1)));
+        assertEquals(List.of(firstDay, secondDay), matchArchive.findResultsBetween(MATCHDAY, MATCHDAY.plusDays(1)));
+        assertEquals(List.of(firstDay, secondDay, thirdDay), matchArchive.findResultsBetween(MATCHDAY.minusDays(30), MATCHDAY.plusDays(30)));
+        assertEquals(List.of(), matchArchive.findResultsOn(MATCHDAY.minusDays(1)));
+    }
+
+    @Test
+    void testPartitionsGrowPastTheirInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            archive(matchArchive, "Team " + i, "Team " + (i + 100), i, 0, MATCHDAY);
+        }
+
+        var results = matchArchive.findResultsOn(MATCHDAY);
+        assertEquals(100, results.size());
+        assertEquals(99, results.get(99).homeTeamScore());
+        assertEquals("Team 199", results.get(99).awayTeam());
+    }
+
+    @Test
+    void testFindResultsBetweenRejectsReversedRange() {
+        var exceptionThrown = assertThrows(IllegalArgumentException.class,
+                () -> matchArchive.findResultsBetween(MATCHDAY, MATCHDAY.minusDays(1)));
+
+        assertEquals("Start date cannot be after end date", exceptionThrown.getMessage());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "\t"})
+    void testFindResultsByTeamRejectsInvalidTeam(String team) {
+        assertThrows(IllegalArgumentException.class, () -> matchArchive.findResultsByTeam(team));
+    }
+
+    @Test
+    void testFlushedPartitionsAreLoadedBack() {
+        var persistentArchive = new ColumnarMatchArchive(archiveDirectory);
+        var first = archive(persistentArchive, "Mexico", "Canada", 1, 0, MATCHDAY);
+        var second = archive(persistentArchive, "Spain", "Mexico", 2, 2, MATCHDAY.plusDays(1));
+        persistentArchive.close();
+
+        var reloadedArchive = new ColumnarMatchArchive(archiveDirectory);
+
+        assertEquals(List.of(first, second), reloadedArchive.findResultsByTeam("Mexico"));
+        assertEquals(List.of(second), reloadedArchive.findResultsOn(MATCHDAY.plusDays(1)));
+    }
+
+    @Test
+    void testResultsAreWrittenAsTheyAreArchived() {
+        var persistentArchive = new ColumnarMatchArchive(archiveDirectory);
+        var result = archive(persistentArchive, "Mexico", "Canada", 1, 0, MATCHDAY);
+
+        // Neither flushed nor closed, as if the process died right after the match finished
+        var reloadedArchive = new ColumnarMatchArchive(archiveDirectory);
+
+        assertEquals(List.of(result), reloadedArchive.findResultsOn(MATCHDAY));
+    }
+
+    @Test
+    void testOnlyChangedPartitionsAreRewrittenAndAppendsSurviveReload() throws IOException {
+        var persistentArchive = new ColumnarMatchArchive(archiveDirectory);
+        var first = archive(persistentArchive, "Mexico", "Canada", 1, 0, MATCHDAY);
+        archive(persistentArchive, "Spain", "Brazil", 0, 0, MATCHDAY.plusDays(1));
+        persistentArchive.flush();
+        var firstDayFile = archiveDirectory.resolve("results-" + MATCHDAY + ".bin.gz");
+        Files.setLastModifiedTime(firstDayFile, FileTime.fromMillis(0));
+
+        var second = archive(persistentArchive, "Germany", "France", 3, 1, MATCHDAY.plusDays(1));
+        persistentArchive.flush();
+
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(firstDayFile), "Unchanged partition was rewritten");
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            assertEquals(2, files.count());
+        }
+        var reloadedArchive = new ColumnarMatchArchive(archiveDirectory);
+        assertEquals(List.of(first), reloadedArchive.findResultsOn(MATCHDAY));
+        assertEquals(second, reloadedArchive.findResultsOn(MATCHDAY.plusDays(1)).get(1));
+
+        var third = archive(reloadedArchive, "Mexico", "Brazil", 0, 1, MATCHDAY);
+        reloadedArchive.close();
+        assertEquals(List.of(first, third), new ColumnarMatchArchive(archiveDirectory).findResultsOn(MATCHDAY));
+    }
+
+    private static MatchResult archive(MatchArchive matchArchive, String homeTeam, String awayTeam,
+                                       int homeTeamScore, int awayTeamScore, LocalDate date) {
+        var startTime = date.atTime(18, 0, 0, 123_456_789);
+        var finishTime = startTime.plusMinutes(105);
+        var match = new Match("match-" + homeTeam + "-" + awayTeam + "-" + date, homeTeam, awayTeam,
+                homeTeamScore, awayTeamScore, startTime, 1, Match.NO_FEED_SEQUENCE);
+        matchArchive.archive(match, finishTime);
+        return new MatchResult(match.matchId(), homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, finishTime);
+    }
+}
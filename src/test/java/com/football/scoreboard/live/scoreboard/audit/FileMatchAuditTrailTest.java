@@ -0,0 +1,174 @@
+package com.football.scoreboard.live.scoreboard.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileMatchAuditTrailTest {
+
+    @TempDir
+    Path auditDirectory;
+
+    @Test
+    void testRecordsAreWrittenAndDecoded() throws IOException {
+        var before = System.currentTimeMillis();
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 2);
+
+        auditTrail.record(AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, "k3f9a2", 0, 0, 1024);
+        auditTrail.record(AuditOperation.SCORE_UPDATED, AuditOutcome.STALE, "k3f9a2", 1, 0, 17);
+        auditTrail.record(AuditOperation.SUMMARY_READ, AuditOutcome.CACHE_HIT, null, 0, 0, 5);
+        auditTrail.close();
+
+        var events = decodeAll();
+        assertEquals(List.of(
+                new AuditEvent(events.get(0).timestampMillis(), AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, "k3f9a2", 0, 0, 1024),
+                new AuditEvent(events.get(1).timestampMillis(), AuditOperation.SCORE_UPDATED, AuditOutcome.STALE, "k3f9a2", 1, 0, 17),
+                new AuditEvent(events.get(2).timestampMillis(), AuditOperation.SUMMARY_READ, AuditOutcome.CACHE_HIT, "", 0, 0, 5)
+        ), events);
+        assertTrue(events.get(0).timestampMillis() >= before);
+    }
+
+    @Test
+    void testLongAndNonAsciiMatchIdsAreTruncatedToWholeCharacters() throws IOException {
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 2);
+        var longId = "a".repeat(40);
+        var nonAsciiId = "é".repeat(20);
+
+        auditTrail.record(AuditOperation.MATCH_FINISHED, AuditOutcome.SUCCESS, longId, 3, 2, 0);
+        auditTrail.record(AuditOperation.MATCH_FINISHED, AuditOutcome.SUCCESS, "x" + nonAsciiId, 3, 2, 0);
+        auditTrail.close();
+
+        var events = decodeAll();
+        assertEquals("a".repeat(32), events.get(0).matchId());
+        assertEquals("x" + "é".repeat(15), events.get(1).matchId());
+    }
+
+    @Test
+    void testFilesRollOverAndOnlyRetainedFilesAreKept() throws IOException {
+        // Room for four records per file
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 16, FileMatchAuditTrail.HEADER_SIZE + 4 * FileMatchAuditTrail.RECORD_SIZE, 2);
+
+        for (int i = 0; i < 10; i++) {
+            auditTrail.record(AuditOperation.SCORE_UPDATED, AuditOutcome.SUCCESS, "match", i, 0, i);
+        }
+        auditTrail.close();
+
+        var files = FileMatchAuditTrail.listAuditFiles(auditDirectory);
+        assertEquals(2, files.size());
+        var homeScores = decodeAll().stream().map(AuditEvent::homeTeamScore).toList();
+        assertEquals(List.of(4, 5, 6, 7, 8, 9), homeScores);
+    }
+
+    @Test
+    void testRestartAppendsToNewFile() throws IOException {
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 4);
+        auditTrail.record(AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, "first", 0, 0, 1);
+        auditTrail.close();
+
+        auditTrail = new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 4);
+        auditTrail.record(AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, "second", 0, 0, 2);
+        auditTrail.close();
+
+        assertEquals(2, FileMatchAuditTrail.listAuditFiles(auditDirectory).size());
+        assertEquals(List.of("first", "second"), decodeAll().stream().map(AuditEvent::matchId).toList());
+    }
+
+    @Test
+    void testConcurrentRecordsAreWrittenOrDropped() throws Exception {
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 1024, 1 << 20, 64);
+        int threads = 4;
+        int recordsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            var thread = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < recordsPerThread; i++) {
+                    auditTrail.record(AuditOperation.SCORE_UPDATED, AuditOutcome.SUCCESS, "match-" + thread, i, thread, i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        auditTrail.close();
+
+        var events = decodeAll();
+        assertEquals(threads * recordsPerThread, events.size() + auditTrail.getDroppedCount());
+        for (var event : events) {
+            assertEquals("match-" + event.awayTeamScore(), event.matchId());
+            assertEquals(event.homeTeamScore(), event.detail());
+        }
+    }
+
+    @Test
+    void testRecordsAfterCloseAreIgnored() throws IOException {
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 2);
+        auditTrail.close();
+
+        auditTrail.record(AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, "late", 0, 0, 1);
+
+        assertTrue(decodeAll().isEmpty());
+    }
+
+    @Test
+    void testDecoderPrintsOneLinePerRecord() throws IOException {
+        var auditTrail = new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 2);
+        auditTrail.record(AuditOperation.SCORE_UPDATED, AuditOutcome.SUCCESS, "k3f9a2", 2, 1, 12);
+        auditTrail.record(AuditOperation.SUMMARY_READ, AuditOutcome.CACHE_MISS, null, 0, 0, 7);
+        auditTrail.close();
+        var output = new ByteArrayOutputStream();
+
+        AuditTrailDecoder.print(decodeAll(), new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        var lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" SCORE_UPDATED SUCCESS k3f9a2 2-1 12"), lines.get(0));
+        assertTrue(lines.get(1).endsWith(" SUMMARY_READ CACHE_MISS - 0-0 7"), lines.get(1));
+    }
+
+    @Test
+    void testDecoderRejectsOtherFiles() throws IOException {
+        var otherFile = Files.write(auditDirectory.resolve("other.bin"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+        assertThrows(IllegalArgumentException.class, () -> AuditTrailDecoder.decode(otherFile));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 12})
+    void testInvalidCapacity(int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new FileMatchAuditTrail(auditDirectory, capacity, 1 << 20, 2));
+    }
+
+    @Test
+    void testInvalidFileSizeAndRetention() {
+        assertThrows(IllegalArgumentException.class, () -> new FileMatchAuditTrail(auditDirectory, 16, FileMatchAuditTrail.RECORD_SIZE, 2));
+        assertThrows(IllegalArgumentException.class, () -> new FileMatchAuditTrail(auditDirectory, 16, 1 << 20, 0));
+    }
+
+    private List<AuditEvent> decodeAll() throws IOException {
+        var events = new ArrayList<AuditEvent>();
+        for (var file : FileMatchAuditTrail.listAuditFiles(auditDirectory)) {
+            events.addAll(AuditTrailDecoder.decode(file));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,161 @@
+package com.football.scoreboard.live.scoreboard.embedded;
+
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.repository.CompactMatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmbeddedScoreboardTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testBuildsAnInMemoryScoreboard() {
+        try (var scoreboard = EmbeddedScoreboard.builder().competitions("euro").build()) {
+            var matchOperationService = scoreboard.getMatchOperationService();
+            var match = matchOperationService.startMatch("Mexico", "Canada");
+            matchOperationService.updateMatchScore(match.matchId(), 0, 5);
+            scoreboard.getCompetitionMatchOperationService().startMatch("euro", "Spain", "Brazil");
+
+            assertEquals(List.of("1. Mexico 0 - Canada 5"), matchOperationService.getMatchSummary());
+            assertEquals(List.of("1. Spain 0 - Brazil 0"), scoreboard.getCompetitionMatchOperationService().getMatchSummary("euro"));
+            assertInstanceOf(MatchRepositoryImpl.class, scoreboard.getMatchRepository());
+            matchOperationService.finishMatch(match.matchId());
+            assertEquals(1, scoreboard.getMatchArchive().findResultsByTeam("Mexico").size());
+            assertNotNull(scoreboard.getMeterRegistry().find("scoreboard.operation").timer());
+        }
+    }
+
+    @Test
+    void testBuildsWithTheGivenRepositoryRegistryAndNode() {
+        var meterRegistry = new SimpleMeterRegistry();
+        try (var scoreboard = EmbeddedScoreboard.builder().compactRepository().meterRegistry(meterRegistry).nodeId(7).build()) {
+            var match = scoreboard.getMatchOperationService().startMatch("Mexico", "Canada");
+
+            assertInstanceOf(CompactMatchRepository.class, scoreboard.getMatchRepository());
+            assertSame(meterRegistry, scoreboard.getMeterRegistry());
+            assertEquals(7, match.startSequence() & 1023);
+        }
+    }
+
+    @Test
+    void testRestoresLiveMatchesAndKeepsResultsAcrossRestarts() throws IOException {
+        var builder = EmbeddedScoreboard.builder()
+                .journal(directory.resolve("journal"))
+                .snapshots(directory.resolve("snapshots"), Duration.ofMinutes(5))
+                .auditTrail(directory.resolve("audit"))
+                .archive(directory.resolve("archive"))
+                .summaryProjection(Duration.ofMillis(100))
+                .competitions("euro");
+        try (var scoreboard = builder.build()) {
+            var matchOperationService = scoreboard.getMatchOperationService();
+            assertThrows(MatchConflictException.class,
+                    () -> scoreboard.getCompetitionMatchOperationService().startMatch("euro", "Spain", "Brazil"),
+                    "Competition scoreboards are not journaled");
+            var live = matchOperationService.startMatch("Mexico", "Canada");
+            matchOperationService.updateMatchScore(live.matchId(), 0, 5);
+            var finished = matchOperationService.startMatch("Spain", "Brazil");
+            matchOperationService.updateMatchScore(finished.matchId(), 10, 2);
+            matchOperationService.finishMatch(finished.matchId());
+        }
+
+        try (var files = Files.list(directory.resolve("snapshots"))) {
+            assertEquals(1, files.count(), "A snapshot is written on close");
+        }
+        try (var scoreboard = builder.build()) {
+            assertEquals(List.of("1. Mexico 0 - Canada 5"), scoreboard.getMatchOperationService().getMatchSummary());
+            var results = scoreboard.getMatchArchive().findResultsByTeam("Spain");
+            assertEquals(1, results.size());
+            assertEquals(10, results.get(0).homeTeamScore());
+        }
+    }
+
+    @Test
+    void testInvalidCombinations() {
+        var exceptionThrown = assertThrows(IllegalStateException.class,
+                () -> EmbeddedScoreboard.builder().compactRepository().journal(directory).build());
+        assertEquals("The compact repository does not journal its changes", exceptionThrown.getMessage());
+
+        exceptionThrown = assertThrows(IllegalStateException.class,
+                () -> EmbeddedScoreboard.builder().snapshots(directory, Duration.ofMinutes(5)).build());
+        assertEquals("Snapshots require the journal", exceptionThrown.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> EmbeddedScoreboard.builder().nodeId(-1).build());
+    }
+
+    @Test
+    void testBuildsWithoutSpringOnTheClasspath() throws Exception {
+        var classLoader = new SpringlessClassLoader();
+        var builder = classLoader.loadClass(EmbeddedScoreboard.class.getName()).getMethod("builder").invoke(null);
+        try (var scoreboard = (AutoCloseable) builder.getClass().getMethod("build").invoke(builder)) {
+            var matchOperationService = scoreboard.getClass().getMethod("getMatchOperationService").invoke(scoreboard);
+            var serviceType = classLoader.loadClass(MatchOperationService.class.getName());
+            serviceType.getMethod("startMatch", String.class, String.class).invoke(matchOperationService, "Mexico", "Canada");
+
+            assertEquals(List.of("1. Mexico 0 - Canada 0"), serviceType.getMethod("getMatchSummary").invoke(matchOperationService));
+        }
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.springframework.context.ApplicationContext"));
+    }
+
+    /**
+     * Loads classes and resources from the test class path in isolation, except for Spring and the Jakarta annotations.
+     */
+    private static class SpringlessClassLoader extends ClassLoader {
+
+        private final ClassLoader classPath = EmbeddedScoreboardTest.class.getClassLoader();
+
+        SpringlessClassLoader() {
+            super(ClassLoader.getPlatformClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if (name.startsWith("org.springframework.") || name.startsWith("jakarta.")) {
+                throw new ClassNotFoundException(name);
+            }
+            try (var in = classPath.getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                var bytes = in.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected URL findResource(String name) {
+            var resources = findResources(name);
+            return resources.hasMoreElements() ? resources.nextElement() : null;
+        }
+
+        @Override
+        protected Enumeration<URL> findResources(String name) {
+            try {
+                // Spring's jars also register service providers, such as Spring Boot's logback configurator
+                return Collections.enumeration(Collections.list(classPath.getResources(name)).stream()
+                        .filter(resource -> !resource.toString().contains("/org/springframework/"))
+                        .toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
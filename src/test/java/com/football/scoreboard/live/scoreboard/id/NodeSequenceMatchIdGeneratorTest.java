@@ -0,0 +1,79 @@
+package com.football.scoreboard.live.scoreboard.id;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeSequenceMatchIdGeneratorTest {
+
+    private final NodeSequenceMatchIdGenerator matchIdGenerator = new NodeSequenceMatchIdGenerator(7);
+
+    @Test
+    void testStartSequencesAreStrictlyIncreasingAndCarryTheNodeId() {
+        var previous = matchIdGenerator.nextStartSequence();
+        for (int i = 0; i < 10_000; i++) {
+            var next = matchIdGenerator.nextStartSequence();
+            assertTrue(next > previous);
+            assertEquals(7, NodeSequenceMatchIdGenerator.nodeId(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    void testGeneratorsOfDifferentNodesInOneJvmNeverIssueTheSameSequence() {
+        var otherGenerator = new NodeSequenceMatchIdGenerator(8);
+
+        var first = matchIdGenerator.nextStartSequence();
+        var second = otherGenerator.nextStartSequence();
+        var third = matchIdGenerator.nextStartSequence();
+
+        assertTrue(first < second && second < third);
+    }
+
+    @Test
+    void testConcurrentKickOffsGetDistinctIds() throws Exception {
+        var tasks = new ArrayList<Callable<List<String>>>();
+        for (int thread = 0; thread < 8; thread++) {
+            tasks.add(() -> {
+                var matchIds = new ArrayList<String>();
+                for (int i = 0; i < 5_000; i++) {
+                    matchIds.add(matchIdGenerator.matchId(matchIdGenerator.nextStartSequence()));
+                }
+                return matchIds;
+            });
+        }
+
+        var matchIds = new HashSet<String>();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (Future<List<String>> result : executor.invokeAll(tasks)) {
+                matchIds.addAll(result.get());
+            }
+        }
+
+        assertEquals(8 * 5_000, matchIds.size());
+    }
+
+    @Test
+    void testMatchIdIsCompact() {
+        var matchId = matchIdGenerator.matchId(matchIdGenerator.nextStartSequence());
+
+        assertTrue(matchId.length() <= 13, matchId);
+        assertTrue(matchId.chars().allMatch(Character::isLetterOrDigit), matchId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, NodeSequenceMatchIdGenerator.MAX_NODE_ID + 1})
+    void testInvalidNodeId(int nodeId) {
+        var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> new NodeSequenceMatchIdGenerator(nodeId));
+        assertEquals("Node ID must be between 0 and 1023", exceptionThrown.getMessage());
+    }
+}
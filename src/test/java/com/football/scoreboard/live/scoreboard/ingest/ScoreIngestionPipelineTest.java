@@ -0,0 +1,204 @@
+package com.football.scoreboard.live.scoreboard.ingest;
+
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScoreIngestionPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MatchOperationService matchOperationService = new MatchOperationServiceImpl(new MatchRepositoryImpl());
+    private ScoreIngestionPipeline scoreIngestionPipeline =
+            new ScoreIngestionPipeline(matchOperationService, meterRegistry, 16, Backpressure.REJECT, Duration.ZERO, 1024);
+
+    @AfterEach
+    void stopPipeline() throws InterruptedException {
+        scoreIngestionPipeline.stop();
+    }
+
+    @Test
+    void testPendingUpdatesOfAMatchAreCoalescedIntoTheLatest() {
+        var service = mock(MatchOperationService.class);
+        scoreIngestionPipeline = new ScoreIngestionPipeline(service, meterRegistry, 16, Backpressure.REJECT, Duration.ZERO, 1024);
+
+        scoreIngestionPipeline.publish("match-1", 1, 0);
+        scoreIngestionPipeline.publish("match-2", 0, 1);
+        scoreIngestionPipeline.publish("match-1", 2, 0);
+        scoreIngestionPipeline.publish("match-1", 2, 1);
+
+        assertEquals(4, scoreIngestionPipeline.drain());
+        verify(service).updateMatchScores(List.of(new ScoreUpdate("match-1", 2, 1), new ScoreUpdate("match-2", 0, 1)));
+        verifyNoMoreInteractions(service);
+        assertEquals(2, meterRegistry.get(ScoreIngestionPipeline.EVENTS_COUNTER).tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    void testCoalescingKeepsTheHighestFeedSequence() {
+        var service = mock(MatchOperationService.class);
+        scoreIngestionPipeline = new ScoreIngestionPipeline(service, meterRegistry, 16, Backpressure.REJECT, Duration.ZERO, 1024);
+
+        scoreIngestionPipeline.publish("match-1", 1, 0, 5);
+        scoreIngestionPipeline.publish("match-1", 2, 0, 7);
+        scoreIngestionPipeline.publish("match-1", 1, 1, 6);
+
+        scoreIngestionPipeline.drain();
+
+        verify(service).updateMatchScore("match-1", 2, 0, 7);
+        verifyNoMoreInteractions(service);
+    }
+
+    @Test
+    void testUnsequencedUpdateNeverHidesTheHighestFeedSequence() {
+        var match = matchOperationService.startMatch("Mexico", "Canada");
+
+        scoreIngestionPipeline.publish(match.matchId(), 5, 0, 5);
+        scoreIngestionPipeline.publish(match.matchId(), 4, 0);
+        scoreIngestionPipeline.publish(match.matchId(), 3, 0, 3);
+        assertEquals(3, scoreIngestionPipeline.drain());
+
+        // Applied in order, the stale message 3 loses to message 5, which the unsequenced correction was made after
+        assertEquals(List.of("1. Mexico 4 - Canada 0"), matchOperationService.getMatchSummary());
+        assertEquals(0, meterRegistry.get(ScoreIngestionPipeline.EVENTS_COUNTER).tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    void testSequencedAndUnsequencedUpdatesOfAMatchAreAppliedInOrder() {
+        var service = mock(MatchOperationService.class);
+        scoreIngestionPipeline = new ScoreIngestionPipeline(service, meterRegistry, 16, Backpressure.REJECT, Duration.ZERO, 1024);
+
+        scoreIngestionPipeline.publish("match-1", 5, 0, 5);
+        scoreIngestionPipeline.publish("match-1", 4, 0);
+        scoreIngestionPipeline.publish("match-1", 4, 1);
+        scoreIngestionPipeline.publish("match-1", 3, 0, 3);
+        scoreIngestionPipeline.drain();
+
+        var inOrder = inOrder(service);
+        inOrder.verify(service).updateMatchScore("match-1", 5, 0, 5);
+        inOrder.verify(service).updateMatchScores(List.of(new ScoreUpdate("match-1", 4, 1)));
+        inOrder.verify(service).updateMatchScore("match-1", 3, 0, 3);
+        verifyNoMoreInteractions(service);
+        assertEquals(1, meterRegistry.get(ScoreIngestionPipeline.EVENTS_COUNTER).tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    void testDrainAppliesUpdatesToTheBoard() {
+        var match = matchOperationService.startMatch("Mexico", "Canada");
+        var versionBefore = matchOperationService.getBoardVersion();
+
+        scoreIngestionPipeline.publish(match.matchId(), 1, 0);
+        scoreIngestionPipeline.publish(match.matchId(), 2, 0);
+        scoreIngestionPipeline.publish(match.matchId(), 3, 0);
+        scoreIngestionPipeline.drain();
+
+        assertEquals(List.of("1. Mexico 3 - Canada 0"), matchOperationService.getMatchSummary());
+        assertEquals(versionBefore + 1, matchOperationService.getBoardVersion());
+        assertEquals(0, scoreIngestionPipeline.getPendingCount());
+    }
+
+    @Test
+    void testRejectBackpressureTurnsProducersAwayWhenFull() {
+        for (int i = 0; i < 16; i++) {
+            assertTrue(scoreIngestionPipeline.publish("match-" + i, 1, 0));
+        }
+
+        assertFalse(scoreIngestionPipeline.publish("match-16", 1, 0));
+        assertEquals(16, scoreIngestionPipeline.getPendingCount());
+        assertEquals(1, meterRegistry.get(ScoreIngestionPipeline.EVENTS_COUNTER).tag("result", "rejected").counter().count());
+
+        scoreIngestionPipeline.drain();
+        assertTrue(scoreIngestionPipeline.publish("match-16", 1, 0));
+    }
+
+    @Test
+    void testBlockBackpressureGivesUpAfterThePublishTimeout() {
+        scoreIngestionPipeline = new ScoreIngestionPipeline(matchOperationService, meterRegistry, 2, Backpressure.BLOCK,
+                Duration.ofMillis(20), 1024);
+        assertTrue(scoreIngestionPipeline.publish("match-1", 1, 0));
+        assertTrue(scoreIngestionPipeline.publish("match-2", 1, 0));
+
+        var started = System.nanoTime();
+        assertFalse(scoreIngestionPipeline.publish("match-3", 1, 0));
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void testBlockedProducerResumesOnceTheConsumerCatchesUp() throws Exception {
+        var match = matchOperationService.startMatch("Mexico", "Canada");
+        scoreIngestionPipeline = new ScoreIngestionPipeline(matchOperationService, meterRegistry, 4, Backpressure.BLOCK,
+                Duration.ofSeconds(10), 2);
+        scoreIngestionPipeline.start();
+
+        for (int goals = 1; goals <= 1_000; goals++) {
+            assertTrue(scoreIngestionPipeline.publish(match.matchId(), goals, 0, goals));
+        }
+        scoreIngestionPipeline.stop();
+
+        assertEquals(List.of("1. Mexico 1000 - Canada 0"), matchOperationService.getMatchSummary());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNoMatch() throws Exception {
+        var matchIds = new ArrayList<String>();
+        for (int i = 0; i < 8; i++) {
+            matchIds.add(matchOperationService.startMatch("Home " + i, "Away " + i).matchId());
+        }
+        scoreIngestionPipeline = new ScoreIngestionPipeline(matchOperationService, meterRegistry, 64, Backpressure.BLOCK,
+                Duration.ofSeconds(10), 16);
+        scoreIngestionPipeline.start();
+
+        var ready = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var matchId : matchIds) {
+                executor.submit(() -> {
+                    ready.await();
+                    for (int sequence = 1; sequence <= 500; sequence++) {
+                        scoreIngestionPipeline.publish(matchId, sequence, 0, sequence);
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+        }
+        scoreIngestionPipeline.stop();
+
+        assertTrue(matchOperationService.getMatchSummary().stream().allMatch(line -> line.contains(" 500 - ")));
+    }
+
+    @Test
+    void testInvalidUpdatesAreRejectedOnPublish() {
+        assertThrows(IllegalArgumentException.class, () -> scoreIngestionPipeline.publish(" ", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreIngestionPipeline.publish("match-1", -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreIngestionPipeline.publish("match-1", 1, 0, 0));
+        assertEquals(0, scoreIngestionPipeline.getPendingCount());
+    }
+
+    @Test
+    void testPublishAfterStopIsRejected() throws InterruptedException {
+        scoreIngestionPipeline.stop();
+
+        assertFalse(scoreIngestionPipeline.publish("match-1", 1, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 12})
+    void testCapacityMustBeAPowerOfTwoOfAtLeastTwo(int capacity) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScoreIngestionPipeline(matchOperationService, meterRegistry, capacity, Backpressure.BLOCK, Duration.ZERO, 1));
+    }
+}
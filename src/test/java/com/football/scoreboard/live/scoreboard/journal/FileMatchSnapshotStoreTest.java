@@ -0,0 +1,95 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileMatchSnapshotStoreTest {
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @Test
+    void testWriteAndLoadLatest() {
+        var snapshotStore = new FileMatchSnapshotStore(snapshotDirectory, 2);
+        var matches = List.of(new Match("Team A", "Team B", 1, 2), new Match("Team C", "Team D", 0, 0).withScores(1, 1, 17));
+
+        snapshotStore.write(5, List.of(new Match("Team E", "Team F", 0, 0)));
+        snapshotStore.write(9, matches);
+
+        var snapshot = snapshotStore.loadLatest().orElseThrow();
+        assertEquals(9, snapshot.sequence());
+        assertEquals(matches, snapshot.matches());
+    }
+
+    @Test
+    void testLoadLatestIfNoSnapshot() {
+        assertTrue(new FileMatchSnapshotStore(snapshotDirectory, 2).loadLatest().isEmpty());
+    }
+
+    @Test
+    void testOnlyRetainedSnapshotsAreKept() throws IOException {
+        var snapshotStore = new FileMatchSnapshotStore(snapshotDirectory, 2);
+
+        for (long sequence = 1; sequence <= 4; sequence++) {
+            snapshotStore.write(sequence, List.of());
+        }
+
+        try (Stream<Path> files = Files.list(snapshotDirectory)) {
+            assertEquals(2, files.count());
+        }
+        assertEquals(4, snapshotStore.loadLatest().orElseThrow().sequence());
+        assertEquals(3, snapshotStore.oldestRetainedSequence());
+    }
+
+    @Test
+    void testOldestRetainedSequenceIfNoSnapshot() {
+        assertEquals(0, new FileMatchSnapshotStore(snapshotDirectory, 2).oldestRetainedSequence());
+    }
+
+    @Test
+    void testCorruptSnapshotFallsBackToThePreviousOne() throws IOException {
+        var snapshotStore = new FileMatchSnapshotStore(snapshotDirectory, 2);
+        snapshotStore.write(3, List.of(new Match("Team A", "Team B", 1, 0)));
+        snapshotStore.write(7, List.of(new Match("Team A", "Team B", 2, 0)));
+
+        var latest = snapshotDirectory.resolve("snapshot-00000000000000000007.bin");
+        var bytes = Files.readAllBytes(latest);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(latest, bytes);
+
+        assertEquals(3, snapshotStore.loadLatest().orElseThrow().sequence());
+    }
+
+    @Test
+    void testLoadLatestFailsIfNoSnapshotIsIntact() throws IOException {
+        var snapshotStore = new FileMatchSnapshotStore(snapshotDirectory, 2);
+        snapshotStore.write(3, List.of(new Match("Team A", "Team B", 1, 0)));
+        snapshotStore.write(7, List.of(new Match("Team A", "Team B", 2, 0)));
+        corrupt(snapshotDirectory.resolve("snapshot-00000000000000000003.bin"));
+        corrupt(snapshotDirectory.resolve("snapshot-00000000000000000007.bin"));
+
+        var exceptionThrown = assertThrows(IllegalStateException.class, snapshotStore::loadLatest);
+
+        assertTrue(exceptionThrown.getMessage().startsWith("None of the 2 snapshots in "));
+    }
+
+    private static void corrupt(Path snapshotFile) throws IOException {
+        var bytes = Files.readAllBytes(snapshotFile);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(snapshotFile, bytes);
+    }
+
+    @Test
+    void testInvalidRetention() {
+        assertThrows(IllegalArgumentException.class, () -> new FileMatchSnapshotStore(snapshotDirectory, 0));
+    }
+}
@@ -0,0 +1,191 @@
+package com.football.scoreboard.live.scoreboard.journal;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedMatchJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void testAppendAndReplayAfterReopen() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        var matchWithoutStartSequence = new Match("match-2", "Team C", "Team D", 0, 0, match.startTime());
+        var events = List.of(
+                new MatchEvent.MatchStarted(match),
+                new MatchEvent.MatchStarted(matchWithoutStartSequence),
+                new MatchEvent.ScoreUpdated(match.matchId(), 1, 0),
+                new MatchEvent.ScoreUpdated(match.matchId(), 2, 0, 42),
+                new MatchEvent.MatchFinished(match.matchId())
+        );
+
+        var journal = new MappedMatchJournal(journalDirectory, SEGMENT_SIZE, 1);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), events.stream().map(journal::append).toList());
+        journal.close();
+
+        var reopened = new MappedMatchJournal(journalDirectory, SEGMENT_SIZE, 1);
+        var replayed = new ArrayList<MatchEvent>();
+
+        assertEquals(5, reopened.replay(0, replayed::add));
+        assertEquals(events, replayed);
+        assertEquals(6, reopened.append(new MatchEvent.MatchFinished("another")));
+    }
+
+    @Test
+    void testReplayAfterSequence() {
+        var journal = new MappedMatchJournal(journalDirectory, SEGMENT_SIZE, 0);
+        journal.append(new MatchEvent.ScoreUpdated("match-1", 1, 0));
+        journal.append(new MatchEvent.ScoreUpdated("match-1", 2, 0));
+        journal.append(new MatchEvent.ScoreUpdated("match-1", 3, 0));
+
+        var replayed = new ArrayList<MatchEvent>();
+        journal.replay(2, replayed::add);
+
+        assertEquals(List.of(new MatchEvent.ScoreUpdated("match-1", 3, 0)), replayed);
+    }
+
+    @Test
+    void testRollsOverToNewSegmentsWhenFull() throws IOException {
+        var journal = new MappedMatchJournal(journalDirectory, 256, 0);
+        var events = new ArrayList<MatchEvent>();
+        for (int i = 0; i < 50; i++) {
+            var event = new MatchEvent.ScoreUpdated("match-" + i, i, i);
+            events.add(event);
+            journal.append(event);
+        }
+        journal.close();
+
+        var replayed = new ArrayList<MatchEvent>();
+        new MappedMatchJournal(journalDirectory, 256, 0).replay(0, replayed::add);
+
+        assertTrue(segmentCount() > 1, "Journal should span several segments");
+        assertEquals(events, replayed);
+    }
+
+    @Test
+    void testCompactDeletesOnlySegmentsCoveredBySequence() throws IOException {
+        var journal = new MappedMatchJournal(journalDirectory, 256, 0);
+        for (int i = 0; i < 50; i++) {
+            journal.append(new MatchEvent.ScoreUpdated("match-" + i, i, i));
+        }
+        var segmentsBefore = segmentCount();
+
+        journal.compact(journal.lastSequence());
+
+        assertEquals(1, segmentCount(), "Only the segment being appended to should be kept");
+        assertTrue(segmentsBefore > 1);
+        var replayed = new ArrayList<MatchEvent>();
+        journal.replay(0, replayed::add);
+        assertFalse(replayed.isEmpty());
+        assertEquals(new MatchEvent.ScoreUpdated("match-49", 49, 49), replayed.get(replayed.size() - 1));
+        assertEquals(51, journal.append(new MatchEvent.MatchFinished("match-49")));
+    }
+
+    @Test
+    void testCompactKeepsEventsAfterSequence() {
+        var journal = new MappedMatchJournal(journalDirectory, 256, 0);
+        for (int i = 0; i < 50; i++) {
+            journal.append(new MatchEvent.ScoreUpdated("match-" + i, i, i));
+        }
+
+        journal.compact(10);
+
+        var replayed = new ArrayList<MatchEvent>();
+        journal.replay(10, replayed::add);
+        assertEquals(40, replayed.size());
+    }
+
+    @Test
+    void testTornRecordAtTheTailIsDropped() throws IOException {
+        var journal = new MappedMatchJournal(journalDirectory, SEGMENT_SIZE, 0);
+        journal.append(new MatchEvent.ScoreUpdated("match-1", 1, 0));
+        journal.append(new MatchEvent.ScoreUpdated("match-1", 2, 0));
+        journal.close();
+        corruptLastByteOfSecondRecord();
+
+        var reopened = new MappedMatchJournal(journalDirectory, SEGMENT_SIZE, 0);
+        var replayed = new ArrayList<MatchEvent>();
+
+        assertEquals(1, reopened.replay(0, replayed::add));
+        assertEquals(List.of(new MatchEvent.ScoreUpdated("match-1", 1, 0)), replayed);
+
+        // The next append takes the place of the torn record
+        assertEquals(2, reopened.append(new MatchEvent.ScoreUpdated("match-1", 5, 0)));
+        replayed.clear();
+        reopened.replay(0, replayed::add);
+        assertEquals(List.of(new MatchEvent.ScoreUpdated("match-1", 1, 0), new MatchEvent.ScoreUpdated("match-1", 5, 0)), replayed);
+    }
+
+    @Test
+    void testConcurrentAppendsThatForceTheSegmentKeepEveryRecord() {
+        var journal = new MappedMatchJournal(journalDirectory, 1 << 16, 4);
+        var sequences = IntStream.range(0, 4).parallel()
+                .mapToObj(writer -> IntStream.range(0, 250)
+                        .mapToObj(goal -> journal.append(new MatchEvent.ScoreUpdated("match-" + writer, goal, 0, goal + 1))))
+                .flatMap(Function.identity())
+                .collect(Collectors.toSet());
+        journal.close();
+
+        var replayed = new ArrayList<MatchEvent>();
+        new MappedMatchJournal(journalDirectory, 1 << 16, 4).replay(0, replayed::add);
+
+        assertEquals(LongStream.rangeClosed(1, 1_000).boxed().collect(Collectors.toSet()), sequences);
+        assertEquals(1_000, replayed.size());
+        for (int writer = 0; writer < 4; writer++) {
+            var matchId = "match-" + writer;
+            assertEquals(IntStream.range(0, 250).boxed().toList(), replayed.stream()
+                    .map(MatchEvent.ScoreUpdated.class::cast)
+                    .filter(updated -> updated.matchId().equals(matchId))
+                    .map(MatchEvent.ScoreUpdated::homeTeamScore)
+                    .toList());
+        }
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedMatchJournal(journalDirectory, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MappedMatchJournal(journalDirectory, SEGMENT_SIZE, -1));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.count();
+        }
+    }
+
+    private void corruptLastByteOfSecondRecord() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory);
+             var channel = FileChannel.open(files.findFirst().orElseThrow(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var firstRecordLength = Integer.BYTES * 2 + readInt(channel, 0);
+            var secondRecordEnd = firstRecordLength + Integer.BYTES * 2 + readInt(channel, firstRecordLength);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0x7f}), secondRecordEnd - 1);
+        }
+    }
+
+    private static int readInt(FileChannel channel, long position) throws IOException {
+        var buffer = ByteBuffer.allocate(Integer.BYTES);
+        channel.read(buffer, position);
+        return buffer.flip().getInt();
+    }
+}
@@ -33,6 +33,16 @@ class MatchTest {
         assertNotEquals(match1.matchId(), match2.matchId(), "Match IDs should be unique");
     }
 
+    @Test
+    void testMatchesStartedInARowHaveIncreasingStartSequences() {
+
+        Match match1 = new Match("Team A", "Team B", 0, 0);
+        Match match2 = new Match("Team C", "Team D", 0, 0);
+
+        assertTrue(match2.startSequence() > match1.startSequence(), "Later match should have a greater start sequence");
+        assertEquals(match1.startSequence(), match1.withScores(1, 0).startSequence(), "Start sequence should survive score changes");
+    }
+
     @Test
     void testScoreChangeAndOtherFieldsUnchanged(){
 
@@ -53,4 +63,15 @@ class MatchTest {
 
     }
 
+    @Test
+    void testWithScoresChangesBothScoresOnly(){
+
+        Match match = new Match("Team A", "Team B", 1, 2);
+
+        var updatedMatch = match.withScores(4, 3);
+
+        assertEquals(match.withHomeTeamScore(4).withAwayTeamScore(3), updatedMatch, "Only the scores should change");
+        assertEquals(7, updatedMatch.getTotalScore(), "Total score should be 7");
+    }
+
 }
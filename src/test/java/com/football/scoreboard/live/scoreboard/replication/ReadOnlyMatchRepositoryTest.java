@@ -0,0 +1,55 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadOnlyMatchRepositoryTest {
+
+    private final MatchRepositoryImpl matchRepository = new MatchRepositoryImpl();
+    private final ReadOnlyMatchRepository readOnlyRepository = new ReadOnlyMatchRepository(matchRepository);
+
+    @Test
+    void testReadsGoToTheWrappedRepository() {
+        var match = matchRepository.saveMatch(new Match("Mexico", "Canada", 0, 5));
+
+        assertEquals(match, readOnlyRepository.findMatchById(match.matchId()));
+        assertEquals(List.of(match), readOnlyRepository.findAllMatches());
+        assertEquals(List.of(match), readOnlyRepository.findAllMatchesRanked());
+        assertEquals(List.of(match), readOnlyRepository.findMatchesRanked(0, 1));
+        assertEquals(List.of(match), readOnlyRepository.findMatches(MatchQuery.ALL.withTeam("Canada")));
+        assertEquals(1, readOnlyRepository.countLiveMatches());
+        assertEquals(matchRepository.getBoardVersion(), readOnlyRepository.getBoardVersion());
+    }
+
+    @Test
+    void testWritesAreRejected() {
+        var match = matchRepository.saveMatch(new Match("Mexico", "Canada", 0, 5));
+
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.saveMatch(new Match("Spain", "Brazil", 0, 0)));
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.reserveTeams("id", "Spain", "Brazil"));
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.releaseTeams(match.matchId(), "Mexico", "Canada"));
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.updateScore(match.matchId(), 1, 5, 1));
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.updateScores(List.of(new ScoreUpdate(match.matchId(), 1, 5))));
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.addToScores(match.matchId(), 1, 0));
+        assertThrows(MatchConflictException.class, () -> readOnlyRepository.deleteMatchById(match.matchId()));
+        assertEquals(match, matchRepository.findMatchById(match.matchId()));
+    }
+
+    @Test
+    void testWritesAreRejectedWithTheGivenReason() {
+        var inMemoryOnly = new ReadOnlyMatchRepository(matchRepository, "Kept in memory only");
+
+        var exceptionThrown = assertThrows(MatchConflictException.class, () -> inMemoryOnly.reserveTeams("id", "Spain", "Brazil"));
+        assertEquals("Kept in memory only", exceptionThrown.getMessage());
+        assertEquals(ReadOnlyMatchRepository.READ_ONLY_MESSAGE,
+                assertThrows(MatchConflictException.class, () -> readOnlyRepository.addToScores("id", 1, 0)).getMessage());
+    }
+}
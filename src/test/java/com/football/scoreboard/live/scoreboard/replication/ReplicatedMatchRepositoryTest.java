@@ -0,0 +1,56 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicatedMatchRepositoryTest {
+
+    private final MatchRepositoryImpl initialBoard = new MatchRepositoryImpl();
+    private final ReplicatedMatchRepository replicatedRepository = new ReplicatedMatchRepository(initialBoard);
+
+    @Test
+    void testReplicatedEventsAreAppliedToTheBoard() {
+        var match = new Match("Mexico", "Canada", 0, 5);
+
+        replicatedRepository.applyReplicatedEvent(new MatchEvent.MatchStarted(match));
+
+        assertEquals(match, replicatedRepository.findMatchById(match.matchId()));
+        assertEquals(1, replicatedRepository.getBoardVersion());
+    }
+
+    @Test
+    void testReplacingTheMatchesSwapsTheWholeBoardUnderTheNextVersion() {
+        var finished = initialBoard.saveMatch(new Match("Uruguay", "Italy", 6, 6));
+        var kept = initialBoard.saveMatch(new Match("Spain", "Brazil", 10, 2));
+        var started = new Match("Germany", "France", 2, 2);
+        var version = replicatedRepository.getBoardVersion();
+
+        replicatedRepository.replaceMatches(List.of(kept, started));
+
+        assertEquals(version + 1, replicatedRepository.getBoardVersion());
+        assertEquals(List.of(kept, started), replicatedRepository.findAllMatchesRanked());
+        assertNull(replicatedRepository.findMatchById(finished.matchId()));
+        assertEquals(2, initialBoard.countLiveMatches());
+    }
+
+    @Test
+    void testBoardVersionsKeepGrowingAfterAReplacement() {
+        var match = new Match("Argentina", "Australia", 3, 1);
+        replicatedRepository.replaceMatches(List.of(match));
+        var version = replicatedRepository.getBoardVersion();
+
+        replicatedRepository.applyReplicatedEvent(new MatchEvent.MatchFinished(match.matchId()));
+        var afterFinish = replicatedRepository.getBoardVersion();
+        replicatedRepository.replaceMatches(List.of());
+
+        assertEquals(version + 1, afterFinish);
+        assertEquals(afterFinish + 1, replicatedRepository.getBoardVersion());
+        assertEquals(0, replicatedRepository.countLiveMatches());
+    }
+}
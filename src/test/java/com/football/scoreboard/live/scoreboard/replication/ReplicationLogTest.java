@@ -0,0 +1,134 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.journal.MappedMatchJournal;
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.model.MatchEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationLogTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void testSequencesAreCountedWhenTheJournalIsDisabled() throws InterruptedException {
+        var replicationLog = new ReplicationLog(MatchJournal.DISABLED, 8);
+
+        assertEquals(1, replicationLog.append(new MatchEvent.MatchFinished("a")));
+        assertEquals(2, replicationLog.append(new MatchEvent.MatchFinished("b")));
+
+        assertEquals(2, replicationLog.lastSequence());
+        assertEquals(List.of(
+                new ReplicationLog.ReplicatedEvent(1, new MatchEvent.MatchFinished("a")),
+                new ReplicationLog.ReplicatedEvent(2, new MatchEvent.MatchFinished("b"))
+        ), replicationLog.readAfter(0, 10, 0));
+    }
+
+    @Test
+    void testSequencesFollowTheJournal() throws InterruptedException {
+        var journal = new MappedMatchJournal(journalDirectory, 1 << 16, 0);
+        try {
+            journal.append(new MatchEvent.MatchFinished("before"));
+            var replicationLog = new ReplicationLog(journal, 8);
+
+            assertEquals(2, replicationLog.append(new MatchEvent.MatchFinished("after")));
+
+            assertEquals(2, journal.lastSequence());
+            assertFalse(replicationLog.canResumeAfter(0));
+            assertEquals(List.of(new ReplicationLog.ReplicatedEvent(2, new MatchEvent.MatchFinished("after"))),
+                    replicationLog.readAfter(1, 10, 0));
+            var replayed = new ArrayList<MatchEvent>();
+            replicationLog.replay(0, replayed::add);
+            assertEquals(2, replayed.size());
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    void testReadsAreLimitedToTheBatchSize() throws InterruptedException {
+        var replicationLog = new ReplicationLog(MatchJournal.DISABLED, 8);
+        for (int i = 0; i < 5; i++) {
+            replicationLog.append(new MatchEvent.MatchFinished("match-" + i));
+        }
+
+        var batch = replicationLog.readAfter(1, 2, 0);
+
+        assertEquals(List.of(2L, 3L), batch.stream().map(ReplicationLog.ReplicatedEvent::sequence).toList());
+    }
+
+    @Test
+    void testReadsWrapAroundTheRing() throws InterruptedException {
+        var replicationLog = new ReplicationLog(MatchJournal.DISABLED, 4);
+        for (int i = 1; i <= 6; i++) {
+            replicationLog.append(new MatchEvent.MatchFinished("match-" + i));
+        }
+
+        var batch = replicationLog.readAfter(2, 10, 0);
+
+        assertEquals(List.of(
+                new ReplicationLog.ReplicatedEvent(3, new MatchEvent.MatchFinished("match-3")),
+                new ReplicationLog.ReplicatedEvent(4, new MatchEvent.MatchFinished("match-4")),
+                new ReplicationLog.ReplicatedEvent(5, new MatchEvent.MatchFinished("match-5")),
+                new ReplicationLog.ReplicatedEvent(6, new MatchEvent.MatchFinished("match-6"))
+        ), batch);
+    }
+
+    @Test
+    void testOverwrittenEventsCannotBeResumedFrom() throws InterruptedException {
+        var replicationLog = new ReplicationLog(MatchJournal.DISABLED, 4);
+        for (int i = 0; i < 10; i++) {
+            replicationLog.append(new MatchEvent.MatchFinished("match-" + i));
+        }
+
+        assertFalse(replicationLog.canResumeAfter(5));
+        assertNull(replicationLog.readAfter(5, 10, 0));
+        assertTrue(replicationLog.canResumeAfter(6));
+        assertEquals(4, replicationLog.readAfter(6, 10, 0).size());
+        assertFalse(replicationLog.canResumeAfter(11));
+    }
+
+    @Test
+    void testReaderThatCaughtUpWaitsForTheNextEvent() throws Exception {
+        var replicationLog = new ReplicationLog(MatchJournal.DISABLED, 8);
+        assertTrue(replicationLog.readAfter(0, 10, 10).isEmpty());
+
+        var read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return replicationLog.readAfter(0, 10, 10_000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        replicationLog.append(new MatchEvent.MatchFinished("a"));
+
+        assertEquals(1, read.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void testEveryLogHasItsOwnId() {
+        var first = new ReplicationLog(MatchJournal.DISABLED, 8);
+        var second = new ReplicationLog(MatchJournal.DISABLED, 8);
+
+        assertNotEquals(0, first.getLogId());
+        assertNotEquals(first.getLogId(), second.getLogId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 12})
+    void testInvalidCapacity(int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationLog(MatchJournal.DISABLED, capacity));
+    }
+}
@@ -0,0 +1,181 @@
+package com.football.scoreboard.live.scoreboard.replication;
+
+import com.football.scoreboard.live.scoreboard.journal.MatchJournal;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import com.football.scoreboard.live.scoreboard.web.ScoreboardBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a leader and a follower in the same JVM, connected over the loopback interface.
+ */
+class ReplicationTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicationLog replicationLog;
+    private MatchRepositoryImpl leaderRepository;
+    private ReplicationLeader leader;
+    private final ReplicatedMatchRepository followerRepository = new ReplicatedMatchRepository(new MatchRepositoryImpl());
+    private final MatchOperationServiceImpl followerService = new MatchOperationServiceImpl(new ReadOnlyMatchRepository(followerRepository));
+    private ReplicationFollower follower;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (follower != null) {
+            follower.stop();
+        }
+        leader.stop();
+    }
+
+    @Test
+    void testFollowerCatchesUpFromACopyAndFollowsLaterChanges() throws Exception {
+        startLeader(1024, 0);
+        var finished = leaderRepository.saveMatch(new Match("Mexico", "Canada", 0, 5));
+        var updated = leaderRepository.saveMatch(new Match("Spain", "Brazil", 10, 2));
+        leaderRepository.deleteMatchById(finished.matchId());
+
+        startFollower();
+        awaitInSync();
+
+        var started = leaderRepository.saveMatch(new Match("Germany", "France", 2, 2));
+        leaderRepository.updateScore(updated.matchId(), 11, 2, 7);
+        awaitInSync();
+
+        assertEquals(leaderRepository.findAllMatchesRanked(), followerRepository.findAllMatchesRanked());
+        assertEquals(started, followerRepository.findMatchById(started.matchId()));
+        assertEquals(7, followerRepository.findMatchById(updated.matchId()).feedSequence());
+        assertNull(followerRepository.findMatchById(finished.matchId()));
+        assertEquals(1, leader.getFollowerCount());
+        assertEquals(1.0, meterRegistry.get(ReplicationFollower.CONNECTED_GAUGE).gauge().value());
+        assertEquals(0.0, meterRegistry.get(ReplicationFollower.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    void testFollowerResumesFromItsOffsetAfterReconnecting() throws Exception {
+        startLeader(1024, 0);
+        var match = leaderRepository.saveMatch(new Match("Uruguay", "Italy", 0, 0));
+        startFollower();
+        awaitInSync();
+        var port = leader.getPort();
+
+        leader.stop();
+        await(() -> !follower.isConnected());
+        leaderRepository.updateScore(match.matchId(), 6, 6, 1);
+        var started = leaderRepository.saveMatch(new Match("Argentina", "Australia", 3, 1));
+        assertTrue(replicationLog.canResumeAfter(follower.getAppliedSequence()));
+        startLeaderOn(port);
+        awaitInSync();
+
+        assertEquals(leaderRepository.findAllMatchesRanked(), followerRepository.findAllMatchesRanked());
+        assertEquals(started, followerRepository.findMatchById(started.matchId()));
+    }
+
+    @Test
+    void testFollowerThatFellOutOfTheLogIsSentACopyAgain() throws Exception {
+        startLeader(4, 0);
+        var finished = leaderRepository.saveMatch(new Match("Uruguay", "Italy", 0, 0));
+        startFollower();
+        awaitInSync();
+        var port = leader.getPort();
+
+        leader.stop();
+        await(() -> !follower.isConnected());
+        leaderRepository.deleteMatchById(finished.matchId());
+        for (int i = 0; i < 10; i++) {
+            leaderRepository.saveMatch(new Match("Home " + i, "Away " + i, i, 0));
+        }
+        assertFalse(replicationLog.canResumeAfter(follower.getAppliedSequence()));
+        var versionBeforeTheCopy = followerRepository.getBoardVersion();
+        startLeaderOn(port);
+        awaitInSync();
+
+        assertEquals(leaderRepository.findAllMatchesRanked(), followerRepository.findAllMatchesRanked());
+        assertNull(followerRepository.findMatchById(finished.matchId()));
+        assertEquals(versionBeforeTheCopy + 1, followerRepository.getBoardVersion());
+    }
+
+    @Test
+    void testFollowerPushesReplicatedChangesToItsSubscribers() throws Exception {
+        startLeader(1024, 0);
+        var match = leaderRepository.saveMatch(new Match("Mexico", "Canada", 0, 0));
+        startFollower();
+        awaitInSync();
+        var broadcaster = new ScoreboardBroadcaster(followerService, 1, Duration.ofSeconds(5));
+        broadcaster.start();
+        try {
+            var pushed = new AtomicReference<List<String>>();
+            broadcaster.subscribe(pushed::set);
+            await(() -> List.of("1. Mexico 0 - Canada 0").equals(pushed.get()));
+
+            leaderRepository.updateScore(match.matchId(), 0, 1, 1);
+
+            await(() -> List.of("1. Mexico 0 - Canada 1").equals(pushed.get()));
+        } finally {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    void testFollowerKeepsUpWithAStreamOfUpdates() throws Exception {
+        startLeader(1 << 16, 0);
+        startFollower();
+        var matches = new Match[8];
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] = leaderRepository.saveMatch(new Match("Home " + i, "Away " + i, 0, 0));
+        }
+
+        for (int goal = 1; goal <= 200; goal++) {
+            for (var match : matches) {
+                leaderRepository.updateScore(match.matchId(), goal, 0, goal);
+            }
+        }
+        awaitInSync();
+
+        assertEquals(leaderRepository.findAllMatchesRanked(), followerRepository.findAllMatchesRanked());
+        assertTrue(followerRepository.getBoardVersion() > 0);
+    }
+
+    private void startLeader(int logCapacity, int port) {
+        replicationLog = new ReplicationLog(MatchJournal.DISABLED, logCapacity);
+        leaderRepository = new MatchRepositoryImpl(replicationLog);
+        startLeaderOn(port);
+    }
+
+    private void startLeaderOn(int port) {
+        leader = new ReplicationLeader(replicationLog, leaderRepository, new SimpleMeterRegistry(),
+                InetAddress.getLoopbackAddress(), port, Duration.ofMillis(20));
+        leader.start();
+    }
+
+    private void startFollower() {
+        follower = new ReplicationFollower(followerRepository, followerService, meterRegistry, InetAddress.getLoopbackAddress().getHostAddress(),
+                leader.getPort(), Duration.ofMillis(20), Duration.ofSeconds(5));
+        follower.start();
+    }
+
+    private void awaitInSync() throws InterruptedException {
+        await(() -> follower.isConnected() && follower.getAppliedSequence() == replicationLog.lastSequence() && follower.getLag() == 0);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Replication did not converge in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.football.scoreboard.live.scoreboard.repository;
+
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+
+class CompactMatchRepositoryTest {
+
+    private final CompactMatchRepository matchRepository = new CompactMatchRepository();
+
+
+    @Test
+    void testSaveAndFindMatchById() {
+        var match = new Match("match-1", "Team A", "Team B", 2, 1, LocalDateTime.of(2026, 6, 11, 18, 0, 0, 123_456_789));
+        matchRepository.saveMatch(match);
+
+        assertEquals(match, matchRepository.findMatchById("match-1"));
+        assertNull(matchRepository.findMatchById("missing"));
+    }
+
+    @Test
+    void testSaveMatchOverwritesScoresOfLiveMatch() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        matchRepository.saveMatch(match);
+
+        matchRepository.saveMatch(match.withScores(3, 2));
+
+        assertEquals(match.withScores(3, 2), matchRepository.findMatchById(match.matchId()));
+        assertEquals(1, matchRepository.findAllMatches().size());
+    }
+
+    @Test
+    void testAddToScoresInPlace() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        matchRepository.saveMatch(match);
+        matchRepository.updateScore(match.matchId(), 1, 0, 4);
+
+        assertEquals(new ScoreChange(match.matchId(), 1, 1, 3), matchRepository.addToScores(match.matchId(), 0, 1));
+        assertEquals(new ScoreChange(match.matchId(), 0, 1, 4), matchRepository.addToScores(match.matchId(), -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> matchRepository.addToScores(match.matchId(), -1, 0));
+
+        assertEquals(match.withScores(0, 1, 4), matchRepository.findMatchById(match.matchId()));
+        assertEquals(4, matchRepository.getBoardVersion());
+        assertNull(matchRepository.addToScores("missing", 1, 0));
+    }
+
+    @Test
+    void testFindMatchesUsesTheSameFilterAsAScan() {
+        var random = new SplittableRandom(42);
+        var kickOff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        var matchIds = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            var match = new Match("match-" + i, "Home " + i, "Away " + i, random.nextInt(4), random.nextInt(4),
+                    kickOff.plusMinutes(random.nextInt(60)));
+            matchRepository.saveMatch(match);
+            matchIds.add(match.matchId());
+        }
+        // Move matches between score buckets and free some slots for the next matches to reuse
+        for (int i = 0; i < 300; i++) {
+            var matchId = matchIds.get(random.nextInt(matchIds.size()));
+            if (random.nextInt(10) == 0) {
+                matchRepository.deleteMatchById(matchId);
+            } else if (matchRepository.findMatchById(matchId) != null) {
+                matchRepository.updateScore(matchId, random.nextInt(6), random.nextInt(6), Match.NO_FEED_SEQUENCE);
+            }
+        }
+        for (int i = 200; i < 220; i++) {
+            matchRepository.saveMatch(new Match("match-" + i, "Home " + i, "Away " + i, random.nextInt(4), 0, kickOff.plusMinutes(30)));
+        }
+
+        for (var query : List.of(MatchQuery.ALL, MatchQuery.ALL.withTeam("home 7"), MatchQuery.ALL.withTeam("Away 210"),
+                MatchQuery.ALL.withMinTotalScore(5), MatchQuery.ALL.withMinTotalScore(2).withMaxTotalScore(3),
+                MatchQuery.ALL.withMaxTotalScore(100), MatchQuery.ALL.withStartedSince(kickOff.plusMinutes(45)),
+                MatchQuery.ALL.withStartedSince(kickOff.plusMinutes(30)).withMinTotalScore(3))) {
+            var scanned = sortedByHand().stream().filter(query::matches).toList();
+            assertEquals(scanned, matchRepository.findMatches(query), query.toString());
+        }
+    }
+
+    @Test
+    void testMatchesStartedInTheSameTickAreRankedByStartSequence() {
+        var kickOff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        var first = new Match("match-b", "Team A", "Team B", 1, 0, kickOff, 10, Match.NO_FEED_SEQUENCE);
+        var second = new Match("match-a", "Team C", "Team D", 0, 1, kickOff, 11, Match.NO_FEED_SEQUENCE);
+        List.of(first, second).forEach(matchRepository::saveMatch);
+
+        assertEquals(List.of(second, first), matchRepository.findAllMatchesRanked());
+        assertEquals(List.of(second), matchRepository.findMatchesRanked(0, 1));
+    }
+
+    @Test
+    void testFindMatchesRankedSelectsTheSameSliceAsAFullSort() {
+        var random = new SplittableRandom(42);
+        var kickOff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        for (int i = 0; i < 200; i++) {
+            // Few distinct scores and kick-off times, so that ties are broken all the way down to the match ID
+            matchRepository.saveMatch(new Match("match-" + i, "Home " + i, "Away " + i,
+                    random.nextInt(4), random.nextInt(4), kickOff.plusMinutes(random.nextInt(5))));
+        }
+        // Move matches around the order index, including back into the bucket they came from
+        for (int i = 0; i < 400; i++) {
+            var matchId = "match-" + random.nextInt(200);
+            if (random.nextBoolean()) {
+                matchRepository.updateScore(matchId, random.nextInt(4), random.nextInt(4), Match.NO_FEED_SEQUENCE);
+            } else {
+                matchRepository.updateScores(List.of(new ScoreUpdate(matchId, random.nextInt(4), random.nextInt(4))));
+            }
+        }
+        matchRepository.deleteMatchById("match-7");
+        var ranked = matchRepository.findAllMatchesRanked();
+
+        assertEquals(sortedByHand(), ranked);
+
+        assertEquals(ranked.subList(0, 5), matchRepository.findMatchesRanked(0, 5));
+        assertEquals(ranked.subList(40, 60), matchRepository.findMatchesRanked(40, 20));
+        assertEquals(ranked.subList(190, 199), matchRepository.findMatchesRanked(190, 20));
+        assertEquals(ranked, matchRepository.findMatchesRanked(0, Integer.MAX_VALUE));
+        assertEquals(List.of(), matchRepository.findMatchesRanked(199, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testRankedReadsStayInOrderWhileMatchesMove() throws Exception {
+        var matchIds = new ArrayList<String>();
+        for (int i = 0; i < 64; i++) {
+            matchIds.add(matchRepository.saveMatch(new Match("Home " + i, "Away " + i, 0, 0)).matchId());
+        }
+        var stop = new AtomicBoolean();
+        var writer = new Thread(() -> {
+            var random = new SplittableRandom(7);
+            while (!stop.get()) {
+                var matchId = matchIds.get(random.nextInt(matchIds.size()));
+                matchRepository.updateScore(matchId, random.nextInt(8), random.nextInt(8), Match.NO_FEED_SEQUENCE);
+            }
+        });
+        writer.start();
+        try {
+            for (int read = 0; read < 20_000; read++) {
+                var slice = matchRepository.findMatchesRanked(0, 10);
+                assertEquals(10, slice.size());
+                assertEquals(10, slice.stream().map(Match::matchId).distinct().count());
+                for (int i = 1; i < slice.size(); i++) {
+                    assertTrue(MatchRepositoryImpl.SCOREBOARD_ORDER.compare(slice.get(i - 1), slice.get(i)) < 0);
+                }
+                assertNotNull(matchRepository.findMatchById(matchIds.get(read % matchIds.size())));
+                assertEquals(64, matchRepository.countLiveMatches());
+            }
+        } finally {
+            stop.set(true);
+            writer.join();
+        }
+    }
+
+    @Test
+    void testFindAllMatchesRankedUsesScoreboardOrder() {
+        var kickOff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        var mexicoCanada = new Match("1", "Mexico", "Canada", 0, 5, kickOff);
+        var spainBrazil = new Match("2", "Spain", "Brazil", 10, 2, kickOff.plusMinutes(1));
+        var germanyFrance = new Match("3", "Germany", "France", 2, 2, kickOff.plusMinutes(2));
+        var uruguayItaly = new Match("4", "Uruguay", "Italy", 6, 6, kickOff.plusMinutes(3));
+        var argentinaAustralia = new Match("5", "Argentina", "Australia", 3, 1, kickOff.plusMinutes(4));
+        List.of(mexicoCanada, spainBrazil, germanyFrance, uruguayItaly, argentinaAustralia).forEach(matchRepository::saveMatch);
+
+        assertEquals(List.of(uruguayItaly, spainBrazil, mexicoCanada, argentinaAustralia, germanyFrance),
+                matchRepository.findAllMatchesRanked());
+    }
+
+    @Test
+    void testUpdateScoresInPlace() {
+        var match = matchRepository.saveMatch(new Match("Team A", "Team B", 0, 0));
+        var version = matchRepository.getBoardVersion();
+
+        var results = matchRepository.updateScores(List.of(
+                new ScoreUpdate(match.matchId(), 1, 0),
+                new ScoreUpdate("missing", 1, 1),
+                new ScoreUpdate(match.matchId(), 2, 0)));
+
+        assertEquals(List.of(
+                new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.UPDATED),
+                new ScoreUpdateResult("missing", ScoreUpdateResult.Status.MATCH_NOT_FOUND),
+                new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.UPDATED)), results);
+        assertEquals(match.withScores(2, 0), matchRepository.findMatchById(match.matchId()));
+        assertEquals(version + 1, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testUpdateScoresOfUnknownMatchesDoesNotBumpVersion() {
+        var version = matchRepository.getBoardVersion();
+
+        matchRepository.updateScores(List.of(new ScoreUpdate("missing", 1, 1)));
+
+        assertEquals(version, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testUpdateScoreRejectsStaleFeedSequences() {
+        var match = matchRepository.saveMatch(new Match("Team A", "Team B", 0, 0));
+
+        assertEquals(ScoreUpdateResult.Status.UPDATED, matchRepository.updateScore(match.matchId(), 1, 0, 5).status());
+        assertEquals(ScoreUpdateResult.Status.STALE, matchRepository.updateScore(match.matchId(), 0, 0, 5).status());
+        assertEquals(ScoreUpdateResult.Status.UPDATED, matchRepository.updateScore(match.matchId(), 1, 1, Match.NO_FEED_SEQUENCE).status());
+        assertEquals(ScoreUpdateResult.Status.MATCH_NOT_FOUND, matchRepository.updateScore("missing", 1, 1, 1).status());
+
+        assertEquals(match.withScores(1, 1, 5), matchRepository.findMatchById(match.matchId()));
+    }
+
+    @Test
+    void testDeletedSlotsAreReused() {
+        var matches = IntStream.range(0, 100)
+                .mapToObj(i -> matchRepository.saveMatch(new Match("Home " + i, "Away " + i, i, 0)))
+                .toList();
+        matches.subList(0, 50).forEach(match -> matchRepository.deleteMatchById(match.matchId()));
+
+        var replacement = matchRepository.saveMatch(new Match("Home 0", "Away 0", 7, 7));
+
+        assertEquals(51, matchRepository.findAllMatches().size());
+        assertNull(matchRepository.findMatchById(matches.get(0).matchId()));
+        assertEquals(replacement, matchRepository.findMatchById(replacement.matchId()));
+        assertEquals(matches.get(99), matchRepository.findMatchById(matches.get(99).matchId()));
+    }
+
+    @Test
+    void testReserveTeamsIsCaseInsensitiveAndReleasedOnDelete() {
+        var match = new Match("Team A", "Team B", 0, 0);
+
+        assertTrue(matchRepository.reserveTeams(match.matchId(), "Team A", "Team B"));
+        matchRepository.saveMatch(match);
+        assertFalse(matchRepository.reserveTeams("other", "team b", "Team C"));
+        assertTrue(matchRepository.reserveTeams("other", "Team C", "Team D"));
+
+        matchRepository.deleteMatchById(match.matchId());
+
+        assertTrue(matchRepository.reserveTeams("third", "TEAM A", "team b"));
+    }
+
+    @Test
+    void testReleaseTeamsOnlyReleasesTheGivenMatch() {
+        assertTrue(matchRepository.reserveTeams("unsaved", "Team A", "Team B"));
+        matchRepository.releaseTeams("other", "Team A", "Team B");
+        assertFalse(matchRepository.reserveTeams("other", "Team A", "Team C"));
+
+        matchRepository.releaseTeams("unsaved", "team a", "TEAM B");
+
+        assertTrue(matchRepository.reserveTeams("other", "Team A", "Team B"));
+    }
+
+    @Test
+    void testDeleteMatchByIdReturnsTheMatchAsItWasRemoved() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        matchRepository.reserveTeams(match.matchId(), "Team A", "Team B");
+        matchRepository.saveMatch(match);
+        matchRepository.updateScore(match.matchId(), 2, 1, 5);
+
+        assertEquals(match.withScores(2, 1, 5), matchRepository.deleteMatchById(match.matchId()));
+        assertNull(matchRepository.deleteMatchById(match.matchId()));
+    }
+
+    @Test
+    void testDeleteUnknownMatchDoesNotBumpVersion() {
+        var version = matchRepository.getBoardVersion();
+
+        matchRepository.deleteMatchById("missing");
+
+        assertEquals(version, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testPackedScoresRoundTrip() {
+        var packed = CompactMatchRepository.packScores(Integer.MAX_VALUE, 42);
+
+        assertEquals(Integer.MAX_VALUE, CompactMatchRepository.homeTeamScore(packed));
+        assertEquals(42, CompactMatchRepository.awayTeamScore(packed));
+    }
+
+    private List<Match> sortedByHand() {
+        var matches = new ArrayList<>(matchRepository.findAllMatches());
+        matches.sort(MatchRepositoryImpl.SCOREBOARD_ORDER);
+        return matches;
+    }
+}
@@ -1,13 +1,38 @@
 package com.football.scoreboard.live.scoreboard.repository;
 
+import com.football.scoreboard.live.scoreboard.journal.FileMatchSnapshotStore;
+import com.football.scoreboard.live.scoreboard.journal.MappedMatchJournal;
 import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 
 class MatchRepositoryImplTest {
@@ -80,5 +105,507 @@ class MatchRepositoryImplTest {
         assertNull(foundMatch);
     }
 
+    @Test
+    void testFindAllMatchesRankedOrdersByTotalScoreThenMostRecentStart() {
+        var kickOff = LocalDateTime.now();
+        var mexicoCanada = matchStartedAt("Mexico", "Canada", 0, 5, kickOff);
+        var spainBrazil = matchStartedAt("Spain", "Brazil", 10, 2, kickOff.plusSeconds(1));
+        var germanyFrance = matchStartedAt("Germany", "France", 2, 2, kickOff.plusSeconds(2));
+        var uruguayItaly = matchStartedAt("Uruguay", "Italy", 6, 6, kickOff.plusSeconds(3));
+        var argentinaAustralia = matchStartedAt("Argentina", "Australia", 3, 1, kickOff.plusSeconds(4));
+
+        List.of(mexicoCanada, spainBrazil, germanyFrance, uruguayItaly, argentinaAustralia)
+                .forEach(matchRepository::saveMatch);
+
+        assertEquals(
+                List.of(uruguayItaly, spainBrazil, mexicoCanada, argentinaAustralia, germanyFrance),
+                matchRepository.findAllMatchesRanked()
+        );
+    }
+
+    @Test
+    void testFindAllMatchesRankedRepositionsUpdatedAndDropsDeletedMatches() {
+        var kickOff = LocalDateTime.now();
+        var first = matchStartedAt("Team A", "Team B", 0, 0, kickOff);
+        var second = matchStartedAt("Team C", "Team D", 1, 0, kickOff.plusSeconds(1));
+        var third = matchStartedAt("Team E", "Team F", 0, 0, kickOff.plusSeconds(2));
+        List.of(first, second, third).forEach(matchRepository::saveMatch);
+
+        var updatedFirst = matchRepository.saveMatch(first.withHomeTeamScore(3));
+        matchRepository.deleteMatchById(second.matchId());
+
+        assertEquals(List.of(updatedFirst, third), matchRepository.findAllMatchesRanked());
+    }
+
+    @Test
+    void testMatchesStartedInTheSameTickAreRankedByStartSequence() {
+        var kickOff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        var first = new Match("match-b", "Team A", "Team B", 1, 0, kickOff, 10, Match.NO_FEED_SEQUENCE);
+        var second = new Match("match-a", "Team C", "Team D", 0, 1, kickOff, 11, Match.NO_FEED_SEQUENCE);
+        var restored = new Match("match-c", "Team E", "Team F", 1, 0, kickOff.plusSeconds(1));
+        List.of(first, second, restored).forEach(matchRepository::saveMatch);
+
+        assertEquals(List.of(second, first, restored), matchRepository.findAllMatchesRanked());
+    }
+
+    @Test
+    void testFindMatchesRankedReturnsASliceOfTheScoreboardOrder() {
+        var kickOff = LocalDateTime.now();
+        var first = matchStartedAt("Team A", "Team B", 3, 0, kickOff);
+        var second = matchStartedAt("Team C", "Team D", 1, 1, kickOff.plusSeconds(1));
+        var third = matchStartedAt("Team E", "Team F", 1, 0, kickOff.plusSeconds(2));
+        List.of(first, second, third).forEach(matchRepository::saveMatch);
+
+        assertEquals(List.of(second, third), matchRepository.findMatchesRanked(1, 5));
+        assertEquals(List.of(first), matchRepository.findMatchesRanked(0, 1));
+        assertEquals(List.of(), matchRepository.findMatchesRanked(3, 2));
+    }
+
+    @Test
+    void testFindMatchesByTeamTotalScoreAndStartTime() {
+        var kickOff = LocalDateTime.now();
+        var early = matchStartedAt("Brazil", "Spain", 3, 2, kickOff.minusMinutes(40));
+        var recent = matchStartedAt("Mexico", "Canada", 0, 1, kickOff.minusMinutes(10));
+        var latest = matchStartedAt("Germany", "France", 2, 3, kickOff.minusMinutes(5));
+        List.of(early, recent, latest).forEach(matchRepository::saveMatch);
+
+        assertEquals(List.of(early), matchRepository.findMatches(MatchQuery.ALL.withTeam("BRAZIL")));
+        assertEquals(List.of(early), matchRepository.findMatches(MatchQuery.ALL.withTeam("spain")));
+        assertEquals(List.of(), matchRepository.findMatches(MatchQuery.ALL.withTeam("Italy")));
+        assertEquals(List.of(), matchRepository.findMatches(MatchQuery.ALL.withTeam("Brazil").withMaxTotalScore(4)));
+        assertEquals(List.of(latest, early), matchRepository.findMatches(MatchQuery.ALL.withMinTotalScore(5)));
+        assertEquals(List.of(recent), matchRepository.findMatches(MatchQuery.ALL.withMaxTotalScore(1)));
+        assertEquals(List.of(latest, recent), matchRepository.findMatches(MatchQuery.ALL.withStartedSince(kickOff.minusMinutes(15))));
+        assertEquals(List.of(latest), matchRepository.findMatches(MatchQuery.ALL.withStartedSince(kickOff.minusMinutes(15)).withMinTotalScore(2)));
+        assertEquals(matchRepository.findAllMatchesRanked(), matchRepository.findMatches(MatchQuery.ALL));
+    }
+
+    @Test
+    void testFindMatchesFollowsScoreChangesAndFinishes() {
+        var match = matchRepository.saveMatch(new Match("Brazil", "Spain", 0, 0));
+        matchRepository.updateScore(match.matchId(), 4, 1, Match.NO_FEED_SEQUENCE);
+        matchRepository.addToScores(match.matchId(), 0, 1);
+
+        assertEquals(List.of(match.withScores(4, 2)), matchRepository.findMatches(MatchQuery.ALL.withMinTotalScore(6)));
+        assertEquals(List.of(), matchRepository.findMatches(MatchQuery.ALL.withMaxTotalScore(5)));
+
+        matchRepository.deleteMatchById(match.matchId());
+
+        assertEquals(List.of(), matchRepository.findMatches(MatchQuery.ALL.withTeam("Brazil")));
+        assertEquals(List.of(), matchRepository.findMatches(MatchQuery.ALL.withMinTotalScore(1)));
+        assertEquals(List.of(), matchRepository.findMatches(MatchQuery.ALL.withStartedSince(match.startTime())));
+    }
+
+    @Test
+    void testReserveTeams() {
+        var match = new Match("Team A", "Team B", 0, 0);
+
+        assertTrue(matchRepository.reserveTeams(match.matchId(), match.homeTeam(), match.awayTeam()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTeamsAlreadyPlaying")
+    void testReserveTeamsIfAnyTeamsAreAlreadyPlaying(String homeTeam, String awayTeam, Match matchInProgress) {
+        reserveAndSave(matchInProgress);
+
+        assertFalse(matchRepository.reserveTeams(UUID.randomUUID().toString(), homeTeam, awayTeam));
+    }
+
+    static Stream<Arguments> provideTeamsAlreadyPlaying() {
+        return Stream.of(
+                // Case 1: Away Team already in progress as away team in existing match
+                Arguments.of("Team A", "Team C", new Match("Team B", "Team C", 10, 10)),
+
+                // Case 2: Away Team already in progress as home team in existing match
+                Arguments.of("Team A", "Team C", new Match("Team C", "Team X", 10, 10)),
+
+                // Case 3: Home team already in progress as away team in existing match
+                Arguments.of("Team B", "Team X", new Match("Team A", "Team B", 10, 10)),
+
+                // Case 4: Home team already in progress as home team in existing match
+                Arguments.of("Team B", "Team X", new Match("Team B", "Team A", 10, 10)),
+
+                // Case 5: Team names are compared ignoring case
+                Arguments.of("team b", "Team X", new Match("TEAM B", "Team A", 10, 10))
+        );
+    }
+
+    @Test
+    void testReserveTeamsDoesNotHoldHomeTeamIfAwayTeamIsAlreadyPlaying() {
+        reserveAndSave(new Match("Team B", "Team C", 0, 0));
+
+        assertFalse(matchRepository.reserveTeams(UUID.randomUUID().toString(), "Team A", "Team C"));
+        assertTrue(matchRepository.reserveTeams(UUID.randomUUID().toString(), "Team A", "Team D"));
+    }
+
+    @Test
+    void testReleaseTeamsOnlyReleasesTheGivenMatch() {
+        assertTrue(matchRepository.reserveTeams("unsaved", "Team A", "Team B"));
+        matchRepository.releaseTeams("other", "Team A", "Team B");
+        assertFalse(matchRepository.reserveTeams("other", "Team A", "Team C"));
+
+        matchRepository.releaseTeams("unsaved", "team a", "TEAM B");
+
+        assertTrue(matchRepository.reserveTeams("other", "Team A", "Team B"));
+    }
+
+    @Test
+    void testDeleteMatchByIdReturnsTheMatchAsItWasRemoved() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        reserveAndSave(match);
+        matchRepository.updateScore(match.matchId(), 2, 1, 5);
+
+        assertEquals(match.withScores(2, 1, 5), matchRepository.deleteMatchById(match.matchId()));
+        assertNull(matchRepository.deleteMatchById(match.matchId()));
+    }
+
+    @Test
+    void testDeleteMatchByIdReleasesTeams() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        reserveAndSave(match);
+
+        matchRepository.deleteMatchById(match.matchId());
+
+        assertTrue(matchRepository.reserveTeams(UUID.randomUUID().toString(), "Team A", "Team B"));
+    }
+
+    @Test
+    void testBoardVersionIsBumpedOnSaveAndDelete() {
+        var match = new Match("Team A", "Team B", 0, 0);
+        var initialVersion = matchRepository.getBoardVersion();
+
+        matchRepository.saveMatch(match);
+        assertEquals(initialVersion + 1, matchRepository.getBoardVersion());
+
+        matchRepository.saveMatch(match.withHomeTeamScore(1));
+        assertEquals(initialVersion + 2, matchRepository.getBoardVersion());
+
+        matchRepository.deleteMatchById(match.matchId());
+        assertEquals(initialVersion + 3, matchRepository.getBoardVersion());
+
+        // Deleting a match that is no longer on the board does not change it
+        matchRepository.deleteMatchById(match.matchId());
+        assertEquals(initialVersion + 3, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testUpdateScores() {
+        var kickOff = LocalDateTime.now();
+        var first = matchStartedAt("Team A", "Team B", 0, 0, kickOff);
+        var second = matchStartedAt("Team C", "Team D", 0, 0, kickOff.plusSeconds(1));
+        List.of(first, second).forEach(matchRepository::saveMatch);
+        var versionBeforeBatch = matchRepository.getBoardVersion();
+        var missingMatchId = UUID.randomUUID().toString();
+
+        var results = matchRepository.updateScores(List.of(
+                new ScoreUpdate(first.matchId(), 2, 1),
+                new ScoreUpdate(missingMatchId, 1, 1),
+                new ScoreUpdate(second.matchId(), 0, 1)
+        ));
+
+        assertEquals(List.of(
+                new ScoreUpdateResult(first.matchId(), ScoreUpdateResult.Status.UPDATED),
+                new ScoreUpdateResult(missingMatchId, ScoreUpdateResult.Status.MATCH_NOT_FOUND),
+                new ScoreUpdateResult(second.matchId(), ScoreUpdateResult.Status.UPDATED)), results);
+        assertEquals(first.withScores(2, 1), matchRepository.findMatchById(first.matchId()));
+        assertNull(matchRepository.findMatchById(missingMatchId));
+        assertEquals(List.of(first.withScores(2, 1), second.withScores(0, 1)), matchRepository.findAllMatchesRanked());
+        assertEquals(versionBeforeBatch + 1, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testUpdateScoreRejectsStaleFeedSequences() {
+        var match = matchRepository.saveMatch(new Match("Team A", "Team B", 0, 0));
+        var version = matchRepository.getBoardVersion();
+
+        assertEquals(ScoreUpdateResult.Status.UPDATED, matchRepository.updateScore(match.matchId(), 1, 0, 5).status());
+        assertEquals(ScoreUpdateResult.Status.STALE, matchRepository.updateScore(match.matchId(), 0, 0, 4).status());
+        assertEquals(ScoreUpdateResult.Status.STALE, matchRepository.updateScore(match.matchId(), 2, 0, 5).status());
+        assertEquals(ScoreUpdateResult.Status.UPDATED, matchRepository.updateScore(match.matchId(), 1, 1, Match.NO_FEED_SEQUENCE).status());
+        assertEquals(ScoreUpdateResult.Status.MATCH_NOT_FOUND, matchRepository.updateScore("missing", 1, 1, 1).status());
+
+        assertEquals(match.withScores(1, 1, 5), matchRepository.findMatchById(match.matchId()));
+        assertEquals(List.of(match.withScores(1, 1, 5)), matchRepository.findAllMatchesRanked());
+        assertEquals(version + 2, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testConcurrentFeedUpdatesKeepTheNewestScore() {
+        var matches = IntStream.range(0, 4)
+                .mapToObj(i -> matchRepository.saveMatch(new Match("Home " + i, "Away " + i, 0, 0)))
+                .toList();
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var feeds = IntStream.range(0, 8)
+                    .mapToObj(feed -> CompletableFuture.runAsync(() -> {
+                        var sequences = LongStream.rangeClosed(1, 2_000).boxed().collect(Collectors.toList());
+                        Collections.shuffle(sequences);
+                        for (long sequence : sequences) {
+                            var match = matches.get((int) (sequence % matches.size()));
+                            matchRepository.updateScore(match.matchId(), (int) sequence, feed, sequence);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(feeds).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        for (var match : matches) {
+            var stored = matchRepository.findMatchById(match.matchId());
+            assertEquals(stored.feedSequence(), stored.homeTeamScore());
+            assertTrue(stored.feedSequence() > 2_000 - matches.size());
+        }
+        var ranked = matchRepository.findAllMatchesRanked();
+        assertEquals(matches.size(), ranked.size());
+        assertEquals(ranked.stream().sorted(MatchRepositoryImpl.SCOREBOARD_ORDER).toList(), ranked);
+        assertTrue(ranked.containsAll(matchRepository.findAllMatches()));
+        assertEquals(ranked, matchRepository.findMatches(MatchQuery.ALL.withMinTotalScore(1)));
+    }
+
+    @Test
+    void testRankedReadsNeverSeeAMatchMissingOrTwiceWhileItMoves() {
+        var matches = IntStream.range(0, 16)
+                .mapToObj(i -> matchRepository.saveMatch(new Match("Home " + i, "Away " + i, 0, 0)))
+                .toList();
+        var matchIds = matches.stream().map(Match::matchId).collect(Collectors.toSet());
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var writers = IntStream.range(0, 2)
+                    .mapToObj(writer -> CompletableFuture.runAsync(() -> {
+                        for (int goal = 0; goal < 20_000; goal++) {
+                            matchRepository.addToScores(matches.get(goal % matches.size()).matchId(), writer, 1 - writer);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            var readers = IntStream.range(0, 2)
+                    .mapToObj(reader -> CompletableFuture.runAsync(() -> {
+                        while (!CompletableFuture.allOf(writers).isDone()) {
+                            var ranked = matchRepository.findAllMatchesRanked();
+                            assertEquals(matchIds, ranked.stream().map(Match::matchId).collect(Collectors.toSet()));
+                            assertEquals(matches.size(), ranked.size());
+                            assertEquals(ranked.stream().sorted(MatchRepositoryImpl.SCOREBOARD_ORDER).toList(), ranked);
+                            assertEquals(4, matchRepository.findMatchesRanked(0, 4).stream().map(Match::matchId).distinct().count());
+                            assertEquals(matches.size(), matchRepository.findMatches(MatchQuery.ALL.withMaxTotalScore(Integer.MAX_VALUE - 1)).size());
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(readers).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testRankedReadsOverABusyBoardOnlyResortTheMatchesWrittenMeanwhile() {
+        var matches = IntStream.range(0, 5_000)
+                .mapToObj(i -> matchRepository.saveMatch(new Match("Home " + i, "Away " + i, 0, 0)))
+                .toList();
+        var executor = Executors.newFixedThreadPool(2);
+        var reads = 0;
+        try {
+            var writer = CompletableFuture.runAsync(() -> {
+                for (int goal = 0; goal < 200_000; goal++) {
+                    matchRepository.addToScores(matches.get((goal * 7919) % matches.size()).matchId(), 1, 0);
+                }
+            }, executor);
+            while (!writer.isDone()) {
+                var ranked = matchRepository.findAllMatchesRanked();
+                assertEquals(matches.size(), ranked.stream().map(Match::matchId).distinct().count());
+                reads++;
+            }
+            writer.join();
+        } finally {
+            executor.shutdown();
+        }
+
+        var repairedReads = matchRepository.getRepairedRankedReads();
+        assertTrue(repairedReads > 0, "No read overlapped a write");
+        // A repaired read re-sorts the matches written while it walked the index, never the whole board
+        assertTrue(matchRepository.getMergedBackMatches() < repairedReads * (matches.size() / 10),
+                "Repaired reads merged back " + matchRepository.getMergedBackMatches() + " matches in " + repairedReads + " of " + reads + " reads");
+    }
+
+    @Test
+    void testAddToScores() {
+        var match = matchRepository.saveMatch(new Match("Team A", "Team B", 0, 0));
+        matchRepository.updateScore(match.matchId(), 1, 0, 4);
+
+        var goal = matchRepository.addToScores(match.matchId(), 0, 1);
+        var correction = matchRepository.addToScores(match.matchId(), -1, 0);
+
+        assertEquals(new ScoreChange(match.matchId(), 1, 1, 3), goal);
+        assertEquals(new ScoreChange(match.matchId(), 0, 1, 4), correction);
+        assertEquals(match.withScores(0, 1, 4), matchRepository.findMatchById(match.matchId()));
+        assertEquals(4, matchRepository.getBoardVersion());
+        assertNull(matchRepository.addToScores("missing", 1, 0));
+    }
+
+    @Test
+    void testAddToScoresRejectsNegativeScores() {
+        var match = matchRepository.saveMatch(new Match("Team A", "Team B", 1, 0));
+
+        var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchRepository.addToScores(match.matchId(), -1, -1));
+
+        assertEquals("Score cannot be negative", exceptionThrown.getMessage());
+        assertEquals(match, matchRepository.findMatchById(match.matchId()));
+        assertEquals(1, matchRepository.getBoardVersion());
+    }
+
+    @Test
+    void testConcurrentGoalsAreAllCounted(@TempDir Path journalDirectory) {
+        var journal = new MappedMatchJournal(journalDirectory, 1 << 20, 0);
+        for (var repository : List.of(matchRepository, new MatchRepositoryImpl(journal))) {
+            var matches = IntStream.range(0, 4)
+                    .mapToObj(i -> repository.saveMatch(new Match("Home " + i, "Away " + i, 0, 0)))
+                    .toList();
+            var executor = Executors.newFixedThreadPool(8);
+            try {
+                var reporters = IntStream.range(0, 8)
+                        .mapToObj(reporter -> CompletableFuture.runAsync(() -> {
+                            for (int goal = 0; goal < 1_000; goal++) {
+                                var match = matches.get(goal % matches.size());
+                                repository.addToScores(match.matchId(), reporter % 2, 1 - reporter % 2);
+                            }
+                        }, executor))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(reporters).join();
+            } finally {
+                executor.shutdown();
+            }
+
+            for (var match : matches) {
+                assertEquals(match.withScores(1_000, 1_000), repository.findMatchById(match.matchId()));
+            }
+            assertEquals(matches.size(), repository.findAllMatchesRanked().size());
+            assertTrue(repository.findAllMatchesRanked().containsAll(repository.findAllMatches()));
+        }
+        journal.close();
+    }
+
+    @Test
+    void testAddedScoresAreRestoredFromTheJournal(@TempDir Path journalDirectory) {
+        var journal = new MappedMatchJournal(journalDirectory, 4096, 0);
+        var journaledRepository = new MatchRepositoryImpl(journal);
+        var match = journaledRepository.saveMatch(new Match("Team A", "Team B", 0, 0));
+        journaledRepository.updateScore(match.matchId(), 1, 0, 9);
+        journaledRepository.addToScores(match.matchId(), 1, 0);
+        journaledRepository.addToScores(match.matchId(), 0, 1);
+        assertThrows(IllegalArgumentException.class, () -> journaledRepository.addToScores(match.matchId(), 0, -2));
+        journal.close();
+
+        var restoredRepository = new MatchRepositoryImpl(new MappedMatchJournal(journalDirectory, 4096, 0));
+
+        assertEquals(match.withScores(2, 1, 9), restoredRepository.findMatchById(match.matchId()));
+    }
+
+    @Test
+    void testFeedSequencesAreRestoredFromTheJournal(@TempDir Path journalDirectory) {
+        var journal = new MappedMatchJournal(journalDirectory, 4096, 0);
+        var journaledRepository = new MatchRepositoryImpl(journal);
+        var match = journaledRepository.saveMatch(new Match("Team A", "Team B", 0, 0));
+        journaledRepository.updateScore(match.matchId(), 1, 0, 9);
+        assertEquals(ScoreUpdateResult.Status.STALE, journaledRepository.updateScore(match.matchId(), 0, 0, 8).status());
+        journaledRepository.updateScores(List.of(new ScoreUpdate(match.matchId(), 2, 0)));
+        journal.close();
+
+        var restoredRepository = new MatchRepositoryImpl(new MappedMatchJournal(journalDirectory, 4096, 0));
+
+        assertEquals(match.withScores(2, 0, 9), restoredRepository.findMatchById(match.matchId()));
+        assertEquals(ScoreUpdateResult.Status.STALE, restoredRepository.updateScore(match.matchId(), 5, 0, 9).status());
+    }
+
+    @Test
+    void testLiveMatchesAreRestoredFromTheJournal(@TempDir Path journalDirectory) {
+        var journal = new MappedMatchJournal(journalDirectory, 4096, 0);
+        var journaledRepository = new MatchRepositoryImpl(journal);
+        var kickOff = LocalDateTime.now();
+        var finished = matchStartedAt("Team A", "Team B", 0, 0, kickOff);
+        var updated = matchStartedAt("Team C", "Team D", 0, 0, kickOff.plusSeconds(1));
+        var batched = matchStartedAt("Team E", "Team F", 0, 0, kickOff.plusSeconds(2));
+        for (var match : List.of(finished, updated, batched)) {
+            journaledRepository.reserveTeams(match.matchId(), match.homeTeam(), match.awayTeam());
+            journaledRepository.saveMatch(match);
+        }
+        journaledRepository.saveMatch(updated.withScores(2, 1));
+        journaledRepository.updateScores(List.of(new ScoreUpdate(batched.matchId(), 1, 0)));
+        journaledRepository.deleteMatchById(finished.matchId());
+        journal.close();
+
+        var restoredRepository = new MatchRepositoryImpl(new MappedMatchJournal(journalDirectory, 4096, 0));
+
+        assertEquals(List.of(updated.withScores(2, 1), batched.withScores(1, 0)), restoredRepository.findAllMatchesRanked());
+        assertEquals(List.of(updated.withScores(2, 1)), restoredRepository.findMatches(MatchQuery.ALL.withTeam("Team D")));
+        assertEquals(List.of(batched.withScores(1, 0)), restoredRepository.findMatches(MatchQuery.ALL.withMaxTotalScore(1)));
+        assertNull(restoredRepository.findMatchById(finished.matchId()));
+        assertFalse(restoredRepository.reserveTeams(UUID.randomUUID().toString(), "Team C", "Team X"));
+        assertTrue(restoredRepository.reserveTeams(UUID.randomUUID().toString(), "Team A", "Team B"));
+    }
+
+    @Test
+    void testLiveMatchesAreRestoredFromSnapshotAndLaterJournalEvents(@TempDir Path journalDirectory, @TempDir Path snapshotDirectory) {
+        var journal = new MappedMatchJournal(journalDirectory, 256, 0);
+        var snapshotRepository = new MatchRepositoryImpl(journal, new FileMatchSnapshotStore(snapshotDirectory, 2));
+        var kickOff = LocalDateTime.now();
+        var beforeSnapshot = matchStartedAt("Team A", "Team B", 0, 0, kickOff);
+        var afterSnapshot = matchStartedAt("Team C", "Team D", 0, 0, kickOff.plusSeconds(1));
+        for (int goals = 0; goals < 20; goals++) {
+            snapshotRepository.saveMatch(beforeSnapshot.withScores(goals, 0));
+        }
+
+        var snapshotSequence = snapshotRepository.writeSnapshot();
+
+        snapshotRepository.saveMatch(beforeSnapshot.withScores(20, 1));
+        snapshotRepository.saveMatch(afterSnapshot);
+        journal.close();
+
+        var restoredRepository = new MatchRepositoryImpl(new MappedMatchJournal(journalDirectory, 256, 0),
+                new FileMatchSnapshotStore(snapshotDirectory, 2));
+
+        assertEquals(20, snapshotSequence);
+        assertEquals(List.of(beforeSnapshot.withScores(20, 1), afterSnapshot), restoredRepository.findAllMatchesRanked());
+    }
+
+    @Test
+    void testEveryEventIsRestoredWhenTheNewestSnapshotIsCorrupt(@TempDir Path journalDirectory, @TempDir Path snapshotDirectory) throws IOException {
+        var journal = new MappedMatchJournal(journalDirectory, 256, 0);
+        var snapshotRepository = new MatchRepositoryImpl(journal, new FileMatchSnapshotStore(snapshotDirectory, 2));
+        var kickOff = LocalDateTime.now();
+        var first = matchStartedAt("Team A", "Team B", 0, 0, kickOff);
+        var second = matchStartedAt("Team C", "Team D", 0, 0, kickOff.plusSeconds(1));
+        var finished = matchStartedAt("Team E", "Team F", 0, 0, kickOff.plusSeconds(2));
+        List.of(first, finished).forEach(snapshotRepository::saveMatch);
+        var olderSnapshotSequence = snapshotRepository.writeSnapshot();
+        // Enough events between the snapshots to fill several journal segments
+        for (int goals = 1; goals <= 20; goals++) {
+            snapshotRepository.updateScore(first.matchId(), goals, 0, Match.NO_FEED_SEQUENCE);
+        }
+        snapshotRepository.saveMatch(second);
+        snapshotRepository.deleteMatchById(finished.matchId());
+        var newestSnapshotSequence = snapshotRepository.writeSnapshot();
+        snapshotRepository.updateScore(second.matchId(), 0, 1, Match.NO_FEED_SEQUENCE);
+        journal.close();
+
+        var newestSnapshot = snapshotDirectory.resolve(String.format("snapshot-%020d.bin", newestSnapshotSequence));
+        var bytes = Files.readAllBytes(newestSnapshot);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(newestSnapshot, bytes);
+        var restoredRepository = new MatchRepositoryImpl(new MappedMatchJournal(journalDirectory, 256, 0),
+                new FileMatchSnapshotStore(snapshotDirectory, 2));
+
+        assertTrue(olderSnapshotSequence < newestSnapshotSequence);
+        assertEquals(List.of(first.withScores(20, 0), second.withScores(0, 1)), restoredRepository.findAllMatchesRanked());
+        assertNull(restoredRepository.findMatchById(finished.matchId()));
+    }
+
+    private void reserveAndSave(Match match) {
+        assertTrue(matchRepository.reserveTeams(match.matchId(), match.homeTeam(), match.awayTeam()));
+        matchRepository.saveMatch(match);
+    }
+
+    private static Match matchStartedAt(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, LocalDateTime startTime) {
+        return new Match(UUID.randomUUID().toString(), homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime);
+    }
+
 
 }
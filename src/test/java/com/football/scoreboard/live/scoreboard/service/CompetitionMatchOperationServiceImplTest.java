@@ -0,0 +1,113 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.exception.CompetitionNotFoundException;
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationService.DEFAULT_COMPETITION;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompetitionMatchOperationServiceImplTest {
+
+    private final MatchOperationService defaultScoreboard = new MatchOperationServiceImpl(new MatchRepositoryImpl());
+
+    private final CompetitionMatchOperationService competitionMatchOperationService =
+            new CompetitionMatchOperationServiceImpl(defaultScoreboard, List.of("world-cup", "friendlies"),
+                    competitionId -> new MatchOperationServiceImpl(new MatchRepositoryImpl()));
+
+    @Test
+    void testCompetitionsHaveSeparateBoards() {
+        var worldCupMatch = competitionMatchOperationService.startMatch("world-cup", "Mexico", "Canada");
+        competitionMatchOperationService.startMatch("friendlies", "Spain", "Brazil");
+        competitionMatchOperationService.updateMatchScore("world-cup", worldCupMatch.matchId(), 0, 5);
+
+        assertEquals(List.of("1. Mexico 0 - Canada 5"), competitionMatchOperationService.getMatchSummary("world-cup"));
+        assertEquals(List.of("1. Spain 0 - Brazil 0"), competitionMatchOperationService.getMatchSummary("friendlies"));
+        assertEquals(Set.of(DEFAULT_COMPETITION, "world-cup", "friendlies"), competitionMatchOperationService.getCompetitionIds());
+    }
+
+    @Test
+    void testWritesToOneCompetitionDoNotMoveAnotherCompetitionsBoardVersion() {
+        var worldCupMatch = competitionMatchOperationService.startMatch("world-cup", "Mexico", "Canada");
+        competitionMatchOperationService.startMatch("friendlies", "Spain", "Brazil");
+        var friendliesSummary = competitionMatchOperationService.getVersionedMatchSummary("friendlies");
+
+        competitionMatchOperationService.updateMatchScore("world-cup", worldCupMatch.matchId(), 1, 0);
+        competitionMatchOperationService.finishMatch("world-cup", worldCupMatch.matchId());
+
+        assertSame(friendliesSummary, competitionMatchOperationService.getVersionedMatchSummary("friendlies"));
+        assertEquals(friendliesSummary.boardVersion(), competitionMatchOperationService.getBoardVersion("friendlies"));
+    }
+
+    @Test
+    void testTeamsMayPlayInDifferentCompetitionsAtTheSameTime() {
+        competitionMatchOperationService.startMatch("world-cup", "Mexico", "Canada");
+
+        assertDoesNotThrow(() -> competitionMatchOperationService.startMatch("friendlies", "Mexico", "Canada"));
+        assertThrows(MatchConflictException.class, () -> competitionMatchOperationService.startMatch("world-cup", "Mexico", "Spain"));
+    }
+
+    @Test
+    void testDefaultCompetitionIsTheSingleBoard() {
+        var match = defaultScoreboard.startMatch("Mexico", "Canada");
+
+        competitionMatchOperationService.updateMatchScore(DEFAULT_COMPETITION, match.matchId(), 0, 1);
+
+        assertEquals(List.of("1. Mexico 0 - Canada 1"), defaultScoreboard.getMatchSummary());
+    }
+
+    @Test
+    void testRegisteredCompetitionStartsAsAnEmptyBoard() {
+        assertEquals(List.of(), competitionMatchOperationService.getMatchSummary("world-cup"));
+        assertThrows(MatchNotFoundException.class, () -> competitionMatchOperationService.updateMatchScore("world-cup", "match-1", 1, 0));
+        assertThrows(MatchNotFoundException.class, () -> competitionMatchOperationService.finishMatch("world-cup", "match-1"));
+        assertEquals(List.of(new ScoreUpdateResult("match-1", ScoreUpdateResult.Status.MATCH_NOT_FOUND)),
+                competitionMatchOperationService.updateMatchScores("world-cup", List.of(new ScoreUpdate("match-1", 1, 0))));
+        assertEquals(Set.of(DEFAULT_COMPETITION, "world-cup", "friendlies"), competitionMatchOperationService.getCompetitionIds());
+    }
+
+    @Test
+    void testUnknownCompetitionIsNotFoundAndNeverGetsAShard() {
+        assertThrows(CompetitionNotFoundException.class, () -> competitionMatchOperationService.startMatch("qualifiers", "Mexico", "Canada"));
+        assertThrows(CompetitionNotFoundException.class, () -> competitionMatchOperationService.getMatchSummary("qualifiers"));
+        assertThrows(CompetitionNotFoundException.class, () -> competitionMatchOperationService.updateMatchScore("qualifiers", "match-1", 1, 0));
+
+        assertFalse(competitionMatchOperationService.getCompetitionIds().contains("qualifiers"));
+    }
+
+    @Test
+    void testCompetitionsAreReadOnlyIfTheyCannotBeJournaled() {
+        var readOnly = new CompetitionMatchOperationServiceImpl(defaultScoreboard, List.of("world-cup"), new SimpleMeterRegistry(),
+                new NodeSequenceMatchIdGenerator(0), MatchAuditTrail.DISABLED, MatchArchive.DISABLED, "default",
+                CompetitionMatchOperationServiceImpl.NOT_JOURNALED_MESSAGE);
+
+        var exceptionThrown = assertThrows(MatchConflictException.class, () -> readOnly.startMatch("world-cup", "Mexico", "Canada"));
+        assertEquals(CompetitionMatchOperationServiceImpl.NOT_JOURNALED_MESSAGE, exceptionThrown.getMessage());
+        assertEquals(List.of(), readOnly.getMatchSummary("world-cup"));
+        assertDoesNotThrow(() -> readOnly.startMatch(DEFAULT_COMPETITION, "Mexico", "Canada"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "\t", "\n"})
+    void testInvalidCompetitionId(String competitionId) {
+        var exceptionThrown = assertThrows(IllegalArgumentException.class,
+                () -> competitionMatchOperationService.startMatch(competitionId, "Mexico", "Canada"));
+        assertEquals("Input string cannot be null, empty, or contain only whitespaces", exceptionThrown.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> competitionMatchOperationService.getMatchSummary(competitionId));
+    }
+}
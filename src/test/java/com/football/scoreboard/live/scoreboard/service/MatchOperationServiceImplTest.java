@@ -1,21 +1,39 @@
 package com.football.scoreboard.live.scoreboard.service;
 
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.AuditOperation;
+import com.football.scoreboard.live.scoreboard.audit.AuditOutcome;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
 import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
 import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.model.Side;
 import com.football.scoreboard.live.scoreboard.repository.MatchRepository;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,7 +50,7 @@ class MatchOperationServiceImplTest {
         void testStartMatch() {
             var match = new Match("Team A", "Team B", 0, 0);
 
-            when(matchRepository.findAllMatches()).thenReturn(List.of());
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(true);
             when(matchRepository.saveMatch(any(Match.class))).thenReturn(match);
 
             matchOperationService.startMatch("Team A", "Team B");
@@ -46,7 +64,7 @@ class MatchOperationServiceImplTest {
 
             var match = new Match("Team A", "Team B", 0, 0);
 
-            when(matchRepository.findAllMatches()).thenReturn(List.of());
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(true);
             when(matchRepository.saveMatch(any(Match.class))).thenReturn(match);
 
             var returnedMatch = matchOperationService.startMatch("Team A", "Team B");
@@ -80,39 +98,29 @@ class MatchOperationServiceImplTest {
             assertEquals("Input string cannot be null, empty, or contain only whitespaces", exceptionThrown.getMessage());
         }
 
-        @ParameterizedTest
-        @MethodSource("provideStartMatchData")
-        void testStartMatchIfAnyTeamsAreAlreadyPlaying(String homeTeam, String awayTeam, List<Match> matchesInProgress) {
+        @Test
+        void testStartMatchIfAnyTeamsAreAlreadyPlaying() {
 
-            when(matchRepository.findAllMatches()).thenReturn(matchesInProgress);
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team C"))).thenReturn(false);
 
-            var exceptionThrown = assertThrows(IllegalStateException.class, () -> matchOperationService.startMatch(homeTeam, awayTeam));
+            var exceptionThrown = assertThrows(MatchConflictException.class, () -> matchOperationService.startMatch("Team A", "Team C"));
 
             assertEquals("A match is already in progress involving one or both of the teams.", exceptionThrown.getMessage());
+            verify(matchRepository, never()).saveMatch(any(Match.class));
         }
 
-        static Stream<Arguments> provideStartMatchData() {
-            return Stream.of(
-                    // Case 1: Away Team already in progress as away team in existing match, exception should be thrown
-                    Arguments.of("Team A", "Team C", List.of(
-                            new Match("Team B", "Team C", 10, 10)
-                    )),
-
-                    // Case 2: Away Team already in progress as home team in existing match, exception should be thrown
-                    Arguments.of("Team A", "Team C", List.of(
-                            new Match("Team C", "Team X", 10, 10)
-                    )),
+        @Test
+        void testStartMatchReleasesTheTeamsIfTheMatchCannotBeSaved() {
+            var failure = new IllegalStateException("Journal segment could not be mapped");
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(true);
+            when(matchRepository.saveMatch(any(Match.class))).thenThrow(failure);
 
-                    // Case 3: Home team already in progress as away team in existing match, exception should be thrown
-                    Arguments.of("Team B", "Team X", List.of(
-                            new Match("Team A", "Team B", 10, 10)
-                    )),
+            var exceptionThrown = assertThrows(IllegalStateException.class, () -> matchOperationService.startMatch("Team A", "Team B"));
 
-                    // Case 4: Home team already in progress as home team in existing match, exception should be thrown
-                    Arguments.of("Team B", "Team X", List.of(
-                            new Match("Team B", "Team A", 10, 10)
-                    ))
-            );
+            assertSame(failure, exceptionThrown);
+            var matchId = ArgumentCaptor.forClass(String.class);
+            verify(matchRepository).reserveTeams(matchId.capture(), eq("Team A"), eq("Team B"));
+            verify(matchRepository).releaseTeams(matchId.getValue(), "Team A", "Team B");
         }
     }
     @Nested
@@ -123,15 +131,14 @@ class MatchOperationServiceImplTest {
         void testUpdateMatchScore() {
 
             var match = new Match("Team A", "Team B", 0, 0);
-            var updatedMatch = match.withAwayTeamScore(3).withHomeTeamScore(2);
 
-            when(matchRepository.findMatchById(match.matchId())).thenReturn(match);
-            when(matchRepository.saveMatch(updatedMatch)).thenReturn(updatedMatch);
+            when(matchRepository.updateScore(match.matchId(), 2, 3, Match.NO_FEED_SEQUENCE))
+                    .thenReturn(new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.UPDATED));
 
             matchOperationService.updateMatchScore(match.matchId(), 2, 3);
 
-            verify(matchRepository).findMatchById(match.matchId());
-            verify(matchRepository).saveMatch(updatedMatch);
+            verify(matchRepository).updateScore(match.matchId(), 2, 3, Match.NO_FEED_SEQUENCE);
+            verify(matchRepository, never()).saveMatch(any(Match.class));
 
         }
 
@@ -139,7 +146,8 @@ class MatchOperationServiceImplTest {
         void testUpdateMatchScoreIfMatchNotFound() {
             var match = new Match("Team A", "Team B", 0, 0);
 
-            when(matchRepository.findMatchById(match.matchId())).thenReturn(null);
+            when(matchRepository.updateScore(match.matchId(), 2, 3, Match.NO_FEED_SEQUENCE))
+                    .thenReturn(new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.MATCH_NOT_FOUND));
 
             var exceptionThrown = assertThrows(MatchNotFoundException.class, () -> matchOperationService.updateMatchScore(match.matchId(), 2, 3));
 
@@ -165,6 +173,147 @@ class MatchOperationServiceImplTest {
             var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.updateMatchScore(matchId, 1, 2));
             assertEquals("Input string cannot be null, empty, or contain only whitespaces", exceptionThrown.getMessage());
         }
+
+        @Test
+        void testUpdateMatchScoreFromFeed() {
+            var match = new Match("Team A", "Team B", 0, 0);
+            var updated = new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.UPDATED);
+            var stale = new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.STALE);
+            when(matchRepository.updateScore(match.matchId(), 1, 0, 7)).thenReturn(updated);
+            when(matchRepository.updateScore(match.matchId(), 0, 0, 6)).thenReturn(stale);
+
+            assertEquals(updated, matchOperationService.updateMatchScore(match.matchId(), 1, 0, 7));
+            assertEquals(stale, matchOperationService.updateMatchScore(match.matchId(), 0, 0, 6));
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = {0, -1})
+        void testUpdateMatchScoreFromFeedIfInvalidFeedSequence(long feedSequence) {
+            var exceptionThrown = assertThrows(IllegalArgumentException.class,
+                    () -> matchOperationService.updateMatchScore(UUID.randomUUID().toString(), 1, 0, feedSequence));
+            assertEquals("Feed sequence must be positive", exceptionThrown.getMessage());
+            verifyNoInteractions(matchRepository);
+        }
+    }
+    @Nested
+    @DisplayName("Update Match Scores Test Scenarios")
+    class UpdateMatchScoresTestScenarios {
+
+        @Test
+        void testUpdateMatchScores() {
+            var match1 = new Match("Team A", "Team B", 0, 0);
+            var match2 = new Match("Team C", "Team D", 0, 0);
+            var missingMatchId = UUID.randomUUID().toString();
+            var scoreUpdates = List.of(
+                    new ScoreUpdate(match1.matchId(), 1, 0),
+                    new ScoreUpdate(missingMatchId, 2, 2),
+                    new ScoreUpdate(match2.matchId(), 0, 3)
+            );
+
+            when(matchRepository.updateScores(scoreUpdates))
+                    .thenReturn(List.of(
+                            new ScoreUpdateResult(match1.matchId(), ScoreUpdateResult.Status.UPDATED),
+                            new ScoreUpdateResult(missingMatchId, ScoreUpdateResult.Status.MATCH_NOT_FOUND),
+                            new ScoreUpdateResult(match2.matchId(), ScoreUpdateResult.Status.UPDATED)));
+
+            var results = matchOperationService.updateMatchScores(scoreUpdates);
+
+            assertEquals(List.of(
+                    new ScoreUpdateResult(match1.matchId(), ScoreUpdateResult.Status.UPDATED),
+                    new ScoreUpdateResult(missingMatchId, ScoreUpdateResult.Status.MATCH_NOT_FOUND),
+                    new ScoreUpdateResult(match2.matchId(), ScoreUpdateResult.Status.UPDATED)
+            ), results);
+            verify(matchRepository).updateScores(scoreUpdates);
+            verify(matchRepository, never()).saveMatch(any(Match.class));
+        }
+
+        @Test
+        void testUpdateMatchScoresRejectsWholeBatchIfAnyUpdateIsInvalid() {
+            var scoreUpdates = List.of(
+                    new ScoreUpdate(UUID.randomUUID().toString(), 1, 0),
+                    new ScoreUpdate(UUID.randomUUID().toString(), 1, -2)
+            );
+
+            var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.updateMatchScores(scoreUpdates));
+
+            assertEquals("Score cannot be negative", exceptionThrown.getMessage());
+            verify(matchRepository, never()).updateScores(anyList());
+        }
+
+        @Test
+        void testUpdateMatchScoresIfBatchOrUpdateIsNull() {
+            var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.updateMatchScores(null));
+            assertEquals("Score updates cannot be null", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.updateMatchScores(Arrays.asList((ScoreUpdate) null)));
+            assertEquals("Score update cannot be null", exceptionThrown.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Goal and Correct Score Test Scenarios")
+    class ScoreDeltaTestScenarios {
+
+        @Test
+        void testRecordGoal() {
+            var listener = mock(ScoreboardListener.class);
+            matchOperationService.addScoreboardListener(listener);
+            when(matchRepository.addToScores("match-1", 1, 0)).thenReturn(new ScoreChange("match-1", 2, 1, 7));
+            when(matchRepository.addToScores("match-1", 0, 1)).thenReturn(new ScoreChange("match-1", 2, 2, 8));
+
+            assertEquals(new ScoreChange("match-1", 2, 1, 7), matchOperationService.recordGoal("match-1", Side.HOME));
+            assertEquals(new ScoreChange("match-1", 2, 2, 8), matchOperationService.recordGoal("match-1", Side.AWAY));
+
+            verify(listener, times(2)).scoreboardChanged();
+            verify(matchRepository, never()).findMatchById(anyString());
+            verify(matchRepository, never()).updateScore(anyString(), anyInt(), anyInt(), anyLong());
+        }
+
+        @Test
+        void testCorrectScore() {
+            when(matchRepository.addToScores("match-1", -1, 0)).thenReturn(new ScoreChange("match-1", 0, 1, 9));
+
+            assertEquals(new ScoreChange("match-1", 0, 1, 9), matchOperationService.correctScore("match-1", -1, 0));
+        }
+
+        @Test
+        void testRecordGoalAndCorrectScoreIfMatchNotFound() {
+            var exceptionThrown = assertThrows(MatchNotFoundException.class, () -> matchOperationService.recordGoal("missing", Side.HOME));
+            assertEquals("Match with ID missing not found", exceptionThrown.getMessage());
+
+            assertThrows(MatchNotFoundException.class, () -> matchOperationService.correctScore("missing", 0, -1));
+        }
+
+        @Test
+        void testRecordGoalAndCorrectScoreIfInvalid() {
+            var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.recordGoal("match-1", null));
+            assertEquals("Side cannot be null", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.correctScore("match-1", 0, 0));
+            assertEquals("Score correction must change at least one score", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.recordGoal(" ", Side.HOME));
+            assertEquals("Input string cannot be null, empty, or contain only whitespaces", exceptionThrown.getMessage());
+            verifyNoInteractions(matchRepository);
+        }
+
+        @Test
+        void testConcurrentGoalsOnARealRepositoryAreAllCounted() throws InterruptedException {
+            var scoreboard = new MatchOperationServiceImpl(new MatchRepositoryImpl());
+            var match = scoreboard.startMatch("Team A", "Team B");
+            var reporters = new Thread[4];
+            for (int i = 0; i < reporters.length; i++) {
+                var side = i % 2 == 0 ? Side.HOME : Side.AWAY;
+                reporters[i] = new Thread(() -> IntStream.range(0, 500).forEach(goal -> scoreboard.recordGoal(match.matchId(), side)));
+                reporters[i].start();
+            }
+            for (var reporter : reporters) {
+                reporter.join();
+            }
+
+            assertEquals(List.of("1. Team A 1000 - Team B 1000"), scoreboard.getMatchSummary());
+            assertEquals(new ScoreChange(match.matchId(), 1000, 999, 2002), scoreboard.correctScore(match.matchId(), 0, -1));
+        }
     }
     @Nested
     @DisplayName("Finish Match Test Scenarios")
@@ -174,14 +323,30 @@ class MatchOperationServiceImplTest {
         void testFinishMatchIfMatchWithIdExist() {
 
             var match = new Match("Team A", "Team B", 0, 0);
-            when(matchRepository.findMatchById(match.matchId())).thenReturn(match);
+            when(matchRepository.deleteMatchById(match.matchId())).thenReturn(match);
 
             matchOperationService.finishMatch(match.matchId());
 
-            verify(matchRepository).findMatchById(match.matchId());
             verify(matchRepository).deleteMatchById(match.matchId());
         }
 
+        @Test
+        void testFinishedMatchIsArchivedAsItWasRemoved() {
+            var matchArchive = mock(MatchArchive.class);
+            var archivingService = new MatchOperationServiceImpl(matchRepository, new SimpleMeterRegistry(), Tags.empty(),
+                    NodeSequenceMatchIdGenerator.DEFAULT, MatchAuditTrail.DISABLED, matchArchive, null);
+            var match = new Match("Team A", "Team B", 0, 0);
+            var removed = match.withScores(3, 1, 9);
+            when(matchRepository.deleteMatchById(match.matchId())).thenReturn(removed, (Match) null);
+
+            archivingService.finishMatch(match.matchId());
+            // A concurrent finish that lost the race to remove the match fails instead of archiving it again
+            assertThrows(MatchNotFoundException.class, () -> archivingService.finishMatch(match.matchId()));
+
+            verify(matchArchive).archive(eq(removed), any(LocalDateTime.class));
+            verifyNoMoreInteractions(matchArchive);
+        }
+
         @Test
         void testFinishMatchIfMatchWithIdDoesNotExist() {
             var match = new Match("Team A", "Team B", 0, 0);
@@ -207,7 +372,7 @@ class MatchOperationServiceImplTest {
 
         @Test
         void testGetMatchSummaryIfNoMatchInProgress() {
-            when(matchRepository.findAllMatches()).thenReturn(List.of());
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of());
 
             var summary = matchOperationService.getMatchSummary();
 
@@ -223,7 +388,8 @@ class MatchOperationServiceImplTest {
             var match5 = new Match("Argentina", "Australia", 3, 1);
 
 
-            when(matchRepository.findAllMatches()).thenReturn(List.of(match1, match2,match3, match4, match5));
+            // The repository hands matches back already in scoreboard order
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of(match4, match2, match1, match5, match3));
 
             var summary = matchOperationService.getMatchSummary();
 
@@ -234,5 +400,410 @@ class MatchOperationServiceImplTest {
             assertEquals("4. Argentina 3 - Australia 1", summary.get(3));
             assertEquals("5. Germany 2 - France 2", summary.get(4));
         }
+
+        @Test
+        void testGetMatchSummaryPageNumbersLinesByBoardPosition() {
+            var match1 = new Match("Spain", "Brazil", 10, 2);
+            var match2 = new Match("Mexico", "Canada", 0, 5);
+
+            when(matchRepository.getBoardVersion()).thenReturn(3L);
+            when(matchRepository.findMatchesRanked(20, 2)).thenReturn(List.of(match1, match2));
+
+            assertEquals(List.of("21. Spain 10 - Brazil 2", "22. Mexico 0 - Canada 5"), matchOperationService.getMatchSummary(20, 2));
+            verify(matchRepository, never()).findAllMatchesRanked();
+        }
+
+        @Test
+        void testGetTopMatchesOnlyFetchesTheTopOfTheBoard() {
+            var match = new Match("Spain", "Brazil", 10, 2);
+
+            when(matchRepository.findMatchesRanked(0, 5)).thenReturn(List.of(match));
+
+            assertEquals(List.of("1. Spain 10 - Brazil 2"), matchOperationService.getTopMatches(5));
+            verify(matchRepository, never()).findAllMatchesRanked();
+        }
+
+        @Test
+        void testGetMatchSummaryPageIsServedFromTheCachedSummary() {
+            var match1 = new Match("Spain", "Brazil", 10, 2);
+            var match2 = new Match("Mexico", "Canada", 0, 5);
+            var match3 = new Match("Germany", "France", 2, 2);
+
+            when(matchRepository.getBoardVersion()).thenReturn(7L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of(match1, match2, match3));
+            matchOperationService.getMatchSummary();
+
+            assertEquals(List.of("2. Mexico 0 - Canada 5", "3. Germany 2 - France 2"), matchOperationService.getMatchSummary(1, 10));
+            assertEquals(List.of(), matchOperationService.getMatchSummary(5, 10));
+            assertEquals(List.of("1. Spain 10 - Brazil 2"), matchOperationService.getTopMatches(1));
+            verify(matchRepository, never()).findMatchesRanked(anyInt(), anyInt());
+        }
+
+        @Test
+        void testGetMatchSummaryPageWithInvalidBounds() {
+            var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.getMatchSummary(-1, 5));
+            assertEquals("Offset cannot be negative", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.getTopMatches(0));
+            assertEquals("Limit must be positive", exceptionThrown.getMessage());
+        }
+
+        @Test
+        void testGetEncodedMatchSummaryIsCachedWhileBoardVersionIsUnchanged() {
+            var match = new Match("Mexico", "Canada", 0, 5);
+
+            when(matchRepository.getBoardVersion()).thenReturn(7L, 7L, 8L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of(match), List.of(match.withHomeTeamScore(1)));
+
+            var firstSummary = matchOperationService.getEncodedMatchSummary();
+
+            assertEquals("[\"1. Mexico 0 - Canada 5\"]", new String(firstSummary.json(), StandardCharsets.UTF_8));
+            assertSame(firstSummary, matchOperationService.getEncodedMatchSummary());
+            assertEquals("[\"1. Mexico 1 - Canada 5\"]",
+                    new String(matchOperationService.getEncodedMatchSummary().json(), StandardCharsets.UTF_8));
+            verify(matchRepository, times(2)).findAllMatchesRanked();
+        }
+
+        @Test
+        void testGetMatchSummaryIsCachedWhileBoardVersionIsUnchanged() {
+            var match = new Match("Mexico", "Canada", 0, 5);
+
+            when(matchRepository.getBoardVersion()).thenReturn(7L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of(match));
+
+            var firstSummary = matchOperationService.getMatchSummary();
+            var secondSummary = matchOperationService.getMatchSummary();
+
+            assertSame(firstSummary, secondSummary);
+            verify(matchRepository, times(1)).findAllMatchesRanked();
+            assertThrows(UnsupportedOperationException.class, () -> firstSummary.add("6. Extra 0 - Extra 0"));
+        }
+
+        @Test
+        void testGetMatchSummaryIsRebuiltWhenBoardVersionChanges() {
+            var match = new Match("Mexico", "Canada", 0, 5);
+
+            when(matchRepository.getBoardVersion()).thenReturn(7L, 8L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of(match), List.of(match.withHomeTeamScore(1)));
+
+            assertEquals(List.of("1. Mexico 0 - Canada 5"), matchOperationService.getMatchSummary());
+            assertEquals(List.of("1. Mexico 1 - Canada 5"), matchOperationService.getMatchSummary());
+            verify(matchRepository, times(2)).findAllMatchesRanked();
+        }
+
+        @Test
+        void testGetVersionedMatchSummaryCarriesTheBoardVersion() {
+            var match = new Match("Mexico", "Canada", 0, 5);
+
+            when(matchRepository.getBoardVersion()).thenReturn(7L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of(match));
+
+            var summary = matchOperationService.getVersionedMatchSummary();
+
+            assertEquals(7, summary.boardVersion());
+            assertEquals(List.of("1. Mexico 0 - Canada 5"), summary.lines());
+            assertEquals(7, matchOperationService.getBoardVersion());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Matches Test Scenarios")
+    class FindMatchesTestScenarios {
+        @Test
+        void testFindMatchesDelegatesTheQuery() {
+            var match = new Match("Spain", "Brazil", 3, 2);
+            var query = MatchQuery.ALL.withTeam("Spain").withMinTotalScore(5);
+
+            when(matchRepository.findMatches(query)).thenReturn(List.of(match));
+
+            assertEquals(List.of(match), matchOperationService.findMatches(query));
+        }
+
+        @Test
+        void testFindMatchesWithInvalidQuery() {
+            var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.findMatches(null));
+            assertEquals("Match query cannot be null", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.findMatches(MatchQuery.ALL.withTeam(" ")));
+            assertEquals("Input string cannot be null, empty, or contain only whitespaces", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class, () -> matchOperationService.findMatches(MatchQuery.ALL.withMinTotalScore(-1)));
+            assertEquals("Score cannot be negative", exceptionThrown.getMessage());
+
+            exceptionThrown = assertThrows(IllegalArgumentException.class,
+                    () -> matchOperationService.findMatches(MatchQuery.ALL.withMinTotalScore(4).withMaxTotalScore(3)));
+            assertEquals("Minimum total score cannot be greater than the maximum total score", exceptionThrown.getMessage());
+            verify(matchRepository, never()).findMatches(any());
+        }
+    }
+    @Nested
+    @DisplayName("Scoreboard Listener Test Scenarios")
+    class ScoreboardListenerTestScenarios {
+
+        private final ScoreboardListener scoreboardListener = mock(ScoreboardListener.class);
+
+        @Test
+        void testListenerIsNotifiedOfEveryChange() {
+            var match = new Match("Team A", "Team B", 0, 0);
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(true);
+            when(matchRepository.saveMatch(any(Match.class))).thenReturn(match);
+            when(matchRepository.deleteMatchById(match.matchId())).thenReturn(match);
+            when(matchRepository.updateScore(match.matchId(), 1, 0, Match.NO_FEED_SEQUENCE))
+                    .thenReturn(new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.UPDATED));
+            when(matchRepository.updateScores(anyList()))
+                    .thenReturn(List.of(new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.UPDATED)));
+            matchOperationService.addScoreboardListener(scoreboardListener);
+
+            matchOperationService.startMatch("Team A", "Team B");
+            matchOperationService.updateMatchScore(match.matchId(), 1, 0);
+            matchOperationService.updateMatchScores(List.of(new ScoreUpdate(match.matchId(), 2, 0)));
+            matchOperationService.finishMatch(match.matchId());
+
+            verify(scoreboardListener, times(4)).scoreboardChanged();
+        }
+
+        @Test
+        void testListenerIsNotNotifiedIfNothingChanged() {
+            var missingMatchId = UUID.randomUUID().toString();
+            when(matchRepository.updateScores(anyList()))
+                    .thenReturn(List.of(new ScoreUpdateResult(missingMatchId, ScoreUpdateResult.Status.MATCH_NOT_FOUND)));
+            when(matchRepository.updateScore(missingMatchId, 1, 0, Match.NO_FEED_SEQUENCE))
+                    .thenReturn(new ScoreUpdateResult(missingMatchId, ScoreUpdateResult.Status.MATCH_NOT_FOUND));
+            when(matchRepository.updateScore(missingMatchId, 1, 0, 3))
+                    .thenReturn(new ScoreUpdateResult(missingMatchId, ScoreUpdateResult.Status.STALE));
+            matchOperationService.addScoreboardListener(scoreboardListener);
+
+            assertThrows(MatchNotFoundException.class, () -> matchOperationService.updateMatchScore(missingMatchId, 1, 0));
+            matchOperationService.updateMatchScores(List.of(new ScoreUpdate(missingMatchId, 1, 0)));
+            matchOperationService.updateMatchScore(missingMatchId, 1, 0, 3);
+
+            verify(scoreboardListener, never()).scoreboardChanged();
+        }
+
+        @Test
+        void testRemovedListenerIsNotNotified() {
+            var match = new Match("Team A", "Team B", 0, 0);
+            when(matchRepository.deleteMatchById(match.matchId())).thenReturn(match);
+            matchOperationService.addScoreboardListener(scoreboardListener);
+            matchOperationService.removeScoreboardListener(scoreboardListener);
+
+            matchOperationService.finishMatch(match.matchId());
+
+            verify(scoreboardListener, never()).scoreboardChanged();
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Test Scenarios")
+    class MetricsTestScenarios {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        private final MatchOperationService meteredService =
+                new MatchOperationServiceImpl(matchRepository, meterRegistry, Tags.of("competition", "world-cup"),
+                        NodeSequenceMatchIdGenerator.DEFAULT, MatchAuditTrail.DISABLED, MatchArchive.DISABLED, null);
+
+        @Test
+        void testOperationsAreTimedIncludingFailures() {
+            var match = new Match("Team A", "Team B", 0, 0);
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(true);
+            when(matchRepository.saveMatch(any(Match.class))).thenReturn(match);
+            when(matchRepository.updateScore(anyString(), anyInt(), anyInt(), anyLong()))
+                    .thenReturn(new ScoreUpdateResult(match.matchId(), ScoreUpdateResult.Status.MATCH_NOT_FOUND));
+
+            meteredService.startMatch("Team A", "Team B");
+            assertThrows(MatchNotFoundException.class, () -> meteredService.updateMatchScore(match.matchId(), 1, 0));
+            assertThrows(MatchNotFoundException.class, () -> meteredService.finishMatch(match.matchId()));
+            meteredService.getMatchSummary();
+
+            for (var operation : List.of("startMatch", "updateMatchScore", "finishMatch", "getMatchSummary")) {
+                var timer = meterRegistry.get(MatchOperationMetrics.OPERATION_TIMER)
+                        .tags("competition", "world-cup", "operation", operation)
+                        .timer();
+                assertEquals(1, timer.count(), operation);
+            }
+        }
+
+        @Test
+        void testGaugesReportLiveMatchesBoardVersionAndSummaryCacheHitRatio() {
+            when(matchRepository.countLiveMatches()).thenReturn(2);
+            when(matchRepository.getBoardVersion()).thenReturn(7L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of());
+
+            meteredService.getMatchSummary();
+            meteredService.getMatchSummary();
+            meteredService.getMatchSummary();
+            meteredService.getMatchSummary();
+
+            assertEquals(2, meterRegistry.get(MatchOperationMetrics.LIVE_MATCHES_GAUGE).gauge().value());
+            assertEquals(7, meterRegistry.get(MatchOperationMetrics.BOARD_VERSION_GAUGE).gauge().value());
+            assertEquals(0.75, meterRegistry.get(MatchOperationMetrics.SUMMARY_CACHE_HIT_RATIO_GAUGE).gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Audit Trail Test Scenarios")
+    class AuditTrailTestScenarios {
+
+        private final MatchAuditTrail auditTrail = mock(MatchAuditTrail.class);
+
+        private final MatchOperationService auditedService = new MatchOperationServiceImpl(matchRepository,
+                new SimpleMeterRegistry(), Tags.empty(), NodeSequenceMatchIdGenerator.DEFAULT, auditTrail, MatchArchive.DISABLED, null);
+
+        @Test
+        void testStartAndFinishAreAudited() {
+            var match = new Match("Team A", "Team B", 0, 0).withScores(2, 1, 4);
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(true);
+            when(matchRepository.saveMatch(any(Match.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(matchRepository.deleteMatchById(match.matchId())).thenReturn(match);
+
+            var started = auditedService.startMatch("Team A", "Team B");
+            auditedService.finishMatch(match.matchId());
+
+            verify(auditTrail).record(AuditOperation.MATCH_STARTED, AuditOutcome.SUCCESS, started.matchId(), 0, 0, started.startSequence());
+            verify(auditTrail).record(AuditOperation.MATCH_FINISHED, AuditOutcome.SUCCESS, match.matchId(), 2, 1, 4);
+        }
+
+        @Test
+        void testScoreUpdatesAreAuditedWithTheirOutcome() {
+            when(matchRepository.updateScore("match-1", 1, 0, 3))
+                    .thenReturn(new ScoreUpdateResult("match-1", ScoreUpdateResult.Status.STALE));
+            when(matchRepository.updateScore("match-2", 1, 1, Match.NO_FEED_SEQUENCE))
+                    .thenReturn(new ScoreUpdateResult("match-2", ScoreUpdateResult.Status.MATCH_NOT_FOUND));
+            when(matchRepository.updateScores(anyList())).thenReturn(List.of(
+                    new ScoreUpdateResult("match-3", ScoreUpdateResult.Status.UPDATED),
+                    new ScoreUpdateResult("match-4", ScoreUpdateResult.Status.MATCH_NOT_FOUND)));
+
+            auditedService.updateMatchScore("match-1", 1, 0, 3);
+            assertThrows(MatchNotFoundException.class, () -> auditedService.updateMatchScore("match-2", 1, 1));
+            auditedService.updateMatchScores(List.of(new ScoreUpdate("match-3", 2, 0), new ScoreUpdate("match-4", 0, 1)));
+
+            verify(auditTrail).record(AuditOperation.SCORE_UPDATED, AuditOutcome.STALE, "match-1", 1, 0, 3);
+            verify(auditTrail).record(AuditOperation.SCORE_UPDATED, AuditOutcome.MATCH_NOT_FOUND, "match-2", 1, 1, Match.NO_FEED_SEQUENCE);
+            verify(auditTrail).record(AuditOperation.SCORE_UPDATED, AuditOutcome.SUCCESS, "match-3", 2, 0, Match.NO_FEED_SEQUENCE);
+            verify(auditTrail).record(AuditOperation.SCORE_UPDATED, AuditOutcome.MATCH_NOT_FOUND, "match-4", 0, 1, Match.NO_FEED_SEQUENCE);
+        }
+
+        @Test
+        void testGoalsAndCorrectionsAreAuditedWithTheResultingScores() {
+            when(matchRepository.addToScores("match-1", 1, 0)).thenReturn(new ScoreChange("match-1", 1, 0, 3));
+            when(matchRepository.addToScores("match-1", -1, 0)).thenReturn(new ScoreChange("match-1", 0, 0, 4));
+
+            auditedService.recordGoal("match-1", Side.HOME);
+            auditedService.correctScore("match-1", -1, 0);
+            assertThrows(MatchNotFoundException.class, () -> auditedService.recordGoal("match-2", Side.AWAY));
+
+            verify(auditTrail).record(AuditOperation.GOAL_RECORDED, AuditOutcome.SUCCESS, "match-1", 1, 0, 3);
+            verify(auditTrail).record(AuditOperation.SCORE_CORRECTED, AuditOutcome.SUCCESS, "match-1", 0, 0, 4);
+            verify(auditTrail).record(AuditOperation.GOAL_RECORDED, AuditOutcome.MATCH_NOT_FOUND, "match-2", 0, 0, 0);
+        }
+
+        @Test
+        void testRejectedStartsAndFinishesAreAudited() {
+            when(matchRepository.reserveTeams(anyString(), eq("Team A"), eq("Team B"))).thenReturn(false);
+
+            assertThrows(MatchConflictException.class, () -> auditedService.startMatch("Team A", "Team B"));
+            assertThrows(MatchNotFoundException.class, () -> auditedService.finishMatch("match-1"));
+
+            verify(auditTrail).record(eq(AuditOperation.MATCH_STARTED), eq(AuditOutcome.REJECTED), anyString(), eq(0), eq(0), anyLong());
+            verify(auditTrail).record(AuditOperation.MATCH_FINISHED, AuditOutcome.MATCH_NOT_FOUND, "match-1", 0, 0, 0);
+        }
+
+        @Test
+        void testSummaryReadsAreNotAudited() {
+            when(matchRepository.getBoardVersion()).thenReturn(5L);
+            when(matchRepository.findAllMatchesRanked()).thenReturn(List.of());
+
+            auditedService.getMatchSummary();
+            auditedService.getMatchSummary(0, 10);
+            auditedService.getEncodedMatchSummary();
+
+            verifyNoInteractions(auditTrail);
+        }
+    }
+
+    @Nested
+    @DisplayName("Summary Projection Test Scenarios")
+    class SummaryProjectionTestScenarios {
+
+        private final MatchRepositoryImpl liveRepository = new MatchRepositoryImpl();
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        private MatchOperationServiceImpl projectedService;
+
+        @AfterEach
+        void tearDown() {
+            if (projectedService != null) {
+                projectedService.close();
+            }
+        }
+
+        @Test
+        void testProjectionCatchesUpWithTheBoard() throws InterruptedException {
+            projectedService = projectedService(Duration.ofMillis(100));
+            var match = projectedService.startMatch("Mexico", "Canada");
+            projectedService.updateMatchScore(match.matchId(), 0, 5);
+            projectedService.startMatch("Spain", "Brazil");
+
+            awaitProjection();
+
+            assertEquals(projectedService.getBoardVersion(), projectedService.getVersionedMatchSummary().boardVersion());
+            assertEquals(List.of("1. Mexico 0 - Canada 5", "2. Spain 0 - Brazil 0"), projectedService.getMatchSummary());
+            assertEquals(List.of("2. Spain 0 - Brazil 0"), projectedService.getMatchSummary(1, 5));
+            assertEquals(0, meterRegistry.get(MatchOperationMetrics.SUMMARY_PROJECTION_LAG_GAUGE).gauge().value());
+        }
+
+        @Test
+        void testSummaryWithinTheStalenessBoundIsServedAndOwnWritesAreStillSeen() throws InterruptedException {
+            projectedService = projectedService(Duration.ofHours(1));
+            projectedService.startMatch("Mexico", "Canada");
+            awaitProjection();
+
+            // Bypasses the service, so the projection is not told about it within the hour
+            liveRepository.saveMatch(new Match("Spain", "Brazil", 1, 0));
+            var boardVersion = projectedService.getBoardVersion();
+
+            assertEquals(List.of("1. Mexico 0 - Canada 0"), projectedService.getMatchSummary());
+            var ownWrite = projectedService.getVersionedMatchSummary(boardVersion);
+            assertEquals(boardVersion, ownWrite.boardVersion());
+            assertEquals(List.of("1. Spain 1 - Brazil 0", "2. Mexico 0 - Canada 0"), ownWrite.lines());
+        }
+
+        @Test
+        void testEncodedSummaryIsProjectedOnceAskedFor() throws InterruptedException {
+            projectedService = projectedService(Duration.ofMillis(100));
+            projectedService.startMatch("Mexico", "Canada");
+
+            projectedService.getEncodedMatchSummary();
+            // Every refresh after the first request encodes the summary, so the one for this change does too
+            projectedService.startMatch("Spain", "Brazil");
+            awaitProjection();
+            var misses = meterRegistry.get(MatchOperationMetrics.SUMMARY_CACHE_COUNTER).tag("result", "miss").counter().count();
+
+            var encoded = projectedService.getEncodedMatchSummary();
+
+            assertEquals(misses, meterRegistry.get(MatchOperationMetrics.SUMMARY_CACHE_COUNTER).tag("result", "miss").counter().count());
+            assertEquals(liveRepository.getBoardVersion(), encoded.boardVersion());
+            assertEquals("[\"1. Spain 0 - Brazil 0\",\"2. Mexico 0 - Canada 0\"]", new String(encoded.json(), StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void testInvalidStalenessBound() {
+            assertThrows(IllegalArgumentException.class, () -> projectedService(Duration.ZERO));
+        }
+
+        private MatchOperationServiceImpl projectedService(Duration maxStaleness) {
+            return new MatchOperationServiceImpl(liveRepository, meterRegistry, Tags.empty(),
+                    NodeSequenceMatchIdGenerator.DEFAULT, MatchAuditTrail.DISABLED, MatchArchive.DISABLED, maxStaleness);
+        }
+
+        private void awaitProjection() throws InterruptedException {
+            var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (meterRegistry.get(MatchOperationMetrics.SUMMARY_PROJECTION_LAG_GAUGE).gauge().value() > 0) {
+                assertTrue(System.nanoTime() < deadline, "The summary projection did not catch up in time");
+                Thread.sleep(5);
+            }
+        }
     }
 }
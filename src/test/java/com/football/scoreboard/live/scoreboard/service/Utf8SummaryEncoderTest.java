@@ -0,0 +1,61 @@
+package com.football.scoreboard.live.scoreboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8SummaryEncoderTest {
+
+    private final Utf8SummaryEncoder summaryEncoder = new Utf8SummaryEncoder();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testEncodeEmptyBoard() {
+        var encoded = summaryEncoder.encode(3, List.of());
+
+        assertEquals("[]", new String(encoded.json(), StandardCharsets.UTF_8));
+        assertEquals(3, encoded.boardVersion());
+    }
+
+    @Test
+    void testEncodeMatchesTheSerializedSummaryLines() throws Exception {
+        var matches = new ArrayList<Match>();
+        for (int i = 0; i < 12; i++) {
+            matches.add(new Match("Home " + i, "Away " + i, i * 10, 100 - i));
+        }
+        matches.add(new Match("Côte d'Ivoire", "São Tomé", 0, 0));
+        matches.add(new Match("Team \"A\"", "Back\\slash\tTab\u0001", 1, 2));
+
+        var encoded = summaryEncoder.encode(1, matches);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(summaryLines(matches)), encoded.json());
+        assertEquals(encoded.json().length, encoded.asByteBuffer().remaining());
+        assertTrue(encoded.asByteBuffer().isReadOnly());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 7, 10, 99, 100, 12345, Integer.MAX_VALUE})
+    void testWriteDigits(int value) {
+        var buffer = new byte[Utf8SummaryEncoder.digits(value)];
+
+        assertEquals(buffer.length, Utf8SummaryEncoder.writeDigits(buffer, 0, value));
+        assertEquals(Integer.toString(value), new String(buffer, StandardCharsets.US_ASCII));
+    }
+
+    private static List<String> summaryLines(List<Match> matches) {
+        var lines = new ArrayList<String>();
+        for (int i = 0; i < matches.size(); i++) {
+            var match = matches.get(i);
+            lines.add((i + 1) + ". " + match.homeTeam() + " " + match.homeTeamScore() + " - " + match.awayTeam() + " " + match.awayTeamScore());
+        }
+        return lines;
+    }
+}
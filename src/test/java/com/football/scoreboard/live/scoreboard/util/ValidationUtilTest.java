@@ -1,5 +1,7 @@
 package com.football.scoreboard.live.scoreboard.util;
 
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
@@ -47,4 +49,51 @@ class ValidationUtilTest {
                 ValidationUtil.isAbsoluteScore(-1), "Score cannot be negative");
         assertEquals("Score cannot be negative", exceptionThrown.getMessage());
     }
+
+    @Test
+    void testValidateScoreUpdateWithValidInputDoesNotThrowException() {
+        assertDoesNotThrow(() -> ValidationUtil.validateScoreUpdate(new ScoreUpdate("match-1", 1, 0)));
+    }
+
+    @Test
+    void testValidateScoreUpdateWithInvalidInputs() {
+        var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validateScoreUpdate(null));
+        assertEquals("Score update cannot be null", exceptionThrown.getMessage());
+
+        exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validateScoreUpdate(new ScoreUpdate("match-1", -1, 0)));
+        assertEquals("Score cannot be negative", exceptionThrown.getMessage());
+
+        exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validateScoreUpdate(new ScoreUpdate(" ", 1, 0)));
+        assertEquals("Input string cannot be null, empty, or contain only whitespaces", exceptionThrown.getMessage());
+    }
+
+    @Test
+    void testValidatePage() {
+        assertDoesNotThrow(() -> ValidationUtil.validatePage(0, 1));
+
+        var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validatePage(-1, 1));
+        assertEquals("Offset cannot be negative", exceptionThrown.getMessage());
+
+        exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validatePage(0, 0));
+        assertEquals("Limit must be positive", exceptionThrown.getMessage());
+    }
+
+    @Test
+    void testValidateScoreCorrection() {
+        assertDoesNotThrow(() -> ValidationUtil.validateScoreCorrection(0, -1));
+        var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validateScoreCorrection(0, 0));
+        assertEquals("Score correction must change at least one score", exceptionThrown.getMessage());
+    }
+
+    @Test
+    void testValidateMatchQuery() {
+        assertDoesNotThrow(() -> ValidationUtil.validateMatchQuery(MatchQuery.ALL));
+        assertDoesNotThrow(() -> ValidationUtil.validateMatchQuery(MatchQuery.ALL.withTeam("Spain").withMinTotalScore(2).withMaxTotalScore(2)));
+
+        var exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validateMatchQuery(null));
+        assertEquals("Match query cannot be null", exceptionThrown.getMessage());
+
+        exceptionThrown = assertThrows(IllegalArgumentException.class, () -> ValidationUtil.validateMatchQuery(MatchQuery.ALL.withMinTotalScore(3).withMaxTotalScore(1)));
+        assertEquals("Minimum total score cannot be greater than the maximum total score", exceptionThrown.getMessage());
+    }
 }
@@ -0,0 +1,121 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.exception.CompetitionNotFoundException;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.Side;
+import com.football.scoreboard.live.scoreboard.service.CompetitionMatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CompetitionScoreboardController.class)
+class CompetitionScoreboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CompetitionMatchOperationService competitionMatchOperationService;
+
+    /**
+     * Shared by all tests, because the controller keeps using the scoreboard it was first given for a competition.
+     */
+    private static final MatchOperationService worldCup = mock(MatchOperationService.class);
+
+    @BeforeEach
+    void setUp() {
+        reset(worldCup);
+        when(competitionMatchOperationService.getScoreboard("world-cup")).thenReturn(worldCup);
+        when(competitionMatchOperationService.getScoreboard("qualifiers"))
+                .thenThrow(new CompetitionNotFoundException("No competition found with ID: qualifiers"));
+    }
+
+    @Test
+    void testStartMatchInCompetition() throws Exception {
+        var match = new Match("Mexico", "Canada", 0, 0);
+        when(worldCup.startMatch("Mexico", "Canada")).thenReturn(match);
+        when(worldCup.getBoardVersion()).thenReturn(1L);
+
+        mockMvc.perform(post("/competitions/world-cup/scoreboard/matches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(ScoreboardController.BOARD_VERSION_HEADER, "1"))
+                .andExpect(jsonPath("$.matchId").value(match.matchId()));
+    }
+
+    @Test
+    void testRecordGoalInCompetition() throws Exception {
+        when(worldCup.recordGoal("match-1", Side.HOME)).thenReturn(new ScoreChange("match-1", 1, 0, 3));
+
+        mockMvc.perform(post("/competitions/world-cup/scoreboard/matches/match-1/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"side\":\"HOME\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.homeTeamScore").value(1));
+    }
+
+    @Test
+    void testUnknownCompetitionIsNotFound() throws Exception {
+        mockMvc.perform(post("/competitions/qualifiers/scoreboard/matches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/competitions/qualifiers/scoreboard/summary"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdateScoreAndFinishMatchInCompetition() throws Exception {
+        mockMvc.perform(put("/competitions/world-cup/scoreboard/matches/match-1/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamScore\":1,\"awayTeamScore\":2}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/competitions/world-cup/scoreboard/matches/match-1"))
+                .andExpect(status().isNoContent());
+
+        verify(worldCup).updateMatchScore("match-1", 1, 2);
+        verify(worldCup).finishMatch("match-1");
+    }
+
+    @Test
+    void testGetMatchSummaryOfCompetitionIsTaggedWithItsBoardVersion() throws Exception {
+        when(worldCup.getBoardVersion()).thenReturn(7L);
+        when(worldCup.getVersionedMatchSummary()).thenReturn(new MatchSummary(7, List.of("1. Mexico 0 - Canada 5")));
+
+        var etag = mockMvc.perform(get("/competitions/world-cup/scoreboard/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("1. Mexico 0 - Canada 5"))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-7\"")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/competitions/world-cup/scoreboard/summary").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(worldCup, times(1)).getVersionedMatchSummary();
+    }
+
+    @Test
+    void testGetCompetitionIds() throws Exception {
+        when(competitionMatchOperationService.getCompetitionIds()).thenReturn(Set.of("world-cup"));
+
+        mockMvc.perform(get("/competitions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("world-cup"));
+    }
+}
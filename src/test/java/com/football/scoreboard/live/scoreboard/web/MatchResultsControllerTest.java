@@ -0,0 +1,61 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.model.MatchResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = MatchResultsController.class)
+class MatchResultsControllerTest {
+
+    private static final MatchResult RESULT = new MatchResult("k3f9a2", "Mexico", "Canada", 1, 0,
+            LocalDateTime.of(2026, 6, 11, 18, 0), LocalDateTime.of(2026, 6, 11, 19, 50));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatchArchive matchArchive;
+
+    @Test
+    void testGetResultsByTeam() throws Exception {
+        when(matchArchive.findResultsByTeam("Mexico")).thenReturn(List.of(RESULT));
+
+        mockMvc.perform(get("/scoreboard/results").param("team", "Mexico"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].matchId").value("k3f9a2"))
+                .andExpect(jsonPath("$[0].awayTeam").value("Canada"));
+    }
+
+    @Test
+    void testGetResultsOnAndBetweenDates() throws Exception {
+        when(matchArchive.findResultsOn(LocalDate.of(2026, 6, 11))).thenReturn(List.of(RESULT));
+        when(matchArchive.findResultsBetween(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 30))).thenReturn(List.of(RESULT, RESULT));
+
+        mockMvc.perform(get("/scoreboard/results").param("date", "2026-06-11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/scoreboard/results").param("from", "2026-06-01").param("to", "2026-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void testReversedDateRangeIsABadRequest() throws Exception {
+        when(matchArchive.findResultsBetween(any(), any())).thenThrow(new IllegalArgumentException("Start date cannot be after end date"));
+
+        mockMvc.perform(get("/scoreboard/results").param("from", "2026-06-30").param("to", "2026-06-01"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,51 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.ingest.ScoreIngestionPipeline;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ScoreIngestionController.class, properties = "scoreboard.ingest.enabled=true")
+class ScoreIngestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ScoreIngestionPipeline scoreIngestionPipeline;
+
+    @Test
+    void testPublishScores() throws Exception {
+        when(scoreIngestionPipeline.publish("match-1", 1, 0)).thenReturn(true);
+        when(scoreIngestionPipeline.publish("match-2", 0, 2, 7)).thenReturn(true);
+
+        mockMvc.perform(post("/scoreboard/feed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"matchId\":\"match-1\",\"homeTeamScore\":1,\"awayTeamScore\":0},"
+                                + "{\"matchId\":\"match-2\",\"homeTeamScore\":0,\"awayTeamScore\":2,\"feedSequence\":7}]"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2));
+    }
+
+    @Test
+    void testPublishStopsAtTheFirstRejectedScore() throws Exception {
+        when(scoreIngestionPipeline.publish("match-1", 1, 0)).thenReturn(true);
+        when(scoreIngestionPipeline.publish("match-2", 0, 2)).thenReturn(false);
+
+        mockMvc.perform(post("/scoreboard/feed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"matchId\":\"match-1\",\"homeTeamScore\":1,\"awayTeamScore\":0},"
+                                + "{\"matchId\":\"match-2\",\"homeTeamScore\":0,\"awayTeamScore\":2},"
+                                + "{\"matchId\":\"match-3\",\"homeTeamScore\":3,\"awayTeamScore\":0}]"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.accepted").value(1));
+        verify(scoreIngestionPipeline, never()).publish("match-3", 3, 0);
+    }
+}
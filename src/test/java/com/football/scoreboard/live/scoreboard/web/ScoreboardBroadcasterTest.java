@@ -0,0 +1,292 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.archive.MatchArchive;
+import com.football.scoreboard.live.scoreboard.audit.MatchAuditTrail;
+import com.football.scoreboard.live.scoreboard.id.NodeSequenceMatchIdGenerator;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.repository.MatchRepositoryImpl;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationServiceImpl;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScoreboardBroadcasterTest {
+
+    private final MatchOperationService matchOperationService = mock(MatchOperationService.class);
+    private final Queue<Runnable> pendingTasks = new ArrayDeque<>();
+    private final ScoreboardBroadcaster scoreboardBroadcaster =
+            new ScoreboardBroadcaster(matchOperationService, pendingTasks::add, SEND_TIMEOUT, null);
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void testSubscriberReceivesCurrentSummaryAndEveryChange() {
+        var received = new ArrayList<List<String>>();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0), summary(1, "1. Mexico 0 - Canada 0"));
+
+        scoreboardBroadcaster.subscribe(received::add);
+        runPendingTasks();
+        scoreboardBroadcaster.scoreboardChanged();
+        runPendingTasks();
+
+        assertEquals(List.of(List.of(), List.of("1. Mexico 0 - Canada 0")), received);
+    }
+
+    @Test
+    void testChangesAreCoalescedToTheLatestSummary() {
+        var received = new ArrayList<List<String>>();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0), summary(1, "1. Mexico 0 - Canada 1"));
+        scoreboardBroadcaster.subscribe(received::add);
+        runPendingTasks();
+
+        scoreboardBroadcaster.scoreboardChanged();
+        scoreboardBroadcaster.scoreboardChanged();
+        scoreboardBroadcaster.scoreboardChanged();
+        runPendingTasks();
+
+        assertEquals(List.of(List.of(), List.of("1. Mexico 0 - Canada 1")), received);
+        verify(matchOperationService, times(2)).getVersionedMatchSummary(anyLong());
+    }
+
+    @Test
+    void testSlowSubscriberOnlyKeepsTheLatestPendingSummary() {
+        var received = new ArrayList<List<String>>();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(
+                summary(0), summary(1, "1. Mexico 0 - Canada 1"), summary(2, "1. Mexico 0 - Canada 2"));
+        scoreboardBroadcaster.subscribe(received::add);
+
+        // The initial send has not run yet when two more changes are broadcast
+        var initialSend = pendingTasks.poll();
+        scoreboardBroadcaster.scoreboardChanged();
+        pendingTasks.poll().run();
+        scoreboardBroadcaster.scoreboardChanged();
+        pendingTasks.poll().run();
+        initialSend.run();
+
+        assertEquals(List.of(List.of("1. Mexico 0 - Canada 2")), received);
+    }
+
+    @Test
+    void testOlderSummaryNeverReplacesANewerOne() {
+        var received = new ArrayList<List<String>>();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0));
+        scoreboardBroadcaster.subscribe(received::add);
+        runPendingTasks();
+
+        // A change made while the first broadcast renders schedules a second one, which finishes first
+        var renders = new AtomicInteger();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenAnswer(render -> {
+            if (renders.getAndIncrement() > 0) {
+                return summary(2, "1. Mexico 0 - Canada 2");
+            }
+            scoreboardBroadcaster.scoreboardChanged();
+            pendingTasks.poll().run();
+            return summary(1, "1. Mexico 0 - Canada 1");
+        });
+        scoreboardBroadcaster.scoreboardChanged();
+        runPendingTasks();
+
+        assertEquals(List.of("1. Mexico 0 - Canada 2"), received.getLast());
+        assertFalse(received.contains(List.of("1. Mexico 0 - Canada 1")));
+    }
+
+    @Test
+    void testSubscriberKeepsABroadcastThatIsNewerThanItsInitialSummary() {
+        var received = new ArrayList<List<String>>();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0));
+        scoreboardBroadcaster.subscribe(summary -> { });
+        runPendingTasks();
+
+        // The initial summary of a new subscriber is rendered before a broadcast, but offered after it
+        var renders = new AtomicInteger();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenAnswer(render -> {
+            if (renders.getAndIncrement() > 0) {
+                return summary(2, "1. Mexico 0 - Canada 2");
+            }
+            scoreboardBroadcaster.scoreboardChanged();
+            runPendingTasks();
+            return summary(1, "1. Mexico 0 - Canada 1");
+        });
+        scoreboardBroadcaster.subscribe(received::add);
+        runPendingTasks();
+
+        assertEquals(List.of(List.of("1. Mexico 0 - Canada 2")), received);
+    }
+
+    @Test
+    void testBroadcastCarriesTheChangeWhileTheSummaryIsProjected() throws InterruptedException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var projectionHeld = new AtomicBoolean();
+        var releaseProjection = new CountDownLatch(1);
+        // Holds the projection back once it is asked to, as a projection that has not caught up with a change yet
+        var repository = new MatchRepositoryImpl() {
+            @Override
+            public List<Match> findAllMatchesRanked() {
+                if (projectionHeld.get() && Thread.currentThread().getName().equals("summary-projection")) {
+                    try {
+                        releaseProjection.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.findAllMatchesRanked();
+            }
+        };
+        // A staleness bound long enough that the projection would be served for the whole test if allowed
+        var projectedService = new MatchOperationServiceImpl(repository, meterRegistry, Tags.empty(),
+                NodeSequenceMatchIdGenerator.DEFAULT, MatchAuditTrail.DISABLED, MatchArchive.DISABLED, Duration.ofMinutes(1));
+        try {
+            var broadcaster = new ScoreboardBroadcaster(projectedService, pendingTasks::add, SEND_TIMEOUT, null);
+            broadcaster.start();
+            var received = new ArrayList<List<String>>();
+            var match = projectedService.startMatch("Mexico", "Canada");
+            awaitProjection(meterRegistry);
+            broadcaster.subscribe(received::add);
+            runPendingTasks();
+            projectionHeld.set(true);
+
+            projectedService.updateMatchScore(match.matchId(), 0, 1);
+            runPendingTasks();
+
+            assertEquals(List.of(List.of("1. Mexico 0 - Canada 0"), List.of("1. Mexico 0 - Canada 1")), received);
+        } finally {
+            releaseProjection.countDown();
+            projectedService.close();
+        }
+    }
+
+    @Test
+    void testFailingSubscriberIsDroppedAndClosed() {
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0));
+        var failure = new IOException("Connection reset");
+        var closedWith = new AtomicReference<Exception>();
+
+        scoreboardBroadcaster.subscribe(new ScoreboardBroadcaster.Sink() {
+            @Override
+            public void send(List<String> summary) throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void close(Exception cause) {
+                closedWith.set(cause);
+            }
+        });
+        runPendingTasks();
+
+        assertEquals(0, scoreboardBroadcaster.getSubscriberCount());
+        assertSame(failure, closedWith.get());
+    }
+
+    @Test
+    void testStalledSubscriberIsDroppedWithoutHoldingUpTheOthers() throws Exception {
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0));
+        var pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        var broadcaster = new ScoreboardBroadcaster(matchOperationService, pool, SEND_TIMEOUT, null);
+        var sendStarted = new CountDownLatch(1);
+        var releaseSend = new CountDownLatch(1);
+        var closedWith = new AtomicReference<Exception>();
+        var closed = new CountDownLatch(1);
+        try {
+            broadcaster.subscribe(new ScoreboardBroadcaster.Sink() {
+                @Override
+                public void send(List<String> summary) throws IOException {
+                    sendStarted.countDown();
+                    try {
+                        releaseSend.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                @Override
+                public void close(Exception cause) {
+                    closedWith.set(cause);
+                    closed.countDown();
+                }
+            });
+            assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+
+            broadcaster.evictStalledSubscribers(System.nanoTime() + SEND_TIMEOUT.toNanos() * 2);
+            // The only sender thread is stuck, so this subscriber is served by the thread lent to the pool
+            var received = new CountDownLatch(1);
+            broadcaster.subscribe(summary -> received.countDown());
+
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+            assertEquals(1, broadcaster.getSubscriberCount());
+            assertEquals(2, pool.getCorePoolSize());
+
+            releaseSend.countDown();
+            assertTrue(closed.await(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, closedWith.get());
+            assertEquals(1, pool.getCorePoolSize());
+        } finally {
+            releaseSend.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSubscriberWithinTheSendTimeoutIsKept() {
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0));
+        scoreboardBroadcaster.subscribe(summary -> scoreboardBroadcaster.evictStalledSubscribers(System.nanoTime()));
+
+        runPendingTasks();
+
+        assertEquals(1, scoreboardBroadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void testCancelledSubscriberIsNoLongerNotified() {
+        var received = new ArrayList<List<String>>();
+        when(matchOperationService.getVersionedMatchSummary(anyLong())).thenReturn(summary(0));
+        var subscription = scoreboardBroadcaster.subscribe(received::add);
+        runPendingTasks();
+
+        subscription.run();
+        scoreboardBroadcaster.scoreboardChanged();
+        runPendingTasks();
+
+        assertEquals(1, received.size());
+        assertEquals(0, scoreboardBroadcaster.getSubscriberCount());
+    }
+
+    private static void awaitProjection(SimpleMeterRegistry meterRegistry) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (meterRegistry.get("scoreboard.summary.projection.lag").gauge().value() > 0) {
+            assertTrue(System.nanoTime() < deadline, "The summary projection did not catch up in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private static MatchSummary summary(long boardVersion, String... lines) {
+        return new MatchSummary(boardVersion, List.of(lines));
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
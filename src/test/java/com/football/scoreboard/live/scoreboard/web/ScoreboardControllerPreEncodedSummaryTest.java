@@ -0,0 +1,43 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.model.EncodedMatchSummary;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ScoreboardController.class, properties = "scoreboard.summary.pre-encoded=true")
+class ScoreboardControllerPreEncodedSummaryTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatchOperationService matchOperationService;
+
+    @Test
+    void testGetMatchSummaryServesThePreEncodedJson() throws Exception {
+        var json = "[\"1. Côte d'Ivoire 0 - Canada 5\"]".getBytes(StandardCharsets.UTF_8);
+        when(matchOperationService.getBoardVersion()).thenReturn(7L);
+        when(matchOperationService.getEncodedMatchSummary()).thenReturn(new EncodedMatchSummary(7, json));
+
+        mockMvc.perform(get("/scoreboard/summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(json))
+                .andExpect(jsonPath("$[0]").value("1. Côte d'Ivoire 0 - Canada 5"))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-7\"")));
+        verify(matchOperationService, never()).getVersionedMatchSummary();
+    }
+}
@@ -0,0 +1,278 @@
+package com.football.scoreboard.live.scoreboard.web;
+
+import com.football.scoreboard.live.scoreboard.exception.MatchConflictException;
+import com.football.scoreboard.live.scoreboard.exception.MatchNotFoundException;
+import com.football.scoreboard.live.scoreboard.model.Match;
+import com.football.scoreboard.live.scoreboard.model.MatchQuery;
+import com.football.scoreboard.live.scoreboard.model.MatchSummary;
+import com.football.scoreboard.live.scoreboard.model.ScoreChange;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdate;
+import com.football.scoreboard.live.scoreboard.model.ScoreUpdateResult;
+import com.football.scoreboard.live.scoreboard.model.Side;
+import com.football.scoreboard.live.scoreboard.service.MatchOperationService;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ScoreboardController.class)
+class ScoreboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatchOperationService matchOperationService;
+
+    @Test
+    void testStartMatch() throws Exception {
+        var match = new Match("Mexico", "Canada", 0, 0);
+        when(matchOperationService.startMatch("Mexico", "Canada")).thenReturn(match);
+
+        mockMvc.perform(post("/scoreboard/matches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.matchId").value(match.matchId()))
+                .andExpect(jsonPath("$.homeTeam").value("Mexico"));
+    }
+
+    @Test
+    void testStartMatchIfTeamIsAlreadyPlaying() throws Exception {
+        when(matchOperationService.startMatch("Mexico", "Canada"))
+                .thenThrow(new MatchConflictException("A match is already in progress involving one or both of the teams."));
+
+        mockMvc.perform(post("/scoreboard/matches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testStartMatchIfTheBoardFailsIsNotAConflict() {
+        when(matchOperationService.startMatch("Mexico", "Canada"))
+                .thenThrow(new IllegalStateException("Journal segment could not be mapped"));
+
+        // Left to the container's error handling, which answers 500
+        var exceptionThrown = assertThrows(ServletException.class, () -> mockMvc.perform(post("/scoreboard/matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}")));
+        assertInstanceOf(IllegalStateException.class, exceptionThrown.getCause());
+    }
+
+    @Test
+    void testUpdateMatchScore() throws Exception {
+        mockMvc.perform(put("/scoreboard/matches/match-1/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamScore\":1,\"awayTeamScore\":2}"))
+                .andExpect(status().isNoContent());
+
+        verify(matchOperationService).updateMatchScore("match-1", 1, 2);
+    }
+
+    @Test
+    void testRecordGoal() throws Exception {
+        when(matchOperationService.recordGoal("match-1", Side.AWAY)).thenReturn(new ScoreChange("match-1", 0, 1, 12));
+
+        mockMvc.perform(post("/scoreboard/matches/match-1/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"side\":\"AWAY\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ScoreboardController.BOARD_VERSION_HEADER, "12"))
+                .andExpect(jsonPath("$.homeTeamScore").value(0))
+                .andExpect(jsonPath("$.awayTeamScore").value(1))
+                .andExpect(jsonPath("$.boardVersion").value(12));
+    }
+
+    @Test
+    void testCorrectScore() throws Exception {
+        when(matchOperationService.correctScore("match-1", 0, -1)).thenReturn(new ScoreChange("match-1", 0, 0, 13));
+        when(matchOperationService.correctScore("match-2", 0, -1)).thenThrow(new IllegalArgumentException("Score cannot be negative"));
+
+        mockMvc.perform(post("/scoreboard/matches/match-1/score-corrections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamDelta\":0,\"awayTeamDelta\":-1}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ScoreboardController.BOARD_VERSION_HEADER, "13"))
+                .andExpect(jsonPath("$.awayTeamScore").value(0));
+        mockMvc.perform(post("/scoreboard/matches/match-2/score-corrections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamDelta\":0,\"awayTeamDelta\":-1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Score cannot be negative"));
+    }
+
+    @Test
+    void testUpdateMatchScoreIfInvalidOrNotFound() throws Exception {
+        doThrow(new IllegalArgumentException("Score cannot be negative"))
+                .when(matchOperationService).updateMatchScore("match-1", -1, 2);
+        doThrow(new MatchNotFoundException("Match with ID match-2 not found"))
+                .when(matchOperationService).updateMatchScore("match-2", 1, 2);
+
+        mockMvc.perform(put("/scoreboard/matches/match-1/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamScore\":-1,\"awayTeamScore\":2}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Score cannot be negative"));
+        mockMvc.perform(put("/scoreboard/matches/match-2/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamScore\":1,\"awayTeamScore\":2}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdateMatchScoreFromFeed() throws Exception {
+        when(matchOperationService.updateMatchScore("match-1", 1, 2, 7))
+                .thenReturn(new ScoreUpdateResult("match-1", ScoreUpdateResult.Status.STALE));
+
+        mockMvc.perform(put("/scoreboard/matches/match-1/score").param("feedSequence", "7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homeTeamScore\":1,\"awayTeamScore\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("STALE"));
+    }
+
+    @Test
+    void testUpdateMatchScores() throws Exception {
+        var scoreUpdates = List.of(new ScoreUpdate("match-1", 1, 0), new ScoreUpdate("match-2", 0, 1));
+        when(matchOperationService.updateMatchScores(scoreUpdates)).thenReturn(List.of(
+                new ScoreUpdateResult("match-1", ScoreUpdateResult.Status.UPDATED),
+                new ScoreUpdateResult("match-2", ScoreUpdateResult.Status.MATCH_NOT_FOUND)));
+
+        mockMvc.perform(post("/scoreboard/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"matchId\":\"match-1\",\"homeTeamScore\":1,\"awayTeamScore\":0},"
+                                + "{\"matchId\":\"match-2\",\"homeTeamScore\":0,\"awayTeamScore\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[1].status").value("MATCH_NOT_FOUND"));
+    }
+
+    @Test
+    void testFinishMatch() throws Exception {
+        mockMvc.perform(delete("/scoreboard/matches/match-1"))
+                .andExpect(status().isNoContent());
+
+        verify(matchOperationService).finishMatch("match-1");
+    }
+
+    @Test
+    void testGetMatchSummaryReturnsETag() throws Exception {
+        when(matchOperationService.getBoardVersion()).thenReturn(3L);
+        when(matchOperationService.getVersionedMatchSummary())
+                .thenReturn(new MatchSummary(3, List.of("1. Mexico 0 - Canada 5")));
+
+        var response = mockMvc.perform(get("/scoreboard/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("1. Mexico 0 - Canada 5"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse();
+
+        var etag = response.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\"") && etag.endsWith("-3\""), "ETag should be strong and carry the board version");
+    }
+
+    @Test
+    void testGetMatchSummaryIsNotModifiedWhileBoardVersionIsUnchanged() throws Exception {
+        when(matchOperationService.getBoardVersion()).thenReturn(3L);
+        when(matchOperationService.getVersionedMatchSummary())
+                .thenReturn(new MatchSummary(3, List.of("1. Mexico 0 - Canada 5")));
+        var etag = mockMvc.perform(get("/scoreboard/summary")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/scoreboard/summary").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(matchOperationService, times(1)).getVersionedMatchSummary();
+    }
+
+    @Test
+    void testGetMatchSummaryIsReturnedAgainWhenBoardVersionChanges() throws Exception {
+        when(matchOperationService.getBoardVersion()).thenReturn(3L, 4L);
+        when(matchOperationService.getVersionedMatchSummary()).thenReturn(
+                new MatchSummary(3, List.of("1. Mexico 0 - Canada 5")),
+                new MatchSummary(4, List.of("1. Mexico 1 - Canada 5")));
+        var etag = mockMvc.perform(get("/scoreboard/summary")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/scoreboard/summary").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("1. Mexico 1 - Canada 5"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag.replace("-3\"", "-4\"")));
+    }
+
+    @Test
+    void testGetMatchSummaryPage() throws Exception {
+        when(matchOperationService.getBoardVersion()).thenReturn(4L);
+        when(matchOperationService.getMatchSummary(20, 2)).thenReturn(List.of("21. Mexico 0 - Canada 5", "22. Spain 1 - Brazil 0"));
+
+        mockMvc.perform(get("/scoreboard/summary").param("offset", "20").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("21. Mexico 0 - Canada 5"))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        verify(matchOperationService, never()).getVersionedMatchSummary();
+    }
+
+    @Test
+    void testFindMatches() throws Exception {
+        var match = new Match("match-1", "Spain", "Brazil", 3, 2, LocalDateTime.now());
+        when(matchOperationService.findMatches(any(MatchQuery.class))).thenReturn(List.of(match));
+
+        mockMvc.perform(get("/scoreboard/matches").param("team", "Spain").param("minTotalScore", "5").param("startedWithin", "PT15M"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].matchId").value("match-1"))
+                .andExpect(jsonPath("$[0].homeTeamScore").value(3));
+
+        var query = ArgumentCaptor.forClass(MatchQuery.class);
+        verify(matchOperationService).findMatches(query.capture());
+        assertEquals("Spain", query.getValue().team());
+        assertEquals(5, query.getValue().minTotalScore());
+        assertEquals(Integer.MAX_VALUE, query.getValue().maxTotalScore());
+        var startedAgo = Duration.between(query.getValue().startedSince(), LocalDateTime.now());
+        assertTrue(startedAgo.compareTo(Duration.ofMinutes(15)) >= 0 && startedAgo.compareTo(Duration.ofMinutes(16)) < 0);
+    }
+
+    @Test
+    void testFindMatchesWithInvalidQuery() throws Exception {
+        when(matchOperationService.findMatches(any(MatchQuery.class)))
+                .thenThrow(new IllegalArgumentException("Minimum total score cannot be greater than the maximum total score"));
+
+        mockMvc.perform(get("/scoreboard/matches").param("minTotalScore", "4").param("maxTotalScore", "3"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testWritesReturnTheBoardVersion() throws Exception {
+        when(matchOperationService.getBoardVersion()).thenReturn(9L);
+
+        mockMvc.perform(delete("/scoreboard/matches/match-1"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(ScoreboardController.BOARD_VERSION_HEADER, "9"));
+    }
+
+    @Test
+    void testGetMatchSummaryReadsYourWrites() throws Exception {
+        when(matchOperationService.getBoardVersion()).thenReturn(9L);
+        when(matchOperationService.getVersionedMatchSummary(9L))
+                .thenReturn(new MatchSummary(9, List.of("1. Mexico 1 - Canada 5")));
+
+        mockMvc.perform(get("/scoreboard/summary").param("minBoardVersion", "9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("1. Mexico 1 - Canada 5"));
+        verify(matchOperationService, never()).getVersionedMatchSummary();
+    }
+}